@@ -38,7 +38,11 @@ public class Kinesis2ComponentConfigurer extends PropertyConfigurerSupport imple
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "cborenabled":
         case "cborEnabled": getOrCreateConfiguration(target).setCborEnabled(property(camelContext, boolean.class, value)); return true;
+        case "concurrentconsumers":
+        case "concurrentConsumers": getOrCreateConfiguration(target).setConcurrentConsumers(property(camelContext, int.class, value)); return true;
         case "configuration": target.setConfiguration(property(camelContext, org.apache.camel.component.aws2.kinesis.Kinesis2Configuration.class, value)); return true;
+        case "consumeallshards":
+        case "consumeAllShards": getOrCreateConfiguration(target).setConsumeAllShards(property(camelContext, boolean.class, value)); return true;
         case "iteratortype":
         case "iteratorType": getOrCreateConfiguration(target).setIteratorType(property(camelContext, software.amazon.awssdk.services.kinesis.model.ShardIteratorType.class, value)); return true;
         case "lazystartproducer":
@@ -90,7 +94,11 @@ public class Kinesis2ComponentConfigurer extends PropertyConfigurerSupport imple
         case "bridgeErrorHandler": return boolean.class;
         case "cborenabled":
         case "cborEnabled": return boolean.class;
+        case "concurrentconsumers":
+        case "concurrentConsumers": return int.class;
         case "configuration": return org.apache.camel.component.aws2.kinesis.Kinesis2Configuration.class;
+        case "consumeallshards":
+        case "consumeAllShards": return boolean.class;
         case "iteratortype":
         case "iteratorType": return software.amazon.awssdk.services.kinesis.model.ShardIteratorType.class;
         case "lazystartproducer":
@@ -138,7 +146,11 @@ public class Kinesis2ComponentConfigurer extends PropertyConfigurerSupport imple
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "cborenabled":
         case "cborEnabled": return getOrCreateConfiguration(target).isCborEnabled();
+        case "concurrentconsumers":
+        case "concurrentConsumers": return getOrCreateConfiguration(target).getConcurrentConsumers();
         case "configuration": return target.getConfiguration();
+        case "consumeallshards":
+        case "consumeAllShards": return getOrCreateConfiguration(target).isConsumeAllShards();
         case "iteratortype":
         case "iteratorType": return getOrCreateConfiguration(target).getIteratorType();
         case "lazystartproducer":
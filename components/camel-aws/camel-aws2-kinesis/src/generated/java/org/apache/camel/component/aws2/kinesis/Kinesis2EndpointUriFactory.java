@@ -21,7 +21,7 @@ public class Kinesis2EndpointUriFactory extends org.apache.camel.support.compone
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(38);
+        Set<String> props = new HashSet<>(40);
         props.add("accessKey");
         props.add("amazonKinesisClient");
         props.add("backoffErrorThreshold");
@@ -29,6 +29,8 @@ public class Kinesis2EndpointUriFactory extends org.apache.camel.support.compone
         props.add("backoffMultiplier");
         props.add("bridgeErrorHandler");
         props.add("cborEnabled");
+        props.add("concurrentConsumers");
+        props.add("consumeAllShards");
         props.add("delay");
         props.add("exceptionHandler");
         props.add("exchangePattern");
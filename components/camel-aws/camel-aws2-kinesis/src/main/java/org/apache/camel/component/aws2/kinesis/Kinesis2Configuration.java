@@ -58,6 +58,16 @@ public class Kinesis2Configuration implements Cloneable {
                             + "in case of silent there will be no logging and the consumer will start from the beginning,"
                             + "in case of fail a ReachedClosedStateException will be raised")
     private Kinesis2ShardClosedStrategyEnum shardClosed;
+    @UriParam(label = "consumer", defaultValue = "false",
+              description = "Whether to consume all the shards of the stream instead of a single one. The shards are discovered"
+                            + " when the consumer starts, and again whenever a shard has been fully consumed, so the children of"
+                            + " a split or merged shard are followed once their parents are done. When enabled the shardId and"
+                            + " sequenceNumber options are not used.")
+    private boolean consumeAllShards;
+    @UriParam(label = "consumer", defaultValue = "1",
+              description = "The number of threads used to poll the shards when consuming all the shards of the stream. A shard"
+                            + " is not polled again before the records of its previous poll have been processed.")
+    private int concurrentConsumers = 1;
     @UriParam(enums = "HTTP,HTTPS", defaultValue = "HTTPS",
               description = "To define a proxy protocol when instantiating the Kinesis client")
     private Protocol proxyProtocol = Protocol.HTTPS;
@@ -139,6 +149,22 @@ public class Kinesis2Configuration implements Cloneable {
         this.shardClosed = shardClosed;
     }
 
+    public boolean isConsumeAllShards() {
+        return consumeAllShards;
+    }
+
+    public void setConsumeAllShards(boolean consumeAllShards) {
+        this.consumeAllShards = consumeAllShards;
+    }
+
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    public void setConcurrentConsumers(int concurrentConsumers) {
+        this.concurrentConsumers = concurrentConsumers;
+    }
+
     public String getAccessKey() {
         return accessKey;
     }
@@ -17,8 +17,14 @@
 package org.apache.camel.component.aws2.kinesis;
 
 import java.util.ArrayDeque;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
@@ -27,6 +33,7 @@ import org.apache.camel.component.aws2.kinesis.consumer.KinesisResumeAdapter;
 import org.apache.camel.resume.ResumeAware;
 import org.apache.camel.resume.ResumeStrategy;
 import org.apache.camel.support.ScheduledBatchPollingConsumer;
+import org.apache.camel.support.resume.Resumables;
 import org.apache.camel.util.CastUtils;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -38,6 +45,8 @@ import software.amazon.awssdk.services.kinesis.model.GetRecordsRequest;
 import software.amazon.awssdk.services.kinesis.model.GetRecordsResponse;
 import software.amazon.awssdk.services.kinesis.model.GetShardIteratorRequest;
 import software.amazon.awssdk.services.kinesis.model.GetShardIteratorResponse;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.ListShardsResponse;
 import software.amazon.awssdk.services.kinesis.model.Record;
 import software.amazon.awssdk.services.kinesis.model.Shard;
 import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
@@ -48,14 +57,26 @@ public class Kinesis2Consumer extends ScheduledBatchPollingConsumer implements R
 
     private String currentShardIterator;
     private boolean isShardClosed;
+    private String currentShardId;
     private ResumeStrategy resumeStrategy;
 
+    // state used when consuming all the shards of the stream
+    private final Map<String, ShardState> shards = new ConcurrentHashMap<>();
+    private final AtomicInteger processedShardExchanges = new AtomicInteger();
+    private volatile boolean refreshShards = true;
+    private boolean shardsDiscovered;
+    private ExecutorService shardExecutorService;
+
     public Kinesis2Consumer(Kinesis2Endpoint endpoint, Processor processor) {
         super(endpoint, processor);
     }
 
     @Override
     protected int poll() throws Exception {
+        if (getEndpoint().getConfiguration().isConsumeAllShards()) {
+            return pollAllShards();
+        }
+
         String shardIterator = getShardIterator();
 
         if (shardIterator == null) {
@@ -73,7 +94,7 @@ public class Kinesis2Consumer extends ScheduledBatchPollingConsumer implements R
                 .build();
         GetRecordsResponse result = getClient().getRecords(req);
 
-        Queue<Exchange> exchanges = createExchanges(result.records());
+        Queue<Exchange> exchanges = createExchanges(result.records(), currentShardId);
         int processedExchangeCount = processBatch(CastUtils.cast(exchanges));
 
         // May cache the last successful sequence number, and pass it to the
@@ -168,17 +189,152 @@ public class Kinesis2Consumer extends ScheduledBatchPollingConsumer implements R
                 req.startingSequenceNumber(getEndpoint().getConfiguration().getSequenceNumber());
             }
 
-            resume(req);
+            // a single shard is resumed from the offset stored for the whole stream
+            resume(req, null);
 
             GetShardIteratorResponse result = getClient().getShardIterator(req.build());
             currentShardIterator = result.shardIterator();
+            currentShardId = shardId;
         }
 
         LOG.debug("Shard Iterator is: {}", currentShardIterator);
         return currentShardIterator;
     }
 
-    private void resume(GetShardIteratorRequest.Builder req) {
+    private int pollAllShards() {
+        if (refreshShards) {
+            discoverShards();
+            refreshShards = false;
+        }
+
+        for (ShardState shard : shards.values()) {
+            // a shard is not polled again before the exchanges of its previous poll have been processed, so a slow
+            // shard does not get further records until it has caught up
+            if (isShardReady(shard) && shard.pending.compareAndSet(0, 1)) {
+                shardExecutorService.submit(() -> pollShard(shard));
+            }
+        }
+
+        return processedShardExchanges.getAndSet(0);
+    }
+
+    private void discoverShards() {
+        Set<String> shardIds = new HashSet<>();
+        String nextToken = null;
+        do {
+            ListShardsRequest.Builder req = ListShardsRequest.builder();
+            if (nextToken == null) {
+                req.streamName(getEndpoint().getConfiguration().getStreamName());
+            } else {
+                req.nextToken(nextToken);
+            }
+            ListShardsResponse res = getClient().listShards(req.build());
+            for (Shard shard : res.shards()) {
+                shardIds.add(shard.shardId());
+                // shards created by a split or merge after the consumer started are read from their beginning
+                shards.computeIfAbsent(shard.shardId(), id -> new ShardState(shard, shardsDiscovered));
+            }
+            nextToken = res.nextToken();
+        } while (nextToken != null);
+
+        // forget the finished shards which have expired from the stream
+        shards.values().removeIf(shard -> shard.finished && !shardIds.contains(shard.shard.shardId()));
+        shardsDiscovered = true;
+
+        LOG.debug("Consuming {} shards of stream {}", shards.size(), getEndpoint().getConfiguration().getStreamName());
+    }
+
+    private boolean isShardReady(ShardState shard) {
+        // the records of a child shard are only read once its parents have been fully consumed
+        return !shard.finished && isParentFinished(shard.shard.parentShardId())
+                && isParentFinished(shard.shard.adjacentParentShardId());
+    }
+
+    private boolean isParentFinished(String parentShardId) {
+        if (parentShardId == null) {
+            return true;
+        }
+        ShardState parent = shards.get(parentShardId);
+        return parent == null || parent.finished;
+    }
+
+    private void pollShard(ShardState shard) {
+        String shardId = shard.shard.shardId();
+        try {
+            if (shard.iterator == null) {
+                shard.iterator = getShardIterator(shard);
+            }
+
+            GetRecordsRequest req = GetRecordsRequest
+                    .builder()
+                    .shardIterator(shard.iterator)
+                    .limit(getEndpoint()
+                            .getConfiguration()
+                            .getMaxResultsPerRequest())
+                    .build();
+            GetRecordsResponse result = getClient().getRecords(req);
+
+            List<Record> records = result.records();
+            if (!records.isEmpty()) {
+                shard.lastSequenceNumber = records.get(records.size() - 1).sequenceNumber();
+            }
+            shard.iterator = result.nextShardIterator();
+            if (shard.iterator == null) {
+                LOG.debug("Shard {} has been closed and fully consumed", shardId);
+                shard.finished = true;
+                refreshShards = true;
+            }
+
+            processedShardExchanges.addAndGet(processShardBatch(shard, createExchanges(records, shardId)));
+        } catch (Exception e) {
+            // get a new iterator, after the last record received, on the next poll of the shard
+            shard.iterator = null;
+            getExceptionHandler().handleException("Error polling shard " + shardId, e);
+        } finally {
+            shard.release();
+        }
+    }
+
+    private int processShardBatch(ShardState shard, Queue<Exchange> exchanges) {
+        int processedExchanges = 0;
+        while (!exchanges.isEmpty()) {
+            final Exchange exchange = exchanges.poll();
+            final AsyncCallback cb = defaultConsumerCallback(exchange, true);
+
+            // the shard is not polled again before all the exchanges of the batch have been processed, even
+            // when they are routed asynchronously
+            shard.pending.incrementAndGet();
+            getAsyncProcessor().process(exchange, doneSync -> {
+                try {
+                    cb.done(doneSync);
+                } finally {
+                    shard.release();
+                }
+            });
+            processedExchanges++;
+        }
+        return processedExchanges;
+    }
+
+    private String getShardIterator(ShardState shard) {
+        String shardId = shard.shard.shardId();
+        GetShardIteratorRequest.Builder req = GetShardIteratorRequest.builder()
+                .streamName(getEndpoint().getConfiguration().getStreamName()).shardId(shardId)
+                .shardIteratorType(
+                        shard.fromStart ? ShardIteratorType.TRIM_HORIZON : getEndpoint().getConfiguration().getIteratorType());
+
+        if (shard.lastSequenceNumber != null) {
+            req.shardIteratorType(ShardIteratorType.AFTER_SEQUENCE_NUMBER).startingSequenceNumber(shard.lastSequenceNumber);
+        } else {
+            resume(req, shardId);
+        }
+
+        String iterator = getClient().getShardIterator(req.build()).shardIterator();
+        LOG.debug("Shard Iterator for shard {} is: {}", shardId, iterator);
+        return iterator;
+    }
+
+    private void resume(GetShardIteratorRequest.Builder req, String shardId) {
         if (resumeStrategy == null) {
             return;
         }
@@ -190,15 +346,19 @@ public class Kinesis2Consumer extends ScheduledBatchPollingConsumer implements R
             return;
         }
 
-        adapter.setRequestBuilder(req);
-        adapter.setStreamName(getEndpoint().getConfiguration().getStreamName());
-        adapter.resume();
+        // the adapter is shared by the shards polled concurrently
+        synchronized (adapter) {
+            adapter.setRequestBuilder(req);
+            adapter.setStreamName(getEndpoint().getConfiguration().getStreamName());
+            adapter.setShardId(shardId);
+            adapter.resume();
+        }
     }
 
-    private Queue<Exchange> createExchanges(List<Record> records) {
+    private Queue<Exchange> createExchanges(List<Record> records, String shardId) {
         Queue<Exchange> exchanges = new ArrayDeque<>();
         for (Record record : records) {
-            exchanges.add(createExchange(record));
+            exchanges.add(createExchange(record, shardId));
         }
         return exchanges;
     }
@@ -216,6 +376,20 @@ public class Kinesis2Consumer extends ScheduledBatchPollingConsumer implements R
         return exchange;
     }
 
+    protected Exchange createExchange(Record record, String shardId) {
+        Exchange exchange = createExchange(record);
+        exchange.getIn().setHeader(Kinesis2Constants.SHARD_ID, shardId);
+        if (resumeStrategy != null) {
+            // allows the resumable EIP to checkpoint the sequence number of each shard, or of the stream when a single
+            // shard is consumed
+            String streamName = getEndpoint().getConfiguration().getStreamName();
+            String key = getEndpoint().getConfiguration().isConsumeAllShards()
+                    ? KinesisResumeAdapter.offsetKey(streamName, shardId) : streamName;
+            exchange.getIn().setHeader(Exchange.OFFSET, Resumables.of(key, record.sequenceNumber()));
+        }
+        return exchange;
+    }
+
     @Override
     public void setResumeStrategy(ResumeStrategy resumeStrategy) {
         this.resumeStrategy = resumeStrategy;
@@ -239,5 +413,42 @@ public class Kinesis2Consumer extends ScheduledBatchPollingConsumer implements R
         if (resumeStrategy != null) {
             resumeStrategy.loadCache();
         }
+
+        if (getEndpoint().getConfiguration().isConsumeAllShards()) {
+            shardExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "Kinesis2Consumer", getEndpoint().getConfiguration().getConcurrentConsumers());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (shardExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(shardExecutorService);
+            shardExecutorService = null;
+        }
+        shards.clear();
+        refreshShards = true;
+        shardsDiscovered = false;
+
+        super.doStop();
+    }
+
+    private static final class ShardState {
+        private final Shard shard;
+        private final boolean fromStart;
+        // the poll in flight and its exchanges not yet processed
+        private final AtomicInteger pending = new AtomicInteger();
+        private volatile String iterator;
+        private volatile String lastSequenceNumber;
+        private volatile boolean finished;
+
+        private ShardState(Shard shard, boolean fromStart) {
+            this.shard = shard;
+            this.fromStart = fromStart;
+        }
+
+        private void release() {
+            pending.decrementAndGet();
+        }
     }
 }
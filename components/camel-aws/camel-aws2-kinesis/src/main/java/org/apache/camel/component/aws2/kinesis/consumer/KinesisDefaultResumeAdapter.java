@@ -39,6 +39,7 @@ public class KinesisDefaultResumeAdapter implements KinesisResumeAdapter, Cachea
 
     private GetShardIteratorRequest.Builder resumable;
     private String streamName;
+    private String shardId;
 
     public void setRequestBuilder(GetShardIteratorRequest.Builder resumable) {
         this.resumable = resumable;
@@ -49,7 +50,10 @@ public class KinesisDefaultResumeAdapter implements KinesisResumeAdapter, Cachea
         assert streamName != null;
         assert resumable != null;
 
-        KinesisOffset offset = cache.get(streamName, KinesisOffset.class);
+        // the shards are resumed from their own offset when consuming all the shards, otherwise the single shard is
+        // resumed from the offset stored for the whole stream
+        final String key = shardId != null ? KinesisResumeAdapter.offsetKey(streamName, shardId) : streamName;
+        final KinesisOffset offset = cache.get(key, KinesisOffset.class);
 
         if (offset == null) {
             LOG.info("There is no offset for the stream {}", streamName);
@@ -57,7 +61,7 @@ public class KinesisDefaultResumeAdapter implements KinesisResumeAdapter, Cachea
         }
 
         final String sequenceNumber = offset.getValue();
-        LOG.info("Resuming from offset {} for key {}", sequenceNumber, streamName);
+        LOG.info("Resuming from offset {} for key {}", sequenceNumber, key);
 
         resumable.shardIteratorType(ShardIteratorType.AFTER_SEQUENCE_NUMBER);
         resumable.startingSequenceNumber(sequenceNumber);
@@ -100,4 +104,9 @@ public class KinesisDefaultResumeAdapter implements KinesisResumeAdapter, Cachea
     public void setStreamName(String streamName) {
         this.streamName = streamName;
     }
+
+    @Override
+    public void setShardId(String shardId) {
+        this.shardId = shardId;
+    }
 }
@@ -37,4 +37,23 @@ public interface KinesisResumeAdapter extends ResumeAdapter {
      * @param streamName the stream name
      */
     void setStreamName(String streamName);
+
+    /**
+     * Sets the shard being worked on, when the consumer reads all the shards of the stream
+     *
+     * @param shardId the shard id
+     */
+    default void setShardId(String shardId) {
+    }
+
+    /**
+     * Gets the key under which the offset of a shard is stored
+     *
+     * @param  streamName the stream name
+     * @param  shardId    the shard id
+     * @return            the offset key
+     */
+    static String offsetKey(String streamName, String shardId) {
+        return streamName + "/" + shardId;
+    }
 }
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.kinesis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.KinesisClient;
+import software.amazon.awssdk.services.kinesis.model.GetRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.GetRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.GetShardIteratorRequest;
+import software.amazon.awssdk.services.kinesis.model.GetShardIteratorResponse;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.ListShardsResponse;
+import software.amazon.awssdk.services.kinesis.model.Record;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class KinesisConsumerAllShardsTest {
+
+    @Mock
+    private KinesisClient kinesisClient;
+    @Mock
+    private AsyncProcessor processor;
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final Kinesis2Component component = new Kinesis2Component(context);
+    private final Map<String, String> shardOfRecord = new ConcurrentHashMap<>();
+    private final Queue<AsyncCallback> pendingCallbacks = new ConcurrentLinkedQueue<>();
+    private volatile boolean asyncRouting;
+
+    private Kinesis2Consumer undertest;
+
+    @BeforeEach
+    public void setup() {
+        Kinesis2Configuration configuration = new Kinesis2Configuration();
+        configuration.setAmazonKinesisClient(kinesisClient);
+        configuration.setIteratorType(ShardIteratorType.LATEST);
+        configuration.setStreamName("streamName");
+        configuration.setConsumeAllShards(true);
+        configuration.setConcurrentConsumers(2);
+        Kinesis2Endpoint endpoint = new Kinesis2Endpoint("aws2-kinesis:foo", configuration, component);
+        endpoint.start();
+        undertest = new Kinesis2Consumer(endpoint, processor);
+
+        Shard parent = Shard.builder().shardId("shard-1").build();
+        Shard sibling = Shard.builder().shardId("shard-2").build();
+        Shard child = Shard.builder().shardId("shard-3").parentShardId("shard-1").build();
+
+        // the child shard appears once the parent has been split
+        when(kinesisClient.listShards(any(ListShardsRequest.class)))
+                .thenReturn(ListShardsResponse.builder().shards(parent, sibling).build())
+                .thenReturn(ListShardsResponse.builder().shards(parent, sibling, child).build());
+        when(kinesisClient.getShardIterator(any(GetShardIteratorRequest.class)))
+                .thenAnswer(invocation -> GetShardIteratorResponse.builder()
+                        .shardIterator("it-" + invocation.getArgument(0, GetShardIteratorRequest.class).shardId()).build());
+        when(kinesisClient.getRecords(any(GetRecordsRequest.class))).thenAnswer(invocation -> {
+            String iterator = invocation.getArgument(0, GetRecordsRequest.class).shardIterator();
+            Record record = Record.builder().sequenceNumber(iterator)
+                    .data(SdkBytes.fromString("Hello", StandardCharsets.UTF_8)).build();
+            // the parent shard is closed and has no more records after this one
+            return GetRecordsResponse.builder().records(record)
+                    .nextShardIterator("it-shard-1".equals(iterator) ? null : iterator).build();
+        });
+        when(processor.process(any(Exchange.class), any())).thenAnswer(invocation -> {
+            Exchange exchange = invocation.getArgument(0, Exchange.class);
+            shardOfRecord.put(exchange.getIn().getHeader(Kinesis2Constants.SEQUENCE_NUMBER, String.class),
+                    exchange.getIn().getHeader(Kinesis2Constants.SHARD_ID, String.class));
+            AsyncCallback callback = invocation.getArgument(1, AsyncCallback.class);
+            if (asyncRouting) {
+                // the exchange completes later on
+                pendingCallbacks.add(callback);
+                return false;
+            }
+            callback.done(true);
+            return true;
+        });
+
+        context.start();
+        undertest.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        undertest.stop();
+        context.stop();
+    }
+
+    @Test
+    public void itConsumesAllShardsAndFollowsTheSplit() throws Exception {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!shardOfRecord.containsKey("it-shard-3")) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("The child shard was not consumed");
+            }
+            undertest.poll();
+            Thread.sleep(10);
+        }
+
+        assertThat(shardOfRecord.get("it-shard-1"), is("shard-1"));
+        assertThat(shardOfRecord.get("it-shard-2"), is("shard-2"));
+        assertThat(shardOfRecord.get("it-shard-3"), is("shard-3"));
+
+        final ArgumentCaptor<GetShardIteratorRequest> getShardIteratorReqCap
+                = ArgumentCaptor.forClass(GetShardIteratorRequest.class);
+        verify(kinesisClient, atLeastOnce()).getShardIterator(getShardIteratorReqCap.capture());
+        List<GetShardIteratorRequest> requests = getShardIteratorReqCap.getAllValues();
+        for (GetShardIteratorRequest request : requests) {
+            // the shard created after the consumer started is read from its beginning
+            ShardIteratorType expected = "shard-3".equals(request.shardId())
+                    ? ShardIteratorType.TRIM_HORIZON : ShardIteratorType.LATEST;
+            assertThat(request.shardIteratorType(), is(expected));
+        }
+        // each shard keeps its iterator between polls
+        assertThat(requests.size(), is(3));
+    }
+
+    @Test
+    public void itDoesNotPollAShardAgainBeforeItsExchangesAreProcessed() throws Exception {
+        asyncRouting = true;
+
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!shardOfRecord.containsKey("it-shard-2")) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("The shard was not consumed");
+            }
+            undertest.poll();
+            Thread.sleep(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            undertest.poll();
+            Thread.sleep(10);
+        }
+
+        // the exchange of the first poll is still in flight
+        assertThat(getRecordsCount("it-shard-2"), is(1L));
+
+        asyncRouting = false;
+        AsyncCallback callback;
+        while ((callback = pendingCallbacks.poll()) != null) {
+            callback.done(false);
+        }
+
+        deadline = System.currentTimeMillis() + 10000;
+        while (getRecordsCount("it-shard-2") < 2) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("The shard was not polled again once its exchanges were processed");
+            }
+            undertest.poll();
+            Thread.sleep(10);
+        }
+    }
+
+    private long getRecordsCount(String iterator) {
+        return mockingDetails(kinesisClient).getInvocations().stream()
+                .filter(invocation -> "getRecords".equals(invocation.getMethod().getName()))
+                .filter(invocation -> iterator.equals(((GetRecordsRequest) invocation.getArgument(0)).shardIterator()))
+                .count();
+    }
+}
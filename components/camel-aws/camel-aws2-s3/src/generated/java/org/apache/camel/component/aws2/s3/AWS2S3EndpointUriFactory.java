@@ -21,7 +21,7 @@ public class AWS2S3EndpointUriFactory extends org.apache.camel.support.component
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(70);
+        Set<String> props = new HashSet<>(73);
         props.add("accessKey");
         props.add("amazonS3Client");
         props.add("amazonS3Presigner");
@@ -60,6 +60,7 @@ public class AWS2S3EndpointUriFactory extends org.apache.camel.support.component
         props.add("maxMessagesPerPoll");
         props.add("moveAfterRead");
         props.add("multiPartUpload");
+        props.add("multiPartUploadConcurrency");
         props.add("namingStrategy");
         props.add("operation");
         props.add("overrideEndpoint");
@@ -71,6 +72,8 @@ public class AWS2S3EndpointUriFactory extends org.apache.camel.support.component
         props.add("proxyHost");
         props.add("proxyPort");
         props.add("proxyProtocol");
+        props.add("rangedDownloadConcurrency");
+        props.add("rangedDownloadPartSize");
         props.add("region");
         props.add("repeatCount");
         props.add("restartingPolicy");
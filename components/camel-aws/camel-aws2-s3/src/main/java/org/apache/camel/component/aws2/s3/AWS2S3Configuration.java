@@ -68,6 +68,12 @@ public class AWS2S3Configuration implements Cloneable {
     private boolean multiPartUpload;
     @UriParam(label = "producer", defaultValue = "" + 25 * 1024 * 1024)
     private long partSize = 25 * 1024 * 1024;
+    @UriParam(label = "producer", defaultValue = "1")
+    private int multiPartUploadConcurrency = 1;
+    @UriParam(label = "common,advanced", defaultValue = "1")
+    private int rangedDownloadConcurrency = 1;
+    @UriParam(label = "common,advanced", defaultValue = "" + 25 * 1024 * 1024)
+    private long rangedDownloadPartSize = 25 * 1024 * 1024;
     @UriParam
     private String policy;
     @UriParam(label = "producer")
@@ -140,6 +146,44 @@ public class AWS2S3Configuration implements Cloneable {
         this.partSize = partSize;
     }
 
+    public int getMultiPartUploadConcurrency() {
+        return multiPartUploadConcurrency;
+    }
+
+    /**
+     * The number of parts of a multi part upload which are uploaded concurrently. The default value is 1 which uploads
+     * the parts one after the other. When using a higher value the producer only reads ahead as many parts of the file
+     * as there are uploads in flight, and aborts the whole upload if any part fails.
+     */
+    public void setMultiPartUploadConcurrency(int multiPartUploadConcurrency) {
+        this.multiPartUploadConcurrency = multiPartUploadConcurrency;
+    }
+
+    public int getRangedDownloadConcurrency() {
+        return rangedDownloadConcurrency;
+    }
+
+    /**
+     * The number of byte ranges fetched concurrently when the consumer, or the getObject operation, downloads an object
+     * larger than rangedDownloadPartSize. The default value is 1 which downloads the object as a single stream. When
+     * using a higher value the ranges are reassembled, in order, into a stream cached message body.
+     */
+    public void setRangedDownloadConcurrency(int rangedDownloadConcurrency) {
+        this.rangedDownloadConcurrency = rangedDownloadConcurrency;
+    }
+
+    public long getRangedDownloadPartSize() {
+        return rangedDownloadPartSize;
+    }
+
+    /**
+     * The size of the byte ranges used by ranged downloads, the default size is 25M. Only objects larger than this size
+     * are downloaded in ranges.
+     */
+    public void setRangedDownloadPartSize(long rangedDownloadPartSize) {
+        this.rangedDownloadPartSize = rangedDownloadPartSize;
+    }
+
     public boolean isMultiPartUpload() {
         return multiPartUpload;
     }
@@ -23,6 +23,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
@@ -32,6 +33,8 @@ import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.component.aws2.s3.utils.AWS2S3RangedDownloader;
+import org.apache.camel.converter.stream.CachedOutputStream;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.ScheduledBatchPollingConsumer;
 import org.apache.camel.support.SynchronizationAdapter;
@@ -53,6 +56,7 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest.Builder;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
@@ -69,6 +73,7 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
 
     private String marker;
     private transient String s3ConsumerToString;
+    private ExecutorService rangedDownloadExecutorService;
 
     public AWS2S3Consumer(AWS2S3Endpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -78,6 +83,11 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
     protected void doStart() throws Exception {
         super.doStart();
 
+        if (isRangedDownload()) {
+            rangedDownloadExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "AWS2S3Consumer", getConfiguration().getRangedDownloadConcurrency());
+        }
+
         if (getConfiguration().isMoveAfterRead()) {
             try {
                 getAmazonS3Client()
@@ -109,6 +119,15 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         }
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        if (rangedDownloadExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(rangedDownloadExecutorService);
+            rangedDownloadExecutorService = null;
+        }
+        super.doStop();
+    }
+
     @Override
     protected int poll() throws Exception {
         // must reset for each poll
@@ -125,6 +144,17 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         } else if (fileName != null) {
             LOG.trace("Getting object in bucket [{}] with file name [{}]...", bucketName, fileName);
 
+            if (isRangedDownload()) {
+                HeadObjectResponse head
+                        = getAmazonS3Client().headObject(HeadObjectRequest.builder().bucket(bucketName).key(fileName).build());
+                if (head.contentLength() > getConfiguration().getRangedDownloadPartSize()) {
+                    exchanges = new LinkedList<>();
+                    exchanges.add(createRangedExchange(
+                            GetObjectRequest.builder().bucket(bucketName).key(fileName).ifMatch(head.eTag()).build(),
+                            head.contentLength(), fileName));
+                    return processBatch(CastUtils.cast(exchanges));
+                }
+            }
             ResponseInputStream<GetObjectResponse> s3Object
                     = getAmazonS3Client().getObject(GetObjectRequest.builder().bucket(bucketName).key(fileName).build());
             exchanges = createExchanges(s3Object, fileName);
@@ -213,6 +243,11 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
                         getRequest.sseCustomerAlgorithm(getConfiguration().getCustomerAlgorithm());
                     }
                 }
+                if (isRangedDownload() && s3ObjectSummary.size() > getConfiguration().getRangedDownloadPartSize()) {
+                    answer.add(createRangedExchange(getRequest.ifMatch(s3ObjectSummary.eTag()).build(),
+                            s3ObjectSummary.size(), s3ObjectSummary.key()));
+                    continue;
+                }
                 ResponseInputStream<GetObjectResponse> s3Object
                         = getAmazonS3Client().getObject(getRequest.build(), ResponseTransformer.toInputStream());
 
@@ -391,25 +426,7 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
             }
         }
 
-        message.setHeader(AWS2S3Constants.KEY, key);
-        message.setHeader(AWS2S3Constants.BUCKET_NAME, getConfiguration().getBucketName());
-        message.setHeader(AWS2S3Constants.E_TAG, s3Object.response().eTag());
-        message.setHeader(AWS2S3Constants.VERSION_ID, s3Object.response().versionId());
-        message.setHeader(AWS2S3Constants.CONTENT_TYPE, s3Object.response().contentType());
-        message.setHeader(AWS2S3Constants.CONTENT_LENGTH, s3Object.response().contentLength());
-        message.setHeader(AWS2S3Constants.CONTENT_ENCODING, s3Object.response().contentEncoding());
-        message.setHeader(AWS2S3Constants.CONTENT_DISPOSITION, s3Object.response().contentDisposition());
-        message.setHeader(AWS2S3Constants.CACHE_CONTROL, s3Object.response().cacheControl());
-        message.setHeader(AWS2S3Constants.SERVER_SIDE_ENCRYPTION, s3Object.response().serverSideEncryption());
-        message.setHeader(AWS2S3Constants.EXPIRATION_TIME, s3Object.response().expiration());
-        message.setHeader(AWS2S3Constants.REPLICATION_STATUS, s3Object.response().replicationStatus());
-        message.setHeader(AWS2S3Constants.STORAGE_CLASS, s3Object.response().storageClass());
-        message.setHeader(AWS2S3Constants.METADATA, s3Object.response().metadata());
-        if (s3Object.response().lastModified() != null) {
-            message.setHeader(AWS2S3Constants.LAST_MODIFIED, s3Object.response().lastModified());
-            long ts = s3Object.response().lastModified().getEpochSecond() * 1000;
-            message.setHeader(AWS2S3Constants.MESSAGE_TIMESTAMP, ts);
-        }
+        populateHeaders(message, s3Object.response(), key);
 
         /*
          * If includeBody == true, it is safe to close the object here because the S3Object
@@ -433,6 +450,60 @@ public class AWS2S3Consumer extends ScheduledBatchPollingConsumer {
         return exchange;
     }
 
+    /**
+     * Creates an exchange for an object which is downloaded in parallel byte ranges into a stream cached body.
+     */
+    protected Exchange createRangedExchange(GetObjectRequest request, long contentLength, String key) {
+        LOG.trace("Getting object with key [{}] of {} bytes from bucket [{}] in ranges...", key, contentLength,
+                getConfiguration().getBucketName());
+
+        Exchange exchange = createExchange(true);
+        exchange.setPattern(getEndpoint().getExchangePattern());
+        Message message = exchange.getIn();
+
+        // the cached body is cleaned up when the exchange is done
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        GetObjectResponse response;
+        try {
+            response = AWS2S3RangedDownloader.download(getAmazonS3Client(), request, contentLength,
+                    getConfiguration().getRangedDownloadPartSize(), getConfiguration().getRangedDownloadConcurrency(),
+                    rangedDownloadExecutorService, cos);
+            message.setBody(cos.newStreamCache());
+        } catch (Exception e) {
+            IOHelper.close(cos);
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+
+        populateHeaders(message, response, key);
+        return exchange;
+    }
+
+    private void populateHeaders(Message message, GetObjectResponse response, String key) {
+        message.setHeader(AWS2S3Constants.KEY, key);
+        message.setHeader(AWS2S3Constants.BUCKET_NAME, getConfiguration().getBucketName());
+        message.setHeader(AWS2S3Constants.E_TAG, response.eTag());
+        message.setHeader(AWS2S3Constants.VERSION_ID, response.versionId());
+        message.setHeader(AWS2S3Constants.CONTENT_TYPE, response.contentType());
+        message.setHeader(AWS2S3Constants.CONTENT_LENGTH, response.contentLength());
+        message.setHeader(AWS2S3Constants.CONTENT_ENCODING, response.contentEncoding());
+        message.setHeader(AWS2S3Constants.CONTENT_DISPOSITION, response.contentDisposition());
+        message.setHeader(AWS2S3Constants.CACHE_CONTROL, response.cacheControl());
+        message.setHeader(AWS2S3Constants.SERVER_SIDE_ENCRYPTION, response.serverSideEncryption());
+        message.setHeader(AWS2S3Constants.EXPIRATION_TIME, response.expiration());
+        message.setHeader(AWS2S3Constants.REPLICATION_STATUS, response.replicationStatus());
+        message.setHeader(AWS2S3Constants.STORAGE_CLASS, response.storageClass());
+        message.setHeader(AWS2S3Constants.METADATA, response.metadata());
+        if (response.lastModified() != null) {
+            message.setHeader(AWS2S3Constants.LAST_MODIFIED, response.lastModified());
+            long ts = response.lastModified().getEpochSecond() * 1000;
+            message.setHeader(AWS2S3Constants.MESSAGE_TIMESTAMP, ts);
+        }
+    }
+
+    private boolean isRangedDownload() {
+        return getConfiguration().getRangedDownloadConcurrency() > 1 && !getConfiguration().isIgnoreBody();
+    }
+
     @Override
     public String toString() {
         if (s3ConsumerToString == null) {
@@ -23,17 +23,24 @@ import java.io.FileInputStream;
 import java.io.InputStream;
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
 import org.apache.camel.WrappedFile;
+import org.apache.camel.component.aws2.s3.utils.AWS2S3RangedDownloader;
 import org.apache.camel.component.aws2.s3.utils.AWS2S3Utils;
+import org.apache.camel.converter.stream.CachedOutputStream;
 import org.apache.camel.support.DefaultProducer;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
@@ -62,6 +69,8 @@ import software.amazon.awssdk.services.s3.model.DeleteBucketResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListBucketsResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsResponse;
@@ -82,10 +91,32 @@ public class AWS2S3Producer extends DefaultProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(AWS2S3Producer.class);
 
+    private ExecutorService executorService;
+
     public AWS2S3Producer(final Endpoint endpoint) {
         super(endpoint);
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        int poolSize = Math.max(getConfiguration().getMultiPartUploadConcurrency(),
+                getConfiguration().getRangedDownloadConcurrency());
+        if (poolSize > 1) {
+            executorService = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "AWS2S3Producer", poolSize);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+        super.doStop();
+    }
+
     @Override
     public void process(final Exchange exchange) throws Exception {
         AWS2S3Operations operation = determineOperation(exchange);
@@ -189,6 +220,9 @@ public class AWS2S3Producer extends DefaultProducer {
         CompleteMultipartUploadResponse uploadResult = null;
 
         long filePosition = 0;
+        int concurrency = getConfiguration().getMultiPartUploadConcurrency();
+        // the parts in flight, the oldest one is awaited before reading ahead any further
+        Deque<Future<CompletedPart>> inFlight = new ArrayDeque<>();
 
         try {
             for (int part = 1; filePosition < contentLength; part++) {
@@ -198,21 +232,21 @@ public class AWS2S3Producer extends DefaultProducer {
                         .key(keyName).uploadId(initResponse.uploadId())
                         .partNumber(part).build();
 
-                LOG.trace("Uploading part [{}] for {}", part, keyName);
-                try (InputStream fileInputStream = new FileInputStream(filePayload)) {
-                    if (filePosition > 0) {
-                        long skipped = fileInputStream.skip(filePosition);
-                        if (skipped == 0) {
-                            LOG.warn("While trying to upload the file {} file, 0 bytes were skipped", keyName);
-                        }
+                if (concurrency > 1 && executorService != null) {
+                    if (inFlight.size() >= concurrency) {
+                        completedParts.add(awaitPart(inFlight.poll()));
                     }
-
-                    String etag = getEndpoint().getS3Client()
-                            .uploadPart(uploadRequest, RequestBody.fromInputStream(fileInputStream, partSize)).eTag();
-                    CompletedPart partUpload = CompletedPart.builder().partNumber(part).eTag(etag).build();
-                    completedParts.add(partUpload);
-                    filePosition += partSize;
+                    final File file = filePayload;
+                    final long position = filePosition;
+                    final long size = partSize;
+                    inFlight.add(executorService.submit(() -> uploadPart(uploadRequest, file, position, size)));
+                } else {
+                    completedParts.add(uploadPart(uploadRequest, filePayload, filePosition, partSize));
                 }
+                filePosition += partSize;
+            }
+            while (!inFlight.isEmpty()) {
+                completedParts.add(awaitPart(inFlight.poll()));
             }
             CompletedMultipartUpload completeMultipartUpload = CompletedMultipartUpload.builder().parts(completedParts).build();
             CompleteMultipartUploadRequest compRequest
@@ -222,6 +256,7 @@ public class AWS2S3Producer extends DefaultProducer {
             uploadResult = getEndpoint().getS3Client().completeMultipartUpload(compRequest);
 
         } catch (Exception e) {
+            inFlight.forEach(f -> f.cancel(true));
             getEndpoint().getS3Client()
                     .abortMultipartUpload(AbortMultipartUploadRequest.builder().bucket(getConfiguration().getBucketName())
                             .key(keyName).uploadId(initResponse.uploadId()).build());
@@ -239,6 +274,34 @@ public class AWS2S3Producer extends DefaultProducer {
         }
     }
 
+    private CompletedPart uploadPart(UploadPartRequest uploadRequest, File file, long filePosition, long partSize)
+            throws Exception {
+        LOG.trace("Uploading part [{}] for {}", uploadRequest.partNumber(), uploadRequest.key());
+        try (InputStream fileInputStream = new FileInputStream(file)) {
+            if (filePosition > 0) {
+                long skipped = fileInputStream.skip(filePosition);
+                if (skipped == 0) {
+                    LOG.warn("While trying to upload the file {} file, 0 bytes were skipped", uploadRequest.key());
+                }
+            }
+
+            String etag = getEndpoint().getS3Client()
+                    .uploadPart(uploadRequest, RequestBody.fromInputStream(fileInputStream, partSize)).eTag();
+            return CompletedPart.builder().partNumber(uploadRequest.partNumber()).eTag(etag).build();
+        }
+    }
+
+    private static CompletedPart awaitPart(Future<CompletedPart> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     public void processSingleOp(final Exchange exchange) throws Exception {
         PutObjectRequest.Builder putObjectRequest = PutObjectRequest.builder();
 
@@ -471,7 +534,7 @@ public class AWS2S3Producer extends DefaultProducer {
         }
     }
 
-    private void getObject(S3Client s3Client, Exchange exchange) throws InvalidPayloadException {
+    private void getObject(S3Client s3Client, Exchange exchange) throws Exception {
         if (getConfiguration().isPojoRequest()) {
             Object payload = exchange.getIn().getMandatoryBody();
             if (payload instanceof GetObjectRequest) {
@@ -484,6 +547,14 @@ public class AWS2S3Producer extends DefaultProducer {
             final String bucketName = AWS2S3Utils.determineBucketName(exchange, getConfiguration());
             final String sourceKey = AWS2S3Utils.determineKey(exchange, getConfiguration());
             GetObjectRequest.Builder req = GetObjectRequest.builder().bucket(bucketName).key(sourceKey);
+            if (getConfiguration().getRangedDownloadConcurrency() > 1 && executorService != null) {
+                HeadObjectResponse head
+                        = s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(sourceKey).build());
+                if (head.contentLength() > getConfiguration().getRangedDownloadPartSize()) {
+                    getObjectInRanges(s3Client, exchange, req.ifMatch(head.eTag()).build(), head.contentLength());
+                    return;
+                }
+            }
             ResponseInputStream<GetObjectResponse> res = s3Client.getObject(req.build(), ResponseTransformer.toInputStream());
 
             Message message = getMessageForResponse(exchange);
@@ -491,6 +562,22 @@ public class AWS2S3Producer extends DefaultProducer {
         }
     }
 
+    private void getObjectInRanges(S3Client s3Client, Exchange exchange, GetObjectRequest request, long contentLength)
+            throws Exception {
+        LOG.trace("Downloading object [{}] of {} bytes in ranges...", request.key(), contentLength);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        try {
+            AWS2S3RangedDownloader.download(s3Client, request, contentLength, getConfiguration().getRangedDownloadPartSize(),
+                    getConfiguration().getRangedDownloadConcurrency(), executorService, cos);
+        } catch (Exception e) {
+            IOHelper.close(cos);
+            throw e;
+        }
+
+        Message message = getMessageForResponse(exchange);
+        message.setBody(cos.newStreamCache());
+    }
+
     private void getObjectRange(S3Client s3Client, Exchange exchange) throws InvalidPayloadException {
         final String bucketName = AWS2S3Utils.determineBucketName(exchange, getConfiguration());
         final String sourceKey = AWS2S3Utils.determineKey(exchange, getConfiguration());
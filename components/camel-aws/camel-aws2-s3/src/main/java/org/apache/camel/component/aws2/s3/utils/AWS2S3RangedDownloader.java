@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3.utils;
+
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+/**
+ * Downloads an object as a sequence of byte ranges which are fetched in parallel and written back in order.
+ */
+public final class AWS2S3RangedDownloader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AWS2S3RangedDownloader.class);
+
+    private AWS2S3RangedDownloader() {
+    }
+
+    /**
+     * Downloads the object of the given request in ranges of the given part size. At most concurrency ranges are in
+     * flight at any time, so no more than that many parts are held in memory while waiting to be written.
+     *
+     * @param  s3Client        the client to use
+     * @param  request         the request of the whole object, a range is set on a copy of it for every part
+     * @param  contentLength   the length of the object
+     * @param  partSize        the size of each range
+     * @param  concurrency     the maximum number of ranges in flight
+     * @param  executorService the executor fetching the ranges
+     * @param  out             the stream the object is written to
+     * @return                 the response of the first range, amended to describe the whole object
+     * @throws Exception       if any of the ranges could not be fetched, in which case the others are cancelled
+     */
+    public static GetObjectResponse download(
+            S3Client s3Client, GetObjectRequest request, long contentLength, long partSize, int concurrency,
+            ExecutorService executorService, OutputStream out)
+            throws Exception {
+        Deque<Future<ResponseBytes<GetObjectResponse>>> inFlight = new ArrayDeque<>(concurrency);
+        GetObjectResponse response = null;
+        try {
+            for (long position = 0; position < contentLength; position += partSize) {
+                if (inFlight.size() >= concurrency) {
+                    response = write(inFlight.poll(), out, response);
+                }
+                GetObjectRequest rangeRequest = request.toBuilder()
+                        .range("bytes=" + position + "-" + (Math.min(position + partSize, contentLength) - 1)).build();
+                LOG.trace("Downloading range [{}] of {}", rangeRequest.range(), request.key());
+                inFlight.add(executorService.submit(() -> s3Client.getObject(rangeRequest, ResponseTransformer.toBytes())));
+            }
+            while (!inFlight.isEmpty()) {
+                response = write(inFlight.poll(), out, response);
+            }
+        } catch (Exception e) {
+            inFlight.forEach(f -> f.cancel(true));
+            throw e;
+        }
+        return response.toBuilder().contentLength(contentLength).contentRange(null).build();
+    }
+
+    private static GetObjectResponse write(
+            Future<ResponseBytes<GetObjectResponse>> future, OutputStream out, GetObjectResponse first)
+            throws Exception {
+        ResponseBytes<GetObjectResponse> part;
+        try {
+            part = future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+        out.write(part.asByteArrayUnsafe());
+        return first != null ? first : part.response();
+    }
+}
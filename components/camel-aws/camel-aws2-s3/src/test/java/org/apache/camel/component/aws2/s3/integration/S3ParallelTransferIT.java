@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.s3.integration;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.aws2.s3.AWS2S3Constants;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class S3ParallelTransferIT extends Aws2S3Base {
+
+    @TempDir
+    File tempDir;
+
+    @EndpointInject
+    private ProducerTemplate template;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint result;
+
+    @Test
+    public void uploadAndDownloadInParallel() throws Exception {
+        // 3 full parts of 5M and a smaller last one
+        byte[] data = new byte[17 * 1024 * 1024];
+        new Random(42).nextBytes(data);
+        File file = new File(tempDir, "big.bin");
+        Files.write(file.toPath(), data);
+
+        result.expectedMessageCount(1);
+        template.sendBodyAndHeader("direct:putObject", file, AWS2S3Constants.KEY, "big.bin");
+        assertMockEndpointsSatisfied();
+
+        Exchange exchange = template.request("direct:getObject", e -> e.getIn().setHeader(AWS2S3Constants.KEY, "big.bin"));
+        assertTrue(exchange.getMessage().getBody() instanceof StreamCache);
+        assertArrayEquals(data, exchange.getMessage().getBody(byte[].class));
+    }
+
+    @Test
+    public void downloadSmallObjectAsSingleStream() throws Exception {
+        template.sendBodyAndHeader("direct:putSmallObject", "Hello Camel", AWS2S3Constants.KEY, "small.txt");
+
+        Exchange exchange = template.request("direct:getObject", e -> e.getIn().setHeader(AWS2S3Constants.KEY, "small.txt"));
+        assertEquals("Hello Camel", exchange.getMessage().getBody(String.class));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:putObject")
+                        .to("aws2-s3://mycamel?multiPartUpload=true&partSize=5242880&multiPartUploadConcurrency=3&autoCreateBucket=true")
+                        .to("mock:result");
+
+                from("direct:putSmallObject")
+                        .to("aws2-s3://mycamel?autoCreateBucket=true");
+
+                from("direct:getObject")
+                        .to("aws2-s3://mycamel?operation=getObject&rangedDownloadConcurrency=3&rangedDownloadPartSize=1048576");
+            }
+        };
+    }
+}
@@ -40,6 +40,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "autoCreateQueue": getOrCreateConfiguration(target).setAutoCreateQueue(property(camelContext, boolean.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "batchinterval":
+        case "batchInterval": getOrCreateConfiguration(target).setBatchInterval(property(camelContext, long.class, value)); return true;
         case "batchseparator":
         case "batchSeparator": getOrCreateConfiguration(target).setBatchSeparator(property(camelContext, java.lang.String.class, value)); return true;
         case "bridgeerrorhandler":
@@ -57,6 +59,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "deleteAfterRead": getOrCreateConfiguration(target).setDeleteAfterRead(property(camelContext, boolean.class, value)); return true;
         case "deleteiffiltered":
         case "deleteIfFiltered": getOrCreateConfiguration(target).setDeleteIfFiltered(property(camelContext, boolean.class, value)); return true;
+        case "deleteinbatch":
+        case "deleteInBatch": getOrCreateConfiguration(target).setDeleteInBatch(property(camelContext, boolean.class, value)); return true;
         case "extendmessagevisibility":
         case "extendMessageVisibility": getOrCreateConfiguration(target).setExtendMessageVisibility(property(camelContext, boolean.class, value)); return true;
         case "kmsdatakeyreuseperiodseconds":
@@ -67,6 +71,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "maximummessagesize":
         case "maximumMessageSize": getOrCreateConfiguration(target).setMaximumMessageSize(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "maxinflightmessages":
+        case "maxInflightMessages": getOrCreateConfiguration(target).setMaxInflightMessages(property(camelContext, int.class, value)); return true;
         case "messageattributenames":
         case "messageAttributeNames": getOrCreateConfiguration(target).setMessageAttributeNames(property(camelContext, java.lang.String.class, value)); return true;
         case "messagededuplicationidstrategy":
@@ -99,6 +105,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "region": getOrCreateConfiguration(target).setRegion(property(camelContext, java.lang.String.class, value)); return true;
         case "secretkey":
         case "secretKey": getOrCreateConfiguration(target).setSecretKey(property(camelContext, java.lang.String.class, value)); return true;
+        case "sendinbatch":
+        case "sendInBatch": getOrCreateConfiguration(target).setSendInBatch(property(camelContext, boolean.class, value)); return true;
         case "serversideencryptionenabled":
         case "serverSideEncryptionEnabled": getOrCreateConfiguration(target).setServerSideEncryptionEnabled(property(camelContext, boolean.class, value)); return true;
         case "trustallcertificates":
@@ -135,6 +143,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "autoCreateQueue": return boolean.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "batchinterval":
+        case "batchInterval": return long.class;
         case "batchseparator":
         case "batchSeparator": return java.lang.String.class;
         case "bridgeerrorhandler":
@@ -152,6 +162,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "deleteAfterRead": return boolean.class;
         case "deleteiffiltered":
         case "deleteIfFiltered": return boolean.class;
+        case "deleteinbatch":
+        case "deleteInBatch": return boolean.class;
         case "extendmessagevisibility":
         case "extendMessageVisibility": return boolean.class;
         case "kmsdatakeyreuseperiodseconds":
@@ -162,6 +174,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": return boolean.class;
         case "maximummessagesize":
         case "maximumMessageSize": return java.lang.Integer.class;
+        case "maxinflightmessages":
+        case "maxInflightMessages": return int.class;
         case "messageattributenames":
         case "messageAttributeNames": return java.lang.String.class;
         case "messagededuplicationidstrategy":
@@ -194,6 +208,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "region": return java.lang.String.class;
         case "secretkey":
         case "secretKey": return java.lang.String.class;
+        case "sendinbatch":
+        case "sendInBatch": return boolean.class;
         case "serversideencryptionenabled":
         case "serverSideEncryptionEnabled": return boolean.class;
         case "trustallcertificates":
@@ -226,6 +242,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "autoCreateQueue": return getOrCreateConfiguration(target).isAutoCreateQueue();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "batchinterval":
+        case "batchInterval": return getOrCreateConfiguration(target).getBatchInterval();
         case "batchseparator":
         case "batchSeparator": return getOrCreateConfiguration(target).getBatchSeparator();
         case "bridgeerrorhandler":
@@ -243,6 +261,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "deleteAfterRead": return getOrCreateConfiguration(target).isDeleteAfterRead();
         case "deleteiffiltered":
         case "deleteIfFiltered": return getOrCreateConfiguration(target).isDeleteIfFiltered();
+        case "deleteinbatch":
+        case "deleteInBatch": return getOrCreateConfiguration(target).isDeleteInBatch();
         case "extendmessagevisibility":
         case "extendMessageVisibility": return getOrCreateConfiguration(target).isExtendMessageVisibility();
         case "kmsdatakeyreuseperiodseconds":
@@ -253,6 +273,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "maximummessagesize":
         case "maximumMessageSize": return getOrCreateConfiguration(target).getMaximumMessageSize();
+        case "maxinflightmessages":
+        case "maxInflightMessages": return getOrCreateConfiguration(target).getMaxInflightMessages();
         case "messageattributenames":
         case "messageAttributeNames": return getOrCreateConfiguration(target).getMessageAttributeNames();
         case "messagededuplicationidstrategy":
@@ -285,6 +307,8 @@ public class Sqs2ComponentConfigurer extends PropertyConfigurerSupport implement
         case "region": return getOrCreateConfiguration(target).getRegion();
         case "secretkey":
         case "secretKey": return getOrCreateConfiguration(target).getSecretKey();
+        case "sendinbatch":
+        case "sendInBatch": return getOrCreateConfiguration(target).isSendInBatch();
         case "serversideencryptionenabled":
         case "serverSideEncryptionEnabled": return getOrCreateConfiguration(target).isServerSideEncryptionEnabled();
         case "trustallcertificates":
@@ -37,6 +37,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": target.setBackoffIdleThreshold(property(camelContext, int.class, value)); return true;
         case "backoffmultiplier":
         case "backoffMultiplier": target.setBackoffMultiplier(property(camelContext, int.class, value)); return true;
+        case "batchinterval":
+        case "batchInterval": target.getConfiguration().setBatchInterval(property(camelContext, long.class, value)); return true;
         case "batchseparator":
         case "batchSeparator": target.getConfiguration().setBatchSeparator(property(camelContext, java.lang.String.class, value)); return true;
         case "bridgeerrorhandler":
@@ -54,6 +56,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "deleteAfterRead": target.getConfiguration().setDeleteAfterRead(property(camelContext, boolean.class, value)); return true;
         case "deleteiffiltered":
         case "deleteIfFiltered": target.getConfiguration().setDeleteIfFiltered(property(camelContext, boolean.class, value)); return true;
+        case "deleteinbatch":
+        case "deleteInBatch": target.getConfiguration().setDeleteInBatch(property(camelContext, boolean.class, value)); return true;
         case "exceptionhandler":
         case "exceptionHandler": target.setExceptionHandler(property(camelContext, org.apache.camel.spi.ExceptionHandler.class, value)); return true;
         case "exchangepattern":
@@ -71,6 +75,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "kmsMasterKeyId": target.getConfiguration().setKmsMasterKeyId(property(camelContext, java.lang.String.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
+        case "maxinflightmessages":
+        case "maxInflightMessages": target.getConfiguration().setMaxInflightMessages(property(camelContext, int.class, value)); return true;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": target.setMaxMessagesPerPoll(property(camelContext, int.class, value)); return true;
         case "maximummessagesize":
@@ -120,6 +126,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "secretKey": target.getConfiguration().setSecretKey(property(camelContext, java.lang.String.class, value)); return true;
         case "sendemptymessagewhenidle":
         case "sendEmptyMessageWhenIdle": target.setSendEmptyMessageWhenIdle(property(camelContext, boolean.class, value)); return true;
+        case "sendinbatch":
+        case "sendInBatch": target.getConfiguration().setSendInBatch(property(camelContext, boolean.class, value)); return true;
         case "serversideencryptionenabled":
         case "serverSideEncryptionEnabled": target.getConfiguration().setServerSideEncryptionEnabled(property(camelContext, boolean.class, value)); return true;
         case "startscheduler":
@@ -166,6 +174,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": return int.class;
         case "backoffmultiplier":
         case "backoffMultiplier": return int.class;
+        case "batchinterval":
+        case "batchInterval": return long.class;
         case "batchseparator":
         case "batchSeparator": return java.lang.String.class;
         case "bridgeerrorhandler":
@@ -183,6 +193,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "deleteAfterRead": return boolean.class;
         case "deleteiffiltered":
         case "deleteIfFiltered": return boolean.class;
+        case "deleteinbatch":
+        case "deleteInBatch": return boolean.class;
         case "exceptionhandler":
         case "exceptionHandler": return org.apache.camel.spi.ExceptionHandler.class;
         case "exchangepattern":
@@ -200,6 +212,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "kmsMasterKeyId": return java.lang.String.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
+        case "maxinflightmessages":
+        case "maxInflightMessages": return int.class;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return int.class;
         case "maximummessagesize":
@@ -249,6 +263,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "secretKey": return java.lang.String.class;
         case "sendemptymessagewhenidle":
         case "sendEmptyMessageWhenIdle": return boolean.class;
+        case "sendinbatch":
+        case "sendInBatch": return boolean.class;
         case "serversideencryptionenabled":
         case "serverSideEncryptionEnabled": return boolean.class;
         case "startscheduler":
@@ -291,6 +307,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "backoffIdleThreshold": return target.getBackoffIdleThreshold();
         case "backoffmultiplier":
         case "backoffMultiplier": return target.getBackoffMultiplier();
+        case "batchinterval":
+        case "batchInterval": return target.getConfiguration().getBatchInterval();
         case "batchseparator":
         case "batchSeparator": return target.getConfiguration().getBatchSeparator();
         case "bridgeerrorhandler":
@@ -308,6 +326,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "deleteAfterRead": return target.getConfiguration().isDeleteAfterRead();
         case "deleteiffiltered":
         case "deleteIfFiltered": return target.getConfiguration().isDeleteIfFiltered();
+        case "deleteinbatch":
+        case "deleteInBatch": return target.getConfiguration().isDeleteInBatch();
         case "exceptionhandler":
         case "exceptionHandler": return target.getExceptionHandler();
         case "exchangepattern":
@@ -325,6 +345,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "kmsMasterKeyId": return target.getConfiguration().getKmsMasterKeyId();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
+        case "maxinflightmessages":
+        case "maxInflightMessages": return target.getConfiguration().getMaxInflightMessages();
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return target.getMaxMessagesPerPoll();
         case "maximummessagesize":
@@ -374,6 +396,8 @@ public class Sqs2EndpointConfigurer extends PropertyConfigurerSupport implements
         case "secretKey": return target.getConfiguration().getSecretKey();
         case "sendemptymessagewhenidle":
         case "sendEmptyMessageWhenIdle": return target.isSendEmptyMessageWhenIdle();
+        case "sendinbatch":
+        case "sendInBatch": return target.getConfiguration().isSendInBatch();
         case "serversideencryptionenabled":
         case "serverSideEncryptionEnabled": return target.getConfiguration().isServerSideEncryptionEnabled();
         case "startscheduler":
@@ -21,7 +21,7 @@ public class Sqs2EndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(63);
+        Set<String> props = new HashSet<>(67);
         props.add("accessKey");
         props.add("amazonAWSHost");
         props.add("amazonSQSClient");
@@ -30,6 +30,7 @@ public class Sqs2EndpointUriFactory extends org.apache.camel.support.component.E
         props.add("backoffErrorThreshold");
         props.add("backoffIdleThreshold");
         props.add("backoffMultiplier");
+        props.add("batchInterval");
         props.add("batchSeparator");
         props.add("bridgeErrorHandler");
         props.add("concurrentConsumers");
@@ -39,6 +40,7 @@ public class Sqs2EndpointUriFactory extends org.apache.camel.support.component.E
         props.add("delaySeconds");
         props.add("deleteAfterRead");
         props.add("deleteIfFiltered");
+        props.add("deleteInBatch");
         props.add("exceptionHandler");
         props.add("exchangePattern");
         props.add("extendMessageVisibility");
@@ -48,6 +50,7 @@ public class Sqs2EndpointUriFactory extends org.apache.camel.support.component.E
         props.add("kmsDataKeyReusePeriodSeconds");
         props.add("kmsMasterKeyId");
         props.add("lazyStartProducer");
+        props.add("maxInflightMessages");
         props.add("maxMessagesPerPoll");
         props.add("maximumMessageSize");
         props.add("messageAttributeNames");
@@ -76,6 +79,7 @@ public class Sqs2EndpointUriFactory extends org.apache.camel.support.component.E
         props.add("schedulerProperties");
         props.add("secretKey");
         props.add("sendEmptyMessageWhenIdle");
+        props.add("sendInBatch");
         props.add("serverSideEncryptionEnabled");
         props.add("startScheduler");
         props.add("timeUnit");
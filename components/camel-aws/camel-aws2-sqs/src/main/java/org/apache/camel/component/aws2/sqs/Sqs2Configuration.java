@@ -85,6 +85,10 @@ public class Sqs2Configuration implements Cloneable {
     private boolean serverSideEncryptionEnabled;
     @UriParam(label = "consumer", defaultValue = "1")
     private int concurrentConsumers = 1;
+    @UriParam(label = "consumer")
+    private boolean deleteInBatch;
+    @UriParam(label = "consumer,advanced")
+    private int maxInflightMessages;
 
     // producer properties
     @UriParam(label = "producer", javaType = "java.lang.String", enums = "useConstant,useExchangeId,usePropertyValue")
@@ -98,6 +102,10 @@ public class Sqs2Configuration implements Cloneable {
     private String batchSeparator = ",";
     @UriParam(label = "producer", defaultValue = "WARN", enums = "WARN,WARN_ONCE,IGNORE,FAIL")
     private String messageHeaderExceededLimit = "WARN";
+    @UriParam(label = "producer")
+    private boolean sendInBatch;
+    @UriParam(label = "advanced", defaultValue = "200")
+    private long batchInterval = 200;
 
     // queue properties
     @UriParam(label = "queue")
@@ -394,6 +402,33 @@ public class Sqs2Configuration implements Cloneable {
         this.concurrentConsumers = concurrentConsumers;
     }
 
+    public boolean isDeleteInBatch() {
+        return deleteInBatch;
+    }
+
+    /**
+     * Whether to delete the processed messages in batches, using DeleteMessageBatch requests of up to 10 messages,
+     * instead of one DeleteMessage request per message. A message waits at most batchInterval milliseconds to be
+     * deleted.
+     */
+    public void setDeleteInBatch(boolean deleteInBatch) {
+        this.deleteInBatch = deleteInBatch;
+    }
+
+    public int getMaxInflightMessages() {
+        return maxInflightMessages;
+    }
+
+    /**
+     * The maximum number of received messages which have not been completed yet. When set, the next batch of messages
+     * is received in the background while the current one is being processed, as long as the number of messages in
+     * flight stays within this limit, which must be at least maxMessagesPerPoll. The default value of 0 receives the
+     * next batch only after the current one has been processed.
+     */
+    public void setMaxInflightMessages(int maxInflightMessages) {
+        this.maxInflightMessages = maxInflightMessages;
+    }
+
     public String getQueueUrl() {
         return queueUrl;
     }
@@ -589,6 +624,31 @@ public class Sqs2Configuration implements Cloneable {
         this.batchSeparator = batchSeparator;
     }
 
+    public boolean isSendInBatch() {
+        return sendInBatch;
+    }
+
+    /**
+     * Whether to send the messages of concurrent exchanges together, using SendMessageBatch requests of up to 10
+     * messages, instead of one SendMessage request per exchange. An exchange waits at most batchInterval milliseconds
+     * for its message to be sent. This only applies when no operation is set.
+     */
+    public void setSendInBatch(boolean sendInBatch) {
+        this.sendInBatch = sendInBatch;
+    }
+
+    public long getBatchInterval() {
+        return batchInterval;
+    }
+
+    /**
+     * The maximum time in milliseconds a message waits to be sent or deleted in a batch, when using the sendInBatch or
+     * deleteInBatch options.
+     */
+    public void setBatchInterval(long batchInterval) {
+        this.batchInterval = batchInterval;
+    }
+
     public String getMessageHeaderExceededLimit() {
         return messageHeaderExceededLimit;
     }
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.aws2.sqs;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -23,9 +24,15 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
@@ -46,7 +53,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
 import software.amazon.awssdk.services.sqs.model.MessageNotInflightException;
@@ -65,7 +76,16 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(Sqs2Consumer.class);
 
+    // the maximum number of entries of a DeleteMessageBatch request
+    private static final int MAX_BATCH_SIZE = 10;
+
     private ScheduledExecutorService scheduledExecutor;
+    private ExecutorService prefetchExecutor;
+    private ScheduledFuture<?> deleteBatchTask;
+    private final Queue<PrefetchTask> prefetchedExchanges = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inflightMessages = new AtomicInteger();
+    private final Queue<String> pendingDeletes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingDeleteCount = new AtomicInteger();
     private transient String sqsConsumerToString;
     private Collection<String> attributeNames;
     private Collection<String> messageAttributeNames;
@@ -89,6 +109,28 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
         shutdownRunningTask = null;
         pendingExchanges = 0;
 
+        Queue<Exchange> exchanges;
+        PrefetchTask prefetched = prefetchedExchanges.poll();
+        if (prefetched != null) {
+            exchanges = awaitPrefetchedExchanges(prefetched.future);
+        } else if (getConfiguration().getMaxInflightMessages() > 0) {
+            // the messages of the previous polls may still be in flight when routed asynchronously
+            int reserved = reserveInflightMessages();
+            if (reserved == 0) {
+                return 0;
+            }
+            exchanges = receiveReservedExchanges(reserved);
+        } else {
+            exchanges = createExchanges(receiveMessages());
+        }
+
+        // receive the next batch while this one is being processed
+        prefetchExchanges();
+
+        return processBatch(CastUtils.cast(exchanges));
+    }
+
+    private List<software.amazon.awssdk.services.sqs.model.Message> receiveMessages() {
         ReceiveMessageRequest.Builder request = ReceiveMessageRequest.builder().queueUrl(getQueueUrl());
         request.maxNumberOfMessages(getMaxMessagesPerPoll() > 0 ? getMaxMessagesPerPoll() : null);
         request.visibilityTimeout(getConfiguration().getVisibilityTimeout());
@@ -117,8 +159,61 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
             LOG.trace("Received {} messages", messageResult.messages().size());
         }
 
-        Queue<Exchange> exchanges = createExchanges(messageResult.messages());
-        return processBatch(CastUtils.cast(exchanges));
+        return messageResult.messages();
+    }
+
+    private void prefetchExchanges() {
+        int maxInflightMessages = getConfiguration().getMaxInflightMessages();
+        if (prefetchExecutor == null || maxInflightMessages <= 0 || !isRunAllowed()) {
+            return;
+        }
+
+        final int reserved = reserveInflightMessages();
+        if (reserved > 0) {
+            PrefetchTask task = new PrefetchTask(reserved);
+            task.future = prefetchExecutor.submit(task);
+            prefetchedExchanges.add(task);
+        }
+    }
+
+    /**
+     * Reserves room for a full batch so the in flight messages never exceed the limit.
+     *
+     * @return the number of messages reserved, or 0 if there is no room for a batch
+     */
+    private int reserveInflightMessages() {
+        int reserved = getMaxMessagesPerPoll() > 0 ? getMaxMessagesPerPoll() : 1;
+        int current;
+        do {
+            current = inflightMessages.get();
+            if (current + reserved > getConfiguration().getMaxInflightMessages()) {
+                LOG.trace("Not receiving messages as there are {} messages in flight", current);
+                return 0;
+            }
+        } while (!inflightMessages.compareAndSet(current, current + reserved));
+        return reserved;
+    }
+
+    private Queue<Exchange> receiveReservedExchanges(int reserved) throws Exception {
+        try {
+            Queue<Exchange> answer = createExchanges(receiveMessages());
+            inflightMessages.addAndGet(answer.size() - reserved);
+            return answer;
+        } catch (Exception e) {
+            inflightMessages.addAndGet(-reserved);
+            throw e;
+        }
+    }
+
+    private static Queue<Exchange> awaitPrefetchedExchanges(Future<Queue<Exchange>> prefetched) throws Exception {
+        try {
+            return prefetched.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
     }
 
     public void reConnectToQueue() {
@@ -170,8 +265,11 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
 
             // schedule task to extend visibility if enabled
             Integer visibilityTimeout = getConfiguration().getVisibilityTimeout();
-            if (this.scheduledExecutor != null && visibilityTimeout != null && (visibilityTimeout.intValue() / 2) > 0) {
-                int delay = visibilityTimeout.intValue() / 2;
+            if (this.scheduledExecutor != null && getConfiguration().isExtendMessageVisibility() && visibilityTimeout != null
+                    && (visibilityTimeout.intValue() / 2) > 0) {
+                // the message may have been received ahead, while the previous batch was processed
+                long waited = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis() - exchange.getCreated());
+                int delay = (int) Math.max(0, visibilityTimeout.intValue() / 2 - waited);
                 int period = visibilityTimeout.intValue();
                 int repeatSeconds = Double.valueOf(visibilityTimeout.doubleValue() * 1.5).intValue();
                 if (LOG.isDebugEnabled()) {
@@ -207,10 +305,12 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
             exchange.adapt(ExtendedExchange.class).addOnCompletion(new Synchronization() {
                 public void onComplete(Exchange exchange) {
                     processCommit(exchange);
+                    releaseInflightMessage();
                 }
 
                 public void onFailure(Exchange exchange) {
                     processRollback(exchange);
+                    releaseInflightMessage();
                 }
 
                 @Override
@@ -224,6 +324,11 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
             getAsyncProcessor().process(exchange, cb);
         }
 
+        // the messages not processed as the consumer is stopping are no longer in flight
+        for (int i = 0; i < exchanges.size(); i++) {
+            releaseInflightMessage();
+        }
+
         return total;
     }
 
@@ -237,6 +342,11 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
 
             if (shouldDelete(exchange)) {
                 String receiptHandle = exchange.getIn().getHeader(Sqs2Constants.RECEIPT_HANDLE, String.class);
+                if (getConfiguration().isDeleteInBatch()) {
+                    deleteMessageInBatch(receiptHandle);
+                    return;
+                }
+
                 DeleteMessageRequest.Builder deleteRequest
                         = DeleteMessageRequest.builder().queueUrl(getQueueUrl()).receiptHandle(receiptHandle);
 
@@ -252,6 +362,58 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
         }
     }
 
+    private void deleteMessageInBatch(String receiptHandle) {
+        LOG.trace("Queueing message with receipt handle {} for deletion...", receiptHandle);
+
+        pendingDeletes.add(receiptHandle);
+        if (pendingDeleteCount.incrementAndGet() >= MAX_BATCH_SIZE) {
+            deletePendingMessages(false);
+        }
+    }
+
+    /**
+     * Deletes the queued messages in batches.
+     *
+     * @param all whether to also delete the last messages which do not fill a whole batch
+     */
+    protected synchronized void deletePendingMessages(boolean all) {
+        while (pendingDeleteCount.get() >= MAX_BATCH_SIZE || all && pendingDeleteCount.get() > 0) {
+            List<DeleteMessageBatchRequestEntry> entries = new ArrayList<>(MAX_BATCH_SIZE);
+            String receiptHandle;
+            while (entries.size() < MAX_BATCH_SIZE && (receiptHandle = pendingDeletes.poll()) != null) {
+                entries.add(DeleteMessageBatchRequestEntry.builder().id(Integer.toString(entries.size()))
+                        .receiptHandle(receiptHandle).build());
+            }
+            if (entries.isEmpty()) {
+                return;
+            }
+            pendingDeleteCount.addAndGet(-entries.size());
+
+            try {
+                LOG.trace("Deleting {} messages...", entries.size());
+
+                DeleteMessageBatchResponse response = getClient().deleteMessageBatch(
+                        DeleteMessageBatchRequest.builder().queueUrl(getQueueUrl()).entries(entries).build());
+                for (BatchResultErrorEntry failed : response.failed()) {
+                    getExceptionHandler().handleException(
+                            "Error occurred during deleting message. This exception is ignored.",
+                            SqsException.builder().message(failed.code() + ": " + failed.message()).build());
+                }
+
+                LOG.trace("Deleted {} messages", entries.size() - response.failed().size());
+            } catch (AwsServiceException e) {
+                getExceptionHandler().handleException("Error occurred during deleting messages. This exception is ignored.",
+                        e);
+            }
+        }
+    }
+
+    private void releaseInflightMessage() {
+        if (getConfiguration().getMaxInflightMessages() > 0) {
+            inflightMessages.decrementAndGet();
+        }
+    }
+
     private boolean shouldDelete(Exchange exchange) {
         boolean shouldDeleteByFilter = exchange.getProperty(Sqs2Constants.SQS_DELETE_FILTERED) != null
                 && getConfiguration().isDeleteIfFiltered() && passedThroughFilter(exchange);
@@ -344,25 +506,107 @@ public class Sqs2Consumer extends ScheduledBatchPollingConsumer {
 
     @Override
     protected void doStart() throws Exception {
+        if (getConfiguration().getMaxInflightMessages() > 0
+                && getConfiguration().getMaxInflightMessages() < Math.max(1, getMaxMessagesPerPoll())) {
+            throw new IllegalArgumentException("The option maxInflightMessages must be >= maxMessagesPerPoll");
+        }
+
         // start scheduler first
-        if (getConfiguration().isExtendMessageVisibility() && scheduledExecutor == null) {
+        if ((getConfiguration().isExtendMessageVisibility() || getConfiguration().isDeleteInBatch())
+                && scheduledExecutor == null) {
             this.scheduledExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
                     .newSingleThreadScheduledExecutor(this, "SqsTimeoutExtender");
         }
+        if (getConfiguration().isDeleteInBatch()) {
+            long interval = getConfiguration().getBatchInterval();
+            deleteBatchTask = scheduledExecutor.scheduleWithFixedDelay(() -> deletePendingMessages(true), interval, interval,
+                    TimeUnit.MILLISECONDS);
+        }
+        if (getConfiguration().getMaxInflightMessages() > 0 && prefetchExecutor == null) {
+            this.prefetchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "SqsPrefetch", getConfiguration().getConcurrentConsumers());
+        }
 
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        // the messages received ahead are not processed, and become visible again after their visibility timeout
+        PrefetchTask prefetched;
+        while ((prefetched = prefetchedExchanges.poll()) != null) {
+            prefetched.discard();
+        }
+
+        if (deleteBatchTask != null) {
+            deleteBatchTask.cancel(false);
+            deleteBatchTask = null;
+        }
+        deletePendingMessages(true);
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         if (scheduledExecutor != null) {
             getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(scheduledExecutor);
             scheduledExecutor = null;
         }
+        if (prefetchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(prefetchExecutor);
+            prefetchExecutor = null;
+        }
 
         super.doShutdown();
     }
 
+    /**
+     * Receives the next batch ahead, into the room reserved for it in the in flight messages, which is given back if the
+     * batch is discarded when the consumer is stopped.
+     */
+    private final class PrefetchTask implements Callable<Queue<Exchange>> {
+
+        private final int reserved;
+        private Future<Queue<Exchange>> future;
+        private boolean started;
+        private boolean discarded;
+        private int received = -1;
+
+        PrefetchTask(int reserved) {
+            this.reserved = reserved;
+        }
+
+        @Override
+        public Queue<Exchange> call() throws Exception {
+            synchronized (this) {
+                if (discarded) {
+                    return new LinkedList<>();
+                }
+                started = true;
+            }
+            Queue<Exchange> answer = receiveReservedExchanges(reserved);
+            synchronized (this) {
+                if (discarded) {
+                    inflightMessages.addAndGet(-answer.size());
+                    return new LinkedList<>();
+                }
+                received = answer.size();
+            }
+            return answer;
+        }
+
+        synchronized void discard() {
+            discarded = true;
+            future.cancel(false);
+            if (!started) {
+                inflightMessages.addAndGet(-reserved);
+            } else if (received > 0) {
+                inflightMessages.addAndGet(-received);
+            }
+        }
+    }
+
     private class TimeoutExtender implements Runnable {
 
         private final Exchange exchange;
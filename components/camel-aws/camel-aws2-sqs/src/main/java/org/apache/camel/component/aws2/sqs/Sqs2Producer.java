@@ -16,22 +16,28 @@
  */
 package org.apache.camel.component.aws2.sqs;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.spi.HeaderFilterStrategy;
-import org.apache.camel.support.DefaultProducer;
+import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.URISupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
@@ -44,22 +50,30 @@ import software.amazon.awssdk.services.sqs.model.PurgeQueueResponse;
 import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
 
 /**
  * A Producer which sends messages to the Amazon Web Service Simple Queue Service
  * <a href="http://aws.amazon.com/sqs/">AWS SQS</a>
  */
-public class Sqs2Producer extends DefaultProducer {
+public class Sqs2Producer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(Sqs2Producer.class);
 
     private static final int MAX_ATTRIBUTES = 10;
     private static final String MAX_MESSAGE
             = "Number of message headers exceeded. At most " + MAX_ATTRIBUTES + " headers is allowed when sending to AWS SQS.";
+    // the maximum number of entries, and total payload size, of a SendMessageBatch request
+    private static final int MAX_BATCH_SIZE = 10;
+    private static final int MAX_BATCH_PAYLOAD_SIZE = 256 * 1024;
 
     private transient String sqsProducerToString;
+    private final List<PendingMessage> pendingMessages = new ArrayList<>(MAX_BATCH_SIZE);
+    private int pendingPayloadSize;
+    private ScheduledExecutorService batchExecutor;
 
     public Sqs2Producer(Sqs2Endpoint endpoint) {
         super(endpoint);
@@ -70,7 +84,51 @@ public class Sqs2Producer extends DefaultProducer {
     }
 
     @Override
-    public void process(Exchange exchange) throws Exception {
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (getConfiguration().isSendInBatch()) {
+            long interval = getConfiguration().getBatchInterval();
+            batchExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "SqsBatchSender");
+            batchExecutor.scheduleWithFixedDelay(() -> sendBatch(drainPendingMessages()), interval, interval,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (batchExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(batchExecutor);
+            batchExecutor = null;
+        }
+        // send the messages still waiting for a batch
+        sendBatch(drainPendingMessages());
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        if (getConfiguration().isSendInBatch() && ObjectHelper.isEmpty(determineOperation(exchange))) {
+            try {
+                sendInBatch(exchange, callback);
+                return false;
+            } catch (Exception e) {
+                exchange.setException(e);
+                callback.done(true);
+                return true;
+            }
+        }
+
+        try {
+            processOperation(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    private void processOperation(Exchange exchange) {
         Sqs2Operations operation = determineOperation(exchange);
         if (ObjectHelper.isEmpty(operation)) {
             processSingleMessage(exchange);
@@ -115,6 +173,96 @@ public class Sqs2Producer extends DefaultProducer {
         message.setHeader(Sqs2Constants.MD5_OF_BODY, result.md5OfMessageBody());
     }
 
+    private void sendInBatch(Exchange exchange, AsyncCallback callback) {
+        String body = exchange.getIn().getBody(String.class);
+        SendMessageBatchRequestEntry.Builder entry = SendMessageBatchRequestEntry.builder().messageBody(body);
+        Map<String, MessageAttributeValue> attributes = translateAttributes(exchange.getIn().getHeaders(), exchange);
+        entry.messageAttributes(attributes);
+        addDelay(entry, exchange);
+        configureFifoAttributes(entry, exchange);
+        int payloadSize = payloadSize(body, attributes);
+
+        LOG.trace("Queueing message from exchange [{}] to be sent in a batch...", exchange);
+
+        List<PendingMessage> previous = null;
+        List<PendingMessage> full = null;
+        synchronized (pendingMessages) {
+            if (pendingPayloadSize + payloadSize > MAX_BATCH_PAYLOAD_SIZE) {
+                previous = drainPendingMessages();
+            }
+            pendingMessages.add(new PendingMessage(entry, exchange, callback));
+            pendingPayloadSize += payloadSize;
+            if (pendingMessages.size() >= MAX_BATCH_SIZE) {
+                full = drainPendingMessages();
+            }
+        }
+        sendBatch(previous);
+        sendBatch(full);
+    }
+
+    /**
+     * The size of a message as counted by SQS against the payload size limit, which is the size of its body and of
+     * the names, types and values of its message attributes.
+     */
+    private static int payloadSize(String body, Map<String, MessageAttributeValue> attributes) {
+        int answer = utf8Length(body);
+        for (Entry<String, MessageAttributeValue> attribute : attributes.entrySet()) {
+            MessageAttributeValue value = attribute.getValue();
+            answer += utf8Length(attribute.getKey()) + utf8Length(value.dataType()) + utf8Length(value.stringValue());
+            if (value.binaryValue() != null) {
+                answer += value.binaryValue().asByteBuffer().remaining();
+            }
+        }
+        return answer;
+    }
+
+    private static int utf8Length(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8).length : 0;
+    }
+
+    private List<PendingMessage> drainPendingMessages() {
+        synchronized (pendingMessages) {
+            List<PendingMessage> answer = new ArrayList<>(pendingMessages);
+            pendingMessages.clear();
+            pendingPayloadSize = 0;
+            return answer;
+        }
+    }
+
+    private void sendBatch(List<PendingMessage> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return;
+        }
+
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            entries.add(batch.get(i).entry.id(Integer.toString(i)).build());
+        }
+
+        try {
+            LOG.trace("Sending batch of {} messages...", entries.size());
+
+            SendMessageBatchResponse result = getClient().sendMessageBatch(
+                    SendMessageBatchRequest.builder().queueUrl(getQueueUrl()).entries(entries).build());
+
+            LOG.trace("Received result [{}]", result);
+
+            for (SendMessageBatchResultEntry sent : result.successful()) {
+                Message message = getMessageForResponse(batch.get(Integer.parseInt(sent.id())).exchange);
+                message.setHeader(Sqs2Constants.MESSAGE_ID, sent.messageId());
+                message.setHeader(Sqs2Constants.MD5_OF_BODY, sent.md5OfMessageBody());
+            }
+            for (BatchResultErrorEntry failed : result.failed()) {
+                batch.get(Integer.parseInt(failed.id())).exchange
+                        .setException(SqsException.builder().message(failed.code() + ": " + failed.message()).build());
+            }
+        } catch (Exception e) {
+            batch.forEach(pending -> pending.exchange.setException(e));
+        }
+
+        batch.forEach(pending -> pending.callback.done(false));
+    }
+
     private void sendBatchMessage(SqsClient amazonSQS, Exchange exchange) {
         SendMessageBatchRequest.Builder request = SendMessageBatchRequest.builder().queueUrl(getQueueUrl());
         Collection<SendMessageBatchRequestEntry> entries = new ArrayList<>();
@@ -330,4 +478,16 @@ public class Sqs2Producer extends DefaultProducer {
         }
         return operation;
     }
+
+    private static final class PendingMessage {
+        private final SendMessageBatchRequestEntry.Builder entry;
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        private PendingMessage(SendMessageBatchRequestEntry.Builder entry, Exchange exchange, AsyncCallback callback) {
+            this.entry = entry;
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+    }
 }
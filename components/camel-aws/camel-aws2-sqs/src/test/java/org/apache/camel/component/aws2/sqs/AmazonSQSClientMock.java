@@ -36,6 +36,10 @@ import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
 import software.amazon.awssdk.services.sqs.model.CreateQueueRequest;
 import software.amazon.awssdk.services.sqs.model.CreateQueueResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
 import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
 import software.amazon.awssdk.services.sqs.model.DeleteQueueRequest;
@@ -64,6 +68,7 @@ public class AmazonSQSClientMock implements SqsClient {
     List<Message> messages = new ArrayList<>();
     Map<String, Map<String, String>> queueAttributes = new HashMap<>();
     List<ChangeMessageVisibilityRequest> changeMessageVisibilityRequests = new CopyOnWriteArrayList<>();
+    List<DeleteMessageBatchRequest> deleteMessageBatchRequests = new CopyOnWriteArrayList<>();
     private Map<String, CreateQueueRequest> queues = new LinkedHashMap<>();
     private Map<String, ScheduledFuture<?>> inFlight = new LinkedHashMap<>();
     private ScheduledExecutorService scheduler;
@@ -194,6 +199,20 @@ public class AmazonSQSClientMock implements SqsClient {
         return DeleteMessageResponse.builder().build();
     }
 
+    @Override
+    public DeleteMessageBatchResponse deleteMessageBatch(DeleteMessageBatchRequest deleteMessageBatchRequest) {
+        deleteMessageBatchRequests.add(deleteMessageBatchRequest);
+        Collection<DeleteMessageBatchResultEntry> entries = new ArrayList<>();
+        for (DeleteMessageBatchRequestEntry entry : deleteMessageBatchRequest.entries()) {
+            ScheduledFuture<?> inFlightTask = inFlight.get(entry.receiptHandle());
+            if (inFlightTask != null) {
+                inFlightTask.cancel(true);
+            }
+            entries.add(DeleteMessageBatchResultEntry.builder().id(entry.id()).build());
+        }
+        return DeleteMessageBatchResponse.builder().successful(entries).build();
+    }
+
     @Override
     public PurgeQueueResponse purgeQueue(PurgeQueueRequest purgeQueueRequest) {
         if (purgeQueueRequest.queueUrl() == null) {
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.sqs;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqsConsumerMaxInflightMessagesTest extends CamelTestSupport {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger processing = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @EndpointInject("mock:result")
+    private MockEndpoint mock;
+
+    @BindToRegistry("amazonSQSClient")
+    private CountingClientMock client = new CountingClientMock();
+
+    @Test
+    public void receivesNoMoreMessagesThanTheInflightLimit() throws Exception {
+        mock.expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            client.addMessage(i);
+        }
+
+        // the exchanges are routed asynchronously and are blocked, so only the in flight limit is received
+        Thread.sleep(1000);
+        assertEquals(4, client.received.get());
+        assertTrue(processing.get() <= 4);
+
+        release.countDown();
+
+        assertMockEndpointsSatisfied();
+        assertTrue(maxInflight.get() <= 4, "At most 4 messages should be in flight, was: " + maxInflight.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("aws2-sqs://MyQueue?amazonSQSClient=#amazonSQSClient&maxMessagesPerPoll=2&maxInflightMessages=4&delay=10")
+                        .threads(10)
+                        .process(exchange -> {
+                            processing.incrementAndGet();
+                            release.await(10, TimeUnit.SECONDS);
+                        })
+                        .to("mock:result")
+                        .process(exchange -> completed.incrementAndGet());
+            }
+        };
+    }
+
+    private final class CountingClientMock extends AmazonSQSClientMock {
+        private final AtomicInteger received = new AtomicInteger();
+
+        void addMessage(int i) {
+            synchronized (messages) {
+                messages.add(Message.builder().body("Message " + i).md5OfBody("6a1559560f67c5e7a7d5d838bf0272ee")
+                        .messageId("f6fb6f99-5eb2-4be4-9b15-14477414145" + i).receiptHandle("receipt-" + i).build());
+            }
+        }
+
+        @Override
+        public ReceiveMessageResponse receiveMessage(ReceiveMessageRequest receiveMessageRequest) {
+            ReceiveMessageResponse answer = super.receiveMessage(receiveMessageRequest);
+            int count = received.addAndGet(answer.messages().size());
+            // the messages received but whose exchange has not completed yet
+            maxInflight.accumulateAndGet(count - completed.get(), Math::max);
+            return answer;
+        }
+    }
+}
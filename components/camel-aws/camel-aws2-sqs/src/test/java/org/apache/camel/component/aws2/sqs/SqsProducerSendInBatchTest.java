@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.aws2.sqs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqsProducerSendInBatchTest extends CamelTestSupport {
+
+    private static final String SIZE_URI = "aws2-sqs://camel-1?amazonSQSClient=#client&sendInBatch=true&batchInterval=60000";
+    private static final String INTERVAL_URI
+            = "aws2-sqs://camel-2?amazonSQSClient=#client&sendInBatch=true&batchInterval=500";
+
+    @BindToRegistry("client")
+    private BatchClientMock client = new BatchClientMock();
+
+    @Test
+    public void sendsFullBatchWithoutWaitingForTheInterval() throws Exception {
+        List<Exchange> exchanges = createExchanges(10, null);
+        sendAll(SIZE_URI, exchanges);
+
+        assertEquals(1, client.batchRequests.size());
+        assertEquals(10, client.batchRequests.get(0).entries().size());
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+            assertEquals("id-" + exchange.getIn().getBody(String.class),
+                    exchange.getMessage().getHeader(Sqs2Constants.MESSAGE_ID));
+        }
+    }
+
+    @Test
+    public void sendsPartialBatchOnceTheIntervalHasElapsed() throws Exception {
+        List<Exchange> exchanges = createExchanges(3, null);
+        sendAll(INTERVAL_URI, exchanges);
+
+        assertEquals(1, client.batchRequests.size());
+        assertEquals(3, client.batchRequests.get(0).entries().size());
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+        }
+    }
+
+    @Test
+    public void failsOnlyTheExchangesOfTheFailedEntries() throws Exception {
+        List<Exchange> exchanges = createExchanges(10, null);
+        exchanges.get(3).getIn().setBody("fail");
+        sendAll(SIZE_URI, exchanges);
+
+        assertEquals(1, client.batchRequests.size());
+        Exchange failed = exchanges.remove(3);
+        assertInstanceOf(SqsException.class, failed.getException());
+        assertTrue(failed.getException().getMessage().contains("InvalidMessageContents"));
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+            assertEquals("id-" + exchange.getIn().getBody(String.class),
+                    exchange.getMessage().getHeader(Sqs2Constants.MESSAGE_ID));
+        }
+    }
+
+    @Test
+    public void countsMessageAttributesInTheBatchPayloadSize() throws Exception {
+        // the bodies alone fit in a batch, but not together with their message attributes
+        List<Exchange> exchanges = createExchanges(2, "a".repeat(100 * 1024));
+        for (Exchange exchange : exchanges) {
+            exchange.getIn().setHeader("large", "b".repeat(40 * 1024));
+        }
+        sendAll(INTERVAL_URI, exchanges);
+
+        assertEquals(2, client.batchRequests.size());
+        for (SendMessageBatchRequest request : client.batchRequests) {
+            assertEquals(1, request.entries().size());
+        }
+        for (Exchange exchange : exchanges) {
+            assertNull(exchange.getException());
+        }
+    }
+
+    private List<Exchange> createExchanges(int count, String body) {
+        List<Exchange> answer = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Exchange exchange = context.getEndpoint("direct:start").createExchange();
+            exchange.getIn().setBody(body != null ? body : "message-" + i);
+            answer.add(exchange);
+        }
+        return answer;
+    }
+
+    private void sendAll(String uri, List<Exchange> exchanges) throws Exception {
+        Endpoint endpoint = context.getEndpoint(uri);
+        AsyncProducer producer = endpoint.createAsyncProducer();
+        producer.start();
+        try {
+            CountDownLatch latch = new CountDownLatch(exchanges.size());
+            for (Exchange exchange : exchanges) {
+                // the exchanges wait for their batch to be sent, without blocking the caller
+                producer.process(exchange, doneSync -> latch.countDown());
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS), "The exchanges should complete");
+            assertFalse(client.batchRequests.isEmpty());
+        } finally {
+            producer.stop();
+        }
+    }
+
+    private static final class BatchClientMock extends AmazonSQSClientMock {
+        private final List<SendMessageBatchRequest> batchRequests = new CopyOnWriteArrayList<>();
+
+        @Override
+        public SendMessageBatchResponse sendMessageBatch(SendMessageBatchRequest request) {
+            batchRequests.add(request);
+            List<SendMessageBatchResultEntry> successful = new ArrayList<>();
+            List<BatchResultErrorEntry> failed = new ArrayList<>();
+            for (SendMessageBatchRequestEntry entry : request.entries()) {
+                if (entry.messageBody().equals("fail")) {
+                    failed.add(BatchResultErrorEntry.builder().id(entry.id()).code("InvalidMessageContents")
+                            .message("Invalid message").senderFault(true).build());
+                } else {
+                    successful.add(SendMessageBatchResultEntry.builder().id(entry.id())
+                            .messageId("id-" + entry.messageBody()).md5OfMessageBody("md5").build());
+                }
+            }
+            return SendMessageBatchResponse.builder().successful(successful).failed(failed).build();
+        }
+    }
+}
@@ -25,6 +25,8 @@ public class BindyKeyValuePairDataFormatConfigurer extends PropertyConfigurerSup
         case "unwrapSingleInstance": dataformat.setUnwrapSingleInstance(property(camelContext, boolean.class, value)); return true;
         case "allowemptystream":
         case "allowEmptyStream": dataformat.setAllowEmptyStream(property(camelContext, boolean.class, value)); return true;
+        case "usingiterator":
+        case "usingIterator": dataformat.setUsingIterator(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -51,6 +51,7 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
     private CamelContext camelContext;
     private boolean unwrapSingleInstance = true;
     private boolean allowEmptyStream;
+    private boolean usingIterator;
 
     public BindyAbstractDataFormat() {
     }
@@ -91,6 +92,18 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public boolean isUsingIterator() {
+        return usingIterator;
+    }
+
+    /**
+     * Whether the unmarshal should return an iterator which parses the records lazily while iterating, instead of a
+     * list with all the records.
+     */
+    public void setUsingIterator(boolean usingIterator) {
+        this.usingIterator = usingIterator;
+    }
+
     public BindyAbstractFactory getFactory() throws Exception {
         if (modelFactory == null) {
             FormatFactory formatFactory = createFormatFactory();
@@ -193,6 +206,17 @@ public abstract class BindyAbstractDataFormat extends ServiceSupport implements
         }
     }
 
+    /**
+     * Extracts the object of the class type from the model of a record, or the model itself if there is no class type.
+     */
+    protected Object extractUnmarshalResult(Map<String, Object> model) {
+        if (getClassType() != null) {
+            return model.get(getClassType().getName());
+        } else {
+            return model;
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         // noop
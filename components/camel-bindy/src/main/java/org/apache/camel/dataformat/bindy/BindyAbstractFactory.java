@@ -16,7 +16,11 @@
  */
 package org.apache.camel.dataformat.bindy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.text.NumberFormat;
@@ -26,10 +30,14 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.dataformat.bindy.annotation.BindyConverter;
+import org.apache.camel.dataformat.bindy.annotation.DataField;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.OneToMany;
+import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
@@ -40,7 +48,19 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class BindyAbstractFactory implements BindyFactory {
     private static final Logger LOG = LoggerFactory.getLogger(BindyAbstractFactory.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodHandle FIELD_SET;
     protected final Map<String, List<Field>> annotatedLinkFields = new LinkedHashMap<>();
+    private final Map<Field, MethodHandle> fieldSetters = new ConcurrentHashMap<>();
+    private final Map<Field, Method> fieldMethods = new ConcurrentHashMap<>();
+
+    static {
+        try {
+            FIELD_SET = MethodHandles.lookup().findVirtual(Field.class, "set", SETTER_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
     protected FormatFactory formatFactory;
     protected Set<Class<?>> models;
     protected Set<String> modelClassNames;
@@ -271,6 +291,108 @@ public abstract class BindyAbstractFactory implements BindyFactory {
         return strValue;
     }
 
+    /**
+     * Gets the format to parse the data of the given field.
+     * <p/>
+     * The formats are not thread-safe, so the given cache of formats (when not <tt>null</tt>) must only be used by one
+     * thread at a time, such as while unmarshalling a payload, to avoid creating the formats for each record.
+     */
+    protected Format<?> getFormat(DataField dataField, Field field, Map<Field, Format<?>> formats) throws Exception {
+        Format<?> format = formats != null ? formats.get(field) : null;
+        if (format == null) {
+            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
+                    field.getType(),
+                    field.getAnnotation(BindyConverter.class),
+                    getLocale());
+            format = formatFactory.getFormat(formattingOptions);
+            if (formats != null) {
+                formats.put(field, format);
+            }
+        }
+        return format;
+    }
+
+    /**
+     * Sets the value of the field of the model object, using a method handle created once per field instead of
+     * reflection for each record.
+     */
+    protected void setFieldValue(Field field, Object target, Object value) throws Exception {
+        MethodHandle setter = fieldSetters.computeIfAbsent(field, BindyAbstractFactory::createSetter);
+        try {
+            setter.invokeExact(target, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException(
+                    "Can not set " + field.getType().getName() + " field " + field.getDeclaringClass().getName() + "."
+                                               + field.getName() + " to " + value.getClass().getName(),
+                    e);
+        } catch (NullPointerException e) {
+            if (target == null) {
+                throw e;
+            }
+            throw new IllegalArgumentException(
+                    "Can not set " + field.getType().getName() + " field " + field.getDeclaringClass().getName() + "."
+                                               + field.getName() + " to null value",
+                    e);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle createSetter(Field field) {
+        field.setAccessible(true);
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            // such as a final field, which must be set using reflection
+            LOG.debug("Cannot create setter for field: {}, using reflection instead", field);
+            return MethodHandles.insertArguments(FIELD_SET, 0, field).asType(SETTER_TYPE);
+        }
+    }
+
+    /**
+     * Invokes the method configured on the {@link DataField} of the field to transform the value. The method is
+     * resolved once per field.
+     */
+    protected Object invokeDataFieldMethod(CamelContext camelContext, DataField dataField, Field field, Object value)
+            throws Exception {
+        Method m = fieldMethods.get(field);
+        if (m == null) {
+            Class<?> clazz;
+            if (dataField.method().contains(".")) {
+                clazz = camelContext.getClassResolver()
+                        .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
+            } else {
+                clazz = field.getType();
+            }
+
+            String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
+                    dataField.method().length());
+
+            m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
+            if (m == null) {
+                // fallback to method without parameter, that is on the value itself
+                m = ReflectionHelper.findMethod(clazz, methodName);
+            }
+            if (m == null) {
+                throw new IllegalArgumentException(
+                        "Cannot find method: " + dataField.method() + " for the field: " + field.getName());
+            }
+            fieldMethods.put(field, m);
+        }
+
+        if (m.getParameterCount() == 1) {
+            // this method must be static and return type
+            // must be the same as the datafield and
+            // must receive only the datafield value
+            // as the method argument
+            return ObjectHelper.invokeMethod(m, null, value);
+        } else {
+            return ObjectHelper.invokeMethod(m, value);
+        }
+    }
+
     public String getLocale() {
         return locale;
     }
@@ -17,7 +17,6 @@
 package org.apache.camel.dataformat.bindy;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -37,8 +36,6 @@ import org.apache.camel.dataformat.bindy.annotation.OneToMany;
 import org.apache.camel.dataformat.bindy.annotation.Section;
 import org.apache.camel.dataformat.bindy.format.FormatException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
-import org.apache.camel.support.ObjectHelper;
-import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -166,6 +163,17 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     @Override
     public void bind(CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, tokens, model, line, null);
+    }
+
+    /**
+     * Binds the tokens of a record to the model, using the given cache of formats, which must only be used by one
+     * thread at a time.
+     */
+    public void bind(
+            CamelContext camelContext, List<String> tokens, Map<String, Object> model, int line,
+            Map<Field, Format<?>> formats)
+            throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -178,12 +186,12 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             // If a DataField can be skipped, it needs to check whether it is in dataFields keyset
             if (isSkipField()) {
                 if (dataFields.keySet().contains(pos)) {
-                    counterMandatoryFields
-                            = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                    counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data,
+                            dataField, formats);
                 }
             } else {
-                counterMandatoryFields
-                        = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data, dataField);
+                counterMandatoryFields = setDataFieldValue(camelContext, model, line, pos, counterMandatoryFields, data,
+                        dataField, formats);
             }
 
             ++pos;
@@ -204,7 +212,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
     private int setDataFieldValue(
             CamelContext camelContext, Map<String, Object> model, int line, int pos, int counterMandatoryFields, String data,
-            DataField dataField)
+            DataField dataField, Map<Field, Format<?>> formats)
             throws Exception {
         org.apache.camel.util.ObjectHelper.notNull(dataField,
                 "No position " + pos + " defined for the field: " + data + ", line: " + line);
@@ -227,18 +235,13 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
         // Get Field to be setted
         Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, field.getType());
         }
 
-        // Create format object to format the field
-        FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                field.getType(),
-                field.getAnnotation(BindyConverter.class),
-                getLocale());
-        Format<?> format = formatFactory.getFormat(formattingOptions);
+        // Get format object to format the field
+        Format<?> format = getFormat(dataField, field, formats);
 
         // field object to be set
         Object modelField = model.get(field.getDeclaringClass().getName());
@@ -273,32 +276,10 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         }
 
         if (value != null && !dataField.method().isEmpty()) {
-            Class<?> clazz;
-            if (dataField.method().contains(".")) {
-                clazz = camelContext.getClassResolver()
-                        .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
-            } else {
-                clazz = field.getType();
-            }
-
-            String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
-                    dataField.method().length());
-
-            Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
-            if (m != null) {
-                // this method must be static and return type
-                // must be the same as the datafield and 
-                // must receive only the datafield value 
-                // as the method argument
-                value = ObjectHelper.invokeMethod(m, null, value);
-            } else {
-                // fallback to method without parameter, that is on the value itself
-                m = ReflectionHelper.findMethod(clazz, methodName);
-                value = ObjectHelper.invokeMethod(m, value);
-            }
+            value = invokeDataFieldMethod(camelContext, dataField, field, value);
         }
 
-        field.set(modelField, value);
+        setFieldValue(field, modelField, value);
         return counterMandatoryFields;
     }
 
@@ -17,7 +17,6 @@
 package org.apache.camel.dataformat.bindy;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -35,8 +34,6 @@ import org.apache.camel.dataformat.bindy.annotation.FixedLengthRecord;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.format.FormatException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
-import org.apache.camel.support.ObjectHelper;
-import org.apache.camel.util.ReflectionHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -162,6 +159,16 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
     }
 
     public void bind(CamelContext camelContext, String recordStr, Map<String, Object> model, int line) throws Exception {
+        bind(camelContext, recordStr, model, line, null);
+    }
+
+    /**
+     * Binds the record to the model, using the given cache of formats, which must only be used by one thread at a time.
+     */
+    public void bind(
+            CamelContext camelContext, String recordStr, Map<String, Object> model, int line,
+            Map<Field, Format<?>> formats)
+            throws Exception {
 
         int pos = 1;
         int counterMandatoryFields = 0;
@@ -255,18 +262,13 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
             // Get Field to be set
             field = annotatedFields.get(dataField.pos());
-            field.setAccessible(true);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", offset, token, field.getType());
             }
 
-            // Create format object to format the field
-            FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
-                    field.getType(),
-                    field.getAnnotation(BindyConverter.class),
-                    getLocale());
-            Format<?> format = formatFactory.getFormat(formattingOptions);
+            // Get format object to format the field
+            Format<?> format = getFormat(dataField, field, formats);
 
             // field object to be set
             Object modelField = model.get(field.getDeclaringClass().getName());
@@ -292,32 +294,10 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
             }
 
             if (value != null && !dataField.method().isEmpty()) {
-                Class<?> clazz;
-                if (dataField.method().contains(".")) {
-                    clazz = camelContext.getClassResolver()
-                            .resolveMandatoryClass(dataField.method().substring(0, dataField.method().lastIndexOf('.')));
-                } else {
-                    clazz = field.getType();
-                }
-
-                String methodName = dataField.method().substring(dataField.method().lastIndexOf('.') + 1,
-                        dataField.method().length());
-
-                Method m = ReflectionHelper.findMethod(clazz, methodName, field.getType());
-                if (m != null) {
-                    // this method must be static and return type
-                    // must be the same as the datafield and 
-                    // must receive only the datafield value 
-                    // as the method argument
-                    value = ObjectHelper.invokeMethod(m, null, value);
-                } else {
-                    // fallback to method without parameter, that is on the value itself
-                    m = ReflectionHelper.findMethod(clazz, methodName);
-                    value = ObjectHelper.invokeMethod(m, value);
-                }
+                value = invokeDataFieldMethod(camelContext, dataField, field, value);
             }
 
-            field.set(modelField, value);
+            setFieldValue(field, modelField, value);
 
             ++pos;
 
@@ -17,10 +17,12 @@
 package org.apache.camel.dataformat.bindy.csv;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,6 +30,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
@@ -35,9 +38,11 @@ import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyCsvFactory;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.WrappedException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
@@ -54,6 +59,7 @@ import org.slf4j.LoggerFactory;
 @Dataformat("bindyCsv")
 public class BindyCsvDataFormat extends BindyAbstractDataFormat {
     private static final Logger LOG = LoggerFactory.getLogger(BindyCsvDataFormat.class);
+    private static final Pattern TRAILING_WHITESPACES = Pattern.compile("[ \\n\\x0B\\f\\r]+$");
 
     public BindyCsvDataFormat() {
     }
@@ -147,6 +153,19 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         BindyCsvFactory factory = (BindyCsvFactory) getFactory();
         org.apache.camel.util.ObjectHelper.notNull(factory, "not instantiated");
 
+        // Retrieve the separator defined to split the record
+        org.apache.camel.util.ObjectHelper.notNull(factory.getSeparator(),
+                "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
+
+        if (isUsingIterator()) {
+            if (checkEmptyStream(factory, inputStream)) {
+                IOHelper.close(inputStream, "in", LOG);
+                return Collections.emptyIterator();
+            }
+            InputStreamReader in = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
+            return new BindyCsvIterator(factory, new BufferedReader(in));
+        }
+
         // List of Pojos
         List<Map<String, Object>> models = new ArrayList<>();
 
@@ -158,12 +177,9 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
             in = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
 
-            // Retrieve the separator defined to split the record
-            String separator = factory.getSeparator();
-            String quote = factory.getQuote();
-            org.apache.camel.util.ObjectHelper.notNull(separator,
-                    "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
-            Boolean removeQuotes = factory.getRemoveQuotes();
+            // the pattern and formats are created once for all the records
+            Pattern pattern = Pattern.compile(factory.getSeparator());
+            Map<Field, Format<?>> formats = new HashMap<>();
             AtomicInteger count = new AtomicInteger();
 
             // Use a Stream to stream a file across.
@@ -180,7 +196,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 // If the internals of the consumer fail, we unrap the checked exception upstream.
                 try {
                     lines.skip(linesToSkip)
-                            .forEachOrdered(consumeFile(factory, models, separator, removeQuotes, quote, count));
+                            .forEachOrdered(consumeFile(factory, models, pattern, formats, count));
                 } catch (WrappedException e) {
                     throw e.getWrappedException();
                 }
@@ -203,74 +219,78 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
     private Consumer<String> consumeFile(
             BindyCsvFactory factory, List<Map<String, Object>> models,
-            String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
+            Pattern pattern, Map<Field, Format<?>> formats, AtomicInteger count) {
         return line -> {
             try {
-                // Trim the line coming in to remove any trailing whitespace
-                String trimmedLine;
-
-                // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
-                if (separator.equals("\t")) {
-                    // trim only trailing whitespaces (remove new lines etc but keep tab character)
-                    trimmedLine = line.replaceAll("[ \\n\\x0B\\f\\r]+$", "");
-                } else {
-                    trimmedLine = line.trim();
-                }
-
                 // Increment counter
                 count.incrementAndGet();
-                Map<String, Object> model;
-
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
 
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
-                Matcher matcher = pattern.matcher(trimmedLine);
-                List<String> separators = new ArrayList<>();
+                // Add objects graph to the list
+                models.add(createModel(factory, pattern, formats, line, count.get()));
+            } catch (Exception e) {
+                throw new WrappedException(e);
+            }
+        };
+    }
 
-                // Retrieve separators for each match
-                while (matcher.find()) {
-                    separators.add(matcher.group());
-                }
-                // Add terminal separator
-                if (!separators.isEmpty()) {
-                    separators.add(separators.get(separators.size() - 1));
-                }
+    private Map<String, Object> createModel(
+            BindyCsvFactory factory, Pattern pattern, Map<Field, Format<?>> formats, String line, int count)
+            throws Exception {
+        String separator = factory.getSeparator();
 
-                String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
+        // Trim the line coming in to remove any trailing whitespace
+        String trimmedLine;
 
-                List<String> result = Arrays.asList(tokens);
+        // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
+        if (separator.equals("\t")) {
+            // trim only trailing whitespaces (remove new lines etc but keep tab character)
+            trimmedLine = TRAILING_WHITESPACES.matcher(line).replaceAll("");
+        } else {
+            trimmedLine = line.trim();
+        }
 
-                // must unquote tokens before use
-                if (removeQuotes) {
-                    result = unquoteTokens(result, separators, quote);
-                }
+        // Create POJO where CSV data will be stored
+        Map<String, Object> model = factory.factory();
 
-                if (result.isEmpty()) {
-                    throw new IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
+        // Split the CSV record according to the separator defined in
+        // annotated class @CSVRecord
+        Matcher matcher = pattern.matcher(trimmedLine);
+        List<String> separators = new ArrayList<>();
 
-                    // Bind data from CSV record with model classes
+        // Retrieve separators for each match
+        while (matcher.find()) {
+            separators.add(matcher.group());
+        }
+        // Add terminal separator
+        if (!separators.isEmpty()) {
+            separators.add(separators.get(separators.size() - 1));
+        }
 
-                    factory.bind(getCamelContext(), result, model, count.get());
+        String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
 
-                    // Link objects together
-                    factory.link(model);
+        List<String> result = Arrays.asList(tokens);
 
-                    // Add objects graph to the list
-                    models.add(model);
+        // must unquote tokens before use
+        if (factory.getRemoveQuotes()) {
+            result = unquoteTokens(result, separators, factory.getQuote());
+        }
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            } catch (Exception e) {
-                throw new WrappedException(e);
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No records have been defined in the CSV");
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Size of the record splitted : {}", result.size());
             }
-        };
+
+            // Bind data from CSV record with model classes
+            factory.bind(getCamelContext(), result, model, count, formats);
+
+            // Link objects together
+            factory.link(model);
+
+            LOG.debug("Graph of objects created: {}", model);
+        }
+        return model;
     }
 
     /**
@@ -355,6 +375,82 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         return answer;
     }
 
+    /**
+     * Iterator which parses the records while iterating, so big payloads can be split with constant memory.
+     */
+    private final class BindyCsvIterator implements Iterator<Object>, Closeable {
+        private final BindyCsvFactory factory;
+        private final BufferedReader reader;
+        private final Pattern pattern;
+        private final Map<Field, Format<?>> formats = new HashMap<>();
+        private int count;
+        private Object next;
+        private boolean done;
+
+        BindyCsvIterator(BindyCsvFactory factory, BufferedReader reader) throws Exception {
+            this.factory = factory;
+            this.reader = reader;
+            this.pattern = Pattern.compile(factory.getSeparator());
+            try {
+                // If the first line of the CSV file contains columns name, then we
+                // skip this line
+                if (factory.getSkipFirstLine()) {
+                    reader.readLine();
+                }
+                next = readNext();
+            } catch (Exception e) {
+                close();
+                throw e;
+            }
+            if (next == null && !isAllowEmptyStream()) {
+                throw new java.lang.IllegalArgumentException("No records have been defined in the CSV");
+            }
+        }
+
+        private Object readNext() throws Exception {
+            String line;
+            while (!done && (line = reader.readLine()) != null) {
+                Object answer = extractUnmarshalResult(createModel(factory, pattern, formats, line, ++count));
+                if (answer != null) {
+                    return answer;
+                }
+            }
+            close();
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = readNext();
+                } catch (Exception e) {
+                    close();
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object answer = next;
+            next = null;
+            return answer;
+        }
+
+        @Override
+        public void close() {
+            if (!done) {
+                done = true;
+                IOHelper.close(reader, "in", LOG);
+            }
+        }
+    }
+
     @Override
     protected BindyAbstractFactory createModelFactory(FormatFactory formatFactory) throws Exception {
         BindyCsvFactory bindyCsvFactory = new BindyCsvFactory(getClassType());
@@ -16,22 +16,28 @@
  */
 package org.apache.camel.dataformat.bindy.fixed;
 
+import java.io.Closeable;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Scanner;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyFixedLengthFactory;
+import org.apache.camel.dataformat.bindy.Format;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.annotations.Dataformat;
@@ -203,6 +209,10 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
 
         AtomicInteger count = new AtomicInteger();
 
+        // the formats are created once for all the records
+        Map<Field, Format<?>> formats = new HashMap<>();
+        boolean iterating = false;
+
         try {
 
             // Parse the header if it exists
@@ -212,11 +222,18 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
                 String line = getNextNonEmptyLine(scanner, count, isEolSet);
 
                 if (!factory.skipHeader()) {
-                    Map<String, Object> headerObjMap = createModel(headerFactory, line, count.intValue());
+                    Map<String, Object> headerObjMap = createModel(headerFactory, line, count.intValue(), formats);
                     exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_HEADER, headerObjMap);
                 }
             }
 
+            if (isUsingIterator()) {
+                Iterator<Object> answer
+                        = new BindyFixedLengthIterator(exchange, factory, in, scanner, isEolSet, count, formats);
+                iterating = true;
+                return answer;
+            }
+
             String thisLine = getNextNonEmptyLine(scanner, count, isEolSet);
 
             String nextLine = null;
@@ -227,7 +244,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             // Parse the main file content
             while (thisLine != null && nextLine != null) {
 
-                model = createModel(factory, thisLine, count.intValue());
+                model = createModel(factory, thisLine, count.intValue(), formats);
 
                 // Add objects graph to the list
                 models.add(model);
@@ -241,11 +258,11 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             if (thisLine != null) {
                 if (factory.hasFooter()) {
                     if (!factory.skipFooter()) {
-                        Map<String, Object> footerObjMap = createModel(footerFactory, thisLine, count.intValue());
+                        Map<String, Object> footerObjMap = createModel(footerFactory, thisLine, count.intValue(), formats);
                         exchange.getOut().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
                     }
                 } else {
-                    model = createModel(factory, thisLine, count.intValue());
+                    model = createModel(factory, thisLine, count.intValue(), formats);
                     models.add(model);
                 }
             }
@@ -259,8 +276,11 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             }
 
         } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
+            // the iterator closes the stream once the iteration is done
+            if (!iterating) {
+                scanner.close();
+                IOHelper.close(in, "in", LOG);
+            }
         }
 
     }
@@ -292,6 +312,12 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
     }
 
     protected Map<String, Object> createModel(BindyFixedLengthFactory factory, String line, int count) throws Exception {
+        return createModel(factory, line, count, null);
+    }
+
+    protected Map<String, Object> createModel(
+            BindyFixedLengthFactory factory, String line, int count, Map<Field, Format<?>> formats)
+            throws Exception {
         String myLine = line;
 
         // Check if the record length corresponds to the parameter
@@ -316,7 +342,7 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         Map<String, Object> model = factory.factory();
 
         // Bind data from Fixed record with model classes
-        factory.bind(getCamelContext(), myLine, model, count);
+        factory.bind(getCamelContext(), myLine, model, count, formats);
 
         // Link objects together
         factory.link(model);
@@ -338,6 +364,106 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
         return myLine.length() < factory.recordLength() && factory.isIgnoreMissingChars();
     }
 
+    /**
+     * Iterator which parses the records while iterating, so big payloads can be split with constant memory.
+     * <p/>
+     * The footer is set as header on the message once the iteration reaches the end of the payload, so it is not seen
+     * by exchanges which have been copied from the message before, such as the exchanges of a split.
+     */
+    private final class BindyFixedLengthIterator implements Iterator<Object>, Closeable {
+        private final Exchange exchange;
+        private final BindyFixedLengthFactory factory;
+        private final InputStreamReader in;
+        private final Scanner scanner;
+        private final boolean isEolSet;
+        private final AtomicInteger count;
+        private final Map<Field, Format<?>> formats;
+        private String thisLine;
+        private String nextLine;
+        private Object next;
+        private boolean done;
+
+        BindyFixedLengthIterator(Exchange exchange, BindyFixedLengthFactory factory, InputStreamReader in, Scanner scanner,
+                                 boolean isEolSet, AtomicInteger count, Map<Field, Format<?>> formats) throws Exception {
+            this.exchange = exchange;
+            this.factory = factory;
+            this.in = in;
+            this.scanner = scanner;
+            this.isEolSet = isEolSet;
+            this.count = count;
+            this.formats = formats;
+
+            thisLine = getNextNonEmptyLine(scanner, count, isEolSet);
+            if (thisLine != null) {
+                nextLine = getNextNonEmptyLine(scanner, count, isEolSet);
+            }
+            next = readNext();
+            if (next == null && !isAllowEmptyStream()) {
+                throw new java.lang.IllegalArgumentException("No records have been defined in the file");
+            }
+        }
+
+        private Object readNext() throws Exception {
+            while (thisLine != null) {
+                // the last line is the footer, if there is one
+                if (nextLine == null && factory.hasFooter()) {
+                    if (!factory.skipFooter()) {
+                        Map<String, Object> footerObjMap = createModel(footerFactory, thisLine, count.intValue(), formats);
+                        exchange.getMessage().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
+                    }
+                    break;
+                }
+
+                Map<String, Object> model = createModel(factory, thisLine, count.intValue(), formats);
+
+                thisLine = nextLine;
+                if (thisLine != null) {
+                    nextLine = getNextNonEmptyLine(scanner, count, isEolSet);
+                }
+
+                Object answer = extractUnmarshalResult(model);
+                if (answer != null) {
+                    return answer;
+                }
+            }
+            close();
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = readNext();
+                } catch (Exception e) {
+                    close();
+                    throw RuntimeCamelException.wrapRuntimeCamelException(e);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Object answer = next;
+            next = null;
+            return answer;
+        }
+
+        @Override
+        public void close() {
+            if (!done) {
+                done = true;
+                thisLine = null;
+                scanner.close();
+                IOHelper.close(in, "in", LOG);
+            }
+        }
+    }
+
     @Override
     protected BindyAbstractFactory createModelFactory(FormatFactory formatFactory) throws Exception {
 
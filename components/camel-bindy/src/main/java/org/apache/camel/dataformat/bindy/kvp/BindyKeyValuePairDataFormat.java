@@ -65,6 +65,14 @@ public class BindyKeyValuePairDataFormat extends BindyAbstractDataFormat {
         return "bindyKvp";
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (isUsingIterator()) {
+            throw new IllegalArgumentException("The usingIterator option is not supported by the bindyKvp data format");
+        }
+        super.doStart();
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void marshal(Exchange exchange, Object body, OutputStream outputStream) throws Exception {
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.Iterator;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.oneclass.Order;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class BindyCsvUsingIteratorTest extends CamelTestSupport {
+
+    private static final String RECORD
+            = ",B2,Keira,Knightley,ISIN,XX23456789,BUY,Share,400.25,EUR,14-01-2009,16-02-2010 23:21:59\r\n";
+
+    @Test
+    public void testUnmarshalSplitStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.allMessages().body().isInstanceOf(Order.class);
+
+        template.sendBody("direct:split", "1" + RECORD + "2" + RECORD + "3" + RECORD);
+
+        assertMockEndpointsSatisfied();
+
+        for (int i = 0; i < 3; i++) {
+            Order order = mock.getReceivedExchanges().get(i).getIn().getBody(Order.class);
+            assertEquals(i + 1, order.getOrderNr());
+            assertEquals("Keira", order.getFirstName());
+        }
+    }
+
+    @Test
+    public void testUnmarshalIterator() throws Exception {
+        Object body = template.requestBody("direct:unmarshal", "1" + RECORD + "2" + RECORD);
+
+        Iterator<?> it = assertInstanceOf(Iterator.class, body);
+        assertEquals(1, assertInstanceOf(Order.class, it.next()).getOrderNr());
+        assertEquals(2, assertInstanceOf(Order.class, it.next()).getOrderNr());
+        assertFalse(it.hasNext());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                BindyDataFormat bindy = new BindyDataFormat()
+                        .classType(Order.class)
+                        .usingIterator(true)
+                        .csv();
+
+                from("direct:split")
+                        .unmarshal(bindy)
+                        .split(body()).streaming()
+                        .to("mock:result")
+                        .end();
+
+                from("direct:unmarshal")
+                        .unmarshal(bindy);
+            }
+        };
+    }
+}
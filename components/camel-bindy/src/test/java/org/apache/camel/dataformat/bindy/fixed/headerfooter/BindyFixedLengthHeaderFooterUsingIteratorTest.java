@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.fixed.headerfooter;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.fixed.BindyFixedLengthDataFormat;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Validates that the records between the header and the footer are unmarshalled lazily when using an iterator.
+ */
+public class BindyFixedLengthHeaderFooterUsingIteratorTest extends CamelTestSupport {
+
+    private static final String TEST_HEADER = "101-08-2009\r\n";
+    private static final String TEST_RECORD = "A9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n";
+    private static final String TEST_FOOTER = "9000000002\r\n";
+
+    @Test
+    public void testUnmarshalSplitStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.allMessages().body().isInstanceOf(Order.class);
+        mock.allMessages().header(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_HEADER).isNotNull();
+        // the split exchanges are copied before the footer is read
+        mock.allMessages().header(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_FOOTER).isNull();
+        MockEndpoint footer = getMockEndpoint("mock:footer");
+        footer.expectedMessageCount(1);
+        footer.message(0).header(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_FOOTER).isNotNull();
+
+        StringBuilder sb = new StringBuilder(TEST_HEADER);
+        for (int i = 1; i <= 3; i++) {
+            sb.append(i).append(i).append(TEST_RECORD);
+        }
+        sb.append(TEST_FOOTER);
+        template.sendBody("direct:unmarshall", sb.toString());
+
+        assertMockEndpointsSatisfied();
+
+        for (int i = 1; i <= 3; i++) {
+            Order order = mock.getReceivedExchanges().get(i - 1).getIn().getBody(Order.class);
+            assertEquals(i * 11, order.getOrderNr());
+            assertEquals("  Pauline", order.getFirstName());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                BindyDataFormat bindy = new BindyDataFormat()
+                        .classType(Order.class)
+                        .usingIterator(true)
+                        .fixed();
+
+                from("direct:unmarshall")
+                        .unmarshal(bindy)
+                        .split(body()).streaming()
+                        .to("mock:result")
+                        .end()
+                        .to("mock:footer");
+            }
+        };
+    }
+}
@@ -22,6 +22,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -29,16 +30,20 @@ import java.util.Map;
 import java.util.Set;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.component.file.consumer.DirectoryEntriesResumeAdapter;
+import org.apache.camel.component.file.consumer.DirectoryWatchIndex;
 import org.apache.camel.component.file.consumer.FileOffsetResumeAdapter;
 import org.apache.camel.component.file.consumer.adapters.DirectoryEntries;
 import org.apache.camel.resume.ResumeAdapter;
 import org.apache.camel.resume.ResumeAware;
 import org.apache.camel.resume.ResumeStrategy;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.resume.Resumables;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,6 +57,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private volatile DirectoryWatchIndex directoryIndex;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -105,13 +111,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             GenericFile<File> gf
                     = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
 
-            if (resumeStrategy != null) {
-                ResumeAdapter adapter = resumeStrategy.getAdapter();
-                if (adapter instanceof FileOffsetResumeAdapter) {
-                    ((FileOffsetResumeAdapter) adapter).setResumePayload(gf);
-                    adapter.resume();
-                }
-            }
+            resumeFile(gf);
 
             if (file.isDirectory()) {
                 if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
@@ -126,16 +126,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
                     LOG.trace("Adding valid file: {}", file);
                     // matched file so add
-                    if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            readAttributes(file, path, allAttributes, attribute);
-                        }
-
-                        gf.setExtendedAttributes(allAttributes);
-                    }
-
+                    readExtendedAttributes(file, gf);
                     fileList.add(gf);
                 }
 
@@ -158,9 +149,114 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
+        if (getEndpoint().isWatchDirectory()) {
+            return pollDirectoryIndex(directory, fileList);
+        }
         return pollDirectory(directory, fileList, depth);
     }
 
+    private boolean pollDirectoryIndex(File directory, List<GenericFile<File>> fileList) {
+        final List<File> files;
+        try {
+            if (directoryIndex == null) {
+                // the directory must exist before it can be watched
+                int maxDepth = getEndpoint().isRecursive() ? getEndpoint().getMaxDepth() : 1;
+                DirectoryWatchIndex index
+                        = new DirectoryWatchIndex(directory, maxDepth, getEndpoint().getWatchDirectoryReconcileInterval());
+                index.start();
+                directoryIndex = index;
+            }
+            files = directoryIndex.poll();
+        } catch (IOException e) {
+            throw new GenericFileOperationFailedException("Cannot watch directory: " + endpointPath, e);
+        }
+        LOG.trace("Found {} pending files in directory index", files.size());
+
+        if (getEndpoint().isPreSort()) {
+            files.sort(Comparator.comparing(File::getAbsoluteFile));
+        }
+
+        // cache of the parent directories that are valid, as the directory filters apply to the files within them
+        Map<File, Boolean> validDirectories = new HashMap<>();
+        for (File file : files) {
+            // check if we can continue polling in files
+            if (!canPollMoreFiles(fileList)) {
+                return false;
+            }
+
+            // keep the file pending while it's being processed, as it may be rolled back
+            if (endpoint.getInProgressRepository().contains(file.getAbsolutePath())) {
+                continue;
+            }
+            // the file is taken out of the index, and is only pending again when it's changed or not processed
+            directoryIndex.remove(file);
+            if (!file.isFile()) {
+                continue;
+            }
+            int depth = directoryIndex.getDepth(file);
+            if (depth < endpoint.getMinDepth() || !isValidDirectory(file.getParentFile(), validDirectories)) {
+                continue;
+            }
+
+            GenericFile<File> gf
+                    = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+            resumeFile(gf);
+
+            if (getEndpoint().getDoneFileName() != null && !getEndpoint().isDoneFile(file.getName())) {
+                File doneFile = new File(getEndpoint().createDoneFileName(file.getAbsolutePath()));
+                if (!doneFile.exists()) {
+                    LOG.trace("Done file: {} does not exist", doneFile);
+                    directoryIndex.awaitDoneFile(doneFile, file);
+                    continue;
+                }
+            }
+
+            if (isValidFile(gf, false, null)) {
+                LOG.trace("Adding valid file: {}", file);
+                readExtendedAttributes(file, gf);
+                fileList.add(gf);
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isValidDirectory(File directory, Map<File, Boolean> validDirectories) {
+        if (directory == null || directory.equals(new File(endpointPath))) {
+            return true;
+        }
+        Boolean valid = validDirectories.get(directory);
+        if (valid == null) {
+            GenericFile<File> gf = asGenericFile(endpointPath, directory, getEndpoint().getCharset(),
+                    getEndpoint().isProbeContentType());
+            valid = isValidDirectory(directory.getParentFile(), validDirectories) && isValidFile(gf, true, null);
+            validDirectories.put(directory, valid);
+        }
+        return valid;
+    }
+
+    private void resumeFile(GenericFile<File> gf) {
+        if (resumeStrategy != null) {
+            ResumeAdapter adapter = resumeStrategy.getAdapter();
+            if (adapter instanceof FileOffsetResumeAdapter) {
+                ((FileOffsetResumeAdapter) adapter).setResumePayload(gf);
+                adapter.resume();
+            }
+        }
+    }
+
+    private void readExtendedAttributes(File file, GenericFile<File> gf) {
+        if (extendedAttributes != null) {
+            Path path = file.toPath();
+            Map<String, Object> allAttributes = new HashMap<>();
+            for (String attribute : extendedAttributes) {
+                readAttributes(file, path, allAttributes, attribute);
+            }
+
+            gf.setExtendedAttributes(allAttributes);
+        }
+    }
+
     private File[] listFiles(File directory) {
         final File[] dirFiles = directory.listFiles();
 
@@ -222,6 +318,10 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
 
     @Override
     protected boolean isMatched(GenericFile<File> file, String doneFileName, File[] files) {
+        if (files == null) {
+            // the files in the directory are not known when polling from the directory index
+            return new File(doneFileName).exists();
+        }
         String onlyName = FileUtil.stripPath(doneFileName);
         // the done file name must be among the files
         for (File f : files) {
@@ -330,6 +430,65 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (directoryIndex != null) {
+            IOHelper.close(directoryIndex);
+            directoryIndex = null;
+        }
+    }
+
+    @Override
+    protected boolean processExchange(Exchange exchange, GenericFileOperations<File> fileOperations) {
+        final DirectoryWatchIndex index = directoryIndex;
+        if (index == null) {
+            return super.processExchange(exchange, fileOperations);
+        }
+
+        // must grab the file before it's potentially pre moved
+        final File file = getExchangeFile(exchange);
+        // the file is still there after a rollback, so it must be pending again to be retried on next poll
+        exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onFailure(Exchange exchange) {
+                index.add(file);
+            }
+        });
+
+        boolean started = super.processExchange(exchange, fileOperations);
+        if (!started) {
+            // such as the read lock could not be acquired
+            index.add(file);
+        }
+        return started;
+    }
+
+    @Override
+    protected void removeExcessiveInProgressFiles(Deque<Exchange> exchanges, int limit) {
+        final DirectoryWatchIndex index = directoryIndex;
+        if (index != null) {
+            // the files that are not processed in this poll must be pending again
+            exchanges.stream().skip(limit).forEach(e -> index.add(getExchangeFile(e)));
+        }
+        super.removeExcessiveInProgressFiles(exchanges, limit);
+    }
+
+    @Override
+    protected void removeExcessiveInProgressFiles(List<GenericFile<File>> files) {
+        final DirectoryWatchIndex index = directoryIndex;
+        if (index != null) {
+            files.forEach(f -> index.add(f.getFile()));
+        }
+        super.removeExcessiveInProgressFiles(files);
+    }
+
+    private static File getExchangeFile(Exchange exchange) {
+        GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+        return (File) file.getFile();
+    }
+
     @Override
     public ResumeStrategy getResumeStrategy() {
         return resumeStrategy;
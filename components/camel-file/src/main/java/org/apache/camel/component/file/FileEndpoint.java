@@ -75,6 +75,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean watchDirectory;
+    @UriParam(label = "consumer,advanced", defaultValue = "60000")
+    private long watchDirectoryReconcileInterval = 60000;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -360,6 +364,34 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isWatchDirectory() {
+        return watchDirectory;
+    }
+
+    /**
+     * Whether the consumer should keep an in-memory index of the files in the directory, which is seeded by an initial
+     * scan and then updated from file system watch events. Each poll then only looks at the files that are new or
+     * changed, instead of listing the entire directory, which is much faster for directories with many files.
+     * <p/>
+     * Files that were not processed, for example because the read lock could not be acquired, are picked up again by
+     * the next poll.
+     */
+    public void setWatchDirectory(boolean watchDirectory) {
+        this.watchDirectory = watchDirectory;
+    }
+
+    public long getWatchDirectoryReconcileInterval() {
+        return watchDirectoryReconcileInterval;
+    }
+
+    /**
+     * Interval in millis between full scans of the directory when using watchDirectory, which are done to recover from
+     * any lost file system events. Use zero to only scan on startup.
+     */
+    public void setWatchDirectoryReconcileInterval(long watchDirectoryReconcileInterval) {
+        this.watchDirectoryReconcileInterval = watchDirectoryReconcileInterval;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
@@ -22,6 +22,11 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContextAware;
@@ -57,6 +62,8 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected Processor customProcessor;
     protected boolean eagerLimitMaxMessagesPerPoll = true;
     protected volatile boolean prepareOnStartup;
+    private ExecutorService parallelExecutor;
+    private BlockingQueue<GenericFileOperations<T>> parallelOperations;
     private final Pattern includePattern;
     private final Pattern excludePattern;
     private final String[] includeExt;
@@ -222,6 +229,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             total = maxMessagesPerPoll;
         }
 
+        if (parallelExecutor != null && customProcessor == null) {
+            return processBatchParallel(exchanges, total);
+        }
+
         for (int index = 0; index < total && isBatchAllowed(); index++) {
             // only loop if we are started (allowed to run)
             // use poll to remove the head so it does not consume memory even
@@ -257,6 +268,104 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return answer;
     }
 
+    private int processBatchParallel(Queue<Object> exchanges, int total) {
+        List<Future<Boolean>> futures = new ArrayList<>(total);
+        for (int index = 0; index < total && isBatchAllowed(); index++) {
+            Exchange exchange = (Exchange) exchanges.poll();
+            // add current index and total as properties
+            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+
+            futures.add(parallelExecutor.submit(() -> processExchangeParallel(exchange)));
+        }
+
+        // wait for all the files to be done, so the next poll is not started
+        // before the files of this poll are completed
+        int answer = 0;
+        for (int index = 0; index < futures.size(); index++) {
+            // update pending number of exchanges
+            pendingExchanges = futures.size() - index;
+            try {
+                if (futures.get(index).get()) {
+                    answer++;
+                }
+            } catch (InterruptedException e) {
+                LOG.debug("Interrupted while waiting for files to be processed in parallel");
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                handleException("Error processing file in parallel", e.getCause());
+            }
+        }
+        pendingExchanges = 0;
+
+        // drain any in progress files as we are done with this batch
+        removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
+
+        return answer;
+    }
+
+    private boolean processExchangeParallel(Exchange exchange) throws Exception {
+        if (!isBatchAllowed()) {
+            // we are stopping so do not start processing the file
+            releaseInProgressFile(exchange);
+            return false;
+        }
+
+        GenericFileOperations<T> ops = parallelOperations.take();
+        try {
+            prepareParallelOperations(ops);
+        } catch (Exception e) {
+            parallelOperations.offer(ops);
+            releaseInProgressFile(exchange);
+            throw e;
+        }
+        try {
+            // the file is processed synchronously so it is completed before the operations are used for another file
+            return processExchange(exchange, ops);
+        } finally {
+            releaseParallelOperations(ops);
+            parallelOperations.offer(ops);
+        }
+    }
+
+    private void releaseInProgressFile(Exchange exchange) {
+        GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+        endpoint.getInProgressRepository().remove(file.getAbsoluteFilePath());
+        releaseExchange(exchange, true);
+    }
+
+    /**
+     * Creates the operations used by a thread processing files in parallel. By default the operations of this consumer
+     * are shared, but this can be overridden to create separate operations per thread, such as when the operations are
+     * not thread-safe.
+     */
+    protected GenericFileOperations<T> createParallelOperations() throws Exception {
+        return operations;
+    }
+
+    /**
+     * Prepares the operations before processing a file in parallel, such as connecting to the remote server.
+     */
+    protected void prepareParallelOperations(GenericFileOperations<T> operations) throws Exception {
+        // noop
+    }
+
+    /**
+     * Releases the operations after processing a file in parallel.
+     */
+    protected void releaseParallelOperations(GenericFileOperations<T> operations) {
+        // noop
+    }
+
+    /**
+     * Closes the operations when this consumer is stopping.
+     */
+    protected void closeParallelOperations(GenericFileOperations<T> operations) {
+        // noop
+    }
+
     /**
      * Drain any in progress files as we are done with this batch
      *
@@ -373,6 +482,20 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
      *                  started to be processed, for some reason (not found, or aborted etc)
      */
     protected boolean processExchange(final Exchange exchange) {
+        return processExchange(exchange, operations);
+    }
+
+    /**
+     * Processes the exchange using the given operations. This is used both when processing the files one by one, and
+     * in parallel where each thread uses its own operations, so subclasses should override this method rather than
+     * {@link #processExchange(Exchange)}.
+     *
+     * @param  exchange       the exchange
+     * @param  fileOperations the operations to use for the file
+     * @return                <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not
+     *                        started to be processed, for some reason (not found, or aborted etc)
+     */
+    protected boolean processExchange(final Exchange exchange, final GenericFileOperations<T> fileOperations) {
         GenericFile<T> file = getExchangeFileProperty(exchange);
         LOG.trace("Processing file: {}", file);
 
@@ -385,7 +508,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         Exception beginCause = null;
         boolean begin = false;
         try {
-            begin = processStrategy.begin(operations, endpoint, exchange, file);
+            begin = processStrategy.begin(fileOperations, endpoint, exchange, file);
         } catch (Exception e) {
             beginCause = e;
         }
@@ -397,7 +520,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             LOG.debug("{} cannot begin processing file: {}", endpoint, file);
             try {
                 // abort
-                processStrategy.abort(operations, endpoint, exchange, file);
+                processStrategy.abort(fileOperations, endpoint, exchange, file);
             } catch (Exception e) {
                 abortCause = e;
             } finally {
@@ -438,7 +561,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                 boolean retrieved;
                 Exception cause = null;
                 try {
-                    retrieved = operations.retrieveFile(name, exchange, target.getFileLength());
+                    retrieved = fileOperations.retrieveFile(name, exchange, target.getFileLength());
                 } catch (Exception e) {
                     retrieved = false;
                     cause = e;
@@ -476,12 +599,13 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             // strategies
             // (for instance to move the file after we have processed it)
             exchange.adapt(ExtendedExchange.class).addOnCompletion(
-                    new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName));
+                    new GenericFileOnCompletion<>(endpoint, fileOperations, processStrategy, target, absoluteFileName));
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
-            if (endpoint.isSynchronous()) {
-                // process synchronously
+            if (endpoint.isSynchronous() || endpoint.isParallelProcessing()) {
+                // process synchronously (also when processing in parallel, as
+                // the file must be completed by the same thread)
                 getProcessor().process(exchange);
             } else {
                 // process the exchange using the async consumer to support
@@ -784,6 +908,20 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(processStrategy);
+
+        if (endpoint.isParallelProcessing()) {
+            int size = endpoint.getMaxConcurrentFiles();
+            if (size <= 0) {
+                throw new IllegalArgumentException("MaxConcurrentFiles must be a positive number, was: " + size);
+            }
+            parallelOperations = new LinkedBlockingQueue<>(size);
+            for (int i = 0; i < size; i++) {
+                parallelOperations.add(createParallelOperations());
+            }
+            parallelExecutor = endpoint.getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "FileConsumerParallelProcessing", size);
+        }
+
         super.doStart();
     }
 
@@ -791,6 +929,15 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected void doStop() throws Exception {
         prepareOnStartup = false;
         super.doStop();
+
+        if (parallelExecutor != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdown(parallelExecutor);
+            parallelExecutor = null;
+        }
+        if (parallelOperations != null) {
+            parallelOperations.forEach(this::closeParallelOperations);
+            parallelOperations = null;
+        }
         ServiceHelper.stopService(processStrategy);
     }
 
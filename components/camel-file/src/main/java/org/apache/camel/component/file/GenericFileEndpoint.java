@@ -432,6 +432,16 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
                             + "the file on completion process where the consumer does either a commit or rollback. The default "
                             + "implementation will log any exception at WARN level and ignore.")
     protected ExceptionHandler onCompletionExceptionHandler;
+    @UriParam(label = "consumer,advanced", description = "Whether the files of a poll should be processed in "
+                                                        + "parallel, using up to maxConcurrentFiles threads. Each file is "
+                                                        + "processed with its own read lock and completed (such as moved "
+                                                        + "or deleted) independently. The next poll is not started until "
+                                                        + "all the files of the current poll are done. Remote file "
+                                                        + "consumers use a separate connection per thread.")
+    protected boolean parallelProcessing;
+    @UriParam(label = "consumer,advanced", defaultValue = "10",
+              description = "The maximum number of files to process concurrently when parallelProcessing is enabled.")
+    protected int maxConcurrentFiles = 10;
     @UriParam(defaultValue = "false", label = "advanced",
               description = "Sets whether synchronous processing should be strictly used")
     private boolean synchronous;
@@ -1506,6 +1516,31 @@ public abstract class GenericFileEndpoint<T> extends ScheduledPollEndpoint imple
         this.onCompletionExceptionHandler = onCompletionExceptionHandler;
     }
 
+    public boolean isParallelProcessing() {
+        return parallelProcessing;
+    }
+
+    /**
+     * Whether the files of a poll should be processed in parallel, using up to maxConcurrentFiles threads. Each file is
+     * processed with its own read lock and completed (such as moved or deleted) independently. The next poll is not
+     * started until all the files of the current poll are done. Remote file consumers use a separate connection per
+     * thread.
+     */
+    public void setParallelProcessing(boolean parallelProcessing) {
+        this.parallelProcessing = parallelProcessing;
+    }
+
+    public int getMaxConcurrentFiles() {
+        return maxConcurrentFiles;
+    }
+
+    /**
+     * The maximum number of files to process concurrently when parallelProcessing is enabled.
+     */
+    public void setMaxConcurrentFiles(int maxConcurrentFiles) {
+        this.maxConcurrentFiles = maxConcurrentFiles;
+    }
+
     public boolean isSynchronous() {
         return synchronous;
     }
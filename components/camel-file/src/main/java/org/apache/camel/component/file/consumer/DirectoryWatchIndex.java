@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.consumer;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An in-memory index of the files in a directory (and optionally its sub directories), which is seeded by an initial
+ * scan and then kept up to date from {@link WatchService} events.
+ * <p/>
+ * The index keeps track of the pending files, which are the files that are new or changed since they were last taken
+ * out of the index by the consumer. This allows the consumer to only look at those files on each poll, instead of
+ * listing and filtering all the files in the directory. A periodic reconciliation scan marks all existing files as
+ * pending again, which recovers from lost events and retries files that were skipped for any other reason.
+ * <p/>
+ * The index is not thread-safe for polling, which must happen from a single thread, however files can be added and
+ * removed from any thread.
+ */
+public class DirectoryWatchIndex implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectoryWatchIndex.class);
+
+    private final Path root;
+    private final int maxDepth;
+    private final long reconcileInterval;
+    private final Set<File> pending = ConcurrentHashMap.newKeySet();
+    private final Map<File, Set<File>> awaitingDoneFiles = new ConcurrentHashMap<>();
+    private final Map<WatchKey, Path> keys = new HashMap<>();
+    private WatchService watchService;
+    private long lastReconcile;
+
+    /**
+     * Creates the index
+     *
+     * @param directory         the starting directory
+     * @param maxDepth          the maximum depth of files to index, where the files in the starting directory are at
+     *                          depth 1
+     * @param reconcileInterval interval in millis between reconciliation scans, or zero to only scan on startup and on
+     *                          overflow of the watch events
+     */
+    public DirectoryWatchIndex(File directory, int maxDepth, long reconcileInterval) {
+        this.root = directory.toPath();
+        this.maxDepth = maxDepth;
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    /**
+     * Starts watching the directory and performs the initial scan.
+     */
+    public void start() throws IOException {
+        watchService = root.getFileSystem().newWatchService();
+        reconcile();
+    }
+
+    @Override
+    public void close() throws IOException {
+        keys.clear();
+        pending.clear();
+        awaitingDoneFiles.clear();
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    /**
+     * Applies the watch events that have happened since the last poll (and a reconciliation scan if due), and returns a
+     * snapshot of the pending files.
+     * <p/>
+     * The files stay pending until they are removed with {@link #remove(File)}.
+     */
+    public List<File> poll() throws IOException {
+        boolean overflow = processEvents();
+        if (overflow) {
+            LOG.debug("Watch events overflowed for directory: {}. Performing reconciliation scan.", root);
+            reconcile();
+        } else if (reconcileInterval > 0 && System.currentTimeMillis() - lastReconcile >= reconcileInterval) {
+            LOG.debug("Performing reconciliation scan of directory: {}", root);
+            reconcile();
+        }
+        return new ArrayList<>(pending);
+    }
+
+    /**
+     * Marks the file as pending, so it is returned on the next poll.
+     */
+    public void add(File file) {
+        pending.add(file);
+    }
+
+    /**
+     * Removes the file from the pending files, so it is not returned again until it is changed, or the next
+     * reconciliation scan.
+     */
+    public void remove(File file) {
+        pending.remove(file);
+    }
+
+    /**
+     * Marks the file as waiting for the given done file, so the file becomes pending when the done file is created.
+     */
+    public void awaitDoneFile(File doneFile, File file) {
+        awaitingDoneFiles.computeIfAbsent(doneFile.getAbsoluteFile(), k -> ConcurrentHashMap.newKeySet()).add(file);
+    }
+
+    /**
+     * Gets the depth of the file, where the files in the starting directory are at depth 1.
+     */
+    public int getDepth(File file) {
+        return root.relativize(file.toPath()).getNameCount();
+    }
+
+    /**
+     * Number of files currently pending
+     */
+    public int size() {
+        return pending.size();
+    }
+
+    private boolean processEvents() throws IOException {
+        boolean overflow = false;
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path dir = keys.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                WatchEvent.Kind<?> kind = event.kind();
+                if (kind == StandardWatchEventKinds.OVERFLOW) {
+                    overflow = true;
+                    continue;
+                }
+                if (dir == null) {
+                    continue;
+                }
+                Path path = dir.resolve((Path) event.context());
+                File file = path.toFile();
+                if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+                    pending.remove(file);
+                } else if (Files.isDirectory(path)) {
+                    // files may already have been created before the new directory is registered
+                    if (kind == StandardWatchEventKinds.ENTRY_CREATE && getDepth(file) < maxDepth) {
+                        scan(path);
+                    }
+                } else {
+                    LOG.trace("File {}: {}", kind.name(), file);
+                    pending.add(file);
+                    Set<File> targets = awaitingDoneFiles.remove(file.getAbsoluteFile());
+                    if (targets != null) {
+                        pending.addAll(targets);
+                    }
+                }
+            }
+            if (!key.reset()) {
+                // the directory is no longer accessible
+                keys.remove(key);
+            }
+        }
+        return overflow;
+    }
+
+    private void reconcile() throws IOException {
+        awaitingDoneFiles.clear();
+        scan(root);
+        lastReconcile = System.currentTimeMillis();
+        LOG.debug("Scanned directory: {} with {} pending files", root, pending.size());
+    }
+
+    private void scan(Path dir) throws IOException {
+        // register before listing so no files are missed in between
+        WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        keys.put(key, dir);
+
+        // the files in this directory are at depth + 1 so only recurse if sub directories are within max depth
+        int depth = dir.equals(root) ? 0 : getDepth(dir.toFile());
+        boolean recursive = depth + 1 < maxDepth;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path path : stream) {
+                if (Files.isDirectory(path)) {
+                    if (recursive) {
+                        scan(path);
+                    }
+                } else {
+                    pending.add(path.toFile());
+                }
+            }
+        }
+    }
+}
@@ -21,7 +21,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(113);
+        Set<String> props = new HashSet<>(115);
         props.add("account");
         props.add("activePortRange");
         props.add("allowNullBody");
@@ -78,6 +78,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("keepLastModified");
         props.add("lazyStartProducer");
         props.add("localWorkDirectory");
+        props.add("maxConcurrentFiles");
         props.add("maxDepth");
         props.add("maxMessagesPerPoll");
         props.add("maximumReconnectAttempts");
@@ -88,6 +89,7 @@ public class FtpEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("moveFailed");
         props.add("noop");
         props.add("onCompletionExceptionHandler");
+        props.add("parallelProcessing");
         props.add("passiveMode");
         props.add("password");
         props.add("pollStrategy");
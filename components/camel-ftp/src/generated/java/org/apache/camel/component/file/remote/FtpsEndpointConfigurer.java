@@ -32,6 +32,10 @@ public class FtpsEndpointConfigurer extends FtpEndpointConfigurer implements Gen
         case "ftpclienttruststoreparameters":
         case "ftpClientTrustStoreParameters": target.setFtpClientTrustStoreParameters(property(camelContext, java.util.Map.class, value)); return true;
         case "implicit": target.getConfiguration().setImplicit(property(camelContext, boolean.class, value)); return true;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": target.setMaxConcurrentFiles(property(camelContext, int.class, value)); return true;
+        case "parallelprocessing":
+        case "parallelProcessing": target.setParallelProcessing(property(camelContext, boolean.class, value)); return true;
         case "securityprotocol":
         case "securityProtocol": target.getConfiguration().setSecurityProtocol(property(camelContext, java.lang.String.class, value)); return true;
         case "sslcontextparameters":
@@ -54,6 +58,10 @@ public class FtpsEndpointConfigurer extends FtpEndpointConfigurer implements Gen
         case "ftpclienttruststoreparameters":
         case "ftpClientTrustStoreParameters": return java.util.Map.class;
         case "implicit": return boolean.class;
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return int.class;
+        case "parallelprocessing":
+        case "parallelProcessing": return boolean.class;
         case "securityprotocol":
         case "securityProtocol": return java.lang.String.class;
         case "sslcontextparameters":
@@ -77,6 +85,10 @@ public class FtpsEndpointConfigurer extends FtpEndpointConfigurer implements Gen
         case "ftpclienttruststoreparameters":
         case "ftpClientTrustStoreParameters": return target.getFtpClientTrustStoreParameters();
         case "implicit": return target.getConfiguration().isImplicit();
+        case "maxconcurrentfiles":
+        case "maxConcurrentFiles": return target.getMaxConcurrentFiles();
+        case "parallelprocessing":
+        case "parallelProcessing": return target.isParallelProcessing();
         case "securityprotocol":
         case "securityProtocol": return target.getConfiguration().getSecurityProtocol();
         case "sslcontextparameters":
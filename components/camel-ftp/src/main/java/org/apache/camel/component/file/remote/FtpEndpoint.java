@@ -102,6 +102,11 @@ public class FtpEndpoint<T extends FTPFile> extends RemoteFileEndpoint<FTPFile>
         if (isResumeDownload() && !getConfiguration().isBinary()) {
             throw new IllegalArgumentException("The option binary must be enabled when resumeDownload=true");
         }
+        if (isParallelProcessing() && ftpClient != null) {
+            // each thread must use its own client, but a custom client would be shared as it cannot be copied
+            throw new IllegalArgumentException(
+                    "The option ftpClient cannot be used when parallelProcessing=true as the client is not thread-safe");
+        }
         return super.createConsumer(processor);
     }
 
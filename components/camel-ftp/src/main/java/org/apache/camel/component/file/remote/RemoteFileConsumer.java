@@ -26,6 +26,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileConsumer;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
+import org.apache.camel.component.file.GenericFileOperations;
 import org.apache.camel.component.file.GenericFileProcessStrategy;
 import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.ObjectHelper;
@@ -107,8 +108,9 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         // if we did not poll any messages, but are configured to disconnect
         // then we need to do this now
         // as there is no exchanges to be routed that otherwise will disconnect
-        // from the last UoW
-        if (polledMessages == 0) {
+        // from the last UoW (when processing in parallel the files are processed
+        // using other connections, so this connection is no longer in use)
+        if (polledMessages == 0 || getEndpoint().isParallelProcessing()) {
             if (getEndpoint().isDisconnect()) {
                 LOG.trace("postPollCheck disconnect from: {}", getEndpoint());
                 disconnect();
@@ -117,7 +119,7 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     }
 
     @Override
-    protected boolean processExchange(Exchange exchange) {
+    protected boolean processExchange(Exchange exchange, GenericFileOperations<T> fileOperations) {
         // defer disconnect til the UoW is complete - but only the last exchange
         // from the batch should do that
         boolean isLast = exchange.getProperty(ExchangePropertyKey.BATCH_COMPLETE, true, Boolean.class);
@@ -148,7 +150,49 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
             });
         }
 
-        return super.processExchange(exchange);
+        return super.processExchange(exchange, fileOperations);
+    }
+
+    @Override
+    protected GenericFileOperations<T> createParallelOperations() throws Exception {
+        // the remote file operations are not thread-safe so each thread must use its own connection
+        return getEndpoint().createRemoteFileOperations();
+    }
+
+    @Override
+    protected void prepareParallelOperations(GenericFileOperations<T> operations) throws Exception {
+        RemoteFileOperations<T> remote = (RemoteFileOperations<T>) operations;
+        boolean isConnected = false;
+        try {
+            isConnected = remote.sendNoop();
+        } catch (Exception ex) {
+            // here we just ignore the exception and try to reconnect
+            LOG.debug("Exception checking connection status: {}", ex.getMessage());
+        }
+        if (!isConnected) {
+            LOG.debug("Not connected/logged in, connecting to: {}", remoteServer());
+            remote.connect((RemoteFileConfiguration) endpoint.getConfiguration(), null);
+        }
+    }
+
+    @Override
+    protected void releaseParallelOperations(GenericFileOperations<T> operations) {
+        if (getEndpoint().isDisconnect()) {
+            closeParallelOperations(operations);
+        }
+    }
+
+    @Override
+    protected void closeParallelOperations(GenericFileOperations<T> operations) {
+        try {
+            RemoteFileOperations<T> remote = (RemoteFileOperations<T>) operations;
+            if (remote.isConnected()) {
+                remote.disconnect();
+            }
+        } catch (Exception e) {
+            LOG.debug("Error occurred while disconnecting from {} due: {} This exception will be ignored.",
+                    remoteServer(), e.getMessage(), e);
+        }
     }
 
     @Override
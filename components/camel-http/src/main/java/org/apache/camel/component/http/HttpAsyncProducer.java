@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A producer which sends the request using the non-blocking Apache HttpAsyncClient, so the calling thread is released
+ * while waiting for the response.
+ * <p/>
+ * The response body is spooled into stream caching as it is received, and the exchange is continued from the I/O
+ * dispatcher thread of the client once the response is complete. The request is created and the response is handled
+ * by the same {@link HttpProducer} logic as the synchronous client, so both behave the same.
+ */
+public class HttpAsyncProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpAsyncProducer.class);
+
+    private final HttpProducer producer;
+    private CloseableHttpAsyncClient httpAsyncClient;
+
+    public HttpAsyncProducer(HttpEndpoint endpoint) {
+        super(endpoint);
+        this.producer = new HttpProducer(endpoint);
+    }
+
+    @Override
+    public HttpEndpoint getEndpoint() {
+        return (HttpEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        ServiceHelper.initService(producer);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startService(producer);
+        httpAsyncClient = getEndpoint().getHttpAsyncClient();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(producer);
+        super.doStop();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        final HttpRequestBase httpRequest;
+        final HttpHost httpHost;
+        try {
+            httpRequest = producer.prepareHttpRequest(exchange);
+            httpHost = producer.createHost(httpRequest);
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Executing async http {} method: {}", httpRequest.getMethod(), httpRequest.getURI());
+        }
+        httpAsyncClient.execute(HttpAsyncMethods.create(httpHost, httpRequest),
+                new StreamCachingAsyncResponseConsumer(exchange, getEndpoint()), producer.createLocalContext(),
+                new FutureCallback<HttpResponse>() {
+                    @Override
+                    public void completed(HttpResponse httpResponse) {
+                        try {
+                            producer.handleResponse(exchange, httpRequest, httpResponse);
+                        } catch (Exception e) {
+                            exchange.setException(e);
+                        } finally {
+                            callback.done(false);
+                        }
+                    }
+
+                    @Override
+                    public void failed(Exception e) {
+                        exchange.setException(e);
+                        callback.done(false);
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        exchange.setException(new CamelExchangeException("Http request cancelled", exchange));
+                        callback.done(false);
+                    }
+                });
+        return false;
+    }
+}
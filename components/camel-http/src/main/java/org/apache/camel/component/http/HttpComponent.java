@@ -25,6 +25,7 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
@@ -67,6 +68,13 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.ssl.SSLContexts;
 import org.slf4j.Logger;
@@ -377,6 +385,7 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         endpoint.setSkipResponseHeaders(skipResponseHeaders);
         endpoint.setUserAgent(userAgent);
         endpoint.setMuteException(muteException);
+        endpoint.setSslContextParameters(sslContextParameters);
 
         // configure the endpoint with the common configuration from the component
         if (getHttpConfiguration() != null) {
@@ -541,6 +550,48 @@ public class HttpComponent extends HttpCommonComponent implements RestProducerFa
         return answer;
     }
 
+    /**
+     * Creates the non-blocking connection manager used by an endpoint with the asyncClient option enabled.
+     */
+    protected NHttpClientConnectionManager createAsyncClientConnectionManager(
+            SSLContextParameters sslContextParams, HostnameVerifier hostnameVerifier,
+            int maxTotalConnections, int connectionsPerRoute, boolean useSystemProperties)
+            throws GeneralSecurityException, IOException {
+        SSLContext sslContext;
+        if (sslContextParams != null) {
+            sslContext = sslContextParams.createSSLContext(getCamelContext());
+        } else {
+            sslContext = useSystemProperties ? SSLContexts.createSystemDefault() : SSLContexts.createDefault();
+        }
+        Registry<SchemeIOSessionStrategy> registry = RegistryBuilder.<SchemeIOSessionStrategy> create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", new SSLIOSessionStrategy(
+                        sslContext, hostnameVerifier != null ? hostnameVerifier : x509HostnameVerifier))
+                .build();
+
+        // setup the connection live time
+        PoolingNHttpClientConnectionManager answer = new PoolingNHttpClientConnectionManager(
+                new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT), null, registry, null, null,
+                getConnectionTimeToLive(), TimeUnit.MILLISECONDS);
+        int localMaxTotalConnections = maxTotalConnections;
+        if (localMaxTotalConnections == 0) {
+            localMaxTotalConnections = getMaxTotalConnections();
+        }
+        if (localMaxTotalConnections > 0) {
+            answer.setMaxTotal(localMaxTotalConnections);
+        }
+        int localConnectionsPerRoute = connectionsPerRoute;
+        if (localConnectionsPerRoute == 0) {
+            localConnectionsPerRoute = getConnectionsPerRoute();
+        }
+        if (localConnectionsPerRoute > 0) {
+            answer.setDefaultMaxPerRoute(localConnectionsPerRoute);
+        }
+        LOG.debug("Created async ClientConnectionManager {}", answer);
+
+        return answer;
+    }
+
     @Override
     protected boolean useIntrospectionOnEndpoint() {
         return false;
@@ -43,11 +43,15 @@ import org.apache.http.HttpHost;
 import org.apache.http.client.CookieStore;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.RequestAcceptEncoding;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.LaxRedirectStrategy;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpContext;
@@ -158,6 +162,15 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     private boolean skipResponseHeaders;
     @UriParam(label = "producer,advanced", description = "To set a custom HTTP User-Agent request header")
     private String userAgent;
+    @UriParam(label = "producer,advanced", defaultValue = "false",
+              description = "Whether the producer should send requests using the non-blocking Apache HttpAsyncClient."
+                            + " The calling thread is then released while waiting for the response, which allows a route to"
+                            + " have a large number of concurrent requests in-flight without holding a thread for each of them."
+                            + " The response body is spooled into stream caching as it is received.")
+    private boolean asyncClient;
+
+    private CloseableHttpAsyncClient httpAsyncClient;
+    private NHttpClientConnectionManager asyncClientConnectionManager;
 
     public HttpEndpoint() {
     }
@@ -188,6 +201,9 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @Override
     public Producer createProducer() throws Exception {
+        if (isAsyncClient() && !isSynchronous()) {
+            return new HttpAsyncProducer(this);
+        }
         return new HttpProducer(this);
     }
 
@@ -236,19 +252,8 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
         if (!useSystemProperties) {
             // configure http proxy from camelContext
-            if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
-                    && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
-                String host = getCamelContext().getGlobalOption("http.proxyHost");
-                int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
-                String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
-                // fallback and use either http or https depending on secure
-                if (scheme == null) {
-                    scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
-                }
-                LOG.debug(
-                        "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
-                        host, port, scheme);
-                HttpHost proxy = new HttpHost(host, port, scheme);
+            HttpHost proxy = createGlobalProxy();
+            if (proxy != null) {
                 clientBuilder.setProxy(proxy);
             }
         } else {
@@ -282,6 +287,102 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return clientBuilder.build();
     }
 
+    public synchronized CloseableHttpAsyncClient getHttpAsyncClient() throws Exception {
+        if (httpAsyncClient == null) {
+            httpAsyncClient = createHttpAsyncClient();
+            httpAsyncClient.start();
+        }
+        return httpAsyncClient;
+    }
+
+    /**
+     * Factory method to create a new {@link CloseableHttpAsyncClient} instance used when the asyncClient option is
+     * enabled. The client uses its own non-blocking connection pool, sized using the maxTotalConnections and
+     * connectionsPerRoute options.
+     * <p/>
+     * Producers should use the {@link #getHttpAsyncClient()} method instead.
+     */
+    protected CloseableHttpAsyncClient createHttpAsyncClient() throws Exception {
+        ObjectHelper.notNull(getComponent(), "component");
+
+        asyncClientConnectionManager = getComponent().createAsyncClientConnectionManager(
+                sslContextParameters, x509HostnameVerifier, maxTotalConnections, connectionsPerRoute, useSystemProperties);
+
+        HttpAsyncClientBuilder asyncClientBuilder = HttpAsyncClientBuilder.create();
+        asyncClientBuilder.setConnectionManager(asyncClientConnectionManager);
+
+        RequestConfig.Builder requestConfigBuilder = RequestConfig.custom();
+        if (connectionRequestTimeout != -1) {
+            requestConfigBuilder.setConnectionRequestTimeout((int) connectionRequestTimeout);
+        }
+        if (connectTimeout != -1) {
+            requestConfigBuilder.setConnectTimeout((int) connectTimeout);
+        }
+        if (socketTimeout != -1) {
+            requestConfigBuilder.setSocketTimeout((int) socketTimeout);
+        }
+        asyncClientBuilder.setDefaultRequestConfig(requestConfigBuilder.build());
+
+        if (!useSystemProperties) {
+            HttpHost proxy = createGlobalProxy();
+            if (proxy != null) {
+                asyncClientBuilder.setProxy(proxy);
+            }
+        } else {
+            asyncClientBuilder.useSystemProperties();
+        }
+
+        if (isAuthenticationPreemptive()) {
+            asyncClientBuilder.addInterceptorFirst(new PreemptiveAuthInterceptor());
+        }
+        if (userAgent != null) {
+            asyncClientBuilder.setUserAgent(userAgent);
+        }
+        if (isBridgeEndpoint()) {
+            // need to use noop cookiestore as we do not want to keep cookies in memory
+            asyncClientBuilder.setDefaultCookieStore(new NoopCookieStore());
+        } else {
+            asyncClientBuilder.setDefaultCookieStore(cookieStore);
+        }
+        if (getComponent().isCookieManagementDisabled()) {
+            asyncClientBuilder.disableCookieManagement();
+        }
+        if (isFollowRedirects() || getComponent().isFollowRedirects()) {
+            asyncClientBuilder.setRedirectStrategy(new LaxRedirectStrategy());
+        }
+        if (!getComponent().isContentCompressionDisabled()) {
+            // accept compressed responses as the synchronous client, they are decompressed by the response consumer
+            asyncClientBuilder.addInterceptorLast(new RequestAcceptEncoding());
+        }
+
+        LOG.debug("Setup the HttpAsyncClientBuilder {}", asyncClientBuilder);
+        return asyncClientBuilder.build();
+    }
+
+    /**
+     * Creates the http proxy configured on the CamelContext using the http.proxyHost, http.proxyPort and
+     * http.proxyScheme global options
+     *
+     * @return the proxy, or <tt>null</tt> if no proxy is configured
+     */
+    private HttpHost createGlobalProxy() {
+        if (ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyHost"))
+                && ObjectHelper.isNotEmpty(getCamelContext().getGlobalOption("http.proxyPort"))) {
+            String host = getCamelContext().getGlobalOption("http.proxyHost");
+            int port = Integer.parseInt(getCamelContext().getGlobalOption("http.proxyPort"));
+            String scheme = getCamelContext().getGlobalOption("http.proxyScheme");
+            // fallback and use either http or https depending on secure
+            if (scheme == null) {
+                scheme = HttpHelper.isSecureConnection(getEndpointUri()) ? "https" : "http";
+            }
+            LOG.debug(
+                    "CamelContext properties http.proxyHost, http.proxyPort, and http.proxyScheme detected. Using http proxy host: {} port: {} scheme: {}",
+                    host, port, scheme);
+            return new HttpHost(host, port, scheme);
+        }
+        return null;
+    }
+
     @Override
     public HttpComponent getComponent() {
         return (HttpComponent) super.getComponent();
@@ -296,6 +397,14 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         if (httpClient instanceof Closeable) {
             IOHelper.close((Closeable) httpClient);
         }
+        synchronized (this) {
+            if (httpAsyncClient != null) {
+                // closing the client also shuts down its connection manager
+                IOHelper.close(httpAsyncClient);
+                httpAsyncClient = null;
+                asyncClientConnectionManager = null;
+            }
+        }
     }
 
     // Properties
@@ -610,12 +719,23 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         this.userAgent = userAgent;
     }
 
+    public boolean isAsyncClient() {
+        return asyncClient;
+    }
+
+    /**
+     * Whether the producer should send requests using the non-blocking Apache HttpAsyncClient. The calling thread is
+     * then released while waiting for the response, which allows a route to have a large number of concurrent requests
+     * in-flight without holding a thread for each of them. The response body is spooled into stream caching as it is
+     * received.
+     */
+    public void setAsyncClient(boolean asyncClient) {
+        this.asyncClient = asyncClient;
+    }
+
     @ManagedAttribute(description = "Maximum number of allowed persistent connections")
     public int getClientConnectionsPoolStatsMax() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -627,10 +747,7 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @ManagedAttribute(description = "Number of available idle persistent connections")
     public int getClientConnectionsPoolStatsAvailable() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -642,10 +759,7 @@ public class HttpEndpoint extends HttpCommonEndpoint {
 
     @ManagedAttribute(description = "Number of persistent connections tracked by the connection manager currently being used to execute requests")
     public int getClientConnectionsPoolStatsLeased() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -658,10 +772,7 @@ public class HttpEndpoint extends HttpCommonEndpoint {
     @ManagedAttribute(description = "Number of connection requests being blocked awaiting a free connection."
                                     + " This can happen only if there are more worker threads contending for fewer connections.")
     public int getClientConnectionsPoolStatsPending() {
-        ConnPoolControl<?> pool = null;
-        if (clientConnectionManager instanceof ConnPoolControl) {
-            pool = (ConnPoolControl<?>) clientConnectionManager;
-        }
+        ConnPoolControl<?> pool = getConnPoolControl();
         if (pool != null) {
             PoolStats stats = pool.getTotalStats();
             if (stats != null) {
@@ -671,4 +782,13 @@ public class HttpEndpoint extends HttpCommonEndpoint {
         return -1;
     }
 
+    private ConnPoolControl<?> getConnPoolControl() {
+        // the async client has its own connection pool
+        Object connectionManager = asyncClientConnectionManager != null ? asyncClientConnectionManager : clientConnectionManager;
+        if (connectionManager instanceof ConnPoolControl) {
+            return (ConnPoolControl<?>) connectionManager;
+        }
+        return null;
+    }
+
 }
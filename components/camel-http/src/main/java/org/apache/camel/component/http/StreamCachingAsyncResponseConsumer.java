@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.CachedOutputStream;
+import org.apache.camel.util.IOHelper;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.client.protocol.ResponseContentEncoding;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * An {@link org.apache.http.nio.protocol.HttpAsyncResponseConsumer} which spools the response body into a
+ * {@link CachedOutputStream} as it is received, so large responses are overflowed to disk according to the stream
+ * caching configuration instead of being buffered in memory.
+ * <p/>
+ * The response is decompressed the same way as the synchronous client does, unless content compression is disabled
+ * on the component. The cached stream is closed when the exchange is complete.
+ */
+class StreamCachingAsyncResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Exchange exchange;
+    private final HttpEndpoint endpoint;
+    private HttpResponse response;
+    private CachedOutputStream cos;
+    private ByteBuffer buffer;
+    private long length;
+
+    StreamCachingAsyncResponseConsumer(Exchange exchange, HttpEndpoint endpoint) {
+        this.exchange = exchange;
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    protected void onResponseReceived(HttpResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) {
+        cos = new CachedOutputStream(exchange);
+        buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    @Override
+    protected void onContentReceived(ContentDecoder decoder, IOControl ioControl) throws IOException {
+        int read;
+        while ((read = decoder.read(buffer)) > 0) {
+            cos.write(buffer.array(), 0, read);
+            length += read;
+            buffer.clear();
+        }
+    }
+
+    @Override
+    protected HttpResponse buildResult(HttpContext context) throws Exception {
+        if (cos != null) {
+            HttpEntity original = response.getEntity();
+            BasicHttpEntity entity = new BasicHttpEntity();
+            entity.setContentLength(length);
+            entity.setContentType(original.getContentType());
+            entity.setContentEncoding(original.getContentEncoding());
+            if (endpoint.isDisableStreamCache()) {
+                // use a plain stream (closing it closes the cached stream) as the response is not cached
+                entity.setContent(cos.getWrappedInputStream());
+            } else {
+                StreamCache cache = cos.newStreamCache();
+                entity.setContent(cache instanceof InputStream ? (InputStream) cache : cos.getInputStream());
+            }
+            response.setEntity(entity);
+            if (!endpoint.getComponent().isContentCompressionDisabled()) {
+                // the async client does not decompress the response, so do as the synchronous client
+                new ResponseContentEncoding().process(response, HttpClientContext.adapt(context));
+            }
+        }
+        return response;
+    }
+
+    @Override
+    protected void releaseResources() {
+        buffer = null;
+        if (getResult() == null && cos != null) {
+            // the response was not completed, so the stream is not needed anymore
+            IOHelper.close(cos);
+        }
+    }
+}
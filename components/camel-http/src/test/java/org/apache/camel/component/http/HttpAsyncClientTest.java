@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.Exchange;
+import org.apache.camel.Producer;
+import org.apache.camel.StreamCache;
+import org.apache.camel.http.base.HttpOperationFailedException;
+import org.apache.http.Header;
+import org.apache.http.HttpStatus;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpAsyncClientTest extends BaseHttpTest {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private HttpServer localServer;
+
+    @BeforeEach
+    @Override
+    public void setUp() throws Exception {
+        localServer = ServerBootstrap.bootstrap().setHttpProcessor(getBasicHttpProcessor())
+                .setConnectionReuseStrategy(getConnectionReuseStrategy()).setResponseFactory(getHttpResponseFactory())
+                .setExpectationVerifier(getHttpExpectationVerifier()).setSslContext(getSSLContext())
+                .registerHandler("/slow", (request, response, context) -> {
+                    try {
+                        Thread.sleep(1000);
+                    } catch (InterruptedException e) {
+                        // ignore
+                    }
+                    response.setStatusCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity("" + counter.incrementAndGet()));
+                })
+                .registerHandler("/large", (request, response, context) -> {
+                    StringBuilder sb = new StringBuilder();
+                    for (int i = 0; i < 100000; i++) {
+                        sb.append("Hello World ");
+                    }
+                    response.setStatusCode(HttpStatus.SC_OK);
+                    response.setEntity(new StringEntity(sb.toString()));
+                })
+                .registerHandler("/gzip", (request, response, context) -> {
+                    Header acceptEncoding = request.getFirstHeader("Accept-Encoding");
+                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    try (GZIPOutputStream gzip = new GZIPOutputStream(bos)) {
+                        gzip.write(("Hello World " + (acceptEncoding != null ? acceptEncoding.getValue() : "")).getBytes());
+                    }
+                    response.setStatusCode(HttpStatus.SC_OK);
+                    response.setHeader("Content-Encoding", "gzip");
+                    response.setEntity(new ByteArrayEntity(bos.toByteArray()));
+                })
+                .registerHandler("/missing", (request, response, context) -> {
+                    response.setStatusCode(HttpStatus.SC_NOT_FOUND);
+                    response.setEntity(new StringEntity("Not here"));
+                }).create();
+        localServer.start();
+
+        super.setUp();
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        if (localServer != null) {
+            localServer.stop();
+        }
+    }
+
+    @Test
+    public void testAsyncProducer() throws Exception {
+        Producer producer = context.getEndpoint(url("/slow")).createProducer();
+        assertIsInstanceOf(HttpAsyncProducer.class, producer);
+    }
+
+    @Test
+    public void testConcurrentRequestsFromSingleThread() throws Exception {
+        List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            // the calling thread is not blocked while the requests are in-flight
+            responses.add(template.asyncRequestBody(url("/slow"), null, String.class));
+        }
+
+        Set<String> unique = new HashSet<>();
+        for (Future<String> future : responses) {
+            unique.add(future.get(20, TimeUnit.SECONDS));
+        }
+        assertEquals(10, unique.size());
+    }
+
+    @Test
+    public void testLargeResponse() throws Exception {
+        Exchange out = template.request(url("/large"), null);
+
+        assertEquals(200, out.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE, Integer.class));
+        String body = out.getMessage().getBody(String.class);
+        assertEquals(1200000, body.length());
+        assertTrue(body.startsWith("Hello World "));
+    }
+
+    @Test
+    public void testGzipResponse() throws Exception {
+        String body = template.requestBody(url("/gzip"), null, String.class);
+
+        // the response is decompressed as by the synchronous client
+        assertTrue(body.startsWith("Hello World "), body);
+        assertTrue(body.contains("gzip"), body);
+    }
+
+    @Test
+    public void testDisableStreamCache() throws Exception {
+        Exchange out = template.request(url("/large") + "&disableStreamCache=true", null);
+
+        // the response is used as a plain stream, as by the synchronous client
+        assertEquals(200, out.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE, Integer.class));
+        Object body = out.getMessage().getBody();
+        assertIsInstanceOf(InputStream.class, body);
+        assertFalse(body instanceof StreamCache);
+    }
+
+    @Test
+    public void testFailedResponse() throws Exception {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody(url("/missing"), null, String.class));
+
+        HttpOperationFailedException cause = assertIsInstanceOf(HttpOperationFailedException.class, e.getCause());
+        assertEquals(404, cause.getStatusCode());
+        assertEquals("Not here", cause.getResponseBody());
+    }
+
+    @Test
+    public void testPoolStats() throws Exception {
+        String uri = url("/slow");
+        template.requestBody(uri, null, String.class);
+
+        HttpEndpoint http = context.getEndpoint(uri, HttpEndpoint.class);
+        assertEquals(200, http.getClientConnectionsPoolStatsMax());
+        assertEquals(1, http.getClientConnectionsPoolStatsAvailable());
+        assertEquals(0, http.getClientConnectionsPoolStatsLeased());
+    }
+
+    private String url(String path) {
+        return "http://" + localServer.getInetAddress().getHostName() + ":" + localServer.getLocalPort() + path
+               + "?asyncClient=true";
+    }
+
+}
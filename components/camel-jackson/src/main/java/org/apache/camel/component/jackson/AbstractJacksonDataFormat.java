@@ -40,6 +40,7 @@ import com.fasterxml.jackson.databind.type.CollectionType;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatContentTypeHeader;
 import org.apache.camel.spi.DataFormatName;
@@ -83,6 +84,8 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
     private SchemaResolver schemaResolver;
     private boolean autoDiscoverSchemaResolver = true;
     private String namingStrategy;
+    private boolean lazyLoad;
+    private String jsonPointer;
 
     /**
      * Use the default Jackson {@link ObjectMapper} and {@link Object}
@@ -177,7 +180,13 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
-        if (collectionType != null) {
+        if (lazyLoad) {
+            JacksonIterator answer
+                    = new JacksonIterator(this.objectMapper.readerFor(clazz).with(schema), stream, jsonPointer);
+            // add to UoW so we can close the iterator so it can release any resources
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new JacksonUnmarshalOnCompletion(answer));
+            return answer;
+        } else if (collectionType != null) {
             CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
             return this.objectMapper.readerFor(collType).with(schema).readValue(stream);
         } else {
@@ -441,6 +450,32 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
         this.autoDiscoverSchemaResolver = autoDiscoverSchemaResolver;
     }
 
+    public boolean isLazyLoad() {
+        return lazyLoad;
+    }
+
+    /**
+     * Whether the unmarshalling should lazily load the JSON array elements one by one, by returning an {@link Iterator}
+     * instead of reading the entire input into memory. This is intended to be used together with the Splitter EIP in
+     * streaming mode, to split very large JSON arrays with constant memory usage. The iterator returns elements of the
+     * unmarshal type, so this cannot be used together with useList or collectionType.
+     */
+    public void setLazyLoad(boolean lazyLoad) {
+        this.lazyLoad = lazyLoad;
+    }
+
+    public String getJsonPointer() {
+        return jsonPointer;
+    }
+
+    /**
+     * JSON pointer (such as <tt>/orders</tt>) to the array to iterate when lazy loading. If not set then the root value
+     * is iterated.
+     */
+    public void setJsonPointer(String jsonPointer) {
+        this.jsonPointer = jsonPointer;
+    }
+
     public String getEnableFeatures() {
         return enableFeatures;
     }
@@ -525,6 +560,11 @@ public abstract class AbstractJacksonDataFormat extends ServiceSupport
             Class<?> clazz = camelContext.getClassResolver().resolveClass(collectionTypeName);
             collectionType = CastUtils.cast(clazz);
         }
+        if (lazyLoad && (useList || collectionType != null)) {
+            throw new IllegalArgumentException(
+                    "The option lazyLoad cannot be used together with useList or collectionType, as the elements are"
+                                               + " returned one by one by an iterator");
+        }
     }
 
     @Override
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.JsonPointerBasedFilter;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An {@link Iterator} which lazily reads the elements of a JSON array one by one using a Jackson {@link JsonParser}, so
+ * only a single element is held in memory at any time.
+ * <p/>
+ * If the JSON value (optionally located by a JSON pointer) is not an array, then the value itself is returned as the
+ * only element. The underlying stream is closed when the iterator is exhausted or explicitly closed.
+ */
+public final class JacksonIterator implements Iterator<Object>, Closeable {
+
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private boolean array;
+    private boolean closed;
+
+    /**
+     * Creates a new iterator.
+     *
+     * @param  reader      the reader (bound to the desired type) used for reading each element
+     * @param  stream      the JSON input
+     * @param  jsonPointer optional JSON pointer (such as <tt>/orders</tt>) to the value which should be iterated
+     * @throws IOException is thrown if the start of the input cannot be parsed
+     */
+    public JacksonIterator(ObjectReader reader, InputStream stream, String jsonPointer) throws IOException {
+        this.reader = reader;
+        JsonParser p = reader.createParser(stream);
+        if (jsonPointer != null && !jsonPointer.isEmpty()) {
+            p = new FilteringParserDelegate(
+                    p, new JsonPointerBasedFilter(JsonPointer.compile(jsonPointer)),
+                    TokenFilter.Inclusion.ONLY_INCLUDE_ALL, false);
+        }
+        this.parser = p;
+        try {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                array = true;
+                token = parser.nextToken();
+            }
+            if (token == null || token == JsonToken.END_ARRAY) {
+                close();
+            }
+        } catch (IOException e) {
+            IOHelper.close(this);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !closed;
+    }
+
+    @Override
+    public Object next() {
+        if (closed) {
+            throw new NoSuchElementException();
+        }
+        try {
+            Object answer = reader.readValue(parser);
+            // the parser is positioned at the last token of the value we just read
+            JsonToken token = array ? parser.nextToken() : null;
+            if (token == null || token == JsonToken.END_ARRAY) {
+                close();
+            }
+            return answer;
+        } catch (IOException e) {
+            IOHelper.close(this);
+            throw new RuntimeCamelException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            parser.close();
+        }
+    }
+}
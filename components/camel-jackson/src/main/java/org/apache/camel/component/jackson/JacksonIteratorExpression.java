@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * An {@link org.apache.camel.Expression} which lazily iterates the elements of a JSON array, to be used with the
+ * Splitter EIP in streaming mode:
+ *
+ * <pre>
+ * from("file:inbox").split(new JacksonIteratorExpression("/orders", Order.class)).streaming().to("bean:handleOrder");
+ * </pre>
+ *
+ * Each element is bound to the given type, or to a {@link JsonNode} if no type is given.
+ */
+public class JacksonIteratorExpression extends ExpressionAdapter {
+
+    private final ObjectMapper objectMapper;
+    private final String jsonPointer;
+    private final Class<?> type;
+
+    /**
+     * Creates this expression iterating the root JSON array as {@link JsonNode} elements.
+     */
+    public JacksonIteratorExpression() {
+        this(null);
+    }
+
+    /**
+     * Creates this expression.
+     *
+     * @param jsonPointer JSON pointer (such as <tt>/orders</tt>) to the array to iterate, or <tt>null</tt> to iterate
+     *                    the root array
+     */
+    public JacksonIteratorExpression(String jsonPointer) {
+        this(jsonPointer, JsonNode.class);
+    }
+
+    /**
+     * Creates this expression.
+     *
+     * @param jsonPointer JSON pointer (such as <tt>/orders</tt>) to the array to iterate, or <tt>null</tt> to iterate
+     *                    the root array
+     * @param type        the type to bind each element to
+     */
+    public JacksonIteratorExpression(String jsonPointer, Class<?> type) {
+        this(new ObjectMapper(), jsonPointer, type);
+    }
+
+    /**
+     * Creates this expression.
+     *
+     * @param objectMapper the object mapper to use
+     * @param jsonPointer  JSON pointer (such as <tt>/orders</tt>) to the array to iterate, or <tt>null</tt> to iterate
+     *                     the root array
+     * @param type         the type to bind each element to
+     */
+    public JacksonIteratorExpression(ObjectMapper objectMapper, String jsonPointer, Class<?> type) {
+        ObjectHelper.notNull(objectMapper, "objectMapper");
+        ObjectHelper.notNull(type, "type");
+        this.objectMapper = objectMapper;
+        this.jsonPointer = jsonPointer;
+        this.type = type;
+    }
+
+    @Override
+    public Object evaluate(Exchange exchange) {
+        try {
+            InputStream is = exchange.getIn().getMandatoryBody(InputStream.class);
+            JacksonIterator answer = new JacksonIterator(objectMapper.readerFor(type), is, jsonPointer);
+            // add to UoW so we can close the iterator so it can release any resources
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new JacksonUnmarshalOnCompletion(answer));
+            return answer;
+        } catch (InvalidPayloadException | IOException e) {
+            exchange.setException(e);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "jackson[" + (jsonPointer != null ? jsonPointer : "/") + "]";
+    }
+}
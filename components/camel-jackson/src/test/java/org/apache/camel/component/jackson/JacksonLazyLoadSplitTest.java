@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.body;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JacksonLazyLoadSplitTest extends CamelTestSupport {
+
+    @Test
+    public void testLazyLoad() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.expectedMessagesMatches(body().isInstanceOf(TestPojo.class));
+        mock.message(0).body().isEqualTo(pojo("Camel"));
+        mock.message(2).body().isEqualTo(pojo("Jackson"));
+
+        template.sendBody("direct:lazy", "[{\"name\":\"Camel\"},{\"name\":\"Donkey\"},{\"name\":\"Jackson\"}]");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLazyLoadEmptyArray() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(0);
+
+        template.sendBody("direct:lazy", "[]");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLazyLoadJsonPointer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        mock.message(0).body().isEqualTo(pojo("Camel"));
+        mock.message(1).body().isEqualTo(pojo("Donkey"));
+
+        template.sendBody("direct:pointer",
+                "{\"count\":2,\"orders\":[{\"name\":\"Camel\"},{\"name\":\"Donkey\"}],\"other\":[{\"name\":\"Foo\"}]}");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testIteratorExpression() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        mock.expectedMessagesMatches(body().isInstanceOf(JsonNode.class));
+
+        template.sendBody("direct:expression", "{\"orders\":[{\"name\":\"Camel\"},{\"name\":\"Donkey\"}]}");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testLazyLoadWithUseListIsRejected() {
+        JacksonDataFormat format = new JacksonDataFormat(TestPojo.class);
+        format.setCamelContext(context);
+        format.setLazyLoad(true);
+        format.setUseList(true);
+
+        assertThrows(IllegalArgumentException.class, format::init);
+    }
+
+    private static TestPojo pojo(String name) {
+        TestPojo pojo = new TestPojo();
+        pojo.setName(name);
+        return pojo;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                JacksonDataFormat lazy = new JacksonDataFormat(TestPojo.class);
+                lazy.setLazyLoad(true);
+                from("direct:lazy").unmarshal(lazy).split(body()).streaming().to("mock:result");
+
+                JacksonDataFormat pointer = new JacksonDataFormat(TestPojo.class);
+                pointer.setLazyLoad(true);
+                pointer.setJsonPointer("/orders");
+                from("direct:pointer").unmarshal(pointer).split(body()).streaming().to("mock:result");
+
+                from("direct:expression").split(new JacksonIteratorExpression("/orders")).streaming().to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.idempotent.jpa;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.persistence.EntityExistsException;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.support.LRUCacheFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.apache.camel.component.jpa.JpaHelper.getTargetEntityManager;
+
+/**
+ * Version of {@link JpaMessageIdRepository} which avoids most of the database round trips of the idempotent checks.
+ * <p/>
+ * Adding a key does not query the table; the key is persisted, and <tt>add</tt> returns <tt>false</tt> if it
+ * conflicts with a row already in the table. The keys added concurrently are coalesced: while a batch is persisted, the
+ * keys added in the meantime wait and are persisted together in the next batch of at most <tt>batchSize</tt> keys, and
+ * each caller is given the result of its own key. When a batch conflicts with rows already in the table, its keys are
+ * added one by one, each in its own transaction. As the keys are in the table once <tt>add</tt> returns, the
+ * repository can be shared by several nodes.
+ * <p/>
+ * The keys recently added or found are kept in a bounded local cache. The batches are persisted in their own
+ * transactions, so the exchange given to <tt>add</tt> is not used to join a transaction of the route.
+ */
+@ManagedResource(description = "JPA batching message id repository")
+public class JpaBatchingMessageIdRepository extends JpaMessageIdRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JpaBatchingMessageIdRepository.class);
+
+    private int cacheSize = 10000;
+    private int batchSize = 100;
+
+    private final Object lock = new Object();
+    private final Map<String, PendingKey> pending = new LinkedHashMap<>();
+    private final Object flushLock = new Object();
+    private Map<String, Boolean> cache;
+
+    private final AtomicLong cacheHitCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong insertedCount = new AtomicLong();
+    private final AtomicLong conflictCount = new AtomicLong();
+
+    public JpaBatchingMessageIdRepository(EntityManagerFactory entityManagerFactory, String processorName) {
+        super(entityManagerFactory, processorName);
+    }
+
+    public JpaBatchingMessageIdRepository(EntityManagerFactory entityManagerFactory,
+                                          TransactionTemplate transactionTemplate, String processorName) {
+        super(entityManagerFactory, transactionTemplate, processorName);
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        cache = LRUCacheFactory.newLRUCache(cacheSize);
+    }
+
+    @Override
+    public boolean add(final Exchange exchange, final String messageId) {
+        PendingKey added;
+        synchronized (lock) {
+            if (pending.containsKey(messageId) || cache.containsKey(messageId)) {
+                cacheHitCount.incrementAndGet();
+                return false;
+            }
+            added = new PendingKey(messageId);
+            pending.put(messageId, added);
+        }
+
+        synchronized (flushLock) {
+            // the keys added while the previous batch was persisted are persisted together
+            while (!added.done) {
+                flush();
+            }
+        }
+        if (added.cause != null) {
+            throw added.cause;
+        }
+        LOG.debug("add {} -> {}", messageId, added.inserted);
+        return added.inserted;
+    }
+
+    @Override
+    public boolean contains(final Exchange exchange, final String messageId) {
+        synchronized (lock) {
+            if (pending.containsKey(messageId) || cache.containsKey(messageId)) {
+                cacheHitCount.incrementAndGet();
+                return true;
+            }
+        }
+        if (super.contains(exchange, messageId)) {
+            synchronized (lock) {
+                cache.put(messageId, Boolean.TRUE);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(final Exchange exchange, final String messageId) {
+        synchronized (flushLock) {
+            synchronized (lock) {
+                cache.remove(messageId);
+            }
+            return super.remove(exchange, messageId);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (flushLock) {
+            synchronized (lock) {
+                cache.clear();
+            }
+            super.clear();
+        }
+    }
+
+    /**
+     * Persists the next batch of waiting keys, and completes their callers. Must be called while holding the flush
+     * lock.
+     */
+    private void flush() {
+        List<PendingKey> batch = new ArrayList<>();
+        synchronized (lock) {
+            Iterator<PendingKey> it = pending.values().iterator();
+            while (it.hasNext() && batch.size() < batchSize) {
+                batch.add(it.next());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(batch.size());
+        for (PendingKey key : batch) {
+            keys.add(key.key);
+        }
+        boolean[] inserted;
+        try {
+            inserted = insertBatch(keys);
+            flushCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                for (PendingKey key : batch) {
+                    pending.remove(key.key);
+                    key.done(false, e);
+                }
+            }
+            return;
+        }
+
+        synchronized (lock) {
+            for (int i = 0; i < batch.size(); i++) {
+                PendingKey key = batch.get(i);
+                pending.remove(key.key);
+                cache.put(key.key, Boolean.TRUE);
+                key.done(inserted[i], null);
+            }
+        }
+    }
+
+    /**
+     * Persists the keys, skipping those already in the table.
+     *
+     * @return for each key whether it has been persisted, or skipped as it was already in the table
+     */
+    protected boolean[] insertBatch(List<String> keys) {
+        boolean[] answer = new boolean[keys.size()];
+        try {
+            persistBatch(keys);
+            insertedCount.addAndGet(keys.size());
+            Arrays.fill(answer, true);
+        } catch (RuntimeException e) {
+            if (!isConflict(e)) {
+                throw e;
+            }
+            // some of the keys are already in the table, so add the keys one by one skipping those
+            LOG.debug("Persisting the batch of {} keys failed due to {}. Adding the keys one by one.", keys.size(),
+                    e.getMessage());
+            for (int i = 0; i < keys.size(); i++) {
+                try {
+                    answer[i] = super.add(null, keys.get(i));
+                } catch (RuntimeException ex) {
+                    // the key has been added by another node in the meantime
+                    if (!isConflict(ex)) {
+                        throw ex;
+                    }
+                }
+                if (answer[i]) {
+                    insertedCount.incrementAndGet();
+                } else {
+                    conflictCount.incrementAndGet();
+                }
+            }
+        }
+        return answer;
+    }
+
+    private void persistBatch(List<String> keys) {
+        final EntityManager entityManager
+                = getTargetEntityManager(null, getEntityManagerFactory(), true, isSharedEntityManager(), true);
+        try {
+            getTransactionTemplate().execute(status -> {
+                if (isJoinTransaction()) {
+                    entityManager.joinTransaction();
+                }
+                Date now = new Date();
+                for (String key : keys) {
+                    MessageProcessed processed = new MessageProcessed();
+                    processed.setProcessorName(getProcessorName());
+                    processed.setMessageId(key);
+                    processed.setCreatedAt(now);
+                    entityManager.persist(processed);
+                }
+                entityManager.flush();
+                return Boolean.TRUE;
+            });
+        } finally {
+            try {
+                if (entityManager.isOpen()) {
+                    entityManager.close();
+                }
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * Whether the exception is caused by a row which is already in the table
+     */
+    private static boolean isConflict(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause() != t ? t.getCause() : null) {
+            if (t instanceof EntityExistsException || t instanceof DataIntegrityViolationException) {
+                return true;
+            }
+            // the SQL states of the integrity constraint violations
+            if (t instanceof SQLException && ((SQLException) t).getSQLState() != null
+                    && ((SQLException) t).getSQLState().startsWith("23")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * The maximum number of keys kept in the local cache.
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of keys, added concurrently, which are persisted together.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute(description = "Number of keys waiting to be persisted")
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of keys found in the local cache or waiting to be persisted")
+    public long getCacheHitCount() {
+        return cacheHitCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of batches persisted")
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of keys persisted")
+    public long getInsertedCount() {
+        return insertedCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of keys not persisted as they were already in the table")
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        cacheHitCount.set(0);
+        flushCount.set(0);
+        insertedCount.set(0);
+        conflictCount.set(0);
+    }
+
+    /**
+     * A key waiting to be persisted by a caller of <tt>add</tt>
+     */
+    private static final class PendingKey {
+        private final String key;
+        private volatile boolean done;
+        private volatile boolean inserted;
+        private volatile RuntimeException cause;
+
+        private PendingKey(String key) {
+            this.key = key;
+        }
+
+        private void done(boolean inserted, RuntimeException cause) {
+            this.inserted = inserted;
+            this.cause = cause;
+            this.done = true;
+        }
+    }
+}
@@ -292,6 +292,14 @@ public class JpaMessageIdRepository extends ServiceSupport implements Idempotent
         return processorName;
     }
 
+    protected EntityManagerFactory getEntityManagerFactory() {
+        return entityManagerFactory;
+    }
+
+    protected TransactionTemplate getTransactionTemplate() {
+        return transactionTemplate;
+    }
+
     @ManagedAttribute(description = "Whether to join existing transaction")
     public boolean isJoinTransaction() {
         return joinTransaction;
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.jpa;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.apache.camel.processor.idempotent.jpa.JpaBatchingMessageIdRepository;
+import org.apache.camel.processor.idempotent.jpa.MessageProcessed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JpaBatchingMessageIdRepositoryTest extends AbstractJpaTest {
+    protected static final String SELECT_ALL_STRING
+            = "select x from " + MessageProcessed.class.getName() + " x where x.processorName = ?1";
+    protected static final String PROCESSOR_NAME = "myProcessorName";
+
+    private JpaBatchingMessageIdRepository repository;
+    private volatile CountDownLatch insertStarted;
+    private volatile CountDownLatch insertReleased;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Override
+    protected void cleanupRepository() {
+        transactionTemplate.execute(status -> {
+            entityManager.joinTransaction();
+            List<?> list = entityManager.createQuery(SELECT_ALL_STRING).setParameter(1, PROCESSOR_NAME).getResultList();
+            for (Object item : list) {
+                entityManager.remove(item);
+            }
+            entityManager.flush();
+            return Boolean.TRUE;
+        });
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        EntityManagerFactory entityManagerFactory = applicationContext.getBean("entityManagerFactory",
+                EntityManagerFactory.class);
+        repository = new JpaBatchingMessageIdRepository(entityManagerFactory, PROCESSOR_NAME) {
+            @Override
+            protected boolean[] insertBatch(List<String> keys) {
+                CountDownLatch started = insertStarted;
+                if (started != null) {
+                    // block the first batch only
+                    insertStarted = null;
+                    started.countDown();
+                    try {
+                        insertReleased.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.insertBatch(keys);
+            }
+        };
+        repository.start();
+
+        // stored by another node
+        saveMessageProcessed("1");
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        repository.stop();
+        super.tearDown();
+    }
+
+    @Test
+    public void testAdd() {
+        assertFalse(repository.add("1"));
+        assertEquals(1, repository.getConflictCount());
+
+        assertTrue(repository.add("2"));
+        assertEquals(1, repository.getInsertedCount());
+
+        // the keys are known locally now
+        assertFalse(repository.add("1"));
+        assertFalse(repository.add("2"));
+        assertTrue(repository.contains("2"));
+        assertEquals(3, repository.getCacheHitCount());
+        assertEquals(2, count());
+    }
+
+    @Test
+    public void testConcurrentAddsArePersistedTogether() throws Exception {
+        insertStarted = new CountDownLatch(1);
+        insertReleased = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            results.add(executor.submit(() -> repository.add("a")));
+            assertTrue(insertStarted.await(10, TimeUnit.SECONDS));
+
+            // these keys are added while the first batch is persisted
+            for (String key : new String[] { "b", "1", "c" }) {
+                results.add(executor.submit(() -> repository.add(key)));
+            }
+            long deadline = System.currentTimeMillis() + 10000;
+            while (repository.getPendingCount() < 4 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(4, repository.getPendingCount());
+            insertReleased.countDown();
+
+            boolean[] expected = { true, true, false, true };
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the keys added during the first batch are persisted in a second one
+        assertEquals(2, repository.getFlushCount());
+        assertEquals(3, repository.getInsertedCount());
+        assertEquals(1, repository.getConflictCount());
+        assertEquals(4, count());
+    }
+
+    private void saveMessageProcessed(String messageId) {
+        MessageProcessed processed = new MessageProcessed();
+        processed.setProcessorName(PROCESSOR_NAME);
+        processed.setMessageId(messageId);
+        processed.setCreatedAt(new Date());
+        saveEntityInDB(processed);
+    }
+
+    private int count() {
+        return entityManager.createQuery(SELECT_ALL_STRING).setParameter(1, PROCESSOR_NAME).getResultList().size();
+    }
+
+    @Override
+    protected String routeXml() {
+        return "org/apache/camel/processor/jpa/spring.xml";
+    }
+
+    @Override
+    protected String selectAllString() {
+        return SELECT_ALL_STRING;
+    }
+}
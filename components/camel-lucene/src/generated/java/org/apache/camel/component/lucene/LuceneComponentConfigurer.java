@@ -31,6 +31,10 @@ public class LuceneComponentConfigurer extends PropertyConfigurerSupport impleme
         case "analyzer": getOrCreateConfig(target).setAnalyzer(property(camelContext, org.apache.lucene.analysis.Analyzer.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "commitbatchsize":
+        case "commitBatchSize": getOrCreateConfig(target).setCommitBatchSize(property(camelContext, int.class, value)); return true;
+        case "commitinterval":
+        case "commitInterval": getOrCreateConfig(target).setCommitInterval(property(camelContext, long.class, value)); return true;
         case "config": target.setConfig(property(camelContext, org.apache.camel.component.lucene.LuceneConfiguration.class, value)); return true;
         case "indexdir":
         case "indexDir": getOrCreateConfig(target).setIndexDir(property(camelContext, java.io.File.class, value)); return true;
@@ -38,6 +42,8 @@ public class LuceneComponentConfigurer extends PropertyConfigurerSupport impleme
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "maxhits":
         case "maxHits": getOrCreateConfig(target).setMaxHits(property(camelContext, int.class, value)); return true;
+        case "searcherrefreshinterval":
+        case "searcherRefreshInterval": getOrCreateConfig(target).setSearcherRefreshInterval(property(camelContext, long.class, value)); return true;
         case "srcdir":
         case "srcDir": getOrCreateConfig(target).setSrcDir(property(camelContext, java.io.File.class, value)); return true;
         default: return false;
@@ -50,6 +56,10 @@ public class LuceneComponentConfigurer extends PropertyConfigurerSupport impleme
         case "analyzer": return org.apache.lucene.analysis.Analyzer.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "commitbatchsize":
+        case "commitBatchSize": return int.class;
+        case "commitinterval":
+        case "commitInterval": return long.class;
         case "config": return org.apache.camel.component.lucene.LuceneConfiguration.class;
         case "indexdir":
         case "indexDir": return java.io.File.class;
@@ -57,6 +67,8 @@ public class LuceneComponentConfigurer extends PropertyConfigurerSupport impleme
         case "lazyStartProducer": return boolean.class;
         case "maxhits":
         case "maxHits": return int.class;
+        case "searcherrefreshinterval":
+        case "searcherRefreshInterval": return long.class;
         case "srcdir":
         case "srcDir": return java.io.File.class;
         default: return null;
@@ -70,6 +82,10 @@ public class LuceneComponentConfigurer extends PropertyConfigurerSupport impleme
         case "analyzer": return getOrCreateConfig(target).getAnalyzer();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "commitbatchsize":
+        case "commitBatchSize": return getOrCreateConfig(target).getCommitBatchSize();
+        case "commitinterval":
+        case "commitInterval": return getOrCreateConfig(target).getCommitInterval();
         case "config": return target.getConfig();
         case "indexdir":
         case "indexDir": return getOrCreateConfig(target).getIndexDir();
@@ -77,6 +93,8 @@ public class LuceneComponentConfigurer extends PropertyConfigurerSupport impleme
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "maxhits":
         case "maxHits": return getOrCreateConfig(target).getMaxHits();
+        case "searcherrefreshinterval":
+        case "searcherRefreshInterval": return getOrCreateConfig(target).getSearcherRefreshInterval();
         case "srcdir":
         case "srcDir": return getOrCreateConfig(target).getSrcDir();
         default: return null;
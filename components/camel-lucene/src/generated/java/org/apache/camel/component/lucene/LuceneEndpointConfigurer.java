@@ -22,12 +22,18 @@ public class LuceneEndpointConfigurer extends PropertyConfigurerSupport implemen
         LuceneEndpoint target = (LuceneEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "analyzer": target.getConfig().setAnalyzer(property(camelContext, org.apache.lucene.analysis.Analyzer.class, value)); return true;
+        case "commitbatchsize":
+        case "commitBatchSize": target.getConfig().setCommitBatchSize(property(camelContext, int.class, value)); return true;
+        case "commitinterval":
+        case "commitInterval": target.getConfig().setCommitInterval(property(camelContext, long.class, value)); return true;
         case "indexdir":
         case "indexDir": target.getConfig().setIndexDir(property(camelContext, java.io.File.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "maxhits":
         case "maxHits": target.getConfig().setMaxHits(property(camelContext, int.class, value)); return true;
+        case "searcherrefreshinterval":
+        case "searcherRefreshInterval": target.getConfig().setSearcherRefreshInterval(property(camelContext, long.class, value)); return true;
         case "srcdir":
         case "srcDir": target.getConfig().setSrcDir(property(camelContext, java.io.File.class, value)); return true;
         default: return false;
@@ -38,12 +44,18 @@ public class LuceneEndpointConfigurer extends PropertyConfigurerSupport implemen
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "analyzer": return org.apache.lucene.analysis.Analyzer.class;
+        case "commitbatchsize":
+        case "commitBatchSize": return int.class;
+        case "commitinterval":
+        case "commitInterval": return long.class;
         case "indexdir":
         case "indexDir": return java.io.File.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
         case "maxhits":
         case "maxHits": return int.class;
+        case "searcherrefreshinterval":
+        case "searcherRefreshInterval": return long.class;
         case "srcdir":
         case "srcDir": return java.io.File.class;
         default: return null;
@@ -55,12 +67,18 @@ public class LuceneEndpointConfigurer extends PropertyConfigurerSupport implemen
         LuceneEndpoint target = (LuceneEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
         case "analyzer": return target.getConfig().getAnalyzer();
+        case "commitbatchsize":
+        case "commitBatchSize": return target.getConfig().getCommitBatchSize();
+        case "commitinterval":
+        case "commitInterval": return target.getConfig().getCommitInterval();
         case "indexdir":
         case "indexDir": return target.getConfig().getIndexDir();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "maxhits":
         case "maxHits": return target.getConfig().getMaxHits();
+        case "searcherrefreshinterval":
+        case "searcherRefreshInterval": return target.getConfig().getSearcherRefreshInterval();
         case "srcdir":
         case "srcDir": return target.getConfig().getSrcDir();
         default: return null;
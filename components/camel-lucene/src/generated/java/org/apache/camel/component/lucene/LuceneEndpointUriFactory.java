@@ -21,13 +21,16 @@ public class LuceneEndpointUriFactory extends org.apache.camel.support.component
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(7);
+        Set<String> props = new HashSet<>(10);
         props.add("analyzer");
+        props.add("commitBatchSize");
+        props.add("commitInterval");
         props.add("host");
         props.add("indexDir");
         props.add("lazyStartProducer");
         props.add("maxHits");
         props.add("operation");
+        props.add("searcherRefreshInterval");
         props.add("srcDir");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
@@ -16,14 +16,18 @@
  */
 package org.apache.camel.component.lucene;
 
+import java.io.File;
 import java.net.URI;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.annotations.Component;
 import org.apache.camel.support.DefaultComponent;
+import org.apache.lucene.analysis.Analyzer;
 
 @Component("lucene")
 public class LuceneComponent extends DefaultComponent {
@@ -31,6 +35,8 @@ public class LuceneComponent extends DefaultComponent {
     @Metadata(label = "advanced")
     private LuceneConfiguration config;
 
+    private final Map<String, LuceneIndexer> indexers = new ConcurrentHashMap<>();
+
     public LuceneComponent() {
         config = new LuceneConfiguration();
     }
@@ -43,12 +49,71 @@ public class LuceneComponent extends DefaultComponent {
     @Override
     protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters)
             throws Exception {
-        config.parseURI(new URI(uri), parameters, this);
-        LuceneEndpoint luceneEndpoint = new LuceneEndpoint(uri, this, config);
+        // each endpoint has its own copy of the configuration, as the insert and query endpoints of an index differ
+        LuceneConfiguration endpointConfig = config.copy();
+        endpointConfig.parseURI(new URI(uri), parameters, this);
+        LuceneEndpoint luceneEndpoint = new LuceneEndpoint(uri, this, endpointConfig);
         setProperties(luceneEndpoint, parameters);
         return luceneEndpoint;
     }
 
+    /**
+     * Gets the indexer of the index directory of the given configuration, creating it if needed, so the endpoints
+     * writing to the same index directory share the same index writer. The endpoints sharing an indexer must use the
+     * same srcDir, analyzer, commitBatchSize and commitInterval options.
+     */
+    LuceneIndexer getOrCreateIndexer(LuceneConfiguration config) throws Exception {
+        String key = indexKey(config.getIndexDir());
+        LuceneIndexer indexer = indexers.get(key);
+        if (indexer == null) {
+            synchronized (indexers) {
+                indexer = indexers.get(key);
+                if (indexer == null) {
+                    indexer = new LuceneIndexer(
+                            config.getSrcDir(), config.getIndexDir(), config.getAnalyzer(), config.getCommitBatchSize(),
+                            config.getCommitInterval());
+                    indexers.put(key, indexer);
+                    return indexer;
+                }
+            }
+        }
+        checkIndexerConfiguration(indexer, config, key);
+        return indexer;
+    }
+
+    private static void checkIndexerConfiguration(LuceneIndexer indexer, LuceneConfiguration config, String key) {
+        String option = null;
+        if (!Objects.equals(indexer.getSourceDirectory(), config.getSrcDir())) {
+            option = "srcDir";
+        } else if (!Objects.equals(analyzerType(indexer.getAnalyzer()), analyzerType(config.getAnalyzer()))) {
+            option = "analyzer";
+        } else if (indexer.getCommitBatchSize() != Math.max(1, config.getCommitBatchSize())) {
+            option = "commitBatchSize";
+        } else if (indexer.getCommitInterval() != config.getCommitInterval()) {
+            option = "commitInterval";
+        }
+        if (option != null) {
+            throw new IllegalArgumentException(
+                    "The index directory " + key + " is already used by an insert endpoint with a different " + option
+                                               + " option");
+        }
+    }
+
+    private static Class<?> analyzerType(Analyzer analyzer) {
+        return analyzer != null ? analyzer.getClass() : null;
+    }
+
+    /**
+     * Gets the indexer of the given index directory, or <tt>null</tt> if no endpoint inserts into the directory.
+     */
+    LuceneIndexer getIndexer(File indexDir) {
+        return indexers.get(indexKey(indexDir));
+    }
+
+    private static String indexKey(File indexDir) {
+        return (indexDir != null ? indexDir : new File("./indexDirectory")).getAbsolutePath();
+    }
+
     public LuceneConfiguration getConfig() {
         return config;
     }
@@ -21,6 +21,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Map;
 
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriParams;
@@ -29,7 +30,7 @@ import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 
 @UriParams
-public class LuceneConfiguration {
+public class LuceneConfiguration implements Cloneable {
     private transient URI uri;
     private transient String authority;
 
@@ -47,6 +48,12 @@ public class LuceneConfiguration {
     private Analyzer analyzer;
     @UriParam
     private int maxHits;
+    @UriParam(label = "advanced", defaultValue = "1")
+    private int commitBatchSize = 1;
+    @UriParam(label = "advanced")
+    private long commitInterval;
+    @UriParam(label = "advanced")
+    private long searcherRefreshInterval;
 
     public LuceneConfiguration() {
     }
@@ -85,6 +92,9 @@ public class LuceneConfiguration {
                 parameters, "analyzer", Analyzer.class, new StandardAnalyzer());
 
         setMaxHits(component.getAndRemoveParameter(parameters, "maxHits", Integer.class, 10));
+        setCommitBatchSize(component.getAndRemoveParameter(parameters, "commitBatchSize", Integer.class, 1));
+        setCommitInterval(component.getAndRemoveParameter(parameters, "commitInterval", Long.class, 0L));
+        setSearcherRefreshInterval(component.getAndRemoveParameter(parameters, "searcherRefreshInterval", Long.class, 0L));
     }
 
     private boolean isValidAuthority() {
@@ -179,4 +189,50 @@ public class LuceneConfiguration {
         this.maxHits = maxHits;
     }
 
+    public int getCommitBatchSize() {
+        return commitBatchSize;
+    }
+
+    /**
+     * The number of exchanges to index before the changes are committed to the index directory. The index writer is
+     * kept open between the exchanges, and committing less often increases the indexing throughput at the expense of
+     * losing the uncommitted documents if the JVM crashes.
+     */
+    public void setCommitBatchSize(int commitBatchSize) {
+        this.commitBatchSize = commitBatchSize;
+    }
+
+    public long getCommitInterval() {
+        return commitInterval;
+    }
+
+    /**
+     * The maximum time in millis indexed documents are kept uncommitted when using a commitBatchSize larger than 1. A
+     * value of 0 disables the interval, so the documents are only committed once the batch is complete, or when the
+     * producer is stopped.
+     */
+    public void setCommitInterval(long commitInterval) {
+        this.commitInterval = commitInterval;
+    }
+
+    public long getSearcherRefreshInterval() {
+        return searcherRefreshInterval;
+    }
+
+    /**
+     * The interval in millis at which the searchers of the query operation are refreshed in the background to see the
+     * changes of the index. The searchers are reused between the queries, and a value of 0 checks for changes before
+     * every query instead.
+     */
+    public void setSearcherRefreshInterval(long searcherRefreshInterval) {
+        this.searcherRefreshInterval = searcherRefreshInterval;
+    }
+
+    public LuceneConfiguration copy() {
+        try {
+            return (LuceneConfiguration) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeCamelException(e);
+        }
+    }
 }
@@ -16,11 +16,15 @@
  */
 package org.apache.camel.component.lucene;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.apache.camel.Category;
 import org.apache.camel.Component;
 import org.apache.camel.Consumer;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
 import org.apache.camel.support.DefaultEndpoint;
@@ -30,11 +34,14 @@ import org.apache.camel.support.DefaultEndpoint;
  */
 @UriEndpoint(firstVersion = "2.2.0", scheme = "lucene", title = "Lucene", syntax = "lucene:host:operation", producerOnly = true,
              category = { Category.DATABASE, Category.SEARCH }, headersClass = LuceneConstants.class)
+@ManagedResource(description = "Managed LuceneEndpoint")
 public class LuceneEndpoint extends DefaultEndpoint {
     @UriParam
     LuceneConfiguration config;
     LuceneIndexer indexer;
     boolean insertFlag;
+    private final LongAdder queryCount = new LongAdder();
+    private final LongAdder queryTime = new LongAdder();
 
     public LuceneEndpoint() {
     }
@@ -47,7 +54,7 @@ public class LuceneEndpoint extends DefaultEndpoint {
         this(endpointUri, component);
         this.config = config;
         if (config.getOperation() == LuceneOperation.insert) {
-            this.indexer = new LuceneIndexer(config.getSrcDir(), config.getIndexDir(), config.getAnalyzer());
+            this.indexer = component.getOrCreateIndexer(config);
             insertFlag = true;
         }
     }
@@ -65,6 +72,37 @@ public class LuceneEndpoint extends DefaultEndpoint {
         return new LuceneIndexProducer(this, this.config, indexer);
     }
 
+    void onQuery(long elapsed) {
+        queryCount.increment();
+        queryTime.add(elapsed);
+    }
+
+    @ManagedAttribute(description = "Number of exchanges indexed into the index directory")
+    public long getIndexedCount() {
+        return indexer != null ? indexer.getIndexedCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of commits to the index directory")
+    public long getCommitCount() {
+        return indexer != null ? indexer.getCommitCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of indexed exchanges which are not yet committed")
+    public int getUncommittedCount() {
+        return indexer != null ? indexer.getUncommittedCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of queries performed")
+    public long getQueryCount() {
+        return queryCount.sum();
+    }
+
+    @ManagedAttribute(description = "Mean time in millis to perform a query")
+    public long getMeanQueryTime() {
+        long count = queryCount.sum();
+        return count > 0 ? queryTime.sum() / count : 0;
+    }
+
     public LuceneConfiguration getConfig() {
         return config;
     }
@@ -16,13 +16,20 @@
  */
 package org.apache.camel.component.lucene;
 
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.support.DefaultProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class LuceneIndexProducer extends DefaultProducer {
+    private static final Logger LOG = LoggerFactory.getLogger(LuceneIndexProducer.class);
     LuceneConfiguration config;
     LuceneIndexer indexer;
+    private ScheduledExecutorService commitExecutor;
 
     public LuceneIndexProducer(Endpoint endpoint, LuceneConfiguration config, LuceneIndexer indexer) {
         super(endpoint);
@@ -30,12 +37,38 @@ public class LuceneIndexProducer extends DefaultProducer {
         this.indexer = indexer;
     }
 
+    @Override
+    public void doStart() throws Exception {
+        super.doStart();
+        indexer.open();
+
+        long interval = indexer.getCommitInterval();
+        if (interval > 0 && indexer.getCommitBatchSize() > 1) {
+            commitExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "LuceneIndexCommit");
+            commitExecutor.scheduleWithFixedDelay(this::commitIfExpired, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
     @Override
     public void doStop() throws Exception {
-        this.indexer.getNiofsDirectory().close();
+        if (commitExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(commitExecutor);
+            commitExecutor = null;
+        }
+        // commits the pending documents
+        indexer.close();
         super.doStop();
     }
 
+    private void commitIfExpired() {
+        try {
+            indexer.commitIfExpired();
+        } catch (Exception e) {
+            LOG.warn("Error committing index {}. This exception is ignored.", indexer.getIndexDirectory(), e);
+        }
+    }
+
     @Override
     public void process(Exchange exchange) throws Exception {
         indexer.index(exchange);
@@ -23,6 +23,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.util.IOHelper;
@@ -33,22 +35,47 @@ import org.apache.lucene.document.FieldType;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.store.NIOFSDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Adds documents to an index using a long lived {@link IndexWriter}.
+ * <p/>
+ * The writer is opened by the first user of the indexer and closed by the last one, and the indexed documents are
+ * committed in batches according to the commit batch size and interval. The documents are searchable before they are
+ * committed using the near-real-time {@link SearcherManager} of the indexer.
+ */
 public class LuceneIndexer {
     private static final Logger LOG = LoggerFactory.getLogger(LuceneIndexer.class);
     private static final FieldType TOKENIZED_FIELD_TYPE = createFieldType(true);
     private static final FieldType NON_TOKENIZED_FIELD_TYPE = createFieldType(false);
 
+    private final AtomicInteger uncommitted = new AtomicInteger();
+    private final LongAdder indexedCount = new LongAdder();
+    private final LongAdder commitCount = new LongAdder();
     private File sourceDirectory;
+    private File indexDirectory;
     private Analyzer analyzer;
     private NIOFSDirectory niofsDirectory;
-    private IndexWriter indexWriter;
+    private volatile IndexWriter indexWriter;
+    private SearcherManager searcherManager;
     private boolean sourceDirectoryIndexed;
+    private int commitBatchSize = 1;
+    private long commitInterval;
+    private volatile long lastCommit;
+    private int users;
 
     public LuceneIndexer(File sourceDirectory, File indexDirectory, Analyzer analyzer) throws Exception {
+        this(sourceDirectory, indexDirectory, analyzer, 1, 0);
+    }
+
+    public LuceneIndexer(File sourceDirectory, File indexDirectory, Analyzer analyzer, int commitBatchSize,
+                         long commitInterval) throws Exception {
+        this.indexDirectory = indexDirectory;
+        this.commitBatchSize = Math.max(1, commitBatchSize);
+        this.commitInterval = commitInterval;
         if (indexDirectory != null) {
             if (!indexDirectory.exists()) {
                 boolean result = indexDirectory.mkdir();
@@ -65,14 +92,62 @@ public class LuceneIndexer {
 
         if (sourceDirectory != null && !sourceDirectoryIndexed) {
             this.setSourceDirectory(sourceDirectory);
-            add(getSourceDirectory());
+            openIndexWriter();
+            try {
+                add(getSourceDirectory());
+            } finally {
+                closeIndexWriter();
+                indexWriter = null;
+            }
             sourceDirectoryIndexed = true;
         }
     }
 
+    /**
+     * Opens the index writer unless it is already opened by another user of this indexer.
+     */
+    public synchronized void open() throws IOException {
+        if (users == 0) {
+            if (niofsDirectory == null) {
+                File dir = indexDirectory != null ? indexDirectory : new File("./indexDirectory");
+                niofsDirectory = new NIOFSDirectory(dir.toPath());
+            }
+            openIndexWriter();
+            lastCommit = System.currentTimeMillis();
+        }
+        users++;
+    }
+
+    /**
+     * Commits the pending documents and closes the index writer once the last user of this indexer has closed it.
+     */
+    public synchronized void close() throws IOException {
+        if (users == 0 || --users > 0) {
+            return;
+        }
+        try {
+            commit();
+            if (searcherManager != null) {
+                searcherManager.close();
+                searcherManager = null;
+            }
+            closeIndexWriter();
+        } finally {
+            indexWriter = null;
+            niofsDirectory.close();
+            niofsDirectory = null;
+        }
+    }
+
+    public synchronized boolean isOpen() {
+        return indexWriter != null;
+    }
+
     public void index(Exchange exchange) throws Exception {
         LOG.debug("Indexing {}", exchange);
-        openIndexWriter();
+        if (indexWriter == null) {
+            throw new IllegalStateException("The index writer is not open for " + indexDirectory);
+        }
         Map<String, Object> headers = exchange.getIn().getHeaders();
         add("exchangeId", exchange.getExchangeId(), true);
         for (Entry<String, Object> entry : headers.entrySet()) {
@@ -82,7 +157,70 @@ public class LuceneIndexer {
         }
 
         add("contents", exchange.getIn().getMandatoryBody(String.class), true);
-        closeIndexWriter();
+        indexedCount.increment();
+
+        if (uncommitted.incrementAndGet() >= commitBatchSize) {
+            commit();
+        }
+    }
+
+    /**
+     * Commits the documents indexed since the last commit, if any.
+     */
+    public synchronized void commit() throws IOException {
+        if (indexWriter != null && uncommitted.getAndSet(0) > 0) {
+            LOG.trace("Committing index {}", indexDirectory);
+            indexWriter.commit();
+            commitCount.increment();
+        }
+        lastCommit = System.currentTimeMillis();
+    }
+
+    /**
+     * Commits the pending documents when the oldest of them has been waiting longer than the commit interval.
+     */
+    public void commitIfExpired() throws IOException {
+        if (commitInterval > 0 && uncommitted.get() > 0 && System.currentTimeMillis() - lastCommit >= commitInterval) {
+            commit();
+        }
+    }
+
+    /**
+     * Gets the near-real-time searcher manager of the open index writer, which sees the indexed documents before they
+     * are committed once it has been refreshed.
+     */
+    public synchronized SearcherManager getSearcherManager() throws IOException {
+        if (indexWriter == null) {
+            throw new IllegalStateException("The index writer is not open for " + indexDirectory);
+        }
+        if (searcherManager == null) {
+            searcherManager = new SearcherManager(indexWriter, null);
+        }
+        return searcherManager;
+    }
+
+    public File getIndexDirectory() {
+        return indexDirectory;
+    }
+
+    public int getCommitBatchSize() {
+        return commitBatchSize;
+    }
+
+    public long getCommitInterval() {
+        return commitInterval;
+    }
+
+    public long getIndexedCount() {
+        return indexedCount.sum();
+    }
+
+    public long getCommitCount() {
+        return commitCount.sum();
+    }
+
+    public int getUncommittedCount() {
+        return uncommitted.get();
     }
 
     public NIOFSDirectory getNiofsDirectory() {
@@ -139,10 +277,8 @@ public class LuceneIndexer {
                     IOHelper.copy(IOHelper.buffered(is), bos);
                     contents = bos.toString();
                 }
-                openIndexWriter();
                 add("path", file.getPath(), false);
                 add("contents", contents, true);
-                closeIndexWriter();
 
                 LOG.trace("Added {} successfully", file);
             }
@@ -17,20 +17,28 @@
 package org.apache.camel.component.lucene;
 
 import java.io.File;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.processor.lucene.support.Hits;
 import org.apache.camel.support.DefaultProducer;
 import org.apache.lucene.analysis.Analyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class LuceneQueryProducer extends DefaultProducer {
+    private static final Logger LOG = LoggerFactory.getLogger(LuceneQueryProducer.class);
     LuceneConfiguration config;
     LuceneSearcher searcher;
     Analyzer analyzer;
     File indexDirectory;
     int maxNumberOfHits;
     int totalHitsThreshold;
+    long searcherRefreshInterval;
+    private LuceneIndexer indexer;
+    private ScheduledExecutorService refreshExecutor;
 
     public LuceneQueryProducer(Endpoint endpoint, LuceneConfiguration config) {
         super(endpoint);
@@ -38,20 +46,70 @@ public class LuceneQueryProducer extends DefaultProducer {
         indexDirectory = config.getIndexDir();
         analyzer = config.getAnalyzer();
         maxNumberOfHits = config.getMaxHits();
+        searcherRefreshInterval = config.getSearcherRefreshInterval();
+    }
+
+    @Override
+    public LuceneEndpoint getEndpoint() {
+        return (LuceneEndpoint) super.getEndpoint();
     }
 
     @Override
     public void doStart() throws Exception {
         searcher = new LuceneSearcher();
+
+        // search the uncommitted documents as well when an endpoint of this component inserts into the same index
+        indexer = ((LuceneComponent) getEndpoint().getComponent()).getIndexer(indexDirectory);
+        if (indexer != null) {
+            indexer.open();
+            searcher.open(indexer.getSearcherManager(), analyzer);
+        }
+
+        if (searcherRefreshInterval > 0) {
+            refreshExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "LuceneSearcherRefresh");
+            refreshExecutor.scheduleWithFixedDelay(this::refreshSearcher, searcherRefreshInterval,
+                    searcherRefreshInterval, TimeUnit.MILLISECONDS);
+        }
         super.doStart();
     }
 
     @Override
     public void doStop() throws Exception {
-        searcher.close();
+        if (refreshExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(refreshExecutor);
+            refreshExecutor = null;
+        }
+        synchronized (this) {
+            searcher.close();
+        }
+        if (indexer != null) {
+            indexer.close();
+            indexer = null;
+        }
         super.doStop();
     }
 
+    private synchronized LuceneSearcher getSearcher() throws Exception {
+        if (!searcher.isOpen()) {
+            // the index may not exist when the producer is started, so the searcher is opened on the first query
+            searcher.open(indexDirectory, analyzer);
+        } else if (searcherRefreshInterval <= 0) {
+            searcher.maybeRefresh();
+        }
+        return searcher;
+    }
+
+    private synchronized void refreshSearcher() {
+        try {
+            if (searcher.isOpen()) {
+                searcher.maybeRefresh();
+            }
+        } catch (Exception e) {
+            LOG.warn("Error refreshing the searcher of index {}. This exception is ignored.", indexDirectory, e);
+        }
+    }
+
     @Override
     public void process(Exchange exchange) throws Exception {
         Hits hits;
@@ -61,8 +119,9 @@ public class LuceneQueryProducer extends DefaultProducer {
         boolean isReturnLuceneDocs = returnLuceneDocs != null && returnLuceneDocs.equalsIgnoreCase("true");
 
         if (phrase != null) {
-            searcher.open(indexDirectory, analyzer);
-            hits = searcher.search(phrase, maxNumberOfHits, totalHitsThreshold, isReturnLuceneDocs);
+            long start = System.currentTimeMillis();
+            hits = getSearcher().search(phrase, maxNumberOfHits, totalHitsThreshold, isReturnLuceneDocs);
+            getEndpoint().onQuery(System.currentTimeMillis() - start);
         } else {
             throw new IllegalArgumentException(
                     "SearchPhrase for LucenePhraseQuerySearcher not set. Set the Header value: QUERY");
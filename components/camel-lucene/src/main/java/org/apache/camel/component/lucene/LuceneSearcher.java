@@ -23,38 +23,77 @@ import org.apache.camel.processor.lucene.support.Hit;
 import org.apache.camel.processor.lucene.support.Hits;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.queryparser.classic.ParseException;
 import org.apache.lucene.queryparser.classic.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.store.NIOFSDirectory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Searches an index using the searchers of a {@link SearcherManager}, so the index readers are reused between the
+ * searches until the manager is refreshed.
+ */
 public class LuceneSearcher {
     private static final Logger LOG = LoggerFactory.getLogger(LuceneSearcher.class);
     private Analyzer analyzer;
-    private IndexSearcher indexSearcher;
-    private IndexReader indexReader;
-    private ScoreDoc[] hits;
+    private SearcherManager searcherManager;
+    private NIOFSDirectory niofsDirectory;
 
     public void open(File indexDirectory, Analyzer analyzer) throws IOException {
         if (indexDirectory != null) {
-            indexReader = DirectoryReader.open(new NIOFSDirectory(indexDirectory.toPath()));
+            niofsDirectory = new NIOFSDirectory(indexDirectory.toPath());
         } else {
-            indexReader = DirectoryReader.open(new NIOFSDirectory(new File("./indexDirectory").toPath()));
+            niofsDirectory = new NIOFSDirectory(new File("./indexDirectory").toPath());
+        }
+        try {
+            searcherManager = new SearcherManager(niofsDirectory, null);
+        } catch (IOException e) {
+            niofsDirectory.close();
+            niofsDirectory = null;
+            throw e;
         }
-        indexSearcher = new IndexSearcher(indexReader);
         this.analyzer = analyzer;
     }
 
+    /**
+     * Opens the searcher using the given searcher manager, such as the near-real-time searcher manager of a
+     * {@link LuceneIndexer}. The searcher manager is not closed when closing this searcher.
+     */
+    public void open(SearcherManager searcherManager, Analyzer analyzer) {
+        this.searcherManager = searcherManager;
+        this.analyzer = analyzer;
+    }
+
+    public boolean isOpen() {
+        return searcherManager != null;
+    }
+
+    /**
+     * Refreshes the searcher manager if the index has changed since it was last refreshed.
+     */
+    public void maybeRefresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
     public void close() throws IOException {
-        indexReader.close();
-        analyzer.close();
+        try {
+            if (niofsDirectory != null) {
+                // the searcher manager is only owned by this searcher when opened from the directory
+                searcherManager.close();
+                niofsDirectory.close();
+            }
+        } finally {
+            searcherManager = null;
+            niofsDirectory = null;
+            if (analyzer != null) {
+                analyzer.close();
+            }
+        }
     }
 
     public Hits search(String searchPhrase, int maxNumberOfHits, int totalHitsThreshold) throws Exception {
@@ -65,25 +104,30 @@ public class LuceneSearcher {
             throws Exception {
         Hits searchHits = new Hits();
 
-        int numberOfHits = doSearch(searchPhrase, maxNumberOfHits, totalHitsThreshold);
-        searchHits.setNumberOfHits(numberOfHits);
+        IndexSearcher indexSearcher = searcherManager.acquire();
+        try {
+            ScoreDoc[] hits = doSearch(indexSearcher, searchPhrase, maxNumberOfHits, totalHitsThreshold);
+            searchHits.setNumberOfHits(hits.length);
 
-        for (ScoreDoc hit : hits) {
-            Document selectedDocument = indexSearcher.doc(hit.doc);
-            Hit aHit = new Hit();
-            if (returnLuceneDocs) {
-                aHit.setDocument(selectedDocument);
+            for (ScoreDoc hit : hits) {
+                Document selectedDocument = indexSearcher.doc(hit.doc);
+                Hit aHit = new Hit();
+                if (returnLuceneDocs) {
+                    aHit.setDocument(selectedDocument);
+                }
+                aHit.setHitLocation(hit.doc);
+                aHit.setScore(hit.score);
+                aHit.setData(selectedDocument.get("contents"));
+                searchHits.getHit().add(aHit);
             }
-            aHit.setHitLocation(hit.doc);
-            aHit.setScore(hit.score);
-            aHit.setData(selectedDocument.get("contents"));
-            searchHits.getHit().add(aHit);
+        } finally {
+            searcherManager.release(indexSearcher);
         }
 
         return searchHits;
     }
 
-    private int doSearch(String searchPhrase, int maxNumberOfHits, int totalHitsThreshold)
+    private ScoreDoc[] doSearch(IndexSearcher indexSearcher, String searchPhrase, int maxNumberOfHits, int totalHitsThreshold)
             throws NullPointerException, ParseException, IOException {
         LOG.trace("*** Search Phrase: {} ***", searchPhrase);
 
@@ -91,9 +135,9 @@ public class LuceneSearcher {
         Query query = parser.parse(searchPhrase);
         TopScoreDocCollector collector = TopScoreDocCollector.create(maxNumberOfHits, totalHitsThreshold);
         indexSearcher.search(query, collector);
-        hits = collector.topDocs().scoreDocs;
+        ScoreDoc[] hits = collector.topDocs().scoreDocs;
 
         LOG.trace("*** Search generated {} hits ***", hits.length);
-        return hits.length;
+        return hits;
     }
 }
@@ -23,10 +23,11 @@ import org.apache.camel.Processor;
 import org.apache.camel.component.lucene.LuceneConstants;
 import org.apache.camel.component.lucene.LuceneSearcher;
 import org.apache.camel.processor.lucene.support.Hits;
+import org.apache.camel.support.service.ServiceSupport;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.search.IndexSearcher;
 
-public class LuceneQueryProcessor implements Processor {
+public class LuceneQueryProcessor extends ServiceSupport implements Processor {
     private File indexDirectory;
     private Analyzer analyzer;
     private IndexSearcher indexSearcher;
@@ -51,9 +52,7 @@ public class LuceneQueryProcessor implements Processor {
         boolean isReturnLuceneDocs = returnLuceneDocs != null && returnLuceneDocs.equalsIgnoreCase("true");
 
         if (phrase != null) {
-            searcher = new LuceneSearcher();
-            searcher.open(indexDirectory, analyzer);
-            hits = searcher.search(phrase, maxNumberOfHits, totalHitsThreshold, isReturnLuceneDocs);
+            hits = getSearcher().search(phrase, maxNumberOfHits, totalHitsThreshold, isReturnLuceneDocs);
         } else {
             throw new IllegalArgumentException("SearchPhrase for LuceneQueryProcessor not set. Set the Header value: QUERY");
         }
@@ -61,6 +60,30 @@ public class LuceneQueryProcessor implements Processor {
         exchange.getIn().setBody(hits);
     }
 
+    private synchronized LuceneSearcher getSearcher() throws Exception {
+        // reuse the searcher between the exchanges, and only reopen the index readers when the index has changed
+        if (searcher == null) {
+            LuceneSearcher answer = new LuceneSearcher();
+            answer.open(indexDirectory, analyzer);
+            searcher = answer;
+        } else {
+            searcher.maybeRefresh();
+        }
+        return searcher;
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        // close the index readers kept open by the searcher
+        if (searcher != null) {
+            try {
+                searcher.close();
+            } finally {
+                searcher = null;
+            }
+        }
+    }
+
     public Analyzer getAnalyzer() {
         return analyzer;
     }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.lucene;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.ResolveEndpointFailedException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.lucene.support.Hits;
+import org.apache.camel.spi.Registry;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LuceneCommitAndSearchTest extends CamelTestSupport {
+
+    private static final String BATCH_URI = "lucene:batch:insert?indexDir=#batchDir&commitBatchSize=3";
+    private static final String INTERVAL_URI
+            = "lucene:interval:insert?indexDir=#intervalDir&commitBatchSize=100&commitInterval=100";
+    private static final String QUERY_URI = "lucene:batch:query?indexDir=#batchDir&maxHits=20";
+
+    @Override
+    protected boolean useJmx() {
+        return true;
+    }
+
+    @Override
+    protected void bindToRegistry(Registry registry) {
+        deleteDirectory("target/lucene/batch");
+        deleteDirectory("target/lucene/interval");
+        registry.bind("batchDir", new File("target/lucene/batch"));
+        registry.bind("intervalDir", new File("target/lucene/interval"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:batch").to(BATCH_URI);
+                from("direct:interval").to(INTERVAL_URI);
+                from("direct:query").setHeader(LuceneConstants.HEADER_QUERY, body()).to(QUERY_URI);
+            }
+        };
+    }
+
+    @Test
+    public void testCommitBatchSize() {
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:batch", "Hello " + i);
+        }
+
+        LuceneEndpoint endpoint = context.getEndpoint(BATCH_URI, LuceneEndpoint.class);
+        assertEquals(5, endpoint.getIndexedCount());
+        assertEquals(1, endpoint.getCommitCount());
+        assertEquals(2, endpoint.getUncommittedCount());
+    }
+
+    @Test
+    public void testCommitInterval() {
+        template.sendBody("direct:interval", "Hello");
+        template.sendBody("direct:interval", "World");
+
+        // the batch is not full, so the documents are committed once the commit interval has elapsed
+        LuceneEndpoint endpoint = context.getEndpoint(INTERVAL_URI, LuceneEndpoint.class);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> endpoint.getCommitCount() == 1);
+        assertEquals(2, endpoint.getIndexedCount());
+        assertEquals(0, endpoint.getUncommittedCount());
+    }
+
+    @Test
+    public void testQuerySeesUncommittedDocuments() {
+        template.sendBody("direct:batch", "Hello Camel");
+        template.sendBody("direct:batch", "Hello Lucene");
+
+        LuceneEndpoint insert = context.getEndpoint(BATCH_URI, LuceneEndpoint.class);
+        assertEquals(0, insert.getCommitCount());
+
+        // the near-real-time searcher of the index writer sees the documents before they are committed
+        Hits hits = template.requestBody("direct:query", "camel", Hits.class);
+        assertEquals(1, hits.getNumberOfHits());
+
+        template.sendBody("direct:batch", "Camel in Action");
+        hits = template.requestBody("direct:query", "camel", Hits.class);
+        assertEquals(2, hits.getNumberOfHits());
+
+        LuceneEndpoint query = context.getEndpoint(QUERY_URI, LuceneEndpoint.class);
+        assertEquals(2, query.getQueryCount());
+    }
+
+    @Test
+    public void testManagedStatistics() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            template.sendBody("direct:batch", "Hello " + i);
+        }
+        template.requestBody("direct:query", "hello", Hits.class);
+
+        MBeanServer mbeanServer = context.getManagementStrategy().getManagementAgent().getMBeanServer();
+        ObjectName insert = context.getManagementStrategy().getManagementObjectNameStrategy()
+                .getObjectNameForEndpoint(context.getEndpoint(BATCH_URI));
+        assertTrue(mbeanServer.isRegistered(insert));
+        assertEquals(4L, mbeanServer.getAttribute(insert, "IndexedCount"));
+        assertEquals(1L, mbeanServer.getAttribute(insert, "CommitCount"));
+        assertEquals(1, mbeanServer.getAttribute(insert, "UncommittedCount"));
+
+        ObjectName query = context.getManagementStrategy().getManagementObjectNameStrategy()
+                .getObjectNameForEndpoint(context.getEndpoint(QUERY_URI));
+        assertTrue(mbeanServer.isRegistered(query));
+        assertEquals(1L, mbeanServer.getAttribute(query, "QueryCount"));
+    }
+
+    @Test
+    public void testSameIndexWithDifferentCommitOptions() {
+        Exception e = assertThrows(ResolveEndpointFailedException.class,
+                () -> context.getEndpoint("lucene:other:insert?indexDir=#batchDir&commitBatchSize=10"));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains("commitBatchSize"), e.getCause().getMessage());
+    }
+}
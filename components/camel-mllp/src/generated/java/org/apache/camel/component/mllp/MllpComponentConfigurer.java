@@ -68,6 +68,10 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "logPhiMaxBytes": target.setLogPhiMaxBytes(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": getOrCreateConfiguration(target).setMaxConcurrentConsumers(property(camelContext, int.class, value)); return true;
+        case "nioserver":
+        case "nioServer": getOrCreateConfiguration(target).setNioServer(property(camelContext, boolean.class, value)); return true;
+        case "nioworkerthreads":
+        case "nioWorkerThreads": getOrCreateConfiguration(target).setNioWorkerThreads(property(camelContext, int.class, value)); return true;
         case "readtimeout":
         case "readTimeout": getOrCreateConfiguration(target).setReadTimeout(property(camelContext, int.class, value)); return true;
         case "receivebuffersize":
@@ -133,6 +137,10 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "logPhiMaxBytes": return java.lang.Integer.class;
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": return int.class;
+        case "nioserver":
+        case "nioServer": return boolean.class;
+        case "nioworkerthreads":
+        case "nioWorkerThreads": return int.class;
         case "readtimeout":
         case "readTimeout": return int.class;
         case "receivebuffersize":
@@ -199,6 +207,10 @@ public class MllpComponentConfigurer extends PropertyConfigurerSupport implement
         case "logPhiMaxBytes": return target.getLogPhiMaxBytes();
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": return getOrCreateConfiguration(target).getMaxConcurrentConsumers();
+        case "nioserver":
+        case "nioServer": return getOrCreateConfiguration(target).isNioServer();
+        case "nioworkerthreads":
+        case "nioWorkerThreads": return getOrCreateConfiguration(target).getNioWorkerThreads();
         case "readtimeout":
         case "readTimeout": return getOrCreateConfiguration(target).getReadTimeout();
         case "receivebuffersize":
@@ -54,6 +54,10 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lenientBind": target.getConfiguration().setLenientBind(property(camelContext, boolean.class, value)); return true;
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": target.getConfiguration().setMaxConcurrentConsumers(property(camelContext, int.class, value)); return true;
+        case "nioserver":
+        case "nioServer": target.getConfiguration().setNioServer(property(camelContext, boolean.class, value)); return true;
+        case "nioworkerthreads":
+        case "nioWorkerThreads": target.getConfiguration().setNioWorkerThreads(property(camelContext, int.class, value)); return true;
         case "readtimeout":
         case "readTimeout": target.getConfiguration().setReadTimeout(property(camelContext, int.class, value)); return true;
         case "receivebuffersize":
@@ -112,6 +116,10 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lenientBind": return boolean.class;
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": return int.class;
+        case "nioserver":
+        case "nioServer": return boolean.class;
+        case "nioworkerthreads":
+        case "nioWorkerThreads": return int.class;
         case "readtimeout":
         case "readTimeout": return int.class;
         case "receivebuffersize":
@@ -171,6 +179,10 @@ public class MllpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lenientBind": return target.getConfiguration().isLenientBind();
         case "maxconcurrentconsumers":
         case "maxConcurrentConsumers": return target.getConfiguration().getMaxConcurrentConsumers();
+        case "nioserver":
+        case "nioServer": return target.getConfiguration().isNioServer();
+        case "nioworkerthreads":
+        case "nioWorkerThreads": return target.getConfiguration().getNioWorkerThreads();
         case "readtimeout":
         case "readTimeout": return target.getConfiguration().getReadTimeout();
         case "receivebuffersize":
@@ -63,6 +63,12 @@ public class MllpConfiguration implements Cloneable {
     @UriParam(label = "advanced,consumer", defaultValue = "5")
     int maxConcurrentConsumers = 5;
 
+    @UriParam(label = "advanced,consumer", defaultValue = "false")
+    boolean nioServer;
+
+    @UriParam(label = "advanced,consumer", defaultValue = "10")
+    int nioWorkerThreads = 10;
+
     @UriParam(label = "advanced,tcp", defaultValue = "null")
     Integer idleTimeout;
 
@@ -140,6 +146,8 @@ public class MllpConfiguration implements Cloneable {
             target.validatePayload = source.validatePayload;
             target.charsetName = source.charsetName;
             target.maxConcurrentConsumers = source.maxConcurrentConsumers;
+            target.nioServer = source.nioServer;
+            target.nioWorkerThreads = source.nioWorkerThreads;
         }
     }
 
@@ -308,6 +316,39 @@ public class MllpConfiguration implements Cloneable {
         this.maxConcurrentConsumers = maxConcurrentConsumers;
     }
 
+    public boolean isNioServer() {
+        return nioServer;
+    }
+
+    /**
+     * TCP Server Only - Use a single NIO Selector to watch the idle client connections instead of a thread per
+     * connection.
+     *
+     * When enabled, a connection only occupies one of the worker threads while a message is being read, processed and
+     * acknowledged, which allows a consumer to serve a large number of mostly idle connections. The maxConcurrentConsumers
+     * option still limits the number of connections that will be accepted, and the idleTimeout is checked by the
+     * selector thread.
+     *
+     * @param nioServer true to use the NIO Selector based server
+     */
+    public void setNioServer(boolean nioServer) {
+        this.nioServer = nioServer;
+    }
+
+    public int getNioWorkerThreads() {
+        return nioWorkerThreads;
+    }
+
+    /**
+     * TCP Server Only - The number of worker threads used to read and process messages when the nioServer option is
+     * enabled.
+     *
+     * @param nioWorkerThreads the number of worker threads shared by all the client connections of the consumer
+     */
+    public void setNioWorkerThreads(int nioWorkerThreads) {
+        this.nioWorkerThreads = nioWorkerThreads;
+    }
+
     public boolean hasIdleTimeout() {
         return idleTimeout != null && idleTimeout > 0;
     }
@@ -540,6 +581,8 @@ public class MllpConfiguration implements Cloneable {
                 connectTimeout,
                 receiveTimeout,
                 maxConcurrentConsumers,
+                nioServer,
+                nioWorkerThreads,
                 idleTimeout,
                 idleTimeoutStrategy,
                 readTimeout,
@@ -581,6 +624,8 @@ public class MllpConfiguration implements Cloneable {
                 && requireEndOfData == rhs.requireEndOfData
                 && stringPayload == rhs.stringPayload
                 && validatePayload == rhs.validatePayload
+                && nioServer == rhs.nioServer
+                && nioWorkerThreads == rhs.nioWorkerThreads
                 && idleTimeoutStrategy == rhs.idleTimeoutStrategy
                 && Objects.equals(backlog, rhs.backlog)
                 && Objects.equals(maxConcurrentConsumers, rhs.maxConcurrentConsumers)
@@ -605,6 +650,8 @@ public class MllpConfiguration implements Cloneable {
                + ", connectTimeout=" + connectTimeout
                + ", receiveTimeout=" + receiveTimeout
                + ", maxConcurrentConsumers=" + maxConcurrentConsumers
+               + ", nioServer=" + nioServer
+               + ", nioWorkerThreads=" + nioWorkerThreads
                + ", idleTimeout=" + idleTimeout
                + ", idleTimeoutStrategy=" + idleTimeoutStrategy
                + ", readTimeout=" + readTimeout
@@ -49,6 +49,7 @@ import org.apache.camel.component.mllp.internal.MllpSocketBuffer;
 import org.apache.camel.component.mllp.internal.TcpServerAcceptThread;
 import org.apache.camel.component.mllp.internal.TcpServerBindThread;
 import org.apache.camel.component.mllp.internal.TcpServerConsumerValidationRunnable;
+import org.apache.camel.component.mllp.internal.TcpServerSelectorThread;
 import org.apache.camel.component.mllp.internal.TcpSocketConsumerRunnable;
 import org.apache.camel.processor.mllp.Hl7AcknowledgementGenerationException;
 import org.apache.camel.support.DefaultConsumer;
@@ -70,6 +71,7 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     TcpServerBindThread bindThread;
     TcpServerAcceptThread acceptThread;
+    volatile TcpServerSelectorThread selectorThread;
 
     Map<TcpSocketConsumerRunnable, Long> consumerRunnables = new ConcurrentHashMap<>();
 
@@ -82,9 +84,15 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         hl7Util = new Hl7Util(component.getLogPhiMaxBytes(), logPhi);
 
         validationExecutor = Executors.newCachedThreadPool();
-        consumerExecutor = new ThreadPoolExecutor(
-                1, getConfiguration().getMaxConcurrentConsumers(), getConfiguration().getAcceptTimeout(), TimeUnit.MILLISECONDS,
-                new SynchronousQueue<>());
+        if (getConfiguration().isNioServer()) {
+            // Idle connections are parked on the selector thread, so the workers are only busy while reading a message
+            consumerExecutor = Executors.newFixedThreadPool(getConfiguration().getNioWorkerThreads());
+        } else {
+            consumerExecutor = new ThreadPoolExecutor(
+                    1, getConfiguration().getMaxConcurrentConsumers(), getConfiguration().getAcceptTimeout(),
+                    TimeUnit.MILLISECONDS,
+                    new SynchronousQueue<>());
+        }
     }
 
     @ManagedAttribute(description = "Last activity time")
@@ -139,6 +147,11 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
             acceptThread = null;
         }
 
+        if (selectorThread != null) {
+            selectorThread.interrupt();
+            selectorThread = null;
+        }
+
         if (bindThread != null) {
             bindThread.interrupt();
             bindThread = null;
@@ -149,6 +162,11 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     @Override
     protected void doStart() throws Exception {
+        if (getConfiguration().isNioServer() && (selectorThread == null || !selectorThread.isAlive())) {
+            selectorThread = new TcpServerSelectorThread(this);
+            selectorThread.start();
+        }
+
         if (bindThread == null || !bindThread.isAlive()) {
             bindThread = new TcpServerBindThread(this);
 
@@ -196,6 +214,12 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
 
     public void validateConsumer(Socket clientSocket) {
         MllpSocketBuffer mllpBuffer = new MllpSocketBuffer(getEndpoint());
+        if (getConfiguration().isNioServer()) {
+            // The selector waits for the initial data, so a probe that never sends anything doesn't occupy a thread
+            startConsumer(clientSocket, mllpBuffer);
+            return;
+        }
+
         TcpServerConsumerValidationRunnable client = new TcpServerConsumerValidationRunnable(this, clientSocket, mllpBuffer);
 
         try {
@@ -213,6 +237,11 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
     }
 
     public void startConsumer(Socket clientSocket, MllpSocketBuffer mllpBuffer) {
+        if (getConfiguration().isNioServer()) {
+            startSelectorConsumer(clientSocket, mllpBuffer);
+            return;
+        }
+
         TcpSocketConsumerRunnable client = new TcpSocketConsumerRunnable(
                 this, clientSocket, mllpBuffer, hl7Util, logPhi);
 
@@ -227,6 +256,47 @@ public class MllpTcpServerConsumer extends DefaultConsumer {
         }
     }
 
+    void startSelectorConsumer(Socket clientSocket, MllpSocketBuffer mllpBuffer) {
+        if (consumerRunnables.size() >= getConfiguration().getMaxConcurrentConsumers()) {
+            log.warn("startConsumer({}) - cannot start consumer - max consumers already active", clientSocket);
+            mllpBuffer.resetSocket(clientSocket);
+            return;
+        }
+
+        TcpSocketConsumerRunnable client = new TcpSocketConsumerRunnable(
+                this, clientSocket, mllpBuffer, hl7Util, logPhi);
+
+        consumerRunnables.put(client, System.currentTimeMillis());
+        log.info("startConsumer({}) - registering consumer with selector", clientSocket);
+        selectorThread.register(client);
+        getEndpoint().updateLastConnectionEstablishedTicks();
+    }
+
+    /**
+     * Read the data available on a connection parked on the selector thread using one of the worker threads, and return
+     * the connection to the selector once the message has been processed.
+     *
+     * @param consumerRunnable the connection with available data
+     */
+    public void dispatchConsumer(TcpSocketConsumerRunnable consumerRunnable) {
+        try {
+            consumerExecutor.submit(() -> {
+                TcpServerSelectorThread selector = selectorThread;
+                if (consumerRunnable.receiveAvailable() && selector != null) {
+                    selector.register(consumerRunnable);
+                } else {
+                    consumerRunnables.remove(consumerRunnable);
+                    consumerRunnable.resetSocket();
+                }
+            });
+        } catch (RejectedExecutionException rejectedExecutionEx) {
+            log.warn("dispatchConsumer({}) - cannot read from connection - consumer is shutting down",
+                    consumerRunnable.getSocket());
+            consumerRunnables.remove(consumerRunnable);
+            consumerRunnable.resetSocket();
+        }
+    }
+
     public void processMessage(byte[] hl7MessageBytes, TcpSocketConsumerRunnable consumerRunnable) {
         long now = System.currentTimeMillis();
 
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.SocketException;
+import java.nio.channels.ServerSocketChannel;
 import java.time.Duration;
 
 import org.apache.camel.Route;
@@ -72,7 +73,9 @@ public class TcpServerBindThread extends Thread {
         try {
             // Note: this socket is going to be closed in the TcpServerAcceptThread instance
             // launched by the consumer
-            ServerSocket serverSocket = new ServerSocket();
+            // The selector needs channels, so use a channel backed ServerSocket when the NIO server is enabled
+            ServerSocket serverSocket = consumer.getConfiguration().isNioServer()
+                    ? ServerSocketChannel.open().socket() : new ServerSocket();
             InetSocketAddress socketAddress = setupSocket(serverSocket);
 
             log.debug("Attempting to bind to {}", socketAddress);
@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp.internal;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.camel.Route;
+import org.apache.camel.component.mllp.MllpTcpServerConsumer;
+import org.apache.camel.spi.UnitOfWork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Thread to watch the idle client connections of a consumer using a single Selector.
+ * <p/>
+ * Connections are parked on the Selector in non-blocking mode while no data is available, so no thread is dedicated to
+ * an idle connection. When data arrives the connection is removed from the Selector, switched back to blocking mode
+ * and handed to the consumer, which reads and acknowledges the message on one of its worker threads before returning
+ * the connection to this thread.
+ */
+public class TcpServerSelectorThread extends Thread {
+    private final Logger log = LoggerFactory.getLogger(this.getClass());
+    private final MllpTcpServerConsumer consumer;
+    private final Selector selector;
+    private final Queue<TcpSocketConsumerRunnable> pendingRegistrations = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running = true;
+
+    public TcpServerSelectorThread(MllpTcpServerConsumer consumer) throws IOException {
+        this.consumer = consumer;
+        this.selector = Selector.open();
+
+        // Get the URI without options
+        String fullEndpointKey = consumer.getEndpoint().getEndpointKey();
+        String endpointKey;
+        if (fullEndpointKey.contains("?")) {
+            endpointKey = fullEndpointKey.substring(0, fullEndpointKey.indexOf('?'));
+        } else {
+            endpointKey = fullEndpointKey;
+        }
+
+        this.setName(String.format("%s - %s", this.getClass().getSimpleName(), endpointKey));
+    }
+
+    /**
+     * Park the connection on the Selector until more data is available.
+     *
+     * @param consumerRunnable the connection to watch
+     */
+    public void register(TcpSocketConsumerRunnable consumerRunnable) {
+        if (running) {
+            pendingRegistrations.add(consumerRunnable);
+            selector.wakeup();
+        } else {
+            consumer.getConsumerRunnables().remove(consumerRunnable);
+            consumerRunnable.resetSocket();
+        }
+    }
+
+    @Override
+    public void run() {
+        MDC.put(UnitOfWork.MDC_CAMEL_CONTEXT_ID, consumer.getEndpoint().getCamelContext().getName());
+
+        Route route = consumer.getRoute();
+        if (route != null) {
+            String routeId = route.getId();
+            if (routeId != null) {
+                MDC.put(UnitOfWork.MDC_ROUTE_ID, route.getId());
+            }
+        }
+
+        log.info("Starting Selector thread for {}", consumer.getEndpoint().getEndpointKey());
+        try {
+            while (running) {
+                // The select timeout is the same interval the blocking consumer uses to check the idle timeout
+                selector.select(consumer.getConfiguration().getReceiveTimeout());
+                registerPendingConnections();
+                dispatchReadableConnections();
+                checkIdleConnections();
+            }
+        } catch (IOException | ClosedSelectorException selectorEx) {
+            if (running) {
+                log.error("Unexpected exception encountered selecting client connections", selectorEx);
+            }
+        } finally {
+            log.info("Selector loop finished - resetting idle client connections");
+            running = false;
+            closeConnections();
+            MDC.remove(UnitOfWork.MDC_ROUTE_ID);
+            MDC.remove(UnitOfWork.MDC_CAMEL_CONTEXT_ID);
+        }
+    }
+
+    @Override
+    public void interrupt() {
+        this.running = false;
+        super.interrupt();
+        selector.wakeup();
+    }
+
+    void registerPendingConnections() {
+        TcpSocketConsumerRunnable consumerRunnable;
+        while ((consumerRunnable = pendingRegistrations.poll()) != null) {
+            SocketChannel channel = consumerRunnable.getSocket().getChannel();
+            try {
+                channel.configureBlocking(false);
+                channel.register(selector, SelectionKey.OP_READ, consumerRunnable);
+            } catch (IOException | RuntimeException registrationEx) {
+                log.debug("Failed to register connection {} with the Selector - resetting",
+                        consumerRunnable.getCombinedAddress(), registrationEx);
+                consumer.getConsumerRunnables().remove(consumerRunnable);
+                consumerRunnable.resetSocket();
+            }
+        }
+    }
+
+    void dispatchReadableConnections() throws IOException {
+        Set<SelectionKey> selectedKeys = selector.selectedKeys();
+        if (selectedKeys.isEmpty()) {
+            return;
+        }
+
+        List<TcpSocketConsumerRunnable> readable = new ArrayList<>(selectedKeys.size());
+        do {
+            for (SelectionKey key : selectedKeys) {
+                key.cancel();
+                readable.add((TcpSocketConsumerRunnable) key.attachment());
+            }
+            selectedKeys.clear();
+            // Flush the cancelled keys so the channels can be switched back to blocking mode
+            selector.selectNow();
+        } while (!selectedKeys.isEmpty());
+
+        for (TcpSocketConsumerRunnable consumerRunnable : readable) {
+            try {
+                consumerRunnable.getSocket().getChannel().configureBlocking(true);
+                consumer.dispatchConsumer(consumerRunnable);
+            } catch (IOException | RuntimeException dispatchEx) {
+                log.debug("Failed to dispatch connection {} - resetting", consumerRunnable.getCombinedAddress(), dispatchEx);
+                consumer.getConsumerRunnables().remove(consumerRunnable);
+                consumerRunnable.resetSocket();
+            }
+        }
+    }
+
+    void checkIdleConnections() {
+        if (!consumer.getConfiguration().hasIdleTimeout()) {
+            return;
+        }
+
+        long currentTicks = System.currentTimeMillis();
+        for (SelectionKey key : selector.keys()) {
+            TcpSocketConsumerRunnable consumerRunnable = (TcpSocketConsumerRunnable) key.attachment();
+            Long lastReceivedMessageTicks = consumer.getConsumerRunnables().get(consumerRunnable);
+            if (key.isValid() && lastReceivedMessageTicks != null) {
+                long idleTime = currentTicks - lastReceivedMessageTicks;
+                if (idleTime >= consumer.getConfiguration().getIdleTimeout()) {
+                    String resetMessage = String.format("Connection idle time %d exceeded idleTimeout %d", idleTime,
+                            consumer.getConfiguration().getIdleTimeout());
+                    key.cancel();
+                    consumer.getConsumerRunnables().remove(consumerRunnable);
+                    consumerRunnable.resetSocket(resetMessage);
+                }
+            }
+        }
+    }
+
+    void closeConnections() {
+        try {
+            for (SelectionKey key : selector.keys()) {
+                TcpSocketConsumerRunnable consumerRunnable = (TcpSocketConsumerRunnable) key.attachment();
+                consumer.getConsumerRunnables().remove(consumerRunnable);
+                consumerRunnable.resetSocket();
+            }
+        } catch (ClosedSelectorException ignoredEx) {
+            log.trace("Selector already closed - ignoring", ignoredEx);
+        }
+
+        TcpSocketConsumerRunnable consumerRunnable;
+        while ((consumerRunnable = pendingRegistrations.poll()) != null) {
+            consumer.getConsumerRunnables().remove(consumerRunnable);
+            consumerRunnable.resetSocket();
+        }
+
+        try {
+            selector.close();
+        } catch (IOException ioEx) {
+            log.debug("Exception encountered closing Selector - ignoring", ioEx);
+        }
+    }
+}
@@ -124,17 +124,7 @@ public class TcpSocketConsumerRunnable implements Runnable {
     @Override
     public void run() {
         running = true;
-        String originalThreadName = Thread.currentThread().getName();
-        Thread.currentThread().setName(createThreadName());
-        MDC.put(UnitOfWork.MDC_CAMEL_CONTEXT_ID, consumer.getEndpoint().getCamelContext().getName());
-
-        Route route = consumer.getRoute();
-        if (route != null) {
-            String routeId = route.getId();
-            if (routeId != null) {
-                MDC.put(UnitOfWork.MDC_ROUTE_ID, route.getId());
-            }
-        }
+        String originalThreadName = enterThread();
 
         log.debug("Starting {} for {}", this.getClass().getSimpleName(), combinedAddress);
         try {
@@ -148,66 +138,7 @@ public class TcpSocketConsumerRunnable implements Runnable {
 
             while (running && null != clientSocket && clientSocket.isConnected() && !clientSocket.isClosed()) {
                 log.debug("Checking for data ....");
-                try {
-                    mllpBuffer.readFrom(clientSocket);
-                    if (mllpBuffer.hasCompleteEnvelope()) {
-                        hl7MessageBytes = mllpBuffer.toMllpPayload();
-                        if (log.isDebugEnabled()) {
-                            log.debug("Received {} byte message {}", hl7MessageBytes.length,
-                                    hl7Util.convertToPrintFriendlyString(hl7MessageBytes));
-                        }
-                        if (mllpBuffer.hasLeadingOutOfBandData()) {
-                            // TODO:  Move the conversion utilities to the MllpSocketBuffer to avoid a byte[] copy
-                            log.warn("Ignoring leading out-of-band data: {}",
-                                    hl7Util.convertToPrintFriendlyString(mllpBuffer.getLeadingOutOfBandData()));
-                        }
-                        if (mllpBuffer.hasTrailingOutOfBandData()) {
-                            log.warn("Ignoring trailing out-of-band data: {}",
-                                    hl7Util.convertToPrintFriendlyString(mllpBuffer.getTrailingOutOfBandData()));
-                        }
-                        mllpBuffer.reset();
-
-                        consumer.processMessage(hl7MessageBytes, this);
-                    } else if (!mllpBuffer.hasStartOfBlock()) {
-                        byte[] payload = mllpBuffer.toByteArray();
-                        log.warn("Ignoring {} byte un-enveloped payload {}", payload.length,
-                                hl7Util.convertToPrintFriendlyString(payload));
-                        mllpBuffer.reset();
-                    } else if (!mllpBuffer.isEmpty()) {
-                        byte[] payload = mllpBuffer.toByteArray();
-                        log.warn("Partial {} byte payload received {}", payload.length,
-                                hl7Util.convertToPrintFriendlyString(payload));
-                    }
-                } catch (SocketTimeoutException timeoutEx) {
-                    if (mllpBuffer.isEmpty()) {
-                        if (consumer.getConfiguration().hasIdleTimeout()) {
-                            long currentTicks = System.currentTimeMillis();
-                            long lastReceivedMessageTicks = consumer.getConsumerRunnables().get(this);
-                            long idleTime = currentTicks - lastReceivedMessageTicks;
-                            if (idleTime >= consumer.getConfiguration().getIdleTimeout()) {
-                                String resetMessage = String.format("Connection idle time %d exceeded idleTimeout %d", idleTime,
-                                        consumer.getConfiguration().getIdleTimeout());
-                                mllpBuffer.resetSocket(clientSocket, resetMessage);
-                            }
-                        }
-                        log.debug("No data received - ignoring timeout");
-                    } else {
-                        mllpBuffer.resetSocket(clientSocket);
-                        new MllpInvalidMessageException(
-                                "Timeout receiving complete message payload", mllpBuffer.toByteArrayAndReset(), timeoutEx,
-                                logPhi);
-                        consumer.handleMessageTimeout("Timeout receiving complete message payload",
-                                mllpBuffer.toByteArrayAndReset(), timeoutEx);
-                    }
-                } catch (MllpSocketException mllpSocketEx) {
-                    mllpBuffer.resetSocket(clientSocket);
-                    if (!mllpBuffer.isEmpty()) {
-                        consumer.handleMessageException("Exception encountered reading payload",
-                                mllpBuffer.toByteArrayAndReset(), mllpSocketEx);
-                    } else {
-                        log.debug("Ignoring exception encountered checking for data", mllpSocketEx);
-                    }
-                }
+                receiveMessage();
             }
         } catch (Exception unexpectedEx) {
             log.error("Unexpected exception encountered receiving messages", unexpectedEx);
@@ -215,14 +146,119 @@ public class TcpSocketConsumerRunnable implements Runnable {
             consumer.getConsumerRunnables().remove(this);
             log.debug("{} for {} completed", this.getClass().getSimpleName(), combinedAddress);
 
-            Thread.currentThread().setName(originalThreadName);
-            MDC.remove(UnitOfWork.MDC_ROUTE_ID);
-            MDC.remove(UnitOfWork.MDC_CAMEL_CONTEXT_ID);
+            exitThread(originalThreadName);
+
+            mllpBuffer.resetSocket(clientSocket);
+        }
+    }
+
+    /**
+     * Receive and process the data available on a connection that was parked on the {@link TcpServerSelectorThread}.
+     * <p/>
+     * The Socket must be in blocking mode when this is called, so the complete envelope can be read using the
+     * configured timeouts.
+     *
+     * @return true if the connection is still valid and should be returned to the selector
+     */
+    public boolean receiveAvailable() {
+        running = true;
+        String originalThreadName = enterThread();
+        try {
+            receiveMessage();
+        } catch (Exception unexpectedEx) {
+            log.error("Unexpected exception encountered receiving messages", unexpectedEx);
+            mllpBuffer.resetSocket(clientSocket);
+        } finally {
+            exitThread(originalThreadName);
+        }
+
+        return running && MllpSocketBuffer.isConnectionValid(clientSocket);
+    }
+
+    void receiveMessage() {
+        try {
+            mllpBuffer.readFrom(clientSocket);
+            if (mllpBuffer.hasCompleteEnvelope()) {
+                byte[] hl7MessageBytes = mllpBuffer.toMllpPayload();
+                if (log.isDebugEnabled()) {
+                    log.debug("Received {} byte message {}", hl7MessageBytes.length,
+                            hl7Util.convertToPrintFriendlyString(hl7MessageBytes));
+                }
+                if (mllpBuffer.hasLeadingOutOfBandData()) {
+                    // TODO:  Move the conversion utilities to the MllpSocketBuffer to avoid a byte[] copy
+                    log.warn("Ignoring leading out-of-band data: {}",
+                            hl7Util.convertToPrintFriendlyString(mllpBuffer.getLeadingOutOfBandData()));
+                }
+                if (mllpBuffer.hasTrailingOutOfBandData()) {
+                    log.warn("Ignoring trailing out-of-band data: {}",
+                            hl7Util.convertToPrintFriendlyString(mllpBuffer.getTrailingOutOfBandData()));
+                }
+                mllpBuffer.reset();
 
+                consumer.processMessage(hl7MessageBytes, this);
+            } else if (!mllpBuffer.hasStartOfBlock()) {
+                byte[] payload = mllpBuffer.toByteArray();
+                log.warn("Ignoring {} byte un-enveloped payload {}", payload.length,
+                        hl7Util.convertToPrintFriendlyString(payload));
+                mllpBuffer.reset();
+            } else if (!mllpBuffer.isEmpty()) {
+                byte[] payload = mllpBuffer.toByteArray();
+                log.warn("Partial {} byte payload received {}", payload.length,
+                        hl7Util.convertToPrintFriendlyString(payload));
+            }
+        } catch (SocketTimeoutException timeoutEx) {
+            if (mllpBuffer.isEmpty()) {
+                if (consumer.getConfiguration().hasIdleTimeout()) {
+                    long currentTicks = System.currentTimeMillis();
+                    long lastReceivedMessageTicks = consumer.getConsumerRunnables().get(this);
+                    long idleTime = currentTicks - lastReceivedMessageTicks;
+                    if (idleTime >= consumer.getConfiguration().getIdleTimeout()) {
+                        String resetMessage = String.format("Connection idle time %d exceeded idleTimeout %d", idleTime,
+                                consumer.getConfiguration().getIdleTimeout());
+                        mllpBuffer.resetSocket(clientSocket, resetMessage);
+                    }
+                }
+                log.debug("No data received - ignoring timeout");
+            } else {
+                mllpBuffer.resetSocket(clientSocket);
+                new MllpInvalidMessageException(
+                        "Timeout receiving complete message payload", mllpBuffer.toByteArrayAndReset(), timeoutEx,
+                        logPhi);
+                consumer.handleMessageTimeout("Timeout receiving complete message payload",
+                        mllpBuffer.toByteArrayAndReset(), timeoutEx);
+            }
+        } catch (MllpSocketException mllpSocketEx) {
             mllpBuffer.resetSocket(clientSocket);
+            if (!mllpBuffer.isEmpty()) {
+                consumer.handleMessageException("Exception encountered reading payload",
+                        mllpBuffer.toByteArrayAndReset(), mllpSocketEx);
+            } else {
+                log.debug("Ignoring exception encountered checking for data", mllpSocketEx);
+            }
         }
     }
 
+    private String enterThread() {
+        String originalThreadName = Thread.currentThread().getName();
+        Thread.currentThread().setName(createThreadName());
+        MDC.put(UnitOfWork.MDC_CAMEL_CONTEXT_ID, consumer.getEndpoint().getCamelContext().getName());
+
+        Route route = consumer.getRoute();
+        if (route != null) {
+            String routeId = route.getId();
+            if (routeId != null) {
+                MDC.put(UnitOfWork.MDC_ROUTE_ID, route.getId());
+            }
+        }
+        return originalThreadName;
+    }
+
+    private void exitThread(String originalThreadName) {
+        Thread.currentThread().setName(originalThreadName);
+        MDC.remove(UnitOfWork.MDC_ROUTE_ID);
+        MDC.remove(UnitOfWork.MDC_CAMEL_CONTEXT_ID);
+    }
+
     public Socket getSocket() {
         return clientSocket;
     }
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.mllp;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.EndpointInject;
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.AvailablePortFinder;
+import org.apache.camel.test.junit.rule.mllp.MllpClientResource;
+import org.apache.camel.test.junit.rule.mllp.MllpJUnitResourceException;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests related to the nioServer configuration
+ */
+public class MllpTcpServerConsumerNioServerTest extends CamelTestSupport {
+    static final int RECEIVE_TIMEOUT = 1000;
+    static final int READ_TIMEOUT = 500;
+
+    static final String TEST_MESSAGE
+            = "MSH|^~\\&|ADT|EPIC|JCAPS|CC|20160902123950|RISTECH|ADT^A08|00001|D|2.3|||||||" + '\r' + '\n';
+
+    @RegisterExtension
+    public MllpClientResource mllpClient = new MllpClientResource();
+
+    @RegisterExtension
+    public MllpClientResource mllpClient2 = new MllpClientResource();
+
+    @RegisterExtension
+    public MllpClientResource mllpClient3 = new MllpClientResource();
+
+    @EndpointInject("mock://result")
+    MockEndpoint result;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Override
+    protected void doPreSetup() throws Exception {
+        int port = AvailablePortFinder.getNextAvailable();
+
+        mllpClient.setMllpHost("localhost");
+        mllpClient.setMllpPort(port);
+
+        mllpClient2.setMllpHost("localhost");
+        mllpClient2.setMllpPort(port);
+
+        mllpClient3.setMllpHost("localhost");
+        mllpClient3.setMllpPort(port);
+
+        super.doPreSetup();
+    }
+
+    /**
+     * Verify more connections than worker threads can be served, and that the connections are kept open between
+     * messages.
+     */
+    @Test
+    public void testMoreConnectionsThanWorkerThreads() throws Exception {
+        result.expectedMessageCount(6);
+
+        addTestRoute(-1);
+
+        mllpClient.connect();
+        mllpClient2.connect();
+        mllpClient3.connect();
+
+        for (int i = 0; i < 2; ++i) {
+            assertTrue(mllpClient.sendMessageAndWaitForAcknowledgement(TEST_MESSAGE, 10000).contains("MSA|AA|"));
+            assertTrue(mllpClient2.sendMessageAndWaitForAcknowledgement(TEST_MESSAGE, 10000).contains("MSA|AA|"));
+            assertTrue(mllpClient3.sendMessageAndWaitForAcknowledgement(TEST_MESSAGE, 10000).contains("MSA|AA|"));
+        }
+
+        assertMockEndpointsSatisfied(10, TimeUnit.SECONDS);
+
+        assertTrue(mllpClient.isConnected());
+        assertTrue(mllpClient2.isConnected());
+        assertTrue(mllpClient3.isConnected());
+    }
+
+    @Test
+    public void testConnectThenCloseWithoutData() throws Exception {
+        result.setExpectedCount(0);
+        result.setAssertPeriod(1000);
+
+        addTestRoute(-1);
+
+        for (int i = 1; i <= 10; ++i) {
+            mllpClient.connect();
+            Thread.sleep(200);
+            mllpClient.close();
+        }
+
+        assertMockEndpointsSatisfied(15, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testIdleConnection() throws Exception {
+        final int idleTimeout = RECEIVE_TIMEOUT * 3;
+
+        result.setExpectedCount(1);
+        result.setAssertPeriod(1000);
+
+        addTestRoute(idleTimeout);
+
+        mllpClient.connect();
+        mllpClient.sendMessageAndWaitForAcknowledgement(TEST_MESSAGE);
+        Thread.sleep(idleTimeout + RECEIVE_TIMEOUT);
+
+        try {
+            mllpClient.checkConnection();
+            fail("The MllpClientResource should have thrown an exception when writing to the reset socket");
+        } catch (MllpJUnitResourceException expectedEx) {
+            assertEquals("checkConnection failed - read() returned END_OF_STREAM", expectedEx.getMessage());
+            assertNull(expectedEx.getCause());
+        }
+
+        assertMockEndpointsSatisfied(15, TimeUnit.SECONDS);
+    }
+
+    void addTestRoute(final int idleTimeout) throws Exception {
+        RouteBuilder builder = new RouteBuilder() {
+            String routeId = "mllp-nio-server";
+
+            public void configure() {
+                fromF("mllp://%s:%d?nioServer=true&nioWorkerThreads=2&maxConcurrentConsumers=10"
+                      + "&receiveTimeout=%d&readTimeout=%d&idleTimeout=%d",
+                        mllpClient.getMllpHost(), mllpClient.getMllpPort(), RECEIVE_TIMEOUT, READ_TIMEOUT, idleTimeout)
+                                .routeId(routeId)
+                                .log(LoggingLevel.INFO, routeId, "Receiving: ${body}")
+                                .to(result);
+            }
+        };
+
+        context.addRoutes(builder);
+        context.start();
+    }
+
+}
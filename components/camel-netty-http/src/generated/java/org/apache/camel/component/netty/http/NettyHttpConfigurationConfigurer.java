@@ -21,6 +21,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         org.apache.camel.component.netty.http.NettyHttpConfiguration target = (org.apache.camel.component.netty.http.NettyHttpConfiguration) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator":
+        case "Allocator": target.setAllocator(property(camelContext, io.netty.buffer.ByteBufAllocator.class, value)); return true;
         case "allowdefaultcodec":
         case "AllowDefaultCodec": target.setAllowDefaultCodec(property(camelContext, boolean.class, value)); return true;
         case "allowserializedheaders":
@@ -37,6 +39,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "BridgeEndpoint": target.setBridgeEndpoint(property(camelContext, boolean.class, value)); return true;
         case "broadcast":
         case "Broadcast": target.setBroadcast(property(camelContext, boolean.class, value)); return true;
+        case "bytebufcodec":
+        case "ByteBufCodec": target.setByteBufCodec(property(camelContext, boolean.class, value)); return true;
         case "channelgroup":
         case "ChannelGroup": target.setChannelGroup(property(camelContext, io.netty.channel.group.ChannelGroup.class, value)); return true;
         case "chunkedmaxcontentlength":
@@ -117,6 +121,12 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "Passphrase": target.setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
         case "path":
         case "Path": target.setPath(property(camelContext, java.lang.String.class, value)); return true;
+        case "pipelining":
+        case "Pipelining": target.setPipelining(property(camelContext, boolean.class, value)); return true;
+        case "pipeliningcorrelationid":
+        case "PipeliningCorrelationId": target.setPipeliningCorrelationId(property(camelContext, java.lang.String.class, value)); return true;
+        case "pipeliningmaxinflight":
+        case "PipeliningMaxInflight": target.setPipeliningMaxInflight(property(camelContext, int.class, value)); return true;
         case "port":
         case "Port": target.setPort(property(camelContext, int.class, value)); return true;
         case "producerpoolenabled":
@@ -208,6 +218,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator":
+        case "Allocator": return io.netty.buffer.ByteBufAllocator.class;
         case "allowdefaultcodec":
         case "AllowDefaultCodec": return boolean.class;
         case "allowserializedheaders":
@@ -224,6 +236,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "BridgeEndpoint": return boolean.class;
         case "broadcast":
         case "Broadcast": return boolean.class;
+        case "bytebufcodec":
+        case "ByteBufCodec": return boolean.class;
         case "channelgroup":
         case "ChannelGroup": return io.netty.channel.group.ChannelGroup.class;
         case "chunkedmaxcontentlength":
@@ -304,6 +318,12 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "Passphrase": return java.lang.String.class;
         case "path":
         case "Path": return java.lang.String.class;
+        case "pipelining":
+        case "Pipelining": return boolean.class;
+        case "pipeliningcorrelationid":
+        case "PipeliningCorrelationId": return java.lang.String.class;
+        case "pipeliningmaxinflight":
+        case "PipeliningMaxInflight": return int.class;
         case "port":
         case "Port": return int.class;
         case "producerpoolenabled":
@@ -396,6 +416,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         org.apache.camel.component.netty.http.NettyHttpConfiguration target = (org.apache.camel.component.netty.http.NettyHttpConfiguration) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator":
+        case "Allocator": return target.getAllocator();
         case "allowdefaultcodec":
         case "AllowDefaultCodec": return target.isAllowDefaultCodec();
         case "allowserializedheaders":
@@ -412,6 +434,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "BridgeEndpoint": return target.isBridgeEndpoint();
         case "broadcast":
         case "Broadcast": return target.isBroadcast();
+        case "bytebufcodec":
+        case "ByteBufCodec": return target.isByteBufCodec();
         case "channelgroup":
         case "ChannelGroup": return target.getChannelGroup();
         case "chunkedmaxcontentlength":
@@ -492,6 +516,12 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "Passphrase": return target.getPassphrase();
         case "path":
         case "Path": return target.getPath();
+        case "pipelining":
+        case "Pipelining": return target.isPipelining();
+        case "pipeliningcorrelationid":
+        case "PipeliningCorrelationId": return target.getPipeliningCorrelationId();
+        case "pipeliningmaxinflight":
+        case "PipeliningMaxInflight": return target.getPipeliningMaxInflight();
         case "port":
         case "Port": return target.getPort();
         case "producerpoolenabled":
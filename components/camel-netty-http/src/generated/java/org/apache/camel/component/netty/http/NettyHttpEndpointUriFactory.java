@@ -21,7 +21,8 @@ public class NettyHttpEndpointUriFactory extends org.apache.camel.support.compon
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(84);
+        Set<String> props = new HashSet<>(85);
+        props.add("allocator");
         props.add("allowSerializedHeaders");
         props.add("backlog");
         props.add("bossCount");
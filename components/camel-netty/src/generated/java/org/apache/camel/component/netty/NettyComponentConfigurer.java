@@ -28,6 +28,7 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         NettyComponent target = (NettyComponent) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator": getOrCreateConfiguration(target).setAllocator(property(camelContext, io.netty.buffer.ByteBufAllocator.class, value)); return true;
         case "allowdefaultcodec":
         case "allowDefaultCodec": getOrCreateConfiguration(target).setAllowDefaultCodec(property(camelContext, boolean.class, value)); return true;
         case "allowserializedheaders":
@@ -44,6 +45,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "broadcast": getOrCreateConfiguration(target).setBroadcast(property(camelContext, boolean.class, value)); return true;
+        case "bytebufcodec":
+        case "byteBufCodec": getOrCreateConfiguration(target).setByteBufCodec(property(camelContext, boolean.class, value)); return true;
         case "channelgroup":
         case "channelGroup": getOrCreateConfiguration(target).setChannelGroup(property(camelContext, io.netty.channel.group.ChannelGroup.class, value)); return true;
         case "clientinitializerfactory":
@@ -82,6 +85,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lazyChannelCreation": getOrCreateConfiguration(target).setLazyChannelCreation(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
+        case "leakdetectionlevel":
+        case "leakDetectionLevel": target.setLeakDetectionLevel(property(camelContext, java.lang.String.class, value)); return true;
         case "maximumpoolsize":
         case "maximumPoolSize": target.setMaximumPoolSize(property(camelContext, int.class, value)); return true;
         case "nativetransport":
@@ -96,6 +101,11 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noReplyLogLevel": getOrCreateConfiguration(target).setNoReplyLogLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
         case "options": getOrCreateConfiguration(target).setOptions(property(camelContext, java.util.Map.class, value)); return true;
         case "passphrase": getOrCreateConfiguration(target).setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
+        case "pipelining": getOrCreateConfiguration(target).setPipelining(property(camelContext, boolean.class, value)); return true;
+        case "pipeliningcorrelationid":
+        case "pipeliningCorrelationId": getOrCreateConfiguration(target).setPipeliningCorrelationId(property(camelContext, java.lang.String.class, value)); return true;
+        case "pipeliningmaxinflight":
+        case "pipeliningMaxInflight": getOrCreateConfiguration(target).setPipeliningMaxInflight(property(camelContext, int.class, value)); return true;
         case "producerpoolenabled":
         case "producerPoolEnabled": getOrCreateConfiguration(target).setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxidle":
@@ -167,6 +177,7 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator": return io.netty.buffer.ByteBufAllocator.class;
         case "allowdefaultcodec":
         case "allowDefaultCodec": return boolean.class;
         case "allowserializedheaders":
@@ -183,6 +194,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
         case "broadcast": return boolean.class;
+        case "bytebufcodec":
+        case "byteBufCodec": return boolean.class;
         case "channelgroup":
         case "channelGroup": return io.netty.channel.group.ChannelGroup.class;
         case "clientinitializerfactory":
@@ -221,6 +234,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lazyChannelCreation": return boolean.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
+        case "leakdetectionlevel":
+        case "leakDetectionLevel": return java.lang.String.class;
         case "maximumpoolsize":
         case "maximumPoolSize": return int.class;
         case "nativetransport":
@@ -235,6 +250,11 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noReplyLogLevel": return org.apache.camel.LoggingLevel.class;
         case "options": return java.util.Map.class;
         case "passphrase": return java.lang.String.class;
+        case "pipelining": return boolean.class;
+        case "pipeliningcorrelationid":
+        case "pipeliningCorrelationId": return java.lang.String.class;
+        case "pipeliningmaxinflight":
+        case "pipeliningMaxInflight": return int.class;
         case "producerpoolenabled":
         case "producerPoolEnabled": return boolean.class;
         case "producerpoolmaxidle":
@@ -307,6 +327,7 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         NettyComponent target = (NettyComponent) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator": return getOrCreateConfiguration(target).getAllocator();
         case "allowdefaultcodec":
         case "allowDefaultCodec": return getOrCreateConfiguration(target).isAllowDefaultCodec();
         case "allowserializedheaders":
@@ -323,6 +344,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "broadcast": return getOrCreateConfiguration(target).isBroadcast();
+        case "bytebufcodec":
+        case "byteBufCodec": return getOrCreateConfiguration(target).isByteBufCodec();
         case "channelgroup":
         case "channelGroup": return getOrCreateConfiguration(target).getChannelGroup();
         case "clientinitializerfactory":
@@ -361,6 +384,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lazyChannelCreation": return getOrCreateConfiguration(target).isLazyChannelCreation();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
+        case "leakdetectionlevel":
+        case "leakDetectionLevel": return target.getLeakDetectionLevel();
         case "maximumpoolsize":
         case "maximumPoolSize": return target.getMaximumPoolSize();
         case "nativetransport":
@@ -375,6 +400,11 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noReplyLogLevel": return getOrCreateConfiguration(target).getNoReplyLogLevel();
         case "options": return getOrCreateConfiguration(target).getOptions();
         case "passphrase": return getOrCreateConfiguration(target).getPassphrase();
+        case "pipelining": return getOrCreateConfiguration(target).isPipelining();
+        case "pipeliningcorrelationid":
+        case "pipeliningCorrelationId": return getOrCreateConfiguration(target).getPipeliningCorrelationId();
+        case "pipeliningmaxinflight":
+        case "pipeliningMaxInflight": return getOrCreateConfiguration(target).getPipeliningMaxInflight();
         case "producerpoolenabled":
         case "producerPoolEnabled": return getOrCreateConfiguration(target).isProducerPoolEnabled();
         case "producerpoolmaxidle":
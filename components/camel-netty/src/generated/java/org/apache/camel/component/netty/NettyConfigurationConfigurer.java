@@ -21,6 +21,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         org.apache.camel.component.netty.NettyConfiguration target = (org.apache.camel.component.netty.NettyConfiguration) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator":
+        case "Allocator": target.setAllocator(property(camelContext, io.netty.buffer.ByteBufAllocator.class, value)); return true;
         case "allowdefaultcodec":
         case "AllowDefaultCodec": target.setAllowDefaultCodec(property(camelContext, boolean.class, value)); return true;
         case "allowserializedheaders":
@@ -35,6 +37,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "BossGroup": target.setBossGroup(property(camelContext, io.netty.channel.EventLoopGroup.class, value)); return true;
         case "broadcast":
         case "Broadcast": target.setBroadcast(property(camelContext, boolean.class, value)); return true;
+        case "bytebufcodec":
+        case "ByteBufCodec": target.setByteBufCodec(property(camelContext, boolean.class, value)); return true;
         case "channelgroup":
         case "ChannelGroup": target.setChannelGroup(property(camelContext, io.netty.channel.group.ChannelGroup.class, value)); return true;
         case "clientinitializerfactory":
@@ -95,6 +99,12 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "Options": target.setOptions(property(camelContext, java.util.Map.class, value)); return true;
         case "passphrase":
         case "Passphrase": target.setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
+        case "pipelining":
+        case "Pipelining": target.setPipelining(property(camelContext, boolean.class, value)); return true;
+        case "pipeliningcorrelationid":
+        case "PipeliningCorrelationId": target.setPipeliningCorrelationId(property(camelContext, java.lang.String.class, value)); return true;
+        case "pipeliningmaxinflight":
+        case "PipeliningMaxInflight": target.setPipeliningMaxInflight(property(camelContext, int.class, value)); return true;
         case "port":
         case "Port": target.setPort(property(camelContext, int.class, value)); return true;
         case "producerpoolenabled":
@@ -174,6 +184,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator":
+        case "Allocator": return io.netty.buffer.ByteBufAllocator.class;
         case "allowdefaultcodec":
         case "AllowDefaultCodec": return boolean.class;
         case "allowserializedheaders":
@@ -188,6 +200,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "BossGroup": return io.netty.channel.EventLoopGroup.class;
         case "broadcast":
         case "Broadcast": return boolean.class;
+        case "bytebufcodec":
+        case "ByteBufCodec": return boolean.class;
         case "channelgroup":
         case "ChannelGroup": return io.netty.channel.group.ChannelGroup.class;
         case "clientinitializerfactory":
@@ -248,6 +262,12 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "Options": return java.util.Map.class;
         case "passphrase":
         case "Passphrase": return java.lang.String.class;
+        case "pipelining":
+        case "Pipelining": return boolean.class;
+        case "pipeliningcorrelationid":
+        case "PipeliningCorrelationId": return java.lang.String.class;
+        case "pipeliningmaxinflight":
+        case "PipeliningMaxInflight": return int.class;
         case "port":
         case "Port": return int.class;
         case "producerpoolenabled":
@@ -328,6 +348,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         org.apache.camel.component.netty.NettyConfiguration target = (org.apache.camel.component.netty.NettyConfiguration) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator":
+        case "Allocator": return target.getAllocator();
         case "allowdefaultcodec":
         case "AllowDefaultCodec": return target.isAllowDefaultCodec();
         case "allowserializedheaders":
@@ -342,6 +364,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "BossGroup": return target.getBossGroup();
         case "broadcast":
         case "Broadcast": return target.isBroadcast();
+        case "bytebufcodec":
+        case "ByteBufCodec": return target.isByteBufCodec();
         case "channelgroup":
         case "ChannelGroup": return target.getChannelGroup();
         case "clientinitializerfactory":
@@ -402,6 +426,12 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "Options": return target.getOptions();
         case "passphrase":
         case "Passphrase": return target.getPassphrase();
+        case "pipelining":
+        case "Pipelining": return target.isPipelining();
+        case "pipeliningcorrelationid":
+        case "PipeliningCorrelationId": return target.getPipeliningCorrelationId();
+        case "pipeliningmaxinflight":
+        case "PipeliningMaxInflight": return target.getPipeliningMaxInflight();
         case "port":
         case "Port": return target.getPort();
         case "producerpoolenabled":
@@ -21,6 +21,7 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         NettyEndpoint target = (NettyEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator": target.getConfiguration().setAllocator(property(camelContext, io.netty.buffer.ByteBufAllocator.class, value)); return true;
         case "allowdefaultcodec":
         case "allowDefaultCodec": target.getConfiguration().setAllowDefaultCodec(property(camelContext, boolean.class, value)); return true;
         case "allowserializedheaders":
@@ -35,6 +36,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "broadcast": target.getConfiguration().setBroadcast(property(camelContext, boolean.class, value)); return true;
+        case "bytebufcodec":
+        case "byteBufCodec": target.getConfiguration().setByteBufCodec(property(camelContext, boolean.class, value)); return true;
         case "channelgroup":
         case "channelGroup": target.getConfiguration().setChannelGroup(property(camelContext, io.netty.channel.group.ChannelGroup.class, value)); return true;
         case "clientinitializerfactory":
@@ -86,6 +89,11 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noReplyLogLevel": target.getConfiguration().setNoReplyLogLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
         case "options": target.getConfiguration().setOptions(property(camelContext, java.util.Map.class, value)); return true;
         case "passphrase": target.getConfiguration().setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
+        case "pipelining": target.getConfiguration().setPipelining(property(camelContext, boolean.class, value)); return true;
+        case "pipeliningcorrelationid":
+        case "pipeliningCorrelationId": target.getConfiguration().setPipeliningCorrelationId(property(camelContext, java.lang.String.class, value)); return true;
+        case "pipeliningmaxinflight":
+        case "pipeliningMaxInflight": target.getConfiguration().setPipeliningMaxInflight(property(camelContext, int.class, value)); return true;
         case "producerpoolenabled":
         case "producerPoolEnabled": target.getConfiguration().setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
         case "producerpoolmaxidle":
@@ -156,6 +164,7 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator": return io.netty.buffer.ByteBufAllocator.class;
         case "allowdefaultcodec":
         case "allowDefaultCodec": return boolean.class;
         case "allowserializedheaders":
@@ -170,6 +179,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return boolean.class;
         case "broadcast": return boolean.class;
+        case "bytebufcodec":
+        case "byteBufCodec": return boolean.class;
         case "channelgroup":
         case "channelGroup": return io.netty.channel.group.ChannelGroup.class;
         case "clientinitializerfactory":
@@ -221,6 +232,11 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noReplyLogLevel": return org.apache.camel.LoggingLevel.class;
         case "options": return java.util.Map.class;
         case "passphrase": return java.lang.String.class;
+        case "pipelining": return boolean.class;
+        case "pipeliningcorrelationid":
+        case "pipeliningCorrelationId": return java.lang.String.class;
+        case "pipeliningmaxinflight":
+        case "pipeliningMaxInflight": return int.class;
         case "producerpoolenabled":
         case "producerPoolEnabled": return boolean.class;
         case "producerpoolmaxidle":
@@ -292,6 +308,7 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         NettyEndpoint target = (NettyEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "allocator": return target.getConfiguration().getAllocator();
         case "allowdefaultcodec":
         case "allowDefaultCodec": return target.getConfiguration().isAllowDefaultCodec();
         case "allowserializedheaders":
@@ -306,6 +323,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "bridgeerrorhandler":
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "broadcast": return target.getConfiguration().isBroadcast();
+        case "bytebufcodec":
+        case "byteBufCodec": return target.getConfiguration().isByteBufCodec();
         case "channelgroup":
         case "channelGroup": return target.getConfiguration().getChannelGroup();
         case "clientinitializerfactory":
@@ -357,6 +376,11 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noReplyLogLevel": return target.getConfiguration().getNoReplyLogLevel();
         case "options": return target.getConfiguration().getOptions();
         case "passphrase": return target.getConfiguration().getPassphrase();
+        case "pipelining": return target.getConfiguration().isPipelining();
+        case "pipeliningcorrelationid":
+        case "pipeliningCorrelationId": return target.getConfiguration().getPipeliningCorrelationId();
+        case "pipeliningmaxinflight":
+        case "pipeliningMaxInflight": return target.getConfiguration().getPipeliningMaxInflight();
         case "producerpoolenabled":
         case "producerPoolEnabled": return target.getConfiguration().isProducerPoolEnabled();
         case "producerpoolmaxidle":
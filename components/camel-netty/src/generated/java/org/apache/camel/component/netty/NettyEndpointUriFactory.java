@@ -21,7 +21,8 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(74);
+        Set<String> props = new HashSet<>(79);
+        props.add("allocator");
         props.add("allowDefaultCodec");
         props.add("allowSerializedHeaders");
         props.add("autoAppendDelimiter");
@@ -30,6 +31,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
         props.add("bossGroup");
         props.add("bridgeErrorHandler");
         props.add("broadcast");
+        props.add("byteBufCodec");
         props.add("channelGroup");
         props.add("clientInitializerFactory");
         props.add("clientMode");
@@ -60,6 +62,9 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
         props.add("noReplyLogLevel");
         props.add("options");
         props.add("passphrase");
+        props.add("pipelining");
+        props.add("pipeliningCorrelationId");
+        props.add("pipeliningMaxInflight");
         props.add("port");
         props.add("producerPoolEnabled");
         props.add("producerPoolMaxIdle");
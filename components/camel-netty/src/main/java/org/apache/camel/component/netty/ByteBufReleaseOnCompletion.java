@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.SynchronizationAdapter;
+
+/**
+ * Releases a {@link ByteBuf} used as message body when the {@link Exchange} is done.
+ * <p/>
+ * Two instances are equal if they release the same buffer, which allows to check whether the exchange already owns the
+ * buffer.
+ */
+final class ByteBufReleaseOnCompletion extends SynchronizationAdapter {
+
+    private final ByteBuf buffer;
+
+    ByteBufReleaseOnCompletion(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public void onDone(Exchange exchange) {
+        // use safe release as the buffer may have been released by the end user already
+        ReferenceCountUtil.safeRelease(buffer);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ByteBufReleaseOnCompletion && ((ByteBufReleaseOnCompletion) o).buffer == buffer;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(buffer);
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufReleaseOnCompletion[" + buffer + "]";
+    }
+}
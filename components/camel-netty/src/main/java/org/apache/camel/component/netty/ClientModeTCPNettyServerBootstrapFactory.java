@@ -131,6 +131,9 @@ public class ClientModeTCPNettyServerBootstrapFactory extends ServiceSupport imp
         clientBootstrap.option(ChannelOption.TCP_NODELAY, configuration.isTcpNoDelay());
         clientBootstrap.option(ChannelOption.SO_REUSEADDR, configuration.isReuseAddress());
         clientBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.getConnectTimeout());
+        if (configuration.getAllocator() != null) {
+            clientBootstrap.option(ChannelOption.ALLOCATOR, configuration.getAllocator());
+        }
 
         LOG.debug("Created ClientBootstrap {}", clientBootstrap);
         clientBootstrap.handler(pipelineFactory);
@@ -82,8 +82,8 @@ public class DefaultClientInitializerFactory extends ClientInitializerFactory {
             addToPipeline("encoder-" + x, channelPipeline, encoder);
         }
 
-        // do we use request timeout?
-        if (producer.getConfiguration().getRequestTimeout() > 0) {
+        // do we use request timeout? (pipelined requests are timed out individually instead of the whole channel)
+        if (producer.getConfiguration().getRequestTimeout() > 0 && !producer.isPipelining()) {
             if (LOG.isTraceEnabled()) {
                 LOG.trace("Using request timeout {} millis", producer.getConfiguration().getRequestTimeout());
             }
@@ -18,9 +18,14 @@ package org.apache.camel.component.netty;
 
 import java.net.URI;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
+import io.netty.util.HashedWheelTimer;
 import io.netty.util.NettyRuntime;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.internal.SystemPropertyUtil;
 import org.apache.camel.CamelContext;
@@ -48,6 +53,9 @@ public class NettyComponent extends DefaultComponent implements SSLContextParame
     private volatile EventExecutorGroup executorService;
     @Metadata(label = "security", defaultValue = "false")
     private boolean useGlobalSslContextParameters;
+    @Metadata(label = "advanced", enums = "DISABLED,SIMPLE,ADVANCED,PARANOID")
+    private String leakDetectionLevel;
+    private Timer requestTimer;
 
     public NettyComponent() {
     }
@@ -76,6 +84,20 @@ public class NettyComponent extends DefaultComponent implements SSLContextParame
         this.maximumPoolSize = maximumPoolSize;
     }
 
+    public String getLeakDetectionLevel() {
+        return leakDetectionLevel;
+    }
+
+    /**
+     * Sets the level of the Netty leak detection of the reference counted buffers, which reports the buffers which have
+     * not been released when they are garbage collected, such as ByteBuf message bodies. This applies to all the
+     * buffers of the JVM, and Netty uses the SIMPLE level by default, or the level set with the
+     * io.netty.leakDetection.level system property.
+     */
+    public void setLeakDetectionLevel(String leakDetectionLevel) {
+        this.leakDetectionLevel = leakDetectionLevel;
+    }
+
     @Override
     protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
         NettyConfiguration config = configuration.copy();
@@ -151,8 +173,26 @@ public class NettyComponent extends DefaultComponent implements SSLContextParame
         return executorService;
     }
 
+    /**
+     * Gets the timer wheel shared by the producers of this component to time out pipelined requests, which is created
+     * on first use.
+     */
+    public synchronized Timer getOrCreateRequestTimer() {
+        if (requestTimer == null) {
+            requestTimer = new HashedWheelTimer(new DefaultThreadFactory("NettyRequestTimer", true));
+        }
+        return requestTimer;
+    }
+
     @Override
     protected void doStart() throws Exception {
+        if (leakDetectionLevel != null) {
+            ResourceLeakDetector.Level level
+                    = ResourceLeakDetector.Level.valueOf(leakDetectionLevel.toUpperCase(Locale.ENGLISH));
+            LOG.info("Using Netty leak detection level: {}", level);
+            ResourceLeakDetector.setLevel(level);
+        }
+
         //Only setup the executorService if it is needed
         if (configuration.isUsingExecutorService() && executorService == null) {
             int netty = SystemPropertyUtil.getInt("io.netty.eventLoopThreads", NettyRuntime.availableProcessors() * 2);
@@ -175,6 +215,13 @@ public class NettyComponent extends DefaultComponent implements SSLContextParame
             executorService = null;
         }
 
+        synchronized (this) {
+            if (requestTimer != null) {
+                requestTimer.stop();
+                requestTimer = null;
+            }
+        }
+
         //shutdown workerPool if configured
         if (configuration.getWorkerGroup() != null) {
             configuration.getWorkerGroup().shutdownGracefully();
@@ -113,10 +113,18 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     private boolean useByteBuf;
     @UriParam(label = "advanced")
     private boolean udpByteArrayCodec;
+    @UriParam(label = "advanced")
+    private boolean byteBufCodec;
     @UriParam(label = "common")
     private boolean reuseChannel;
     @UriParam(label = "producer,advanced")
     private NettyCamelStateCorrelationManager correlationManager;
+    @UriParam(label = "producer,advanced")
+    private boolean pipelining;
+    @UriParam(label = "producer,advanced")
+    private String pipeliningCorrelationId;
+    @UriParam(label = "producer,advanced", defaultValue = "100")
+    private int pipeliningMaxInflight = 100;
 
     /**
      * Returns a copy of this configuration
@@ -254,12 +262,17 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
                             = delimiter == TextLineDelimiter.LINE ? Delimiters.lineDelimiter() : Delimiters.nulDelimiter();
                     decodersList.add(
                             ChannelHandlerFactories.newDelimiterBasedFrameDecoder(decoderMaxLineLength, delimiters, protocol));
-                    decodersList.add(ChannelHandlerFactories.newStringDecoder(charset, protocol));
+                    if (!isByteBufCodec()) {
+                        decodersList.add(ChannelHandlerFactories.newStringDecoder(charset, protocol));
+                    }
 
                     LOG.debug(
                             "Using textline encoders and decoders with charset: {}, delimiter: {} and decoderMaxLineLength: {}",
                             charset, delimiter, decoderMaxLineLength);
 
+                } else if (isByteBufCodec()) {
+                    // the bodies are ByteBuf which are written as is
+                    LOG.debug("Using ByteBuf bodies without encoders and decoders");
                 } else if ("udp".equalsIgnoreCase(protocol) && isUdpByteArrayCodec()) {
                     encodersList.add(ChannelHandlerFactories.newByteArrayEncoder(protocol));
                     decodersList.add(ChannelHandlerFactories.newByteArrayDecoder(protocol));
@@ -726,6 +739,21 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.udpByteArrayCodec = udpByteArrayCodec;
     }
 
+    public boolean isByteBufCodec() {
+        return byteBufCodec;
+    }
+
+    /**
+     * If enabled the default codecs do not decode the received messages into String, and the message body is the
+     * received reference counted {@link ByteBuf} itself, which is released when the exchange is done. The body is
+     * turned into a {@link ByteBuf} before sending it out, and a body which is already a {@link ByteBuf} is written
+     * without copying it. When using textline the received frames are {@link ByteBuf} bodies, while the messages sent
+     * out are still String.
+     */
+    public void setByteBufCodec(boolean byteBufCodec) {
+        this.byteBufCodec = byteBufCodec;
+    }
+
     public boolean isReuseChannel() {
         return reuseChannel;
     }
@@ -764,6 +792,50 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.correlationManager = correlationManager;
     }
 
+    public boolean isPipelining() {
+        return pipelining;
+    }
+
+    /**
+     * Whether the producer should pipeline request/reply messages, which means that requests are written on a channel
+     * without waiting for the replies of the previous requests sent on the same channel. This allows a few connections
+     * to carry many concurrent requests. The replies are correlated to their requests by the
+     * <tt>pipeliningCorrelationId</tt> option, or in the order the requests were sent if this option is not set. The
+     * <tt>requestTimeout</tt> is applied to each request individually.
+     * <p/>
+     * Pipelining is only in use with the TCP protocol and <tt>sync</tt> enabled, and cannot be used together with the
+     * <tt>reuseChannel</tt> or <tt>correlationManager</tt> options.
+     */
+    public void setPipelining(boolean pipelining) {
+        this.pipelining = pipelining;
+    }
+
+    public String getPipeliningCorrelationId() {
+        return pipeliningCorrelationId;
+    }
+
+    /**
+     * A simple language expression which extracts the correlation id from the request message, and from the reply
+     * message which is available as the message body, when using pipelining. This allows the remote server to send the
+     * replies in any order. If not set, the replies must be sent in the same order as the requests.
+     */
+    public void setPipeliningCorrelationId(String pipeliningCorrelationId) {
+        this.pipeliningCorrelationId = pipeliningCorrelationId;
+    }
+
+    public int getPipeliningMaxInflight() {
+        return pipeliningMaxInflight;
+    }
+
+    /**
+     * The maximum number of requests waiting for a reply on a channel when using pipelining. When the limit is reached
+     * the channel is not used for new requests until a reply has been received, and the producer pool will use
+     * another channel instead.
+     */
+    public void setPipeliningMaxInflight(int pipeliningMaxInflight) {
+        this.pipeliningMaxInflight = pipeliningMaxInflight;
+    }
+
     public boolean isHostnameVerification() {
         return hostnameVerification;
     }
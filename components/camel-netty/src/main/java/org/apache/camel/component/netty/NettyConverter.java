@@ -34,6 +34,7 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufInputStream;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.support.ExchangeHelper;
 
 /**
  * A set of converter methods for working with Netty types
@@ -47,7 +48,10 @@ public final class NettyConverter {
 
     @Converter
     public static byte[] toByteArray(ByteBuf buffer, Exchange exchange) {
-        if (buffer.hasArray()) {
+        // only use the backing array if it holds exactly the readable bytes,
+        // as it can be shared with other buffers such as with pooled or sliced buffers
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.readerIndex() == 0
+                && buffer.readableBytes() == buffer.array().length) {
             return buffer.array();
         }
         byte[] bytes = new byte[buffer.readableBytes()];
@@ -63,17 +67,18 @@ public final class NettyConverter {
 
     @Converter
     public static String toString(ByteBuf buffer, Exchange exchange) {
-        byte[] bytes = toByteArray(buffer, exchange);
-        // use type converter as it can handle encoding set on the Exchange
+        // decode the readable bytes directly, using the charset set on the Exchange
         if (exchange != null) {
-            return exchange.getContext().getTypeConverter().convertTo(String.class, exchange, bytes);
+            return buffer.toString(ExchangeHelper.getCharset(exchange));
         }
-        return new String(bytes, StandardCharsets.UTF_8);
+        return buffer.toString(StandardCharsets.UTF_8);
     }
 
     @Converter
     public static InputStream toInputStream(ByteBuf buffer, Exchange exchange) {
-        return new ByteBufInputStream(buffer);
+        // read from a duplicate which shares the content but not the reader index,
+        // so the buffer can be read again such as when the body is converted several times
+        return new ByteBufInputStream(buffer.duplicate());
     }
 
     @Converter
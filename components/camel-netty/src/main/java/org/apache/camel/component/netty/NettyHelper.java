@@ -20,6 +20,7 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.concurrent.ThreadFactory;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -28,6 +29,8 @@ import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Message;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.slf4j.Logger;
@@ -113,6 +116,37 @@ public final class NettyHelper {
         }
     }
 
+    /**
+     * Retains the body of the given message if it is a {@link ByteBuf}, and releases it when the exchange is done.
+     * <p/>
+     * This is used for the received messages, as Netty releases them once they have been read, which otherwise does
+     * not allow to use the body while the exchange is routed, such as asynchronously.
+     *
+     * @param exchange the exchange
+     * @param message  the message with the received body
+     */
+    public static void retainByteBufBody(Exchange exchange, Message message) {
+        Object body = message.getBody();
+        if (body instanceof ByteBuf) {
+            releaseOnCompletion(exchange, ((ByteBuf) body).retain());
+        }
+    }
+
+    /**
+     * Releases the given {@link ByteBuf} when the exchange is done, which takes over the reference held by the caller.
+     * Does nothing if the exchange already releases this buffer when done.
+     *
+     * @param exchange the exchange
+     * @param buffer   the buffer to release
+     */
+    public static void releaseOnCompletion(Exchange exchange, ByteBuf buffer) {
+        ByteBufReleaseOnCompletion onCompletion = new ByteBufReleaseOnCompletion(buffer);
+        ExtendedExchange ee = exchange.adapt(ExtendedExchange.class);
+        if (!ee.containsOnCompletion(onCompletion)) {
+            ee.addOnCompletion(onCompletion);
+        }
+    }
+
     /**
      * Closes the given channel asynchronously
      *
@@ -21,6 +21,7 @@ import java.net.InetSocketAddress;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.AddressedEnvelope;
 import org.apache.camel.Exchange;
+import org.apache.camel.Message;
 import org.apache.camel.support.DefaultExchangeHolder;
 
 /**
@@ -41,13 +42,7 @@ public final class NettyPayloadHelper {
             // we should transfer the entire exchange over the wire (includes in/out)
             return DefaultExchangeHolder.marshal(exchange, true, endpoint.getConfiguration().isAllowSerializedHeaders());
         } else {
-            if (endpoint.getConfiguration().isUseByteBuf()) {
-                // Just leverage the type converter
-                return exchange.getIn().getBody(ByteBuf.class);
-            } else {
-                // normal transfer using the body only
-                return exchange.getIn().getBody();
-            }
+            return getBody(endpoint, exchange.getIn(), endpoint.getConfiguration().isUseByteBuf());
         }
     }
 
@@ -55,9 +50,26 @@ public final class NettyPayloadHelper {
         if (endpoint.getConfiguration().isTransferExchange()) {
             // we should transfer the entire exchange over the wire (includes in/out)
             return DefaultExchangeHolder.marshal(exchange);
+        } else {
+            return getBody(endpoint, exchange.getOut(), false);
+        }
+    }
+
+    private static Object getBody(NettyEndpoint endpoint, Message message, boolean useByteBuf) {
+        NettyConfiguration configuration = endpoint.getConfiguration();
+        Object body = message.getBody();
+        if (body instanceof ByteBuf && !configuration.isTextline()) {
+            // netty releases the written message, so the exchange takes over the body which is released
+            // when the exchange is done, and a retained duplicate is written instead
+            ByteBuf buffer = (ByteBuf) body;
+            NettyHelper.releaseOnCompletion(message.getExchange(), buffer);
+            return buffer.retainedDuplicate();
+        } else if (useByteBuf || configuration.isByteBufCodec() && !configuration.isTextline()) {
+            // Just leverage the type converter
+            return message.getBody(ByteBuf.class);
         } else {
             // normal transfer using the body only
-            return exchange.getOut().getBody();
+            return body;
         }
     }
 
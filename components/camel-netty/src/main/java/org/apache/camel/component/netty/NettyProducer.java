@@ -47,7 +47,10 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.Expression;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ExchangeHelper;
@@ -64,6 +67,7 @@ import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+@ManagedResource(description = "Netty Producer")
 public class NettyProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(NettyProducer.class);
@@ -79,6 +83,7 @@ public class NettyProducer extends DefaultAsyncProducer {
     private EventLoopGroup workerGroup;
     private volatile ObjectPool<ChannelFuture> pool;
     private NettyCamelStateCorrelationManager correlationManager;
+    private PipeliningCorrelationManager pipeliningManager;
 
     public NettyProducer(NettyEndpoint nettyEndpoint, NettyConfiguration configuration) {
         super(nettyEndpoint);
@@ -104,8 +109,60 @@ public class NettyProducer extends DefaultAsyncProducer {
         return configuration.getProtocol().equalsIgnoreCase("tcp");
     }
 
+    protected boolean isPipelining() {
+        return configuration.isPipelining() && configuration.isSync() && isTcp();
+    }
+
+    @ManagedAttribute(description = "Whether requests are pipelined on the channels")
+    public boolean isPipeliningEnabled() {
+        return pipeliningManager != null;
+    }
+
+    @ManagedAttribute(description = "Number of pipelined requests waiting for a reply")
+    public int getPipeliningInflight() {
+        return pipeliningManager != null ? pipeliningManager.getInflightRequests() : 0;
+    }
+
+    @ManagedAttribute(description = "Highest number of pipelined requests waiting for a reply on a single channel")
+    public int getPipeliningMaxDepth() {
+        return pipeliningManager != null ? pipeliningManager.getMaxPipeliningDepth() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of replies received for pipelined requests")
+    public long getPipeliningReplyCount() {
+        return pipeliningManager != null ? pipeliningManager.getReplyCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of pipelined requests which timed out waiting for a reply")
+    public long getPipeliningTimedOutCount() {
+        return pipeliningManager != null ? pipeliningManager.getTimedOutCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Mean time in millis pipelined requests waited for their reply")
+    public long getPipeliningMeanReplyWaitTime() {
+        return pipeliningManager != null ? pipeliningManager.getMeanReplyWaitTime() : 0;
+    }
+
+    @ManagedAttribute(description = "Longest time in millis a pipelined request waited for its reply")
+    public long getPipeliningMaxReplyWaitTime() {
+        return pipeliningManager != null ? pipeliningManager.getMaxReplyWaitTime() : 0;
+    }
+
     @Override
     protected void doStart() throws Exception {
+        if (isPipelining()) {
+            if (configuration.isReuseChannel()) {
+                throw new IllegalArgumentException("The pipelining and reuseChannel options cannot be used together");
+            }
+            if (configuration.getCorrelationManager() != null) {
+                throw new IllegalArgumentException("The pipelining and correlationManager options cannot be used together");
+            }
+            if (configuration.isDisconnect()) {
+                // closing the channel after a reply would fail the other requests in flight on the channel
+                throw new IllegalArgumentException("The pipelining and disconnect options cannot be used together");
+            }
+        }
+
         if (configuration.isProducerPoolEnabled()) {
             // setup pool where we want an unbounded pool, which allows the pool to shrink on no demand
             GenericObjectPoolConfig config = new GenericObjectPoolConfig();
@@ -166,6 +223,17 @@ public class NettyProducer extends DefaultAsyncProducer {
 
         if (configuration.getCorrelationManager() != null) {
             correlationManager = configuration.getCorrelationManager();
+        } else if (isPipelining()) {
+            Expression correlationId = null;
+            if (configuration.getPipeliningCorrelationId() != null) {
+                correlationId = getContext().resolveLanguage("simple")
+                        .createExpression(configuration.getPipeliningCorrelationId());
+                correlationId.init(getContext());
+            }
+            pipeliningManager = new PipeliningCorrelationManager(
+                    this, correlationId, configuration.getPipeliningMaxInflight(),
+                    getEndpoint().getComponent().getOrCreateRequestTimer());
+            correlationManager = pipeliningManager;
         } else {
             correlationManager = new DefaultNettyCamelStateCorrelationManager();
         }
@@ -323,7 +391,8 @@ public class NettyProducer extends DefaultAsyncProducer {
         final NettyCamelStateCorrelationManager channelCorrelationManager
                 = Optional.ofNullable(channel.attr(CORRELATION_MANAGER_ATTR).get()).orElse(correlationManager);
 
-        if (exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
+        // pipelined requests are timed out individually by the correlation manager
+        if (pipeliningManager == null && exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
             long timeoutInMs = exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, Long.class);
             ChannelHandler oldHandler = channel.pipeline().get("timeout");
             ReadTimeoutHandler newHandler = new ReadTimeoutHandler(timeoutInMs, TimeUnit.MILLISECONDS);
@@ -337,9 +406,10 @@ public class NettyProducer extends DefaultAsyncProducer {
         //This will refer to original callback since netty will release body by itself
         final AsyncCallback producerCallback;
 
-        if (configuration.isReuseChannel()) {
+        if (configuration.isReuseChannel() || pipeliningManager != null) {
             // use callback as-is because we should not put it back in the pool as NettyProducerCallback would do
             // as when reuse channel is enabled it will put the channel back in the pool when exchange is done using on completion
+            // and when pipelining it is put back as soon as the request is written
             producerCallback = callback.getOriginalCallback();
         } else {
             producerCallback = new NettyProducerCallback(channelFuture, callback.getOriginalCallback());
@@ -347,7 +417,16 @@ public class NettyProducer extends DefaultAsyncProducer {
 
         // setup state as attachment on the channel, so we can access the state later when needed
         final NettyCamelState state = new NettyCamelState(producerCallback, exchange);
-        channelCorrelationManager.putState(channel, state);
+        if (pipeliningManager != null) {
+            try {
+                channelCorrelationManager.putState(channel, state);
+            } catch (RuntimeException e) {
+                releaseChannel(channelFuture);
+                throw e;
+            }
+        } else {
+            channelCorrelationManager.putState(channel, state);
+        }
         // here we need to setup the remote address information here
         InetSocketAddress remoteAddress = null;
         if (!isTcp()) {
@@ -359,6 +438,10 @@ public class NettyProducer extends DefaultAsyncProducer {
             public void operationComplete(ChannelFuture channelFuture) throws Exception {
                 LOG.trace("Operation complete {}", channelFuture);
                 if (!channelFuture.isSuccess()) {
+                    if (pipeliningManager != null && !pipeliningManager.cancelState(channel, state)) {
+                        // the request has already been failed, such as when the channel has been closed
+                        return;
+                    }
                     Throwable cause = null;
                     // no success then exit, (any exception has been handled by ClientChannelHandler#exceptionCaught)
                     try {
@@ -410,6 +493,10 @@ public class NettyProducer extends DefaultAsyncProducer {
             }
         });
 
+        if (pipeliningManager != null) {
+            // the channel can be used by other requests while this one is waiting for its reply
+            pipeliningManager.releaseOrHold(channelFuture);
+        }
     }
 
     /**
@@ -459,6 +546,9 @@ public class NettyProducer extends DefaultAsyncProducer {
             clientBootstrap.option(ChannelOption.TCP_NODELAY, configuration.isTcpNoDelay());
             clientBootstrap.option(ChannelOption.SO_REUSEADDR, configuration.isReuseAddress());
             clientBootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.getConnectTimeout());
+            if (configuration.getAllocator() != null) {
+                clientBootstrap.option(ChannelOption.ALLOCATOR, configuration.getAllocator());
+            }
 
             //TODO need to check it later;
             // set any additional netty options
@@ -490,6 +580,9 @@ public class NettyProducer extends DefaultAsyncProducer {
             connectionlessClientBootstrap.option(ChannelOption.SO_BROADCAST, configuration.isBroadcast());
             connectionlessClientBootstrap.option(ChannelOption.SO_SNDBUF, configuration.getSendBufferSize());
             connectionlessClientBootstrap.option(ChannelOption.SO_RCVBUF, configuration.getReceiveBufferSize());
+            if (configuration.getAllocator() != null) {
+                connectionlessClientBootstrap.option(ChannelOption.ALLOCATOR, configuration.getAllocator());
+            }
 
             //TODO need to check it later
             // set any additional netty options
@@ -612,7 +705,8 @@ public class NettyProducer extends DefaultAsyncProducer {
             LOG.trace("activateObject channel request: {}", channelFuture);
 
             PooledObjectState state = p.getState();
-            if (channelFuture.isSuccess() && producer.getConfiguration().getRequestTimeout() > 0) {
+            if (channelFuture.isSuccess() && producer.getConfiguration().getRequestTimeout() > 0
+                    && !producer.isPipelining()) {
                 LOG.trace("Reset the request timeout as we activate the channel");
                 Channel channel = channelFuture.channel();
 
@@ -19,6 +19,7 @@ package org.apache.camel.component.netty;
 import java.io.File;
 import java.util.Map;
 
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.handler.ssl.SslHandler;
@@ -49,6 +50,8 @@ public class NettyServerBootstrapConfiguration implements Cloneable {
     protected int receiveBufferSize = 65536;
     @UriParam(label = "advanced")
     protected int receiveBufferSizePredictor;
+    @UriParam(label = "advanced")
+    protected ByteBufAllocator allocator;
     @UriParam(label = "consumer,advanced", defaultValue = "1")
     protected int bossCount = 1;
     @UriParam(label = "advanced")
@@ -199,6 +202,19 @@ public class NettyServerBootstrapConfiguration implements Cloneable {
         this.receiveBufferSizePredictor = receiveBufferSizePredictor;
     }
 
+    public ByteBufAllocator getAllocator() {
+        return allocator;
+    }
+
+    /**
+     * To use a custom {@link ByteBufAllocator} to allocate the buffers of the channels, such as a
+     * {@link io.netty.buffer.PooledByteBufAllocator} with a tuned arena configuration. Netty uses its default allocator
+     * if not set, which is pooled unless configured otherwise with the io.netty.allocator.type system property.
+     */
+    public void setAllocator(ByteBufAllocator allocator) {
+        this.allocator = allocator;
+    }
+
     public int getWorkerCount() {
         return workerCount;
     }
@@ -585,6 +601,8 @@ public class NettyServerBootstrapConfiguration implements Cloneable {
             isCompatible = false;
         } else if (receiveBufferSizePredictor != other.receiveBufferSizePredictor) {
             isCompatible = false;
+        } else if (allocator != other.allocator) {
+            isCompatible = false;
         } else if (workerCount != other.workerCount) {
             isCompatible = false;
         } else if (bossCount != other.bossCount) {
@@ -660,6 +678,7 @@ public class NettyServerBootstrapConfiguration implements Cloneable {
                + ", sendBufferSize=" + sendBufferSize
                + ", receiveBufferSize=" + receiveBufferSize
                + ", receiveBufferSizePredictor=" + receiveBufferSizePredictor
+               + ", allocator=" + allocator
                + ", workerCount=" + workerCount
                + ", bossCount=" + bossCount
                + ", keepAlive=" + keepAlive
@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.AttributeKey;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import org.apache.camel.CamelExchangeException;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.Expression;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link NettyCamelStateCorrelationManager} used by the {@link NettyProducer} when pipelining is enabled, which
+ * keeps track of the requests waiting for a reply on each channel.
+ * <p/>
+ * The replies are correlated to their requests by the correlation id expression when configured, or else in the order
+ * the requests were sent. Each request is timed out individually using the timer wheel shared by the producers of the
+ * component. When the number of requests waiting for a reply on a channel reaches the in-flight window, the channel is
+ * held back from the producer pool until a reply has been received.
+ */
+public class PipeliningCorrelationManager implements NettyCamelStateCorrelationManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PipeliningCorrelationManager.class);
+
+    private static final AttributeKey<Pipeline> PIPELINE_ATTR = AttributeKey.valueOf("NettyPipeline");
+
+    private final NettyProducer producer;
+    private final Expression correlationId;
+    private final int maxInflight;
+    private final Timer timer;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final LongAdder replies = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder totalWaitTime = new LongAdder();
+    private final AtomicLong maxWaitTime = new AtomicLong();
+
+    public PipeliningCorrelationManager(NettyProducer producer, Expression correlationId, int maxInflight, Timer timer) {
+        this.producer = producer;
+        this.correlationId = correlationId;
+        this.maxInflight = maxInflight;
+        this.timer = timer;
+    }
+
+    @Override
+    public void putState(Channel channel, NettyCamelState state) {
+        Exchange exchange = state.getExchange();
+        PendingRequest request = new PendingRequest(state);
+
+        Pipeline pipeline = channel.attr(PIPELINE_ATTR).get();
+        if (pipeline == null) {
+            Pipeline created = new Pipeline();
+            pipeline = channel.attr(PIPELINE_ATTR).setIfAbsent(created);
+            if (pipeline == null) {
+                pipeline = created;
+            }
+        }
+
+        if (correlationId != null) {
+            request.id = correlationId.evaluate(exchange, String.class);
+            if (ObjectHelper.isEmpty(request.id)) {
+                throw new RuntimeExchangeException("The request has no correlation id", exchange);
+            }
+        }
+
+        int depth;
+        synchronized (pipeline) {
+            if (pipeline.closed) {
+                throw new RuntimeExchangeException("The channel " + channel + " is closed", exchange);
+            }
+            if (correlationId != null) {
+                if (pipeline.requestsById.putIfAbsent(request.id, request) != null) {
+                    throw new RuntimeExchangeException(
+                            "A request with correlation id " + request.id + " is already waiting for its reply", exchange);
+                }
+            } else {
+                pipeline.requests.add(request);
+            }
+            depth = ++pipeline.inflight;
+        }
+        inflight.incrementAndGet();
+        maxDepth.accumulateAndGet(depth, Math::max);
+
+        long timeout = producer.getConfiguration().getRequestTimeout();
+        Long header = exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, Long.class);
+        if (header != null) {
+            timeout = header;
+        }
+        if (timeout > 0) {
+            final Pipeline requestPipeline = pipeline;
+            final long requestTimeout = timeout;
+            request.timeout = timer.newTimeout(t -> onTimeout(channel, requestPipeline, request, requestTimeout),
+                    timeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Object msg) {
+        Pipeline pipeline = channel.attr(PIPELINE_ATTR).get();
+        if (pipeline == null) {
+            return null;
+        }
+
+        PendingRequest request;
+        if (correlationId != null) {
+            Exchange reply = new DefaultExchange(producer.getContext());
+            reply.getIn().setBody(msg);
+            String id = correlationId.evaluate(reply, String.class);
+            request = id != null ? pipeline.requestsById.remove(id) : null;
+            if (request == null) {
+                LOG.warn("Received a reply with correlation id {} on channel {} with no request waiting for it."
+                         + " The reply is ignored.",
+                        id, channel);
+                return null;
+            }
+        } else {
+            request = pipeline.requests.poll();
+        }
+
+        if (request == null || !request.complete()) {
+            // the request has already timed out
+            return null;
+        }
+
+        long waited = System.nanoTime() - request.started;
+        replies.increment();
+        totalWaitTime.add(waited);
+        maxWaitTime.accumulateAndGet(waited, Math::max);
+        done(pipeline, request);
+        return request.state;
+    }
+
+    @Override
+    public NettyCamelState getState(ChannelHandlerContext ctx, Channel channel, Throwable cause) {
+        if (cause == null) {
+            // the channel is inactive, and all the requests waiting on it are failed by removeState
+            return null;
+        }
+        Pipeline pipeline = channel.attr(PIPELINE_ATTR).get();
+        if (pipeline == null) {
+            return null;
+        }
+
+        // the channel is closed on errors, so fail the oldest request with the cause and the others once inactive
+        PendingRequest oldest = null;
+        if (correlationId != null) {
+            for (PendingRequest request : pipeline.requestsById.values()) {
+                if (oldest == null || request.started - oldest.started < 0) {
+                    oldest = request;
+                }
+            }
+            if (oldest != null) {
+                pipeline.requestsById.remove(oldest.id, oldest);
+            }
+        } else {
+            oldest = pipeline.requests.poll();
+        }
+
+        if (oldest == null || !oldest.complete()) {
+            return null;
+        }
+        done(pipeline, oldest);
+        return oldest.state;
+    }
+
+    @Override
+    public void removeState(ChannelHandlerContext ctx, Channel channel) {
+        Pipeline pipeline = channel.attr(PIPELINE_ATTR).getAndSet(null);
+        if (pipeline == null) {
+            return;
+        }
+
+        ChannelFuture held;
+        List<PendingRequest> pending;
+        synchronized (pipeline) {
+            pipeline.closed = true;
+            held = pipeline.held;
+            pipeline.held = null;
+            pending = new ArrayList<>(pipeline.requests);
+            pending.addAll(pipeline.requestsById.values());
+            pipeline.requests.clear();
+            pipeline.requestsById.clear();
+        }
+
+        String address = producer.getConfiguration().getAddress();
+        for (PendingRequest request : pending) {
+            if (request.complete()) {
+                done(pipeline, request);
+                Exchange exchange = request.state.getExchange();
+                exchange.setException(
+                        new CamelExchangeException("No response received from remote server: " + address, exchange));
+                request.state.callbackDoneOnce(false);
+            }
+        }
+
+        if (held != null) {
+            producer.releaseChannel(held);
+        }
+    }
+
+    /**
+     * Removes the state of a request which could not be written to the channel.
+     *
+     * @return <tt>true</tt> if the state was removed, or <tt>false</tt> if the request has already been completed,
+     *         such as when the channel has been closed in the meantime
+     */
+    public boolean cancelState(Channel channel, NettyCamelState state) {
+        Pipeline pipeline = channel.attr(PIPELINE_ATTR).get();
+        if (pipeline == null) {
+            return false;
+        }
+        PendingRequest found = null;
+        for (PendingRequest request : correlationId != null ? pipeline.requestsById.values() : pipeline.requests) {
+            if (request.state == state) {
+                found = request;
+                break;
+            }
+        }
+        if (found == null || !found.complete()) {
+            return false;
+        }
+        if (correlationId != null) {
+            pipeline.requestsById.remove(found.id, found);
+        } else {
+            pipeline.requests.remove(found);
+        }
+        done(pipeline, found);
+        return true;
+    }
+
+    /**
+     * Returns the channel to the producer pool once a request has been written, unless the in-flight window of the
+     * channel is full, in which case the channel is returned when a reply has been received.
+     */
+    public void releaseOrHold(ChannelFuture channelFuture) {
+        Pipeline pipeline = channelFuture.channel().attr(PIPELINE_ATTR).get();
+        if (pipeline != null) {
+            synchronized (pipeline) {
+                if (!pipeline.closed && pipeline.inflight >= maxInflight) {
+                    LOG.trace("Holding channel {} as {} requests are waiting for a reply", channelFuture.channel(),
+                            pipeline.inflight);
+                    pipeline.held = channelFuture;
+                    return;
+                }
+            }
+        }
+        producer.releaseChannel(channelFuture);
+    }
+
+    /**
+     * Number of requests currently waiting for a reply.
+     */
+    public int getInflightRequests() {
+        return inflight.get();
+    }
+
+    /**
+     * Highest number of requests which have been waiting for a reply on a single channel.
+     */
+    public int getMaxPipeliningDepth() {
+        return maxDepth.get();
+    }
+
+    /**
+     * Number of replies received.
+     */
+    public long getReplyCount() {
+        return replies.sum();
+    }
+
+    /**
+     * Number of requests which timed out waiting for a reply.
+     */
+    public long getTimedOutCount() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Mean time in millis the requests waited for their reply.
+     */
+    public long getMeanReplyWaitTime() {
+        long count = replies.sum();
+        return count > 0 ? TimeUnit.NANOSECONDS.toMillis(totalWaitTime.sum() / count) : 0;
+    }
+
+    /**
+     * Longest time in millis a request waited for its reply.
+     */
+    public long getMaxReplyWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitTime.get());
+    }
+
+    private void onTimeout(Channel channel, Pipeline pipeline, PendingRequest request, long timeout) {
+        if (!request.complete()) {
+            return;
+        }
+        if (correlationId != null) {
+            pipeline.requestsById.remove(request.id, request);
+        }
+        timeouts.increment();
+        done(pipeline, request);
+
+        Runnable task = () -> {
+            Exchange exchange = request.state.getExchange();
+            exchange.setException(new ExchangeTimedOutException(exchange, timeout));
+            request.state.callbackDoneOnce(false);
+            if (correlationId == null) {
+                // a late reply would be taken as the reply of the next request, so the channel cannot be used anymore
+                LOG.debug("Closing channel {} as a request timed out waiting for its reply", channel);
+                NettyHelper.close(channel);
+            }
+        };
+        // continue routing on the event loop of the channel rather than on the timer thread
+        try {
+            channel.eventLoop().execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private void done(Pipeline pipeline, PendingRequest request) {
+        Timeout timeout = request.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        inflight.decrementAndGet();
+
+        ChannelFuture release = null;
+        synchronized (pipeline) {
+            pipeline.inflight--;
+            if (pipeline.held != null && pipeline.inflight < maxInflight) {
+                release = pipeline.held;
+                pipeline.held = null;
+            }
+        }
+        if (release != null) {
+            LOG.trace("Releasing held channel {} as a request is done", release.channel());
+            producer.releaseChannel(release);
+        }
+    }
+
+    /**
+     * The requests waiting for a reply on a channel.
+     */
+    private static final class Pipeline {
+        private final Queue<PendingRequest> requests = new ConcurrentLinkedQueue<>();
+        private final Map<String, PendingRequest> requestsById = new ConcurrentHashMap<>();
+        // guarded by this
+        private int inflight;
+        private ChannelFuture held;
+        private boolean closed;
+    }
+
+    private static final class PendingRequest {
+        private final NettyCamelState state;
+        private final long started = System.nanoTime();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private String id;
+        private volatile Timeout timeout;
+
+        private PendingRequest(NettyCamelState state) {
+            this.state = state;
+        }
+
+        boolean complete() {
+            return completed.compareAndSet(false, true);
+        }
+    }
+}
@@ -156,6 +156,10 @@ public class SingleTCPNettyServerBootstrapFactory extends ServiceSupport impleme
         if (configuration.getBacklog() > 0) {
             serverBootstrap.option(ChannelOption.SO_BACKLOG, configuration.getBacklog());
         }
+        if (configuration.getAllocator() != null) {
+            serverBootstrap.option(ChannelOption.ALLOCATOR, configuration.getAllocator());
+            serverBootstrap.childOption(ChannelOption.ALLOCATOR, configuration.getAllocator());
+        }
 
         Map<String, Object> options = configuration.getOptions();
         if (options != null) {
@@ -151,6 +151,9 @@ public class SingleUDPNettyServerBootstrapFactory extends ServiceSupport impleme
         if (configuration.getBacklog() > 0) {
             bootstrap.option(ChannelOption.SO_BACKLOG, configuration.getBacklog());
         }
+        if (configuration.getAllocator() != null) {
+            bootstrap.option(ChannelOption.ALLOCATOR, configuration.getAllocator());
+        }
 
         Map<String, Object> options = configuration.getOptions();
         if (options != null) {
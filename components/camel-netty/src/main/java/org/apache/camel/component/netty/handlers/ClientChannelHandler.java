@@ -186,6 +186,9 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             return;
         }
 
+        // netty releases the message once read, so keep a ByteBuf body until the exchange is done
+        NettyHelper.retainByteBufBody(exchange, message);
+
         // set the result on either IN or OUT on the original exchange depending on its pattern
         if (ExchangeHelper.isOutCapable(exchange)) {
             exchange.setOut(message);
@@ -210,7 +213,13 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             // should we disconnect, the header can override the configuration
             boolean disconnect = producer.getConfiguration().isDisconnect();
             if (close != null) {
-                disconnect = close;
+                if (producer.isPipeliningEnabled()) {
+                    // the channel is shared by the other requests in flight, which would fail if it was closed
+                    LOG.debug("Ignoring {} header as the channel is used for pipelining",
+                            NettyConstants.NETTY_CLOSE_CHANNEL_WHEN_COMPLETE);
+                } else {
+                    disconnect = close;
+                }
             }
             // we should not close if we are reusing the channel
             if (!producer.getConfiguration().isReuseChannel() && disconnect) {
@@ -252,7 +261,7 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
         }
 
         // if textline enabled then covert to a String which must be used for textline
-        if (producer.getConfiguration().isTextline()) {
+        if (producer.getConfiguration().isTextline() && !producer.getConfiguration().isByteBufCodec()) {
             body = producer.getContext().getTypeConverter().mandatoryConvertTo(String.class, exchange, message);
         }
 
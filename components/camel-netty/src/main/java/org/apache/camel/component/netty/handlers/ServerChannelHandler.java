@@ -102,6 +102,8 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
 
         // we want to handle the UoW
         consumer.createUoW(exchange);
+        // netty releases the message once read, so keep a ByteBuf body until the exchange is done
+        NettyHelper.retainByteBufBody(exchange, exchange.getIn());
 
         beforeProcess(exchange, ctx, msg);
 
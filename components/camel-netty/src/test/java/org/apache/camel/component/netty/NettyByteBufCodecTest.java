@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.AvailablePortFinder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NettyByteBufCodecTest extends BaseNettyTest {
+
+    @RegisterExtension
+    protected AvailablePortFinder.Port port2 = AvailablePortFinder.find();
+
+    @BindToRegistry("myAllocator")
+    private final ByteBufAllocator allocator = new PooledByteBufAllocator(false);
+
+    @Test
+    public void testTcpRequestReply() throws Exception {
+        getMockEndpoint("mock:input").expectedHeaderReceived("received", "World");
+        getMockEndpoint("mock:result").expectedBodiesReceived("Bye World");
+
+        template.sendBody("direct:start", "World");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testByteBufBodyReleasedWhenDone() throws Exception {
+        getMockEndpoint("mock:input").expectedHeaderReceived("received", "Camel");
+        getMockEndpoint("mock:result").expectedBodiesReceived("Bye Camel");
+
+        ByteBuf body = Unpooled.copiedBuffer("Camel", StandardCharsets.UTF_8);
+        template.sendBody("direct:start", body);
+
+        assertMockEndpointsSatisfied();
+        // the exchange has taken over the body and released it when done
+        assertEquals(0, body.refCnt());
+    }
+
+    @Test
+    public void testUdpInOnly() throws Exception {
+        getMockEndpoint("mock:udp").expectedBodiesReceived("Hello UDP");
+
+        template.sendBody("netty:udp://localhost:" + port2.getPort() + "?byteBufCodec=true&sync=false", "Hello UDP");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .to("netty:tcp://localhost:{{port}}?byteBufCodec=true&sync=true")
+                        .convertBodyTo(String.class)
+                        .to("mock:result");
+
+                // continue routing on another thread than the netty one which has received the message
+                from("netty:tcp://localhost:{{port}}?byteBufCodec=true&sync=true&allocator=#myAllocator")
+                        .threads(2)
+                        .process(exchange -> {
+                            Message message = exchange.getMessage();
+                            ByteBuf body = assertIsInstanceOf(ByteBuf.class, message.getBody());
+                            // the body can be read several times
+                            assertEquals(message.getBody(String.class), message.getBody(String.class));
+                            assertEquals(body.readableBytes(), message.getBody(byte[].class).length);
+                            message.setHeader("received", message.getBody(String.class));
+                        })
+                        .to("mock:input")
+                        .transform().simple("Bye ${body}");
+
+                fromF("netty:udp://localhost:%s?byteBufCodec=true&sync=false", port2.getPort())
+                        .threads(2)
+                        .convertBodyTo(String.class)
+                        .to("mock:udp");
+            }
+        };
+    }
+}
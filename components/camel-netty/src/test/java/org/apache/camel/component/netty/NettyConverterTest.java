@@ -16,14 +16,20 @@
  */
 package org.apache.camel.component.netty;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -66,4 +72,20 @@ public class NettyConverterTest extends CamelTestSupport {
         assertEquals(PAYLOAD, result);
     }
 
+    @Test
+    public void testConversionFromSlice() {
+        ByteBuf heap = Unpooled.copiedBuffer("Hello " + PAYLOAD, StandardCharsets.UTF_8);
+        ByteBuf slice = heap.slice(6, PAYLOAD.length());
+        byte[] result = context.getTypeConverter().convertTo(byte[].class, slice);
+        assertArrayEquals(PAYLOAD.getBytes(), result);
+    }
+
+    @Test
+    public void testInputStreamDoesNotConsumeBuffer() throws Exception {
+        InputStream is = context.getTypeConverter().convertTo(InputStream.class, buf);
+        assertEquals(PAYLOAD, IOHelper.loadText(is).trim());
+        assertEquals(PAYLOAD.length(), buf.readableBytes());
+        assertEquals(PAYLOAD, context.getTypeConverter().convertTo(String.class, buf));
+    }
+
 }
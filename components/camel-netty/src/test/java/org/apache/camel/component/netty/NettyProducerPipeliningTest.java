@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.assertIsInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NettyProducerPipeliningTest extends BaseNettyTest {
+
+    @Test
+    public void testPipeliningInOrder() throws Exception {
+        NettyEndpoint endpoint = context.getEndpoint(
+                "netty:tcp://localhost:{{port}}?textline=true&sync=true&pipelining=true&producerPoolMaxTotal=1",
+                NettyEndpoint.class);
+        NettyProducer producer = (NettyProducer) endpoint.createProducer();
+        producer.start();
+        try {
+            List<CompletableFuture<Exchange>> replies = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                replies.add(send(endpoint, producer, "hello-" + i));
+            }
+            for (int i = 0; i < 20; i++) {
+                Exchange reply = replies.get(i).get(10, TimeUnit.SECONDS);
+                assertEquals("HELLO-" + i, reply.getMessage().getBody(String.class));
+            }
+
+            // all the requests are sent over the same connection
+            assertEquals(1, producer.getAllChannels().size());
+            assertTrue(producer.isPipeliningEnabled());
+            assertEquals(20, producer.getPipeliningReplyCount());
+            assertEquals(0, producer.getPipeliningInflight());
+            assertTrue(producer.getPipeliningMaxDepth() >= 1);
+        } finally {
+            producer.stop();
+        }
+    }
+
+    @Test
+    public void testPipeliningWithCorrelationId() throws Exception {
+        NettyEndpoint endpoint = context.getEndpoint(
+                "netty:tcp://localhost:{{port}}?textline=true&sync=true&pipelining=true&pipeliningMaxInflight=5"
+                                                     + "&pipeliningCorrelationId=${body.toLowerCase()}",
+                NettyEndpoint.class);
+        NettyProducer producer = (NettyProducer) endpoint.createProducer();
+        producer.start();
+        try {
+            List<CompletableFuture<Exchange>> replies = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                replies.add(send(endpoint, producer, "bye-" + i));
+            }
+            for (int i = 0; i < 20; i++) {
+                Exchange reply = replies.get(i).get(10, TimeUnit.SECONDS);
+                assertEquals("BYE-" + i, reply.getMessage().getBody(String.class));
+            }
+
+            assertEquals(20, producer.getPipeliningReplyCount());
+            assertTrue(producer.getPipeliningMaxDepth() <= 5);
+        } finally {
+            producer.stop();
+        }
+    }
+
+    @Test
+    public void testPipeliningRequestTimeout() throws Exception {
+        NettyEndpoint endpoint = context.getEndpoint(
+                "netty:tcp://localhost:{{port}}?textline=true&sync=true&pipelining=true&requestTimeout=200"
+                                                     + "&pipeliningCorrelationId=${body.toLowerCase()}",
+                NettyEndpoint.class);
+        NettyProducer producer = (NettyProducer) endpoint.createProducer();
+        producer.start();
+        try {
+            Exchange reply = send(endpoint, producer, "slow-1").get(10, TimeUnit.SECONDS);
+            assertIsInstanceOf(ExchangeTimedOutException.class, reply.getException());
+
+            assertEquals(1, producer.getPipeliningTimedOutCount());
+            assertEquals(0, producer.getPipeliningInflight());
+        } finally {
+            producer.stop();
+        }
+    }
+
+    @Test
+    public void testPipeliningRequestTimeoutDoesNotFailOtherRequests() throws Exception {
+        NettyEndpoint endpoint = context.getEndpoint(
+                "netty:tcp://localhost:{{port}}?textline=true&sync=true&pipelining=true&requestTimeout=200"
+                                                     + "&producerPoolMaxTotal=1&pipeliningCorrelationId=${body.toLowerCase()}",
+                NettyEndpoint.class);
+        NettyProducer producer = (NettyProducer) endpoint.createProducer();
+        producer.start();
+        try {
+            CompletableFuture<Exchange> slow = send(endpoint, producer, "slow-2");
+
+            // the reply is only sent once the slow request is done, so wait longer than the request timeout
+            Exchange exchange = endpoint.createExchange(ExchangePattern.InOut);
+            exchange.getIn().setBody("hello");
+            exchange.getIn().setHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, 5000);
+            CompletableFuture<Exchange> fast = producer.processAsync(exchange);
+
+            assertIsInstanceOf(ExchangeTimedOutException.class, slow.get(10, TimeUnit.SECONDS).getException());
+            Exchange reply = fast.get(10, TimeUnit.SECONDS);
+            assertNull(reply.getException());
+            assertEquals("HELLO", reply.getMessage().getBody(String.class));
+        } finally {
+            producer.stop();
+        }
+    }
+
+    @Test
+    public void testPipeliningAndDisconnectCannotBeUsedTogether() throws Exception {
+        NettyEndpoint endpoint = context.getEndpoint(
+                "netty:tcp://localhost:{{port}}?textline=true&sync=true&pipelining=true&disconnect=true",
+                NettyEndpoint.class);
+        NettyProducer producer = (NettyProducer) endpoint.createProducer();
+        Exception e = assertThrows(Exception.class, producer::start);
+        assertIsInstanceOf(IllegalArgumentException.class, e.getCause() != null ? e.getCause() : e);
+    }
+
+    private static CompletableFuture<Exchange> send(NettyEndpoint endpoint, NettyProducer producer, String body) {
+        Exchange exchange = endpoint.createExchange(ExchangePattern.InOut);
+        exchange.getIn().setBody(body);
+        return producer.processAsync(exchange);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("netty:tcp://localhost:{{port}}?textline=true&sync=true")
+                        .process(exchange -> {
+                            if (exchange.getIn().getBody(String.class).startsWith("slow")) {
+                                Thread.sleep(1000);
+                            }
+                        })
+                        .transform().simple("${body.toUpperCase()}");
+            }
+        };
+    }
+}
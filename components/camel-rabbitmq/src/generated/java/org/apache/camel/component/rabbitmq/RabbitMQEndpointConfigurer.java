@@ -21,6 +21,10 @@ public class RabbitMQEndpointConfigurer extends PropertyConfigurerSupport implem
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         RabbitMQEndpoint target = (RabbitMQEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "ackbatchsize":
+        case "ackBatchSize": target.setAckBatchSize(property(camelContext, int.class, value)); return true;
+        case "ackbatchtimeout":
+        case "ackBatchTimeout": target.setAckBatchTimeout(property(camelContext, long.class, value)); return true;
         case "additionalheaders":
         case "additionalHeaders": target.setAdditionalHeaders(property(camelContext, java.util.Map.class, value)); return true;
         case "additionalproperties":
@@ -101,6 +105,10 @@ public class RabbitMQEndpointConfigurer extends PropertyConfigurerSupport implem
         case "prefetchSize": target.setPrefetchSize(property(camelContext, int.class, value)); return true;
         case "publisheracknowledgements":
         case "publisherAcknowledgements": target.setPublisherAcknowledgements(property(camelContext, boolean.class, value)); return true;
+        case "publisheracknowledgementsasync":
+        case "publisherAcknowledgementsAsync": target.setPublisherAcknowledgementsAsync(property(camelContext, boolean.class, value)); return true;
+        case "publisheracknowledgementsmaxinflight":
+        case "publisherAcknowledgementsMaxInflight": target.setPublisherAcknowledgementsMaxInflight(property(camelContext, int.class, value)); return true;
         case "publisheracknowledgementstimeout":
         case "publisherAcknowledgementsTimeout": target.setPublisherAcknowledgementsTimeout(property(camelContext, long.class, value)); return true;
         case "queue": target.setQueue(property(camelContext, java.lang.String.class, value)); return true;
@@ -147,6 +155,10 @@ public class RabbitMQEndpointConfigurer extends PropertyConfigurerSupport implem
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "ackbatchsize":
+        case "ackBatchSize": return int.class;
+        case "ackbatchtimeout":
+        case "ackBatchTimeout": return long.class;
         case "additionalheaders":
         case "additionalHeaders": return java.util.Map.class;
         case "additionalproperties":
@@ -227,6 +239,10 @@ public class RabbitMQEndpointConfigurer extends PropertyConfigurerSupport implem
         case "prefetchSize": return int.class;
         case "publisheracknowledgements":
         case "publisherAcknowledgements": return boolean.class;
+        case "publisheracknowledgementsasync":
+        case "publisherAcknowledgementsAsync": return boolean.class;
+        case "publisheracknowledgementsmaxinflight":
+        case "publisherAcknowledgementsMaxInflight": return int.class;
         case "publisheracknowledgementstimeout":
         case "publisherAcknowledgementsTimeout": return long.class;
         case "queue": return java.lang.String.class;
@@ -274,6 +290,10 @@ public class RabbitMQEndpointConfigurer extends PropertyConfigurerSupport implem
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         RabbitMQEndpoint target = (RabbitMQEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "ackbatchsize":
+        case "ackBatchSize": return target.getAckBatchSize();
+        case "ackbatchtimeout":
+        case "ackBatchTimeout": return target.getAckBatchTimeout();
         case "additionalheaders":
         case "additionalHeaders": return target.getAdditionalHeaders();
         case "additionalproperties":
@@ -354,6 +374,10 @@ public class RabbitMQEndpointConfigurer extends PropertyConfigurerSupport implem
         case "prefetchSize": return target.getPrefetchSize();
         case "publisheracknowledgements":
         case "publisherAcknowledgements": return target.isPublisherAcknowledgements();
+        case "publisheracknowledgementsasync":
+        case "publisherAcknowledgementsAsync": return target.isPublisherAcknowledgementsAsync();
+        case "publisheracknowledgementsmaxinflight":
+        case "publisherAcknowledgementsMaxInflight": return target.getPublisherAcknowledgementsMaxInflight();
         case "publisheracknowledgementstimeout":
         case "publisherAcknowledgementsTimeout": return target.getPublisherAcknowledgementsTimeout();
         case "queue": return target.getQueue();
@@ -21,7 +21,9 @@ public class RabbitMQEndpointUriFactory extends org.apache.camel.support.compone
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(67);
+        Set<String> props = new HashSet<>(71);
+        props.add("ackBatchSize");
+        props.add("ackBatchTimeout");
         props.add("additionalHeaders");
         props.add("additionalProperties");
         props.add("addresses");
@@ -68,6 +70,8 @@ public class RabbitMQEndpointUriFactory extends org.apache.camel.support.compone
         props.add("prefetchGlobal");
         props.add("prefetchSize");
         props.add("publisherAcknowledgements");
+        props.add("publisherAcknowledgementsAsync");
+        props.add("publisherAcknowledgementsMaxInflight");
         props.add("publisherAcknowledgementsTimeout");
         props.add("queue");
         props.add("reQueue");
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import com.rabbitmq.client.AMQP;
@@ -51,6 +52,12 @@ class RabbitConsumer extends ServiceSupport implements com.rabbitmq.client.Consu
 
     private final Semaphore lock = new Semaphore(1);
 
+    // the last delivery tag processed but not yet acknowledged, when acknowledging in batches
+    private final Object ackLock = new Object();
+    private long pendingAckTag;
+    private int pendingAcks;
+    private ScheduledExecutorService ackFlushExecutor;
+
     /**
      * Constructs a new instance and records its association to the passed-in channel.
      */
@@ -153,7 +160,7 @@ class RabbitConsumer extends ServiceSupport implements com.rabbitmq.client.Consu
             }
             if (!consumer.getEndpoint().isAutoAck()) {
                 LOG.trace("Acknowledging receipt [delivery_tag={}]", deliveryTag);
-                channel.basicAck(deliveryTag, false);
+                acknowledge(deliveryTag);
             }
         }
         // The exchange could have failed when sending the above message
@@ -173,7 +180,7 @@ class RabbitConsumer extends ServiceSupport implements com.rabbitmq.client.Consu
 
                 if (!consumer.getEndpoint().isAutoAck()) {
                     LOG.trace("Acknowledging receipt when transferring exception [delivery_tag={}]", deliveryTag);
-                    channel.basicAck(deliveryTag, false);
+                    acknowledge(deliveryTag);
                 }
             } else {
                 boolean isRequeueHeaderSet = consumer.getEndpoint().isReQueue();
@@ -187,6 +194,8 @@ class RabbitConsumer extends ServiceSupport implements com.rabbitmq.client.Consu
 
                 // processing failed, then reject and handle the exception
                 if (deliveryTag != 0 && !consumer.getEndpoint().isAutoAck()) {
+                    // the previous messages must be acknowledged on their own
+                    flushAcks();
                     LOG.trace("Rejecting receipt [delivery_tag={}] with requeue={}", deliveryTag, isRequeueHeaderSet);
                     if (isRequeueHeaderSet) {
                         channel.basicReject(deliveryTag, true);
@@ -198,11 +207,60 @@ class RabbitConsumer extends ServiceSupport implements com.rabbitmq.client.Consu
         }
     }
 
+    /**
+     * Acknowledges the message, or defers it to acknowledge several messages at once when using ackBatchSize. The
+     * messages of a channel are processed one at a time, so the delivery tags complete in order and a single basic.ack
+     * with the multiple flag acknowledges all of them.
+     */
+    private void acknowledge(long deliveryTag) throws IOException {
+        if (consumer.getEndpoint().getAckBatchSize() <= 1) {
+            channel.basicAck(deliveryTag, false);
+            return;
+        }
+        synchronized (ackLock) {
+            pendingAckTag = deliveryTag;
+            pendingAcks++;
+            if (pendingAcks >= consumer.getEndpoint().getAckBatchSize()) {
+                flushAcks();
+            }
+        }
+    }
+
+    /**
+     * Sends the deferred acknowledgements, if any.
+     */
+    private void flushAcks() throws IOException {
+        synchronized (ackLock) {
+            if (pendingAcks > 0) {
+                LOG.trace("Acknowledging {} receipts [delivery_tag={}, multiple=true]", pendingAcks, pendingAckTag);
+                pendingAcks = 0;
+                if (isChannelOpen()) {
+                    channel.basicAck(pendingAckTag, true);
+                }
+            }
+        }
+    }
+
+    private void flushAcksQuietly() {
+        try {
+            flushAcks();
+        } catch (Exception e) {
+            LOG.warn("Error acknowledging messages. This exception is ignored.", e);
+        }
+    }
+
     @Override
     protected void doStart() throws Exception {
         if (channel == null) {
             throw new IOException("The RabbitMQ channel is not open");
         }
+        long ackBatchTimeout = consumer.getEndpoint().getAckBatchTimeout();
+        if (!consumer.getEndpoint().isAutoAck() && consumer.getEndpoint().getAckBatchSize() > 1 && ackBatchTimeout > 0
+                && ackFlushExecutor == null) {
+            ackFlushExecutor = consumer.getEndpoint().createScheduledExecutor("ack-flush");
+            ackFlushExecutor.scheduleWithFixedDelay(this::flushAcksQuietly, ackBatchTimeout, ackBatchTimeout,
+                    TimeUnit.MILLISECONDS);
+        }
         tag = channel.basicConsume(consumer.getEndpoint().getQueue(), consumer.getEndpoint().isAutoAck(),
                 consumer.getEndpoint().getConsumerTag(), false,
                 consumer.getEndpoint().isExclusiveConsumer(), null, this);
@@ -218,6 +276,11 @@ class RabbitConsumer extends ServiceSupport implements com.rabbitmq.client.Consu
         }
         try {
             lock.acquire();
+            if (ackFlushExecutor != null) {
+                consumer.getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(ackFlushExecutor);
+                ackFlushExecutor = null;
+            }
+            flushAcksQuietly();
             if (isChannelOpen()) {
                 channel.close();
             }
@@ -385,6 +448,10 @@ class RabbitConsumer extends ServiceSupport implements com.rabbitmq.client.Consu
      * Open channel
      */
     private Channel openChannel(Connection conn) throws IOException {
+        // the delivery tags of the previous channel cannot be acknowledged anymore
+        synchronized (ackLock) {
+            pendingAcks = 0;
+        }
         LOG.trace("Creating channel...");
         Channel channel = conn.createChannel();
         LOG.debug("Created channel: {}", channel);
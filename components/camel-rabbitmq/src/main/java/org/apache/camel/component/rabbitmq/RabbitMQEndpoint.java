@@ -33,6 +33,7 @@ import com.rabbitmq.client.Connection;
 import com.rabbitmq.client.ConnectionFactory;
 import com.rabbitmq.client.Envelope;
 import com.rabbitmq.client.ExceptionHandler;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncEndpoint;
 import org.apache.camel.Category;
 import org.apache.camel.Consumer;
@@ -81,6 +82,10 @@ public class RabbitMQEndpoint extends DefaultEndpoint implements AsyncEndpoint {
     private int threadPoolSize = 10;
     @UriParam(label = "consumer", defaultValue = "true")
     private boolean autoAck = true;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int ackBatchSize = 1;
+    @UriParam(label = "consumer,advanced", defaultValue = "1000")
+    private long ackBatchTimeout = 1000;
     @UriParam(label = "common", defaultValue = "true")
     private boolean autoDelete = true;
     @UriParam(label = "common", defaultValue = "true")
@@ -169,6 +174,10 @@ public class RabbitMQEndpoint extends DefaultEndpoint implements AsyncEndpoint {
     private boolean publisherAcknowledgements;
     @UriParam(label = "producer")
     private long publisherAcknowledgementsTimeout;
+    @UriParam(label = "producer,advanced")
+    private boolean publisherAcknowledgementsAsync;
+    @UriParam(label = "producer,advanced", defaultValue = "1000")
+    private int publisherAcknowledgementsMaxInflight = 1000;
     @UriParam(label = "producer")
     private boolean guaranteedDeliveries;
     @UriParam(label = "producer")
@@ -235,6 +244,17 @@ public class RabbitMQEndpoint extends DefaultEndpoint implements AsyncEndpoint {
         new RabbitMQMessagePublisher(camelExchange, channel, routingKey, this).publish();
     }
 
+    /**
+     * Sends the body that is on the exchange without waiting for the publisher acknowledgement, the callback is invoked
+     * once the message has been acknowledged by the broker.
+     */
+    void publishExchangeToChannel(
+            Exchange camelExchange, Channel channel, String routingKey, RabbitMQPublisherConfirms confirms,
+            AsyncCallback callback)
+            throws IOException {
+        new RabbitMQMessagePublisher(camelExchange, channel, routingKey, this, confirms, callback).publish();
+    }
+
     @Override
     public Consumer createConsumer(Processor processor) throws Exception {
         RabbitMQConsumer consumer = new RabbitMQConsumer(this, processor);
@@ -364,6 +384,30 @@ public class RabbitMQEndpoint extends DefaultEndpoint implements AsyncEndpoint {
         this.autoAck = autoAck;
     }
 
+    public int getAckBatchSize() {
+        return ackBatchSize;
+    }
+
+    /**
+     * When autoAck is disabled, the number of successfully processed messages to acknowledge at once, using a single
+     * basic.ack with the multiple flag. The pending acknowledgements are also sent when a message is rejected, and after
+     * the ackBatchTimeout. The prefetchCount should be larger than this value.
+     */
+    public void setAckBatchSize(int ackBatchSize) {
+        this.ackBatchSize = ackBatchSize;
+    }
+
+    public long getAckBatchTimeout() {
+        return ackBatchTimeout;
+    }
+
+    /**
+     * The maximum time in millis a processed message waits to be acknowledged when using ackBatchSize.
+     */
+    public void setAckBatchTimeout(long ackBatchTimeout) {
+        this.ackBatchTimeout = ackBatchTimeout;
+    }
+
     public boolean isAutoDelete() {
         return autoDelete;
     }
@@ -936,6 +980,32 @@ public class RabbitMQEndpoint extends DefaultEndpoint implements AsyncEndpoint {
         this.publisherAcknowledgementsTimeout = publisherAcknowledgementsTimeout;
     }
 
+    /**
+     * When true, the InOnly exchanges published with publisher acknowledgements do not block until the message is
+     * acknowledged. The exchange continues routing once the broker acknowledges the message, which lets the producer
+     * publish the next messages in the meantime. This is not in use with guaranteedDeliveries.
+     */
+    public boolean isPublisherAcknowledgementsAsync() {
+        return publisherAcknowledgementsAsync;
+    }
+
+    public void setPublisherAcknowledgementsAsync(boolean publisherAcknowledgementsAsync) {
+        this.publisherAcknowledgementsAsync = publisherAcknowledgementsAsync;
+    }
+
+    /**
+     * The maximum number of messages waiting for their publisher acknowledgement when publisherAcknowledgementsAsync is
+     * enabled. Publishing blocks once the limit is reached, until a message is acknowledged or the
+     * publisherAcknowledgementsTimeout elapses.
+     */
+    public int getPublisherAcknowledgementsMaxInflight() {
+        return publisherAcknowledgementsMaxInflight;
+    }
+
+    public void setPublisherAcknowledgementsMaxInflight(int publisherAcknowledgementsMaxInflight) {
+        this.publisherAcknowledgementsMaxInflight = publisherAcknowledgementsMaxInflight;
+    }
+
     /**
      * When true, an exception will be thrown when the message cannot be delivered (basic.return) and the message is
      * marked as mandatory. PublisherAcknowledgement will also be activated in this case. See also <a
@@ -26,6 +26,7 @@ import java.util.concurrent.TimeoutException;
 import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.ReturnListener;
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.NoTypeConversionAvailableException;
@@ -44,6 +45,8 @@ public class RabbitMQMessagePublisher {
     private final String routingKey;
     private final RabbitMQEndpoint endpoint;
     private final Message message;
+    private final RabbitMQPublisherConfirms confirms;
+    private final AsyncCallback callback;
     private volatile boolean basicReturnReceived;
     private final ReturnListener guaranteedDeliveryReturnListener = new ReturnListener() {
         @Override
@@ -59,10 +62,22 @@ public class RabbitMQMessagePublisher {
 
     public RabbitMQMessagePublisher(final Exchange camelExchange, final Channel channel, final String routingKey,
                                     final RabbitMQEndpoint endpoint) {
+        this(camelExchange, channel, routingKey, endpoint, null, null);
+    }
+
+    /**
+     * Creates a publisher which does not wait for the publisher acknowledgement, but registers the message to the given
+     * confirms of the channel, which invoke the callback once the message has been acknowledged.
+     */
+    RabbitMQMessagePublisher(final Exchange camelExchange, final Channel channel, final String routingKey,
+                             final RabbitMQEndpoint endpoint, final RabbitMQPublisherConfirms confirms,
+                             final AsyncCallback callback) {
         this.camelExchange = camelExchange;
         this.channel = channel;
         this.routingKey = routingKey;
         this.endpoint = endpoint;
+        this.confirms = confirms;
+        this.callback = callback;
         this.message = resolveMessageFrom(camelExchange);
     }
 
@@ -134,6 +149,11 @@ public class RabbitMQMessagePublisher {
 
         LOG.debug("Sending message to exchange: {} with CorrelationId: {}", exchangeName, properties.getCorrelationId());
 
+        if (confirms != null) {
+            publishWithAsyncConfirm(exchangeName, mandatory, immediate, properties, body);
+            return;
+        }
+
         if (isPublisherAcknowledgements()) {
             channel.confirmSelect();
         }
@@ -154,6 +174,28 @@ public class RabbitMQMessagePublisher {
         }
     }
 
+    private void publishWithAsyncConfirm(
+            final String exchangeName, final boolean mandatory, final boolean immediate,
+            final AMQP.BasicProperties properties, final byte[] body)
+            throws IOException {
+        long seqNo = channel.getNextPublishSeqNo();
+        try {
+            confirms.add(seqNo, camelExchange, callback);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeCamelException(e);
+        }
+        try {
+            channel.basicPublish(exchangeName, routingKey, mandatory, immediate, properties, body);
+        } catch (IOException | RuntimeException e) {
+            if (confirms.cancel(seqNo)) {
+                throw e;
+            }
+            // the message has already been failed as the channel was closed
+            LOG.debug("Publishing failed on a closed channel for {}", camelExchange, e);
+        }
+    }
+
     private boolean isPublisherAcknowledgements() {
         return endpoint.isPublisherAcknowledgements() || endpoint.isGuaranteedDeliveries();
     }
@@ -18,9 +18,13 @@ package org.apache.camel.component.rabbitmq;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.rabbitmq.client.AMQP;
@@ -53,6 +57,10 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
     private ExecutorService executorService;
     private int closeTimeout = 30 * 1000;
     private final AtomicBoolean started = new AtomicBoolean();
+    private final Map<Channel, RabbitMQPublisherConfirms> publisherConfirms = new ConcurrentHashMap<>();
+    private Semaphore publisherConfirmsWindow;
+    private ScheduledExecutorService publisherConfirmsTimeoutChecker;
+    private ExecutorService publisherConfirmsExecutor;
 
     private ReplyManager replyManager;
 
@@ -158,6 +166,26 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
         } catch (IOException e) {
             LOG.warn("Failed to create connection. It will attempt to connect again when publishing a message.", e);
         }
+        if (isPublisherAcknowledgementsAsync()) {
+            publisherConfirmsWindow = new Semaphore(getEndpoint().getPublisherAcknowledgementsMaxInflight());
+            // the exchanges must not continue routing on the thread of the connection receiving the acknowledgements
+            publisherConfirmsExecutor = getEndpoint().createExecutor();
+            long timeout = getEndpoint().getPublisherAcknowledgementsTimeout();
+            if (timeout > 0) {
+                String name = "RabbitMQPublisherConfirmsTimeoutChecker[" + getEndpoint().getExchangeName() + "]";
+                publisherConfirmsTimeoutChecker = getEndpoint().getCamelContext().getExecutorServiceManager()
+                        .newSingleThreadScheduledExecutor(this, name);
+                long interval = Math.min(timeout, 1000);
+                publisherConfirmsTimeoutChecker.scheduleWithFixedDelay(
+                        () -> publisherConfirms.values().forEach(RabbitMQPublisherConfirms::checkTimeouts),
+                        interval, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private boolean isPublisherAcknowledgementsAsync() {
+        return getEndpoint().isPublisherAcknowledgementsAsync() && getEndpoint().isPublisherAcknowledgements()
+                && !getEndpoint().isGuaranteedDeliveries();
     }
 
     /**
@@ -185,6 +213,14 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
     protected void doStop() throws Exception {
         unInitReplyManager();
         closeConnectionAndChannel();
+        if (publisherConfirmsTimeoutChecker != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(publisherConfirmsTimeoutChecker);
+            publisherConfirmsTimeoutChecker = null;
+        }
+        if (publisherConfirmsExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(publisherConfirmsExecutor);
+            publisherConfirmsExecutor = null;
+        }
         if (executorService != null) {
             getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(executorService);
             executorService = null;
@@ -295,6 +331,12 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
             throw new IllegalArgumentException("ExchangeName and RoutingKey is not provided in the endpoint: " + getEndpoint());
         }
 
+        if (isPublisherAcknowledgementsAsync()) {
+            // the callback is invoked once the message has been acknowledged
+            basicPublishAsync(exchange, key, callback);
+            return false;
+        }
+
         basicPublish(exchange, key);
         callback.done(true);
         return true;
@@ -318,6 +360,38 @@ public class RabbitMQProducer extends DefaultAsyncProducer {
         });
     }
 
+    /**
+     * Send a message borrowing a channel from the pool, without waiting for the publisher acknowledgement.
+     */
+    private void basicPublishAsync(final Exchange camelExchange, final String routingKey, final AsyncCallback callback)
+            throws Exception {
+        if (channelPool == null) {
+            // Open connection and channel lazily if another thread hasn't
+            checkConnectionAndChannelPool();
+        }
+        execute(new ChannelCallback<Void>() {
+            @Override
+            public Void doWithChannel(Channel channel) throws Exception {
+                getEndpoint().publishExchangeToChannel(camelExchange, channel, routingKey, getPublisherConfirms(channel),
+                        callback);
+                return null;
+            }
+        });
+    }
+
+    private RabbitMQPublisherConfirms getPublisherConfirms(Channel channel) throws IOException {
+        // the channel is borrowed from the pool, so no other thread is using it
+        RabbitMQPublisherConfirms confirms = publisherConfirms.get(channel);
+        if (confirms == null) {
+            confirms = new RabbitMQPublisherConfirms(
+                    channel, publisherConfirmsWindow, getEndpoint().getPublisherAcknowledgementsTimeout(),
+                    publisherConfirmsExecutor);
+            publisherConfirms.put(channel, confirms);
+            channel.addShutdownListener(cause -> publisherConfirms.remove(channel));
+        }
+        return confirms;
+    }
+
     AMQP.BasicProperties.Builder buildProperties(Exchange exchange) {
         return getEndpoint().getMessageConverter().buildProperties(exchange);
     }
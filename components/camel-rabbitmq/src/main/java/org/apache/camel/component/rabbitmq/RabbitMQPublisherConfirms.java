@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.rabbitmq;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.ShutdownListener;
+import com.rabbitmq.client.ShutdownSignalException;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracks the messages published on a channel in confirm mode which are waiting for their publisher acknowledgement,
+ * and completes their exchanges when the broker acks or nacks them.
+ * <p/>
+ * The number of messages waiting for an acknowledgement is bounded by a window shared by the channels of the producer,
+ * so publishing blocks once the window is full.
+ * <p/>
+ * The acknowledgements are received on the thread of the connection, which must never continue routing the exchanges,
+ * as a route publishing again while the window is full would block the only thread able to free the window. Therefore
+ * the exchanges are completed using the given executor.
+ */
+class RabbitMQPublisherConfirms implements ConfirmListener, ShutdownListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RabbitMQPublisherConfirms.class);
+
+    private final ConcurrentNavigableMap<Long, PendingConfirm> pending = new ConcurrentSkipListMap<>();
+    private final Channel channel;
+    private final Semaphore window;
+    private final long timeout;
+    private final Executor executor;
+
+    RabbitMQPublisherConfirms(Channel channel, Semaphore window, long timeout, Executor executor) throws IOException {
+        this.channel = channel;
+        this.window = window;
+        this.timeout = timeout;
+        this.executor = executor;
+        channel.confirmSelect();
+        channel.addConfirmListener(this);
+        channel.addShutdownListener(this);
+    }
+
+    /**
+     * Registers the message about to be published with the given sequence number, waiting for room in the window.
+     */
+    void add(long seqNo, Exchange exchange, AsyncCallback callback) throws InterruptedException {
+        if (timeout > 0) {
+            if (!window.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeCamelException(
+                        new TimeoutException("Timeout waiting for the publisher acknowledgements of previous messages"));
+            }
+        } else {
+            window.acquire();
+        }
+        long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+        pending.put(seqNo, new PendingConfirm(exchange, callback, deadline));
+    }
+
+    /**
+     * Removes a message which could not be published.
+     *
+     * @return <tt>false</tt> if the message has already been completed in the meantime, such as when the channel has
+     *         been closed
+     */
+    boolean cancel(long seqNo) {
+        if (pending.remove(seqNo) != null) {
+            window.release();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void handleAck(long deliveryTag, boolean multiple) {
+        LOG.trace("Received basic.ack [delivery_tag={}, multiple={}]", deliveryTag, multiple);
+        complete(deliveryTag, multiple, null);
+    }
+
+    @Override
+    public void handleNack(long deliveryTag, boolean multiple) {
+        LOG.debug("Received basic.nack [delivery_tag={}, multiple={}]", deliveryTag, multiple);
+        complete(deliveryTag, multiple, "Failed to deliver message; basic.nack received");
+    }
+
+    @Override
+    public void shutdownCompleted(ShutdownSignalException cause) {
+        channel.removeConfirmListener(this);
+        for (Long seqNo : pending.keySet()) {
+            done(pending.remove(seqNo), new RuntimeCamelException("Channel closed before the message was acknowledged", cause));
+        }
+    }
+
+    /**
+     * Fails the messages which have been waiting longer than the publisher acknowledgements timeout.
+     */
+    void checkTimeouts() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, PendingConfirm> entry : pending.entrySet()) {
+            PendingConfirm confirm = entry.getValue();
+            if (confirm.deadline > 0 && confirm.deadline <= now && pending.remove(entry.getKey(), confirm)) {
+                LOG.warn("Acknowledgement error for {}", confirm.exchange);
+                done(confirm, new RuntimeCamelException(
+                        new TimeoutException("Timeout waiting for publisher acknowledgement after " + timeout + " millis")));
+            }
+        }
+    }
+
+    private void complete(long deliveryTag, boolean multiple, String nack) {
+        if (multiple) {
+            // the broker confirms all the messages up to and including the delivery tag
+            for (Map.Entry<Long, PendingConfirm> first = pending.firstEntry();
+                 first != null && first.getKey() <= deliveryTag;
+                 first = pending.firstEntry()) {
+                done(pending.remove(first.getKey()), nack != null ? new RuntimeCamelException(nack) : null);
+            }
+        } else {
+            done(pending.remove(deliveryTag), nack != null ? new RuntimeCamelException(nack) : null);
+        }
+    }
+
+    private void done(PendingConfirm confirm, Exception cause) {
+        if (confirm == null) {
+            // already completed, such as by the timeout checker
+            return;
+        }
+        window.release();
+        if (cause != null) {
+            confirm.exchange.setException(cause);
+        }
+        try {
+            executor.execute(() -> confirm.callback.done(false));
+        } catch (RejectedExecutionException e) {
+            // the producer is stopping so complete the exchange right away
+            LOG.debug("Executor rejected completing {}. Completing on the current thread instead.", confirm.exchange);
+            confirm.callback.done(false);
+        }
+    }
+
+    private static final class PendingConfirm {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final long deadline;
+
+        private PendingConfirm(Exchange exchange, AsyncCallback callback, long deadline) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.deadline = deadline;
+        }
+    }
+}
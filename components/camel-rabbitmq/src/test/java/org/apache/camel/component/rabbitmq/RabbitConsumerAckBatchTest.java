@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.rabbitmq;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Connection;
+import com.rabbitmq.client.Envelope;
+import org.apache.camel.Processor;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RabbitConsumerAckBatchTest {
+
+    private RabbitMQConsumer consumer = Mockito.mock(RabbitMQConsumer.class);
+    private RabbitMQEndpoint endpoint = Mockito.mock(RabbitMQEndpoint.class);
+    private Connection conn = Mockito.mock(Connection.class);
+    private Channel channel = Mockito.mock(Channel.class);
+    private Processor processor = Mockito.mock(Processor.class);
+    private AMQP.BasicProperties properties = Mockito.mock(AMQP.BasicProperties.class);
+    private DefaultCamelContext context = new DefaultCamelContext();
+    private ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(consumer.getEndpoint()).thenReturn(endpoint);
+        when(consumer.getConnection()).thenReturn(conn);
+        when(consumer.getProcessor()).thenReturn(processor);
+        when(consumer.getExceptionHandler()).thenReturn(Mockito.mock(ExceptionHandler.class));
+        when(consumer.createExchange(any(), any(), any())).then(i -> new DefaultExchange(context));
+        when(conn.createChannel()).thenReturn(channel);
+        when(channel.isOpen()).thenReturn(true);
+        when(endpoint.getMessageConverter()).thenReturn(Mockito.mock(RabbitMQMessageConverter.class));
+        when(endpoint.getAckBatchSize()).thenReturn(3);
+        when(endpoint.isReQueue()).thenReturn(true);
+        when(endpoint.createScheduledExecutor(any())).thenReturn(executor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testFullBatchIsAcknowledgedOnce() throws Exception {
+        RabbitConsumer rabbitConsumer = new RabbitConsumer(consumer);
+
+        deliver(rabbitConsumer, 1);
+        deliver(rabbitConsumer, 2);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+
+        deliver(rabbitConsumer, 3);
+        verify(channel).basicAck(3, true);
+
+        deliver(rabbitConsumer, 4);
+        verify(channel, never()).basicAck(4, true);
+    }
+
+    @Test
+    public void testPartialBatchIsAcknowledgedOnTimeout() throws Exception {
+        when(endpoint.getAckBatchTimeout()).thenReturn(100L);
+        RabbitConsumer rabbitConsumer = new RabbitConsumer(consumer);
+        rabbitConsumer.start();
+
+        deliver(rabbitConsumer, 1);
+        deliver(rabbitConsumer, 2);
+
+        verify(channel, timeout(5000)).basicAck(2, true);
+    }
+
+    @Test
+    public void testFailureInBatchAcknowledgesPreviousMessagesAndRequeues() throws Exception {
+        RabbitConsumer rabbitConsumer = new RabbitConsumer(consumer);
+
+        deliver(rabbitConsumer, 1);
+        deliver(rabbitConsumer, 2);
+
+        Mockito.doThrow(new IllegalStateException("Forced")).when(processor).process(any());
+        deliver(rabbitConsumer, 3);
+
+        // the successful messages are acknowledged before the failed message is rejected
+        InOrder inOrder = Mockito.inOrder(channel);
+        inOrder.verify(channel).basicAck(2, true);
+        inOrder.verify(channel).basicReject(3, true);
+
+        // and the next batch starts from scratch
+        Mockito.doNothing().when(processor).process(any());
+        deliver(rabbitConsumer, 4);
+        deliver(rabbitConsumer, 5);
+        verify(channel, never()).basicAck(5, true);
+        deliver(rabbitConsumer, 6);
+        verify(channel).basicAck(6, true);
+    }
+
+    private void deliver(RabbitConsumer rabbitConsumer, long deliveryTag) throws Exception {
+        Envelope envelope = new Envelope(deliveryTag, false, "exchange", "key");
+        rabbitConsumer.handleDelivery("tag", envelope, properties, new byte[0]);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.rabbitmq;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.rabbitmq.client.Channel;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class RabbitMQPublisherConfirmsTest {
+
+    private Channel channel = Mockito.mock(Channel.class);
+    private Exchange exchange = Mockito.mock(Exchange.class);
+    private AsyncCallback callback = Mockito.mock(AsyncCallback.class);
+
+    @Test
+    public void testMultipleAckCompletesAllUpToTag() throws Exception {
+        Semaphore window = new Semaphore(10);
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(channel, window, 0, Runnable::run);
+        verify(channel).confirmSelect();
+
+        for (long seqNo = 1; seqNo <= 3; seqNo++) {
+            confirms.add(seqNo, exchange, callback);
+        }
+        assertEquals(7, window.availablePermits());
+
+        confirms.handleAck(2, true);
+        verify(callback, Mockito.times(2)).done(false);
+        assertEquals(9, window.availablePermits());
+
+        confirms.handleAck(3, false);
+        verify(callback, Mockito.times(3)).done(false);
+        verify(exchange, never()).setException(any());
+        assertEquals(10, window.availablePermits());
+    }
+
+    @Test
+    public void testNackFailsExchange() throws Exception {
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(channel, new Semaphore(10), 0, Runnable::run);
+        confirms.add(1, exchange, callback);
+
+        confirms.handleNack(1, false);
+        verify(exchange).setException(any(RuntimeCamelException.class));
+        verify(callback).done(false);
+    }
+
+    @Test
+    public void testWindowFullTimesOut() throws Exception {
+        RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(channel, new Semaphore(1), 50, Runnable::run);
+        confirms.add(1, exchange, callback);
+
+        assertThrows(RuntimeCamelException.class, () -> confirms.add(2, exchange, callback));
+
+        // the message which could not be published releases its place in the window
+        assertTrue(confirms.cancel(1));
+        assertFalse(confirms.cancel(1));
+        confirms.add(2, exchange, callback);
+    }
+
+    @Test
+    public void testAckCompletesExchangeOnExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Semaphore window = new Semaphore(1);
+            RabbitMQPublisherConfirms confirms = new RabbitMQPublisherConfirms(channel, window, 0, executor);
+
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            confirms.add(1, exchange, doneSync -> {
+                thread.set(Thread.currentThread());
+                latch.countDown();
+            });
+
+            // the window is freed right away on the thread receiving the ack
+            confirms.handleAck(1, false);
+            assertEquals(1, window.availablePermits());
+
+            // but the exchange continues routing on the executor
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertNotSame(Thread.currentThread(), thread.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -29,6 +29,8 @@ public class ReactiveStreamsComponentConfigurer extends PropertyConfigurerSuppor
         case "bridgeErrorHandler": target.setBridgeErrorHandler(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
+        case "maxbuffersize":
+        case "maxBufferSize": target.setMaxBufferSize(property(camelContext, int.class, value)); return true;
         case "reactivestreamsengineconfiguration":
         case "reactiveStreamsEngineConfiguration": target.setReactiveStreamsEngineConfiguration(property(camelContext, org.apache.camel.component.reactive.streams.engine.ReactiveStreamsEngineConfiguration.class, value)); return true;
         case "servicetype":
@@ -54,6 +56,8 @@ public class ReactiveStreamsComponentConfigurer extends PropertyConfigurerSuppor
         case "bridgeErrorHandler": return boolean.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
+        case "maxbuffersize":
+        case "maxBufferSize": return int.class;
         case "reactivestreamsengineconfiguration":
         case "reactiveStreamsEngineConfiguration": return org.apache.camel.component.reactive.streams.engine.ReactiveStreamsEngineConfiguration.class;
         case "servicetype":
@@ -80,6 +84,8 @@ public class ReactiveStreamsComponentConfigurer extends PropertyConfigurerSuppor
         case "bridgeErrorHandler": return target.isBridgeErrorHandler();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
+        case "maxbuffersize":
+        case "maxBufferSize": return target.getMaxBufferSize();
         case "reactivestreamsengineconfiguration":
         case "reactiveStreamsEngineConfiguration": return target.getReactiveStreamsEngineConfiguration();
         case "servicetype":
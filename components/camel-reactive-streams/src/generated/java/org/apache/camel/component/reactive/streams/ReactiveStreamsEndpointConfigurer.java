@@ -39,6 +39,8 @@ public class ReactiveStreamsEndpointConfigurer extends PropertyConfigurerSupport
         case "forwardOnError": target.setForwardOnError(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
+        case "maxbuffersize":
+        case "maxBufferSize": target.setMaxBufferSize(property(camelContext, java.lang.Integer.class, value)); return true;
         case "maxinflightexchanges":
         case "maxInflightExchanges": target.setMaxInflightExchanges(property(camelContext, java.lang.Integer.class, value)); return true;
         default: return false;
@@ -66,6 +68,8 @@ public class ReactiveStreamsEndpointConfigurer extends PropertyConfigurerSupport
         case "forwardOnError": return boolean.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
+        case "maxbuffersize":
+        case "maxBufferSize": return java.lang.Integer.class;
         case "maxinflightexchanges":
         case "maxInflightExchanges": return java.lang.Integer.class;
         default: return null;
@@ -94,6 +98,8 @@ public class ReactiveStreamsEndpointConfigurer extends PropertyConfigurerSupport
         case "forwardOnError": return target.isForwardOnError();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
+        case "maxbuffersize":
+        case "maxBufferSize": return target.getMaxBufferSize();
         case "maxinflightexchanges":
         case "maxInflightExchanges": return target.getMaxInflightExchanges();
         default: return null;
@@ -21,7 +21,7 @@ public class ReactiveStreamsEndpointUriFactory extends org.apache.camel.support.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(11);
+        Set<String> props = new HashSet<>(12);
         props.add("backpressureStrategy");
         props.add("bridgeErrorHandler");
         props.add("concurrentConsumers");
@@ -31,6 +31,7 @@ public class ReactiveStreamsEndpointUriFactory extends org.apache.camel.support.
         props.add("forwardOnComplete");
         props.add("forwardOnError");
         props.add("lazyStartProducer");
+        props.add("maxBufferSize");
         props.add("maxInflightExchanges");
         props.add("stream");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
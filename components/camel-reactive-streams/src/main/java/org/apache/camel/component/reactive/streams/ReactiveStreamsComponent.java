@@ -40,6 +40,8 @@ public class ReactiveStreamsComponent extends DefaultComponent {
     private int threadPoolMaxSize = 10;
     @Metadata(label = "producer", defaultValue = "BUFFER")
     private ReactiveStreamsBackpressureStrategy backpressureStrategy = ReactiveStreamsBackpressureStrategy.BUFFER;
+    @Metadata(label = "producer")
+    private int maxBufferSize;
     @Metadata(label = "advanced")
     private String serviceType;
     @Metadata(label = "advanced")
@@ -79,6 +81,9 @@ public class ReactiveStreamsComponent extends DefaultComponent {
         if (endpoint.getBackpressureStrategy() == null) {
             endpoint.setBackpressureStrategy(this.backpressureStrategy);
         }
+        if (endpoint.getMaxBufferSize() == null) {
+            endpoint.setMaxBufferSize(this.maxBufferSize);
+        }
 
         return endpoint;
     }
@@ -109,6 +114,20 @@ public class ReactiveStreamsComponent extends DefaultComponent {
         this.backpressureStrategy = backpressureStrategy;
     }
 
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    /**
+     * Maximum number of exchanges buffered for each slow subscriber, when using the BUFFER backpressure strategy.
+     * When the buffer of a subscriber is half full, the consumer of the route sending the exchanges is suspended (if it
+     * supports suspension), and it is resumed once the subscribers have requested the buffered exchanges. Exchanges
+     * sent when the buffer is full are discarded. Setting a non-positive value means the buffer is unbounded.
+     */
+    public void setMaxBufferSize(int maxBufferSize) {
+        this.maxBufferSize = maxBufferSize;
+    }
+
     public String getServiceType() {
         return serviceType;
     }
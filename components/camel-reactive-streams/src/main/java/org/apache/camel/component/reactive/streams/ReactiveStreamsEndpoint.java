@@ -58,6 +58,9 @@ public class ReactiveStreamsEndpoint extends DefaultEndpoint {
     @UriParam(label = "producer")
     private ReactiveStreamsBackpressureStrategy backpressureStrategy;
 
+    @UriParam(label = "producer")
+    private Integer maxBufferSize;
+
     public ReactiveStreamsEndpoint(String endpointUri, ReactiveStreamsComponent component) {
         super(endpointUri, component);
     }
@@ -120,6 +123,21 @@ public class ReactiveStreamsEndpoint extends DefaultEndpoint {
         this.backpressureStrategy = backpressureStrategy;
     }
 
+    @ManagedAttribute(description = "Maximum number of exchanges buffered for each subscriber")
+    public Integer getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    /**
+     * Maximum number of exchanges buffered for each slow subscriber, when using the BUFFER backpressure strategy.
+     * When the buffer of a subscriber is half full, the consumer of the route sending the exchanges is suspended (if it
+     * supports suspension), and it is resumed once the subscribers have requested the buffered exchanges. Exchanges
+     * sent when the buffer is full are discarded. Setting a non-positive value means the buffer is unbounded.
+     */
+    public void setMaxBufferSize(Integer maxBufferSize) {
+        this.maxBufferSize = maxBufferSize;
+    }
+
     @ManagedAttribute(description = "Determines if onComplete events should be pushed to the Camel route")
     public boolean isForwardOnComplete() {
         return forwardOnComplete;
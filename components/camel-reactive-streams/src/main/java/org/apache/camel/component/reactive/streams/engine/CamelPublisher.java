@@ -16,9 +16,12 @@
  */
 package org.apache.camel.component.reactive.streams.engine;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
@@ -26,7 +29,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
 import org.apache.camel.Exchange;
+import org.apache.camel.Route;
+import org.apache.camel.Suspendable;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsBackpressureStrategy;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsComponent;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsEndpoint;
@@ -34,6 +40,7 @@ import org.apache.camel.component.reactive.streams.ReactiveStreamsHelper;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsNoActiveSubscriptionsException;
 import org.apache.camel.component.reactive.streams.ReactiveStreamsProducer;
 import org.apache.camel.component.reactive.streams.api.DispatchCallback;
+import org.apache.camel.support.service.ServiceHelper;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.slf4j.Logger;
@@ -48,18 +55,29 @@ public class CamelPublisher implements Publisher<Exchange>, AutoCloseable {
 
     private final ExecutorService workerPool;
 
+    private final CamelContext context;
+
     private final String name;
 
     private final List<CamelSubscription> subscriptions = new CopyOnWriteArrayList<>();
 
     private ReactiveStreamsBackpressureStrategy backpressureStrategy;
 
+    private int maxBufferSize;
+
+    /**
+     * The upstream consumers suspended because the buffer of a subscription is full.
+     */
+    private final Set<Consumer> suspendedConsumers = new LinkedHashSet<>();
+
     private ReactiveStreamsProducer producer;
 
     public CamelPublisher(ExecutorService workerPool, CamelContext context, String name) {
         this.workerPool = workerPool;
-        this.backpressureStrategy
-                = ((ReactiveStreamsComponent) context.getComponent("reactive-streams")).getBackpressureStrategy();
+        this.context = context;
+        ReactiveStreamsComponent component = (ReactiveStreamsComponent) context.getComponent("reactive-streams");
+        this.backpressureStrategy = component.getBackpressureStrategy();
+        this.maxBufferSize = component.getMaxBufferSize();
         this.name = name;
     }
 
@@ -67,13 +85,71 @@ public class CamelPublisher implements Publisher<Exchange>, AutoCloseable {
     public void subscribe(Subscriber<? super Exchange> subscriber) {
         Objects.requireNonNull(subscriber, "subscriber must not be null");
         CamelSubscription sub = new CamelSubscription(
-                UUID.randomUUID().toString(), workerPool, this, name, this.backpressureStrategy, subscriber);
+                UUID.randomUUID().toString(), workerPool, this, name, this.backpressureStrategy, this.maxBufferSize,
+                subscriber);
         this.subscriptions.add(sub);
         subscriber.onSubscribe(sub);
     }
 
     public void unsubscribe(CamelSubscription subscription) {
         subscriptions.remove(subscription);
+        // the subscription no longer holds back the upstream consumers
+        resumeUpstream();
+    }
+
+    /**
+     * Suspends the consumer of the route which sent the exchange, so no more exchanges are sent to the stream until the
+     * subscribers request them.
+     */
+    public void suspendUpstream(Exchange exchange) {
+        String routeId = exchange.getFromRouteId();
+        Route route = routeId != null ? context.getRoute(routeId) : null;
+        Consumer consumer = route != null ? route.getConsumer() : null;
+        if (!(consumer instanceof Suspendable)) {
+            // the exchanges are discarded once the buffer is full
+            return;
+        }
+
+        synchronized (suspendedConsumers) {
+            if (suspendedConsumers.add(consumer)) {
+                LOG.debug("Suspending consumer {} as the buffer of a subscription to the stream {} is full", consumer, name);
+                try {
+                    ServiceHelper.suspendService(consumer);
+                } catch (Exception e) {
+                    LOG.warn("Error suspending consumer: {}. This exception is ignored.", consumer, e);
+                }
+            }
+        }
+        // the buffers may have been drained in the meantime
+        resumeUpstream();
+    }
+
+    /**
+     * Resumes the upstream consumers once the buffers of all the subscriptions have been drained.
+     */
+    public void resumeUpstream() {
+        synchronized (suspendedConsumers) {
+            if (suspendedConsumers.isEmpty()) {
+                return;
+            }
+            for (CamelSubscription sub : subscriptions) {
+                if (sub.isBufferAboveLowWatermark()) {
+                    return;
+                }
+            }
+
+            List<Consumer> consumers = new ArrayList<>(suspendedConsumers);
+            suspendedConsumers.clear();
+            for (Consumer consumer : consumers) {
+                LOG.debug("Resuming consumer {} as the subscriptions to the stream {} requested more exchanges", consumer,
+                        name);
+                try {
+                    ServiceHelper.resumeService(consumer);
+                } catch (Exception e) {
+                    LOG.warn("Error resuming consumer: {}. This exception is ignored.", consumer, e);
+                }
+            }
+        }
     }
 
     public void publish(Exchange data) {
@@ -128,6 +204,12 @@ public class CamelPublisher implements Publisher<Exchange>, AutoCloseable {
                 sub.setBackpressureStrategy(endpoint.getBackpressureStrategy());
             }
         }
+        if (endpoint.getMaxBufferSize() != null) {
+            this.maxBufferSize = endpoint.getMaxBufferSize();
+            for (CamelSubscription sub : this.subscriptions) {
+                sub.setMaxBufferSize(endpoint.getMaxBufferSize());
+            }
+        }
     }
 
     public void detachProducer() {
@@ -140,6 +222,17 @@ public class CamelPublisher implements Publisher<Exchange>, AutoCloseable {
             sub.signalCompletion();
         }
         subscriptions.clear();
+        resumeUpstream();
+    }
+
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    public int getSuspendedConsumersCount() {
+        synchronized (suspendedConsumers) {
+            return suspendedConsumers.size();
+        }
     }
 
     public List<CamelSubscription> getSubscriptions() {
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.reactive.streams.engine;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -23,6 +24,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -60,7 +62,16 @@ public class CamelSubscription implements Subscription {
      */
     private final Lock mutex = new ReentrantLock(true);
 
-    private final LinkedList<Exchange> buffer = new LinkedList<>();
+    private final ArrayDeque<Exchange> buffer = new ArrayDeque<>();
+
+    /**
+     * The maximum number of exchanges in the buffer, or 0 if unbounded.
+     */
+    private int maxBufferSize;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final AtomicLong deliveredCount = new AtomicLong();
 
     /**
      * The current number of exchanges requested by the subscriber.
@@ -86,11 +97,18 @@ public class CamelSubscription implements Subscription {
     public CamelSubscription(String id, ExecutorService workerPool, CamelPublisher publisher, String streamName,
                              ReactiveStreamsBackpressureStrategy backpressureStrategy,
                              Subscriber<? super Exchange> subscriber) {
+        this(id, workerPool, publisher, streamName, backpressureStrategy, 0, subscriber);
+    }
+
+    public CamelSubscription(String id, ExecutorService workerPool, CamelPublisher publisher, String streamName,
+                             ReactiveStreamsBackpressureStrategy backpressureStrategy, int maxBufferSize,
+                             Subscriber<? super Exchange> subscriber) {
         this.id = id;
         this.workerPool = workerPool;
         this.publisher = publisher;
         this.streamName = streamName;
         this.backpressureStrategy = backpressureStrategy;
+        this.maxBufferSize = maxBufferSize;
         this.subscriber = subscriber;
     }
 
@@ -152,6 +170,7 @@ public class CamelSubscription implements Subscription {
 
     protected void flush() {
         LinkedList<Exchange> sendingQueue = null;
+        boolean drained = false;
         try {
             mutex.lock();
 
@@ -167,17 +186,24 @@ public class CamelSubscription implements Subscription {
                     sendingQueue.add(buffer.removeFirst());
                     amount--;
                 }
+                drained = !isAboveLowWatermark();
             }
 
         } finally {
             mutex.unlock();
         }
 
+        if (drained) {
+            // there is room in the buffer, so the upstream consumers can be resumed
+            publisher.resumeUpstream();
+        }
+
         if (sendingQueue != null) {
             LOG.debug("Sending {} events to the subscriber", sendingQueue.size());
             for (Exchange data : sendingQueue) {
                 // TODO what if the subscriber throws an exception?
                 this.subscriber.onNext(data);
+                deliveredCount.incrementAndGet();
 
                 mutex.lock();
                 boolean shouldStop = this.terminated;
@@ -213,9 +239,10 @@ public class CamelSubscription implements Subscription {
         }
 
         discardBuffer(bufferCopy);
+        publisher.resumeUpstream();
     }
 
-    protected void discardBuffer(List<Exchange> remaining) {
+    protected void discardBuffer(Collection<Exchange> remaining) {
         for (Exchange data : remaining) {
             ReactiveStreamsHelper.invokeDispatchCallback(
                     data,
@@ -225,17 +252,28 @@ public class CamelSubscription implements Subscription {
 
     public void publish(Exchange message) {
         Map<Exchange, String> discardedMessages = null;
+        boolean full = false;
         try {
             mutex.lock();
             if (!this.terminating && !this.terminated) {
-                Collection<Exchange> discarded = this.backpressureStrategy.update(buffer, message);
+                Collection<Exchange> discarded;
+                if (maxBufferSize > 0 && buffer.size() >= maxBufferSize) {
+                    // the buffer is bounded so discard the incoming exchange
+                    discarded = Collections.singletonList(message);
+                } else {
+                    discarded = this.backpressureStrategy.update(buffer, message);
+                }
                 if (!discarded.isEmpty()) {
+                    droppedCount.addAndGet(discarded.size());
                     discardedMessages = new HashMap<>();
                     for (Exchange ex : discarded) {
                         discardedMessages.put(ex,
                                 "Exchange " + ex + " discarded by backpressure strategy " + this.backpressureStrategy);
                     }
                 }
+                // suspend the upstream consumers when the buffer is half full, so the remaining half can hold
+                // the exchanges which are already in flight
+                full = maxBufferSize > 0 && buffer.size() >= Math.max(1, maxBufferSize / 2);
             } else {
                 // acknowledge
                 discardedMessages
@@ -245,6 +283,10 @@ public class CamelSubscription implements Subscription {
             mutex.unlock();
         }
 
+        if (full) {
+            publisher.suspendUpstream(message);
+        }
+
         // discarding outside of mutex scope
         if (discardedMessages != null) {
             for (Exchange exchange : discardedMessages.keySet()) {
@@ -263,8 +305,54 @@ public class CamelSubscription implements Subscription {
         mutex.unlock();
     }
 
+    public void setMaxBufferSize(int maxBufferSize) {
+        mutex.lock();
+        this.maxBufferSize = maxBufferSize;
+        mutex.unlock();
+    }
+
+    public int getMaxBufferSize() {
+        return maxBufferSize;
+    }
+
+    /**
+     * Whether the bounded buffer holds more than a quarter of its capacity, in which case the upstream consumers should
+     * not be resumed yet.
+     */
+    protected boolean isAboveLowWatermark() {
+        return maxBufferSize > 0 && buffer.size() > maxBufferSize / 4;
+    }
+
+    public boolean isBufferAboveLowWatermark() {
+        mutex.lock();
+        try {
+            return isAboveLowWatermark();
+        } finally {
+            mutex.unlock();
+        }
+    }
+
     public long getBufferSize() {
-        return buffer.size();
+        mutex.lock();
+        try {
+            return buffer.size();
+        } finally {
+            mutex.unlock();
+        }
+    }
+
+    /**
+     * The number of exchanges discarded by the backpressure strategy or because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * The number of exchanges delivered to the subscriber.
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
     }
 
     public ReactiveStreamsBackpressureStrategy getBackpressureStrategy() {
@@ -384,9 +384,11 @@ public class DefaultCamelReactiveStreamsService extends ServiceSupport implement
                         String id = sub.getId();
                         long bufferSize = sub.getBufferSize();
                         String backpressure = sub.getBackpressureStrategy() != null ? sub.getBackpressureStrategy().name() : "";
+                        long dropped = sub.getDroppedCount();
+                        long delivered = sub.getDeliveredCount();
                         CompositeData subData = new CompositeDataSupport(
-                                subCt, new String[] { "name", "buffer size", "back pressure" },
-                                new Object[] { id, bufferSize, backpressure });
+                                subCt, new String[] { "name", "buffer size", "back pressure", "dropped", "delivered" },
+                                new Object[] { id, bufferSize, backpressure, dropped, delivered });
 
                         subscriptionData.put(subData);
                     }
@@ -437,9 +439,9 @@ public class DefaultCamelReactiveStreamsService extends ServiceSupport implement
     private static CompositeType subscriptionsCompositeType() throws OpenDataException {
         return new CompositeType(
                 "subscriptions", "Subscriptions",
-                new String[] { "name", "buffer size", "back pressure" },
-                new String[] { "Name", "Buffer Size", "Back Pressure" },
-                new OpenType[] { SimpleType.STRING, SimpleType.LONG, SimpleType.STRING });
+                new String[] { "name", "buffer size", "back pressure", "dropped", "delivered" },
+                new String[] { "Name", "Buffer Size", "Back Pressure", "Dropped", "Delivered" },
+                new OpenType[] { SimpleType.STRING, SimpleType.LONG, SimpleType.STRING, SimpleType.LONG, SimpleType.LONG });
     }
 
     private static TabularType publishersTabularType() throws OpenDataException {
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.reactive.streams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StatefulService;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.reactive.streams.api.CamelReactiveStreams;
+import org.apache.camel.component.reactive.streams.support.TestSubscriber;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedBufferPublisherTest extends BaseReactiveTest {
+
+    @Test
+    public void testSubscriberDemandSuspendsAndResumesConsumer() throws Exception {
+        CountDownLatch generationLatch = new CountDownLatch(5);
+
+        new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("timer:tick?period=20&repeatCount=40")
+                        .id("bounded-route")
+                        .process(x -> generationLatch.countDown())
+                        .to("reactive-streams:pub?maxBufferSize=10");
+            }
+        }.addRoutesToCamelContext(context);
+
+        CountDownLatch receptionLatch = new CountDownLatch(40);
+
+        Publisher<Exchange> pub = CamelReactiveStreams.get(context()).fromStream("pub", Exchange.class);
+        TestSubscriber<Exchange> subscriber = new TestSubscriber<Exchange>() {
+            @Override
+            public void onNext(Exchange o) {
+                super.onNext(o);
+                receptionLatch.countDown();
+            }
+        };
+        pub.subscribe(subscriber);
+
+        context.start();
+        assertTrue(generationLatch.await(5, TimeUnit.SECONDS));
+
+        // the subscriber did not request anything, so the timer is suspended once half of the buffer is used
+        StatefulService service = (StatefulService) context().getRoute("bounded-route").getConsumer();
+        await().atMost(5, TimeUnit.SECONDS).until(service::isSuspended);
+        Thread.sleep(200);
+        assertEquals(40, receptionLatch.getCount());
+
+        // the demand of the subscriber resumes the timer
+        subscriber.request(40);
+        assertTrue(receptionLatch.await(5, TimeUnit.SECONDS));
+        assertTrue(service.isStarted());
+    }
+
+    @Test
+    public void testExchangesAreDiscardedWhenBufferIsFull() throws Exception {
+        Publisher<Exchange> pub = CamelReactiveStreams.get(context()).fromStream("pub", Exchange.class);
+        TestSubscriber<Exchange> subscriber = new TestSubscriber<>();
+        pub.subscribe(subscriber);
+
+        context.start();
+
+        // the exchanges are not sent from a route, so there is no consumer to suspend
+        List<Future<Exchange>> replies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            replies.add(template.asyncSend("reactive-streams:pub?maxBufferSize=3", e -> e.getIn().setBody("Hello")));
+        }
+
+        // the exchanges which do not fit in the buffer are discarded
+        await().atMost(5, TimeUnit.SECONDS).until(() -> replies.stream().filter(Future::isDone).count() == 2);
+        for (Future<Exchange> reply : replies) {
+            if (reply.isDone()) {
+                assertTrue(reply.get().getException() instanceof ReactiveStreamsDiscardedException);
+            }
+        }
+
+        // the buffered exchanges are completed once delivered
+        subscriber.request(3);
+        for (Future<Exchange> reply : replies) {
+            reply.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(2, replies.stream().filter(BoundedBufferPublisherTest::isDiscarded).count());
+    }
+
+    private static boolean isDiscarded(Future<Exchange> reply) {
+        try {
+            return reply.get().getException() instanceof ReactiveStreamsDiscardedException;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+}
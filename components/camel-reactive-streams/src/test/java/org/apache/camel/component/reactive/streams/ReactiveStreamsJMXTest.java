@@ -73,6 +73,7 @@ public class ReactiveStreamsJMXTest extends BaseReactiveTest {
         assertEquals(2, subTd.values().size());
         Map<String, Object> subscriptions = getValues(subTd, 1);
         assertEquals("BUFFER", subscriptions.get("back pressure"));
+        assertEquals(0L, subscriptions.get("dropped"));
     }
 
     private Map<String, Object> getValues(MBeanServer mbeanServer, ObjectName rxService, String name, int index)
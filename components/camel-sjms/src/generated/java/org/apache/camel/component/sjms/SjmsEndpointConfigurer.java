@@ -104,6 +104,10 @@ public class SjmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timetolive":
         case "timeToLive": target.setTimeToLive(property(camelContext, long.class, value)); return true;
         case "transacted": target.setTransacted(property(camelContext, boolean.class, value)); return true;
+        case "transactionbatchcount":
+        case "transactionBatchCount": target.setTransactionBatchCount(property(camelContext, int.class, value)); return true;
+        case "transactionbatchtimeout":
+        case "transactionBatchTimeout": target.setTransactionBatchTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "transferexception":
         case "transferException": target.setTransferException(property(camelContext, boolean.class, value)); return true;
         default: return false;
@@ -196,6 +200,10 @@ public class SjmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timetolive":
         case "timeToLive": return long.class;
         case "transacted": return boolean.class;
+        case "transactionbatchcount":
+        case "transactionBatchCount": return int.class;
+        case "transactionbatchtimeout":
+        case "transactionBatchTimeout": return long.class;
         case "transferexception":
         case "transferException": return boolean.class;
         default: return null;
@@ -289,6 +297,10 @@ public class SjmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timetolive":
         case "timeToLive": return target.getTimeToLive();
         case "transacted": return target.isTransacted();
+        case "transactionbatchcount":
+        case "transactionBatchCount": return target.getTransactionBatchCount();
+        case "transactionbatchtimeout":
+        case "transactionBatchTimeout": return target.getTransactionBatchTimeout();
         case "transferexception":
         case "transferException": return target.isTransferException();
         default: return null;
@@ -21,7 +21,7 @@ public class SjmsEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(46);
+        Set<String> props = new HashSet<>(48);
         props.add("acknowledgementMode");
         props.add("allowNullBody");
         props.add("asyncConsumer");
@@ -67,6 +67,8 @@ public class SjmsEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("testConnectionOnStartup");
         props.add("timeToLive");
         props.add("transacted");
+        props.add("transactionBatchCount");
+        props.add("transactionBatchTimeout");
         props.add("transferException");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
@@ -85,6 +85,19 @@ public class SjmsEndpoint extends DefaultEndpoint
     @UriParam(label = "transaction",
               description = "Specifies whether to use transacted mode")
     private boolean transacted;
+    @UriParam(label = "transaction,advanced", defaultValue = "1",
+              description = "If transacted is enabled, then the transaction is committed once this number of messages has been"
+                            + " consumed or sent in the same session, instead of once per message. If a message in the batch"
+                            + " fails, then the whole batch is rolled back, so the consumed messages are redelivered and the"
+                            + " exchanges of the messages sent by the producer fail. The exchanges of the producer are completed"
+                            + " once their batch has been committed.")
+    private int transactionBatchCount = 1;
+    @UriParam(label = "transaction,advanced", defaultValue = "5000", javaType = "java.time.Duration",
+              description = "If transactionBatchCount is in use, then a batch holding fewer messages is committed once it is"
+                            + " older than this timeout, in milliseconds. Must be positive, as the messages of a batch which is not full"
+                            + " are otherwise never committed. Notice that a single caller sending one message at a time"
+                            + " waits for this timeout on every message, as its batch never fills up.")
+    private long transactionBatchTimeout = 5000;
     @UriParam(label = "common",
               description = "Provides an explicit ReplyTo destination (overrides any incoming value of Message.getJMSReplyTo() in consumer).")
     private String replyTo;
@@ -286,6 +299,10 @@ public class SjmsEndpoint extends DefaultEndpoint
         if (headerFilterStrategy == null) {
             headerFilterStrategy = new SjmsHeaderFilterStrategy(includeAllJMSXProperties);
         }
+        if (transacted && transactionBatchCount > 1 && transactionBatchTimeout <= 0) {
+            // a batch which never fills up would never be committed, and its exchanges would wait forever
+            throw new IllegalArgumentException("The option transactionBatchTimeout must be > 0 when using transactionBatchCount");
+        }
     }
 
     /**
@@ -653,6 +670,22 @@ public class SjmsEndpoint extends DefaultEndpoint
         this.transacted = transacted;
     }
 
+    public int getTransactionBatchCount() {
+        return transactionBatchCount;
+    }
+
+    public void setTransactionBatchCount(int transactionBatchCount) {
+        this.transactionBatchCount = transactionBatchCount;
+    }
+
+    public long getTransactionBatchTimeout() {
+        return transactionBatchTimeout;
+    }
+
+    public void setTransactionBatchTimeout(long transactionBatchTimeout) {
+        this.transactionBatchTimeout = transactionBatchTimeout;
+    }
+
     public String getReplyTo() {
         return replyTo;
     }
@@ -16,15 +16,20 @@
  */
 package org.apache.camel.component.sjms;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.jms.Connection;
 import javax.jms.Destination;
 import javax.jms.JMSException;
 import javax.jms.Message;
+import javax.jms.MessageProducer;
 import javax.jms.Session;
 
 import org.apache.camel.AsyncCallback;
@@ -57,6 +62,11 @@ public class SjmsProducer extends DefaultAsyncProducer {
     private SjmsTemplate inOutTemplate;
     private UuidGenerator uuidGenerator;
     private ReplyManager replyManager;
+    private final Object batchLock = new Object();
+    private Connection batchConnection;
+    private TransactionBatch batch;
+    private final Map<String, MessageProducer> batchProducers = new HashMap<>();
+    private ScheduledExecutorService batchExecutorService;
 
     public SjmsProducer(SjmsEndpoint endpoint) {
         super(endpoint);
@@ -83,12 +93,26 @@ public class SjmsProducer extends DefaultAsyncProducer {
         if (endpoint.isTestConnectionOnStartup()) {
             testConnectionOnStartup();
         }
+        if (isBatchTransacted() && endpoint.getTransactionBatchTimeout() > 0) {
+            batchExecutorService = endpoint.getCamelContext().getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "SjmsProducerTransactionBatch");
+            long interval = Math.max(10, endpoint.getTransactionBatchTimeout() / 2);
+            batchExecutorService.scheduleWithFixedDelay(this::commitExpiredBatch, interval, interval,
+                    TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
 
+        if (batchExecutorService != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdownNow(batchExecutorService);
+            batchExecutorService = null;
+        }
+        // commit the messages sent in the current batch
+        closeBatch(true);
+
         // must stop/un-init reply manager if it was in use
         unInitReplyManager();
     }
@@ -410,6 +434,10 @@ public class SjmsProducer extends DefaultAsyncProducer {
             }
         };
 
+        if (isBatchTransacted()) {
+            return doSendInBatch(exchange, destinationName, messageCreator, callback);
+        }
+
         try {
             doSend(exchange, false, destinationName, messageCreator);
         } catch (Exception e) {
@@ -426,6 +454,147 @@ public class SjmsProducer extends DefaultAsyncProducer {
         return true;
     }
 
+    protected boolean isBatchTransacted() {
+        return endpoint.isTransacted() && endpoint.getTransactionBatchCount() > 1;
+    }
+
+    /**
+     * Sends the message in the transacted session shared by the exchanges of the current batch. The exchange is
+     * completed when the batch is committed, or fails when the batch is rolled back.
+     */
+    protected boolean doSendInBatch(
+            Exchange exchange, String destinationName, MessageCreator messageCreator, AsyncCallback callback) {
+        List<TransactionBatch.Pending> completed;
+        Exception cause = null;
+        synchronized (batchLock) {
+            TransactionBatch current;
+            try {
+                current = getOrCreateBatch();
+            } catch (Exception e) {
+                exchange.setException(e);
+                callback.done(true);
+                return true;
+            }
+            current.getLock().lock();
+            try {
+                Session session = current.getSession();
+                Message message = messageCreator.createMessage(session);
+                MessageProducer producer = batchProducers.get(destinationName);
+                if (producer == null) {
+                    Destination destination = endpoint.getDestinationCreationStrategy()
+                            .createDestination(session, destinationName, endpoint.isTopic());
+                    producer = session.createProducer(destination);
+                    batchProducers.put(destinationName, producer);
+                }
+                getInOnlyTemplate().send(producer, message);
+                setMessageId(exchange);
+
+                if (!current.add(exchange, callback)) {
+                    // the exchange is completed when the batch is committed
+                    return false;
+                }
+                LOG.trace("Committing transaction batch of {} messages", current.getCount());
+                completed = current.commit();
+            } catch (Exception e) {
+                // rollback the whole batch, which fails all its exchanges
+                LOG.debug("Rolling back transaction batch due to: {}", e.getMessage());
+                cause = e;
+                completed = current.rollback();
+                closeBatch(false);
+            } finally {
+                current.getLock().unlock();
+            }
+        }
+
+        // complete the exchanges outside the lock, as they continue routing
+        for (TransactionBatch.Pending pending : completed) {
+            // the exchange of this thread is completed synchronously below
+            if (pending.getExchange() != exchange) {
+                pending.done(cause);
+            }
+        }
+        if (cause != null) {
+            exchange.setException(cause);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Commits the current batch if it is older than the transaction batch timeout.
+     */
+    protected void commitExpiredBatch() {
+        List<TransactionBatch.Pending> completed;
+        Exception cause = null;
+        synchronized (batchLock) {
+            TransactionBatch current = batch;
+            if (current == null || !current.isExpired()) {
+                return;
+            }
+            current.getLock().lock();
+            try {
+                LOG.trace("Committing expired transaction batch of {} messages", current.getCount());
+                completed = current.commit();
+            } catch (Exception e) {
+                LOG.warn("Error committing transaction batch. The exchanges of the batch will fail.", e);
+                cause = e;
+                completed = current.rollback();
+                closeBatch(false);
+            } finally {
+                current.getLock().unlock();
+            }
+        }
+        TransactionBatch.done(completed, cause);
+    }
+
+    private TransactionBatch getOrCreateBatch() throws Exception {
+        if (batch == null) {
+            Connection connection = getInOnlyTemplate().createConnection();
+            try {
+                Session session = getInOnlyTemplate().createSession(connection);
+                batch = new TransactionBatch(
+                        session, endpoint.getTransactionBatchCount(), endpoint.getTransactionBatchTimeout());
+                batchConnection = connection;
+            } catch (Exception e) {
+                SjmsHelper.closeConnection(connection);
+                throw e;
+            }
+        }
+        return batch;
+    }
+
+    private void closeBatch(boolean commit) {
+        List<TransactionBatch.Pending> completed = null;
+        Exception cause = null;
+        synchronized (batchLock) {
+            if (batch == null) {
+                return;
+            }
+            if (commit) {
+                batch.getLock().lock();
+                try {
+                    completed = batch.commit();
+                } catch (Exception e) {
+                    cause = e;
+                    completed = batch.rollback();
+                } finally {
+                    batch.getLock().unlock();
+                }
+            }
+            for (MessageProducer producer : batchProducers.values()) {
+                SjmsHelper.closeProducer(producer);
+            }
+            batchProducers.clear();
+            SjmsHelper.closeSession(batch.getSession());
+            SjmsHelper.closeConnection(batchConnection);
+            batch = null;
+            batchConnection = null;
+        }
+        if (completed != null) {
+            TransactionBatch.done(completed, cause);
+        }
+    }
+
     protected void setMessageId(Exchange exchange) {
         if (exchange.hasOut()) {
             SjmsMessage out = exchange.getOut(SjmsMessage.class);
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.jms.JMSException;
+import javax.jms.Session;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+
+/**
+ * A batch of messages consumed or sent in a transacted {@link Session}, which is committed once
+ * <tt>transactionBatchCount</tt> messages have been added, or when the batch is older than
+ * <tt>transactionBatchTimeout</tt> millis.
+ * <p/>
+ * As a JMS session must not be used concurrently, the session must only be used while holding the {@link #getLock()
+ * lock} of the batch.
+ */
+public class TransactionBatch {
+
+    private final Session session;
+    private final int batchCount;
+    private final long batchTimeout;
+    private final Lock lock = new ReentrantLock();
+    private final List<Pending> pending = new ArrayList<>();
+    private int count;
+    private long started;
+
+    public TransactionBatch(Session session, int batchCount, long batchTimeout) {
+        this.session = session;
+        this.batchCount = batchCount;
+        this.batchTimeout = batchTimeout;
+    }
+
+    public Session getSession() {
+        return session;
+    }
+
+    public Lock getLock() {
+        return lock;
+    }
+
+    /**
+     * Adds a message to the batch.
+     *
+     * @param  exchange the exchange to complete when the batch is committed or rolled back, or <tt>null</tt>
+     * @param  callback the callback to complete when the batch is committed or rolled back, or <tt>null</tt>
+     * @return          <tt>true</tt> if the batch is complete and should be committed
+     */
+    public boolean add(Exchange exchange, AsyncCallback callback) {
+        if (count++ == 0) {
+            started = System.currentTimeMillis();
+        }
+        if (callback != null) {
+            pending.add(new Pending(exchange, callback));
+        }
+        return count >= batchCount || isExpired();
+    }
+
+    /**
+     * Whether the batch holds messages and is older than the batch timeout.
+     */
+    public boolean isExpired() {
+        return count > 0 && batchTimeout > 0 && System.currentTimeMillis() - started >= batchTimeout;
+    }
+
+    /**
+     * The millis until the batch expires, or the batch timeout if the batch holds no messages.
+     */
+    public long getTimeUntilExpired() {
+        if (count == 0) {
+            return batchTimeout;
+        }
+        return Math.max(0, batchTimeout - (System.currentTimeMillis() - started));
+    }
+
+    /**
+     * The number of messages in the batch
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Commits the session.
+     *
+     * @return the exchanges of the batch to complete
+     */
+    public List<Pending> commit() throws JMSException {
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        try {
+            session.commit();
+        } finally {
+            // if the commit failed then the broker has rolled back the transaction
+            count = 0;
+        }
+        return drain();
+    }
+
+    /**
+     * Rolls back the session, so the consumed messages are redelivered and the sent messages are discarded.
+     *
+     * @return the exchanges of the batch to fail
+     */
+    public List<Pending> rollback() {
+        count = 0;
+        try {
+            SjmsHelper.rollbackIfNeeded(session);
+        } catch (Exception e) {
+            // ignore
+        }
+        return drain();
+    }
+
+    private List<Pending> drain() {
+        if (pending.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Pending> answer = new ArrayList<>(pending);
+        pending.clear();
+        return answer;
+    }
+
+    /**
+     * Completes the exchanges of a batch, which must be done without holding the lock as the callbacks continue routing
+     * the exchanges.
+     *
+     * @param pending the exchanges of the batch
+     * @param cause   the cause if the batch has been rolled back, or <tt>null</tt> if committed
+     */
+    public static void done(List<Pending> pending, Exception cause) {
+        for (Pending p : pending) {
+            p.done(cause);
+        }
+    }
+
+    /**
+     * An exchange waiting for the batch to complete
+     */
+    public static final class Pending {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+
+        private Pending(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+
+        public Exchange getExchange() {
+            return exchange;
+        }
+
+        /**
+         * Completes the exchange.
+         *
+         * @param cause the cause if the batch has been rolled back, or <tt>null</tt> if committed
+         */
+        public void done(Exception cause) {
+            if (cause != null) {
+                exchange.setException(cause);
+            }
+            callback.done(false);
+        }
+    }
+}
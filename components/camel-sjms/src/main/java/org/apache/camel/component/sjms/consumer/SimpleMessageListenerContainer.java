@@ -18,6 +18,7 @@ package org.apache.camel.component.sjms.consumer;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import javax.jms.Connection;
@@ -32,6 +33,7 @@ import javax.jms.Session;
 import org.apache.camel.CamelContext;
 import org.apache.camel.component.sjms.SessionMessageListener;
 import org.apache.camel.component.sjms.SjmsEndpoint;
+import org.apache.camel.component.sjms.TransactionBatch;
 import org.apache.camel.component.sjms.jms.DestinationCreationStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.backoff.BackOff;
@@ -60,8 +62,10 @@ public class SimpleMessageListenerContainer extends ServiceSupport
     private final Object consumerLock = new Object();
     private Set<MessageConsumer> consumers;
     private Set<Session> sessions;
+    private Set<TransactionBatch> batches;
     private BackOffTimer.Task recoverTask;
     private ScheduledExecutorService scheduler;
+    private ExecutorService batchExecutor;
 
     public SimpleMessageListenerContainer(SjmsEndpoint endpoint) {
         this.endpoint = endpoint;
@@ -122,17 +126,32 @@ public class SimpleMessageListenerContainer extends ServiceSupport
     }
 
     protected void configureConsumer(MessageConsumer consumer, Session session) throws Exception {
-        consumer.setMessageListener(new SimpleMessageListener(messageListener, session));
+        if (isBatchTransacted()) {
+            // the session is only used from the thread receiving its messages, which also commits the expired batches
+            TransactionBatch batch
+                    = new TransactionBatch(session, endpoint.getTransactionBatchCount(), endpoint.getTransactionBatchTimeout());
+            batches.add(batch);
+            SimpleMessageListener listener = new SimpleMessageListener(messageListener, session, batch);
+            getBatchExecutor().execute(new BatchMessageReceiver(consumer, listener, batch));
+        } else {
+            consumer.setMessageListener(new SimpleMessageListener(messageListener, session, null));
+        }
+    }
+
+    protected boolean isBatchTransacted() {
+        return endpoint.isTransacted() && endpoint.getTransactionBatchCount() > 1;
     }
 
     private class SimpleMessageListener implements MessageListener {
 
         private final SessionMessageListener messageListener;
         private final Session session;
+        private final TransactionBatch batch;
 
-        public SimpleMessageListener(SessionMessageListener messageListener, Session session) {
+        public SimpleMessageListener(SessionMessageListener messageListener, Session session, TransactionBatch batch) {
             this.messageListener = messageListener;
             this.session = session;
+            this.batch = batch;
         }
 
         @Override
@@ -151,6 +170,10 @@ public class SimpleMessageListenerContainer extends ServiceSupport
         }
 
         protected void doOnMessage(Message message) throws Exception {
+            if (batch != null) {
+                doOnMessageInBatch(message);
+                return;
+            }
             try {
                 messageListener.onMessage(message, session);
             } catch (Exception e) {
@@ -162,6 +185,81 @@ public class SimpleMessageListenerContainer extends ServiceSupport
             commitIfNeeded(session, message);
         }
 
+        protected void doOnMessageInBatch(Message message) throws Exception {
+            batch.getLock().lock();
+            try {
+                try {
+                    messageListener.onMessage(message, session);
+                } catch (Exception e) {
+                    // rollback the whole batch so all its messages are redelivered
+                    LOG.debug("Rolling back transaction batch of {} messages", batch.getCount() + 1);
+                    batch.rollback();
+                    throw e;
+                }
+                if (batch.add(null, null)) {
+                    LOG.trace("Committing transaction batch of {} messages", batch.getCount());
+                    batch.commit();
+                }
+            } finally {
+                batch.getLock().unlock();
+            }
+        }
+
+        /**
+         * Commits the batch if it is older than the transaction batch timeout, so the messages of a batch are not left
+         * uncommitted when no more messages are received.
+         */
+        protected void commitIfExpired() {
+            batch.getLock().lock();
+            try {
+                if (batch.isExpired()) {
+                    LOG.trace("Committing expired transaction batch of {} messages", batch.getCount());
+                    batch.commit();
+                }
+            } catch (Exception e) {
+                LOG.warn("Error committing transaction batch. The messages will be redelivered.", e);
+            } finally {
+                batch.getLock().unlock();
+            }
+        }
+
+    }
+
+    /**
+     * Receives the messages of a consumer in a transacted batch, waiting no longer than the time until the batch
+     * expires, so an expired batch is committed from the same thread as the one using the session.
+     */
+    private class BatchMessageReceiver implements Runnable {
+
+        private final MessageConsumer consumer;
+        private final SimpleMessageListener listener;
+        private final TransactionBatch batch;
+
+        BatchMessageReceiver(MessageConsumer consumer, SimpleMessageListener listener, TransactionBatch batch) {
+            this.consumer = consumer;
+            this.listener = listener;
+            this.batch = batch;
+        }
+
+        @Override
+        public void run() {
+            while (isRunAllowed()) {
+                Message message;
+                try {
+                    // receive(0) would block until a message arrives
+                    message = consumer.receive(Math.max(1, batch.getTimeUntilExpired()));
+                } catch (JMSException e) {
+                    // the consumer is closed when stopping, or when the connection is recovered with new consumers
+                    LOG.debug("Stopped receiving messages due to: {}. This exception is ignored.", e.getMessage(), e);
+                    return;
+                }
+                if (message != null) {
+                    listener.onMessage(message);
+                } else {
+                    listener.commitIfExpired();
+                }
+            }
+        }
     }
 
     @Override
@@ -184,6 +282,7 @@ public class SimpleMessageListenerContainer extends ServiceSupport
         synchronized (this.connectionLock) {
             this.sessions = null;
             this.consumers = null;
+            this.batches = null;
         }
         scheduleConnectionRecovery();
     }
@@ -205,11 +304,24 @@ public class SimpleMessageListenerContainer extends ServiceSupport
         }
     }
 
-    protected void scheduleConnectionRecovery() {
+    protected ScheduledExecutorService getScheduler() {
         if (scheduler == null) {
             this.scheduler = endpoint.getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
                     "SimpleMessageListenerContainer");
         }
+        return scheduler;
+    }
+
+    protected ExecutorService getBatchExecutor() {
+        if (batchExecutor == null) {
+            this.batchExecutor = endpoint.getCamelContext().getExecutorServiceManager().newCachedThreadPool(this,
+                    "SimpleMessageListenerContainer");
+        }
+        return batchExecutor;
+    }
+
+    protected void scheduleConnectionRecovery() {
+        getScheduler();
 
         // we need to recover using a background task
         if (recoverTask == null || recoverTask.getStatus() != BackOffTimer.Task.Status.Active) {
@@ -237,6 +349,10 @@ public class SimpleMessageListenerContainer extends ServiceSupport
             endpoint.getCamelContext().getExecutorServiceManager().shutdown(scheduler);
             scheduler = null;
         }
+        if (batchExecutor != null) {
+            endpoint.getCamelContext().getExecutorServiceManager().shutdown(batchExecutor);
+            batchExecutor = null;
+        }
     }
 
     protected void initConsumers() throws Exception {
@@ -246,6 +362,7 @@ public class SimpleMessageListenerContainer extends ServiceSupport
                         destinationName);
                 sessions = new HashSet<>(concurrentConsumers);
                 consumers = new HashSet<>(concurrentConsumers);
+                batches = new HashSet<>(concurrentConsumers);
                 for (int i = 0; i < this.concurrentConsumers; i++) {
                     Session session = createSession(connection, endpoint);
                     MessageConsumer consumer = createMessageConsumer(session);
@@ -272,6 +389,19 @@ public class SimpleMessageListenerContainer extends ServiceSupport
                 for (MessageConsumer consumer : this.consumers) {
                     closeConsumer(consumer);
                 }
+                if (this.batches != null) {
+                    // commit the messages processed in the current batches
+                    for (TransactionBatch batch : this.batches) {
+                        batch.getLock().lock();
+                        try {
+                            batch.commit();
+                        } catch (Exception e) {
+                            LOG.debug("Error committing transaction batch. This exception is ignored.", e);
+                        } finally {
+                            batch.getLock().unlock();
+                        }
+                    }
+                }
                 if (this.sessions != null) {
                     LOG.debug("Stopping JMS Sessions");
                     for (Session session : this.sessions) {
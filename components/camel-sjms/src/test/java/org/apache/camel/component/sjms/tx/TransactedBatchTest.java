@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sjms.tx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.component.sjms.SjmsComponent;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TransactedBatchTest extends CamelTestSupport {
+
+    @Test
+    public void testProducerCommitsFullBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+
+        // the exchanges are completed once the batch of 5 messages has been committed
+        List<Future<Exchange>> replies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            replies.add(template.asyncSend("direct:start", e -> e.getIn().setBody("Hello World")));
+        }
+        for (Future<Exchange> reply : replies) {
+            assertNull(reply.get(5, TimeUnit.SECONDS).getException());
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testProducerCommitsExpiredBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B");
+
+        Future<Exchange> a = template.asyncSend("direct:start", e -> e.getIn().setBody("A"));
+        Future<Exchange> b = template.asyncSend("direct:start", e -> e.getIn().setBody("B"));
+
+        // the batch is not full, so it is committed when it times out
+        assertNull(a.get(5, TimeUnit.SECONDS).getException());
+        assertNull(b.get(5, TimeUnit.SECONDS).getException());
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testProducerSequentialSend() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C");
+
+        // each batch only holds the message of the caller, so it is committed when it times out
+        template.sendBody("direct:start", "A");
+        template.sendBody("direct:start", "B");
+        template.sendBody("direct:start", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchTimeoutMustBePositive() {
+        Exception e = assertThrows(Exception.class,
+                () -> context.getEndpoint("sjms:queue:batch.zero?transacted=true&transactionBatchCount=5&transactionBatchTimeout=0")
+                        .createProducer().start());
+        assertIsInstanceOf(IllegalArgumentException.class, ObjectHelper.getException(IllegalArgumentException.class, e));
+    }
+
+    @Test
+    public void testConsumerRollbackRedeliversBatch() throws Exception {
+        // A is processed again as the batch holding A and B is rolled back
+        MockEndpoint mock = getMockEndpoint("mock:batch");
+        mock.expectedBodiesReceived("A", "A", "B", "C");
+
+        template.sendBody("sjms:queue:batch.in", "A");
+        template.sendBody("sjms:queue:batch.in", "B");
+        template.sendBody("sjms:queue:batch.in", "C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        ActiveMQConnectionFactory connectionFactory
+                = new ActiveMQConnectionFactory("vm://broker?broker.persistent=false&broker.useJmx=false");
+        CamelContext camelContext = super.createCamelContext();
+        SjmsComponent component = new SjmsComponent();
+        component.setConnectionFactory(connectionFactory);
+        camelContext.addComponent("sjms", component);
+        return camelContext;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .to("sjms:queue:batch.out?transacted=true&transactionBatchCount=5&transactionBatchTimeout=500");
+
+                from("sjms:queue:batch.out?transacted=true&transactionBatchCount=5&transactionBatchTimeout=500")
+                        .to("mock:result");
+
+                from("sjms:queue:batch.in?transacted=true&transactionBatchCount=3&transactionBatchTimeout=500")
+                        .process(exchange -> {
+                            String body = exchange.getIn().getBody(String.class);
+                            boolean redelivered = exchange.getIn().getHeader("JMSRedelivered", false, Boolean.class);
+                            if ("B".equals(body) && !redelivered) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .to("mock:batch");
+            }
+        };
+    }
+}
@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.idempotent.jdbc;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.processor.idempotent.BloomFilter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Version of {@link JdbcMessageIdRepository} which avoids most of the database round trips of the idempotent checks.
+ * <p/>
+ * Adding a key does not query the table; the key is inserted, and <tt>add</tt> returns <tt>false</tt> if the insert
+ * conflicts with a row already in the table, like with <tt>INSERT ... ON CONFLICT DO NOTHING</tt>. The keys added
+ * concurrently are coalesced: while a batch is inserted, the keys added in the meantime wait and are inserted together
+ * in the next batch of at most <tt>batchSize</tt> keys, and each caller is given the result of its own key. As the keys
+ * are in the table once <tt>add</tt> returns, the repository can be shared by several nodes.
+ * <p/>
+ * The keys recently added or found are kept in a bounded local cache. Optionally a Bloom filter of the keys stored in
+ * the table is loaded on start, so <tt>contains</tt> only queries the table when the filter reports that the key might
+ * exist. The Bloom filter should only be enabled when this repository is the only one adding keys for its processor
+ * name, as keys added by others after the start are missed by the filter.
+ */
+@ManagedResource(description = "JDBC batching IdempotentRepository")
+public class JdbcBatchingMessageIdRepository extends JdbcMessageIdRepository {
+
+    private int cacheSize = 10000;
+    private int batchSize = 100;
+    private boolean useBloomFilter;
+    private long expectedKeys = 1000000;
+    private double falsePositiveProbability = 0.01;
+    private String queryKeysString = "SELECT messageId FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ?";
+
+    private final Object lock = new Object();
+    private final Map<String, PendingKey> pending = new LinkedHashMap<>();
+    private final Object flushLock = new Object();
+    private Map<String, Boolean> cache;
+    private BloomFilter filter;
+
+    private final AtomicLong cacheHitCount = new AtomicLong();
+    private final AtomicLong filterSkipCount = new AtomicLong();
+    private final AtomicLong lookupCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong insertedCount = new AtomicLong();
+    private final AtomicLong conflictCount = new AtomicLong();
+
+    public JdbcBatchingMessageIdRepository() {
+    }
+
+    public JdbcBatchingMessageIdRepository(DataSource dataSource, String processorName) {
+        super(dataSource, processorName);
+    }
+
+    public JdbcBatchingMessageIdRepository(DataSource dataSource, TransactionTemplate transactionTemplate,
+                                           String processorName) {
+        super(dataSource, transactionTemplate, processorName);
+    }
+
+    public JdbcBatchingMessageIdRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        super(jdbcTemplate, transactionTemplate);
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        if (getTableName() != null) {
+            queryKeysString = queryKeysString.replaceFirst(DEFAULT_TABLENAME, getTableName());
+        }
+        cache = LRUCacheFactory.newLRUCache(cacheSize);
+        if (useBloomFilter) {
+            filter = new BloomFilter(expectedKeys, falsePositiveProbability);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (filter != null) {
+            reload();
+        }
+    }
+
+    @ManagedOperation(description = "Adds the key to the store")
+    @Override
+    public boolean add(final String key) {
+        PendingKey added;
+        synchronized (lock) {
+            if (pending.containsKey(key) || cache.containsKey(key)) {
+                cacheHitCount.incrementAndGet();
+                return false;
+            }
+            added = new PendingKey(key);
+            pending.put(key, added);
+        }
+
+        synchronized (flushLock) {
+            // the keys added while the previous batch was inserted are inserted together
+            while (!added.done) {
+                flush();
+            }
+        }
+        if (added.cause != null) {
+            throw added.cause;
+        }
+        return added.inserted;
+    }
+
+    @ManagedOperation(description = "Does the store contain the given key")
+    @Override
+    public boolean contains(final String key) {
+        synchronized (lock) {
+            if (pending.containsKey(key) || cache.containsKey(key)) {
+                cacheHitCount.incrementAndGet();
+                return true;
+            }
+        }
+        if (filter != null && !filter.mightContain(key)) {
+            filterSkipCount.incrementAndGet();
+            return false;
+        }
+        lookupCount.incrementAndGet();
+        if (queryForInt(key) > 0) {
+            remember(key);
+            return true;
+        }
+        return false;
+    }
+
+    @ManagedOperation(description = "Remove the key from the store")
+    @Override
+    public boolean remove(final String key) {
+        synchronized (flushLock) {
+            synchronized (lock) {
+                cache.remove(key);
+            }
+            return super.remove(key);
+        }
+    }
+
+    @ManagedOperation(description = "Clear the store")
+    @Override
+    public void clear() {
+        synchronized (flushLock) {
+            synchronized (lock) {
+                cache.clear();
+                if (filter != null) {
+                    filter.clear();
+                }
+            }
+            super.clear();
+        }
+    }
+
+    /**
+     * Reloads the Bloom filter from the keys stored in the table.
+     */
+    public void reload() {
+        if (filter == null) {
+            return;
+        }
+        transactionTemplate.execute(status -> {
+            try {
+                filter.clear();
+                jdbcTemplate.query(getQueryKeysString(), resultSet -> {
+                    filter.put(resultSet.getString(1));
+                }, getProcessorName());
+                log.info("JdbcBatchingMessageIdRepository Bloom filter loaded with {} entries", filter.getKeyCount());
+            } catch (DataAccessException dae) {
+                log.error("Unable to populate JdbcBatchingMessageIdRepository Bloom filter because of: {}.",
+                        dae.getMessage());
+                throw dae;
+            }
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * Inserts the next batch of waiting keys, and completes their callers. Must be called while holding the flush lock.
+     */
+    private void flush() {
+        List<PendingKey> batch = new ArrayList<>();
+        synchronized (lock) {
+            Iterator<PendingKey> it = pending.values().iterator();
+            while (it.hasNext() && batch.size() < batchSize) {
+                batch.add(it.next());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(batch.size());
+        for (PendingKey key : batch) {
+            keys.add(key.key);
+        }
+        boolean[] inserted;
+        try {
+            inserted = insertBatch(keys);
+            flushCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                for (PendingKey key : batch) {
+                    pending.remove(key.key);
+                    key.done(false, e);
+                }
+            }
+            return;
+        }
+
+        // keep the keys pending until they are in the table, so they are never missed by a concurrent lookup
+        synchronized (lock) {
+            for (int i = 0; i < batch.size(); i++) {
+                PendingKey key = batch.get(i);
+                pending.remove(key.key);
+                cache.put(key.key, Boolean.TRUE);
+                if (filter != null) {
+                    filter.put(key.key);
+                }
+                key.done(inserted[i], null);
+            }
+        }
+    }
+
+    /**
+     * Inserts the keys, skipping those already in the table.
+     *
+     * @return for each key whether it has been inserted, or skipped as it was already in the table
+     */
+    protected boolean[] insertBatch(List<String> keys) {
+        boolean[] answer = new boolean[keys.size()];
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try {
+            transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(getInsertString(), keys, keys.size(),
+                    (ps, key) -> {
+                        ps.setString(1, processorName);
+                        ps.setString(2, key);
+                        ps.setTimestamp(3, now);
+                    }));
+            insertedCount.addAndGet(keys.size());
+            Arrays.fill(answer, true);
+        } catch (DataIntegrityViolationException e) {
+            // some of the keys are already in the table, so insert the keys one by one skipping those
+            log.debug("Inserting the batch of {} keys failed due to {}. Inserting the keys one by one.", keys.size(),
+                    e.getMessage());
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                try {
+                    transactionTemplate.execute(status -> insert(key));
+                    insertedCount.incrementAndGet();
+                    answer[i] = true;
+                } catch (DataIntegrityViolationException ex) {
+                    conflictCount.incrementAndGet();
+                }
+            }
+        }
+        return answer;
+    }
+
+    private void remember(String key) {
+        synchronized (lock) {
+            cache.put(key, Boolean.TRUE);
+        }
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * The maximum number of keys kept in the local cache.
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of keys, added concurrently, which are inserted together.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public boolean isUseBloomFilter() {
+        return useBloomFilter;
+    }
+
+    /**
+     * Whether to load a Bloom filter of the keys stored in the table on start, so <tt>contains</tt> does not query the
+     * table for keys which are not in the filter. Only enable it when this repository is the only one adding keys for
+     * its processor name.
+     */
+    public void setUseBloomFilter(boolean useBloomFilter) {
+        this.useBloomFilter = useBloomFilter;
+    }
+
+    public long getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    /**
+     * The number of keys the Bloom filter is sized for.
+     */
+    public void setExpectedKeys(long expectedKeys) {
+        this.expectedKeys = expectedKeys;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * The wanted probability of the Bloom filter reporting that a key might exist, once the expected number of keys
+     * have been added, in which case the table is queried.
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public String getQueryKeysString() {
+        return queryKeysString;
+    }
+
+    public void setQueryKeysString(String queryKeysString) {
+        this.queryKeysString = queryKeysString;
+    }
+
+    @ManagedAttribute(description = "Number of keys waiting to be inserted")
+    public int getPendingCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    @ManagedAttribute(description = "Number of keys found in the local cache or waiting to be inserted")
+    public long getCacheHitCount() {
+        return cacheHitCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of lookups in the table skipped thanks to the Bloom filter")
+    public long getFilterSkipCount() {
+        return filterSkipCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of lookups in the table")
+    public long getLookupCount() {
+        return lookupCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of batches inserted")
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of keys inserted")
+    public long getInsertedCount() {
+        return insertedCount.get();
+    }
+
+    @ManagedAttribute(description = "Number of keys not inserted as they were already in the table")
+    public long getConflictCount() {
+        return conflictCount.get();
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        cacheHitCount.set(0);
+        filterSkipCount.set(0);
+        lookupCount.set(0);
+        flushCount.set(0);
+        insertedCount.set(0);
+        conflictCount.set(0);
+    }
+
+    /**
+     * A key waiting to be inserted by a caller of <tt>add</tt>
+     */
+    private static final class PendingKey {
+        private final String key;
+        private volatile boolean done;
+        private volatile boolean inserted;
+        private volatile RuntimeException cause;
+
+        private PendingKey(String key) {
+            this.key = key;
+        }
+
+        private void done(boolean inserted, RuntimeException cause) {
+            this.inserted = inserted;
+            this.cause = cause;
+            this.done = true;
+        }
+    }
+}
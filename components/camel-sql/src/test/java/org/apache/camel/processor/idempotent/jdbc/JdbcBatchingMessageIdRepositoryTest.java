@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.idempotent.jdbc;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcBatchingMessageIdRepositoryTest {
+
+    private static final String INSERT_STRING
+            = "INSERT INTO CAMEL_MESSAGEPROCESSED (processorName, messageId, createdAt) VALUES (?, ?, ?)";
+    private static final String COUNT_STRING = "SELECT COUNT(*) FROM CAMEL_MESSAGEPROCESSED WHERE processorName = ?";
+    private static final String PROCESSOR_NAME = "myProcessorName";
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcBatchingMessageIdRepository repository;
+    private volatile boolean databaseDown;
+    private volatile CountDownLatch insertStarted;
+    private volatile CountDownLatch insertReleased;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        repository = new JdbcBatchingMessageIdRepository(dataSource, PROCESSOR_NAME) {
+            @Override
+            protected boolean[] insertBatch(List<String> keys) {
+                if (databaseDown) {
+                    throw new DataAccessResourceFailureException("Database is down");
+                }
+                CountDownLatch started = insertStarted;
+                if (started != null) {
+                    // block the first batch only
+                    insertStarted = null;
+                    started.countDown();
+                    try {
+                        insertReleased.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.insertBatch(keys);
+            }
+        };
+        repository.start();
+
+        // stored by another node
+        jdbcTemplate.update(INSERT_STRING, PROCESSOR_NAME, "1", new Timestamp(System.currentTimeMillis()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.stop();
+        dataSource.shutdown();
+    }
+
+    @Test
+    public void testAddInsertsTheKey() {
+        assertTrue(repository.add("2"));
+        assertEquals(0, repository.getPendingCount());
+        assertEquals(2, count());
+
+        // the key is known locally now
+        assertFalse(repository.add("2"));
+        assertTrue(repository.contains("2"));
+        assertEquals(2, repository.getCacheHitCount());
+        assertEquals(0, repository.getLookupCount());
+    }
+
+    @Test
+    public void testAddReturnsFalseForKeysAddedByAnotherNode() {
+        assertFalse(repository.add("1"));
+        assertEquals(1, repository.getConflictCount());
+
+        // another node adds a key after the start
+        jdbcTemplate.update(INSERT_STRING, PROCESSOR_NAME, "3", new Timestamp(System.currentTimeMillis()));
+        assertFalse(repository.add("3"));
+        assertEquals(2, repository.getConflictCount());
+        assertEquals(0, repository.getInsertedCount());
+        assertEquals(2, count());
+    }
+
+    @Test
+    public void testConcurrentAddsAreInsertedTogether() throws Exception {
+        insertStarted = new CountDownLatch(1);
+        insertReleased = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            results.add(executor.submit(() -> repository.add("a")));
+            assertTrue(insertStarted.await(10, TimeUnit.SECONDS));
+
+            // these keys are added while the first batch is inserted
+            for (String key : new String[] { "b", "c", "1", "d", "e" }) {
+                results.add(executor.submit(() -> repository.add(key)));
+            }
+            await().atMost(10, TimeUnit.SECONDS).until(() -> repository.getPendingCount() == 6);
+            insertReleased.countDown();
+
+            boolean[] expected = { true, true, true, false, true, true };
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the keys added during the first batch are inserted in a second one
+        assertEquals(2, repository.getFlushCount());
+        assertEquals(5, repository.getInsertedCount());
+        assertEquals(1, repository.getConflictCount());
+        assertEquals(6, count());
+    }
+
+    @Test
+    public void testFailedInsertFailsTheAdd() {
+        databaseDown = true;
+        assertThrows(DataAccessResourceFailureException.class, () -> repository.add("2"));
+        assertEquals(0, repository.getPendingCount());
+        assertEquals(1, count());
+
+        databaseDown = false;
+        assertTrue(repository.add("2"));
+        assertEquals(2, count());
+    }
+
+    @Test
+    public void testRemoveAndClear() {
+        assertTrue(repository.add("2"));
+        assertTrue(repository.remove("2"));
+        assertFalse(repository.contains("2"));
+        assertTrue(repository.add("2"));
+
+        assertTrue(repository.remove("1"));
+        assertFalse(repository.contains("1"));
+
+        repository.clear();
+        assertEquals(0, count());
+        assertTrue(repository.add("1"));
+    }
+
+    @Test
+    public void testBloomFilter() {
+        JdbcBatchingMessageIdRepository filtered = new JdbcBatchingMessageIdRepository(dataSource, PROCESSOR_NAME);
+        filtered.setUseBloomFilter(true);
+        filtered.start();
+        try {
+            // not in the filter so the table is not queried
+            assertFalse(filtered.contains("2"));
+            assertEquals(1, filtered.getFilterSkipCount());
+            assertEquals(0, filtered.getLookupCount());
+
+            assertTrue(filtered.contains("1"));
+            assertEquals(1, filtered.getLookupCount());
+
+            assertTrue(filtered.add("2"));
+            assertTrue(filtered.contains("2"));
+        } finally {
+            filtered.stop();
+        }
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject(COUNT_STRING, Integer.class, PROCESSOR_NAME);
+    }
+}
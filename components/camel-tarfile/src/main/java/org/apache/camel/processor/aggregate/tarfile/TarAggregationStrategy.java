@@ -16,6 +16,7 @@
  */
 package org.apache.camel.processor.aggregate.tarfile;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -23,6 +24,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.Exchange;
@@ -34,6 +37,7 @@ import org.apache.camel.component.file.GenericFileMessage;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.ArchiveException;
 import org.apache.commons.compress.archivers.ArchiveStreamFactory;
@@ -57,8 +61,9 @@ import org.slf4j.LoggerFactory;
  *
  * <p>
  * <b>NOTE 2:</b> This implementation is very inefficient especially on big files since the tar file is completely
- * rewritten for each file that is added to it. Investigate if the files can be collected and at completion stored to
- * tar file.
+ * rewritten for each file that is added to it, unless the streaming mode is enabled. In streaming mode the TAR file of
+ * each aggregation is kept open and written in a single pass until the aggregation completes, which requires an
+ * in-memory aggregation repository.
  * </p>
  */
 public class TarAggregationStrategy implements AggregationStrategy {
@@ -69,7 +74,9 @@ public class TarAggregationStrategy implements AggregationStrategy {
     private String fileSuffix = ".tar";
     private boolean preserveFolderStructure;
     private boolean useFilenameHeader;
+    private boolean streaming;
     private File parentDir = new File(System.getProperty("java.io.tmpdir"));
+    private final Map<String, TarArchiveOutputStream> streams = new ConcurrentHashMap<>();
 
     public TarAggregationStrategy() {
         this(false, false);
@@ -116,6 +123,19 @@ public class TarAggregationStrategy implements AggregationStrategy {
         this.fileSuffix = fileSuffix;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets whether to stream the aggregated exchanges into the TAR file, which is kept open until the aggregation
+     * completes. This avoids rewriting the TAR file for every aggregated exchange, but the TAR file is only complete
+     * once the aggregation has completed.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public File getParentDir() {
         return parentDir;
     }
@@ -149,11 +169,14 @@ public class TarAggregationStrategy implements AggregationStrategy {
             try {
                 tarFile = FileUtil.createTempFile(this.filePrefix, this.fileSuffix, this.parentDir);
                 LOG.trace("Created temporary file: {}", tarFile);
+                if (streaming) {
+                    openTarStream(tarFile);
+                }
             } catch (IOException e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
             }
             answer = newExchange;
-            answer.adapt(ExtendedExchange.class).addOnCompletion(new DeleteTarFileOnCompletion(tarFile));
+            answer.adapt(ExtendedExchange.class).addOnCompletion(new DeleteTarFileOnCompletion(tarFile, streams));
         } else {
             tarFile = oldExchange.getIn().getBody(File.class);
         }
@@ -171,7 +194,11 @@ public class TarAggregationStrategy implements AggregationStrategy {
                     String entryName = preserveFolderStructure
                             ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class)
                             : newExchange.getIn().getMessageId();
-                    addFileToTar(tarFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    if (streaming) {
+                        writeFileToTar(tarFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    } else {
+                        addFileToTar(tarFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    }
                 }
             } catch (Exception e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
@@ -185,7 +212,11 @@ public class TarAggregationStrategy implements AggregationStrategy {
                     String entryName = useFilenameHeader
                             ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class)
                             : newExchange.getIn().getMessageId();
-                    addEntryToTar(tarFile, entryName, buffer, buffer.length);
+                    if (streaming) {
+                        writeEntryToTar(tarFile, entryName, buffer, buffer.length);
+                    } else {
+                        addEntryToTar(tarFile, entryName, buffer, buffer.length);
+                    }
                 }
             } catch (Exception e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
@@ -197,6 +228,65 @@ public class TarAggregationStrategy implements AggregationStrategy {
         return answer;
     }
 
+    @Override
+    public void onCompletion(Exchange exchange) {
+        if (!streaming || exchange == null) {
+            return;
+        }
+        File tarFile = exchange.getIn().getBody(File.class);
+        TarArchiveOutputStream tos = tarFile != null ? streams.remove(tarFile.getAbsolutePath()) : null;
+        if (tos == null) {
+            return;
+        }
+        try {
+            // writes the end of archive records
+            synchronized (tos) {
+                tos.close();
+            }
+        } catch (IOException e) {
+            exchange.setException(new GenericFileOperationFailedException(e.getMessage(), e));
+            return;
+        }
+        LOG.trace("Closed streaming TAR file: {}", tarFile);
+        // bind the TAR file again, as its length has changed since the last aggregated exchange
+        GenericFile<File> genericFile = FileConsumer.asGenericFile(
+                tarFile.getParent(), tarFile, Charset.defaultCharset().toString(), false);
+        genericFile.bindToExchange(exchange);
+    }
+
+    private void openTarStream(File tarFile) throws IOException {
+        TarArchiveOutputStream tos = new TarArchiveOutputStream(new BufferedOutputStream(new FileOutputStream(tarFile)));
+        tos.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+        tos.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+        streams.put(tarFile.getAbsolutePath(), tos);
+        LOG.trace("Opened streaming TAR file: {}", tarFile);
+    }
+
+    private TarArchiveOutputStream getTarStream(File tarFile) throws IOException {
+        TarArchiveOutputStream tos = streams.get(tarFile.getAbsolutePath());
+        if (tos == null) {
+            throw new IOException("The streaming TAR file " + tarFile + " is not open, which is only supported"
+                                  + " using an in-memory aggregation repository");
+        }
+        return tos;
+    }
+
+    private void writeFileToTar(File tarFile, File file, String fileName) throws IOException {
+        TarArchiveOutputStream tos = getTarStream(tarFile);
+        synchronized (tos) {
+            try (InputStream in = new FileInputStream(file)) {
+                addNewEntry(file, fileName, tos, in);
+            }
+        }
+    }
+
+    private void writeEntryToTar(File tarFile, String entryName, byte[] buffer, int length) throws IOException {
+        TarArchiveOutputStream tos = getTarStream(tarFile);
+        synchronized (tos) {
+            createNewEntry(entryName, buffer, length, tos);
+        }
+    }
+
     private void addFileToTar(File source, File file, String fileName) throws IOException, ArchiveException {
         File tmpTar = Files.createTempFile(parentDir.toPath(), source.getName(), null).toFile();
         tmpTar.delete();
@@ -282,20 +372,32 @@ public class TarAggregationStrategy implements AggregationStrategy {
     private static class DeleteTarFileOnCompletion implements Synchronization {
 
         private final File fileToDelete;
+        private final Map<String, TarArchiveOutputStream> streams;
 
-        DeleteTarFileOnCompletion(File fileToDelete) {
+        DeleteTarFileOnCompletion(File fileToDelete, Map<String, TarArchiveOutputStream> streams) {
             this.fileToDelete = fileToDelete;
+            this.streams = streams;
         }
 
         @Override
         public void onFailure(Exchange exchange) {
+            closeStream();
             // Keep the file if something gone a miss.
         }
 
         @Override
         public void onComplete(Exchange exchange) {
+            closeStream();
             LOG.debug("Deleting tar file on completion: {}", this.fileToDelete);
             FileUtil.deleteFile(this.fileToDelete);
         }
+
+        private void closeStream() {
+            // the TAR file is left open in streaming mode if the aggregation did not complete, such as when discarded
+            TarArchiveOutputStream tos = streams.remove(fileToDelete.getAbsolutePath());
+            if (tos != null) {
+                IOHelper.close(tos);
+            }
+        }
     }
 }
@@ -26,6 +26,7 @@ import java.util.Properties;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.namespace.QName;
 import javax.xml.parsers.ParserConfigurationException;
@@ -51,10 +52,12 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.Predicate;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.RuntimeExpressionException;
+import org.apache.camel.SafeCopyProperty;
 import org.apache.camel.WrappedFile;
 import org.apache.camel.spi.ExpressionResultTypeAware;
 import org.apache.camel.spi.Language;
@@ -95,6 +98,7 @@ public class XPathBuilder extends ServiceSupport
     private static final String SAXON_OBJECT_MODEL_URI = "http://saxon.sf.net/jaxp/xpath/om";
     private static final String SAXON_FACTORY_CLASS_NAME = "net.sf.saxon.xpath.XPathFactoryImpl";
     private static final String OBTAIN_ALL_NS_XPATH = "//*/namespace::*";
+    private static final String DOCUMENT_CACHE_PROPERTY = "CamelXPathDocumentCache";
 
     private static volatile XPathFactory defaultXPathFactory;
 
@@ -107,6 +111,9 @@ public class XPathBuilder extends ServiceSupport
     private final Map<String, String> namespaces = new ConcurrentHashMap<>();
     private boolean preCompile = true;
     private boolean threadSafety;
+    private boolean documentCache;
+    private final AtomicLong documentCacheHits = new AtomicLong();
+    private final AtomicLong documentCacheMisses = new AtomicLong();
     private volatile XPathFactory xpathFactory;
     private volatile Class<?> documentType = Document.class;
     // For some reason the default expression of "a/b" on a document such as
@@ -517,6 +524,20 @@ public class XPathBuilder extends ServiceSupport
         return this;
     }
 
+    /**
+     * Whether to share the parsed DOM document of the message body (or header) between the xpath expressions evaluated
+     * on the same exchange, as long as the body (or header) is not changed. This avoids parsing the same message again
+     * for each xpath expression, such as a content based router with several xpath predicates.
+     * <p/>
+     * The document cache is disabled by default, and is only in use when the document type is {@link Document}.
+     *
+     * @return the current builder.
+     */
+    public XPathBuilder documentCache(boolean documentCache) {
+        setDocumentCache(documentCache);
+        return this;
+    }
+
     // Properties
     // -------------------------------------------------------------------------
 
@@ -572,6 +593,28 @@ public class XPathBuilder extends ServiceSupport
         this.threadSafety = threadSafety;
     }
 
+    public boolean isDocumentCache() {
+        return documentCache;
+    }
+
+    public void setDocumentCache(boolean documentCache) {
+        this.documentCache = documentCache;
+    }
+
+    /**
+     * Number of evaluations which reused the document parsed by a previous evaluation on the same exchange.
+     */
+    public long getDocumentCacheHits() {
+        return documentCacheHits.get();
+    }
+
+    /**
+     * Number of evaluations which had to parse the message into a document as it was not cached on the exchange.
+     */
+    public long getDocumentCacheMisses() {
+        return documentCacheMisses.get();
+    }
+
     public boolean isPreCompile() {
         return preCompile;
     }
@@ -1008,10 +1051,15 @@ public class XPathBuilder extends ServiceSupport
         // files or other resources
         InputStream is = null;
         try {
-            Object document;
-
-            // Check if we need to apply the XPath expression to a header
-            if (ObjectHelper.isNotEmpty(getHeaderName())) {
+            // the message the document is parsed from, which is the key of the document cache
+            Object source = ObjectHelper.isNotEmpty(getHeaderName())
+                    ? exchange.getIn().getHeader(getHeaderName()) : exchange.getIn().getBody();
+            Object document = getCachedDocument(exchange, source);
+
+            if (document != null) {
+                LOG.trace("Using document cached on exchange: {}", exchange);
+            } else if (ObjectHelper.isNotEmpty(getHeaderName())) {
+                // Check if we need to apply the XPath expression to a header
                 String headerName = getHeaderName();
                 // only convert to input stream if really needed
                 if (isInputStreamNeeded(exchange, headerName)) {
@@ -1021,6 +1069,7 @@ public class XPathBuilder extends ServiceSupport
                     Object headerObject = exchange.getIn().getHeader(getHeaderName());
                     document = getDocument(exchange, headerObject);
                 }
+                cacheDocument(exchange, source, document);
             } else {
                 // only convert to input stream if really needed
                 if (isInputStreamNeeded(exchange)) {
@@ -1030,6 +1079,7 @@ public class XPathBuilder extends ServiceSupport
                     Object body = exchange.getIn().getBody();
                     document = getDocument(exchange, body);
                 }
+                cacheDocument(exchange, source, document);
             }
 
             if (resultQName != null) {
@@ -1308,6 +1358,60 @@ public class XPathBuilder extends ServiceSupport
         return answer;
     }
 
+    /**
+     * Gets the document parsed by a previous evaluation on the same exchange, if the message has not changed since.
+     */
+    private Object getCachedDocument(Exchange exchange, Object source) {
+        if (!documentCache) {
+            return null;
+        }
+        ExtendedExchange ee = exchange.adapt(ExtendedExchange.class);
+        CachedDocument cached = ee.getSafeCopyProperty(DOCUMENT_CACHE_PROPERTY, CachedDocument.class);
+        if (cached != null && cached.source == source && isDocumentCacheable(source)) {
+            documentCacheHits.incrementAndGet();
+            return cached.document;
+        }
+        if (cached != null) {
+            // the message has changed so do not keep hold of the stale document
+            ee.setSafeCopyProperty(DOCUMENT_CACHE_PROPERTY, null);
+        }
+        if (isDocumentCacheable(source)) {
+            documentCacheMisses.incrementAndGet();
+        }
+        return null;
+    }
+
+    private void cacheDocument(Exchange exchange, Object source, Object document) {
+        if (document instanceof Document && document != source && isDocumentCacheable(source)) {
+            exchange.adapt(ExtendedExchange.class).setSafeCopyProperty(DOCUMENT_CACHE_PROPERTY,
+                    new CachedDocument(source, (Document) document));
+        }
+    }
+
+    private boolean isDocumentCacheable(Object source) {
+        // a node does not need to be parsed, and other document types such as InputSource cannot be reused
+        return documentCache && source != null && !(source instanceof Node) && Document.class == getDocumentType();
+    }
+
+    /**
+     * The document parsed from the message of an exchange, which is not copied to the copies of the exchange (such as
+     * from the multicast EIP) as a DOM document is not safe to be read concurrently.
+     */
+    private static final class CachedDocument implements SafeCopyProperty {
+        private final Object source;
+        private final Document document;
+
+        CachedDocument(Object source, Document document) {
+            this.source = source;
+            this.document = document;
+        }
+
+        @Override
+        public SafeCopyProperty safeCopy() {
+            return new CachedDocument(null, null);
+        }
+    }
+
     private MessageVariableResolver getVariableResolver() {
         return variableResolver;
     }
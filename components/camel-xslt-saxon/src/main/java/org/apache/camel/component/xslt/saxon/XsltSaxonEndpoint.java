@@ -16,7 +16,6 @@
  */
 package org.apache.camel.component.xslt.saxon;
 
-import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.HashMap;
@@ -230,29 +229,25 @@ public class XsltSaxonEndpoint extends XsltEndpoint {
         return xslt;
     }
 
-    /**
-     * Loads the resource.
-     *
-     * @param  resourceUri          the resource to load
-     * @throws TransformerException is thrown if error loading resource
-     * @throws IOException          is thrown if error loading resource
-     */
     @Override
-    protected void loadResource(String resourceUri, XsltBuilder xslt) throws TransformerException, IOException {
-        LOG.trace("{} loading schema resource: {}", this, resourceUri);
+    protected Source resolveResource(String resourceUri, XsltBuilder xslt) throws TransformerException {
         Source source = xslt.getUriResolver().resolve(resourceUri, null);
         if (this.saxonReaderProperties != null) {
             //for Saxon we need to create XMLReader for the coming source
             //so that the features configuration can take effect
             source = createReaderForSource(source);
         }
-        if (source == null) {
-            throw new IOException("Cannot load schema resource " + resourceUri);
-        } else {
-            xslt.setTransformerSource(source);
-        }
-        // now loaded so clear flag
-        setCacheCleared(false);
+        return source;
+    }
+
+    @Override
+    protected List<Object> createTemplatesKey(String resourceUri) {
+        List<Object> key = super.createTemplatesKey(resourceUri);
+        key.add(saxonConfiguration);
+        key.add(saxonConfigurationProperties);
+        key.add(saxonReaderProperties);
+        key.add(saxonExtensionFunctions);
+        return key;
     }
 
     private Source createReaderForSource(Source source) {
@@ -22,9 +22,11 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Result;
@@ -66,7 +68,10 @@ public class XsltBuilder implements Processor {
     private Map<String, Object> parameters = new HashMap<>();
     private XMLConverterHelper converter = new XMLConverterHelper();
     private Templates template;
-    private volatile BlockingQueue<Transformer> transformers;
+    private volatile Queue<Transformer> transformers;
+    private int transformerCacheSize;
+    private final AtomicInteger cachedTransformerCount = new AtomicInteger();
+    private final AtomicLong createdTransformerCount = new AtomicLong();
     private volatile SourceHandlerFactory sourceHandlerFactory;
     private ResultHandlerFactory resultHandlerFactory = new StringResultHandlerFactory();
     private boolean failOnNullBody = true;
@@ -99,6 +104,7 @@ public class XsltBuilder implements Processor {
             exchange.adapt(ExtendedExchange.class).addOnCompletion(new XsltBuilderOnCompletion(fileName));
         }
 
+        Templates templates = getTemplate();
         Transformer transformer = getTransformer();
         configureTransformer(transformer, exchange);
 
@@ -124,7 +130,7 @@ public class XsltBuilder implements Processor {
             LOG.trace("Transform complete with result {}", result);
             resultHandler.setBody(out);
         } finally {
-            releaseTransformer(transformer);
+            releaseTransformer(transformer, templates);
             // IOHelper can handle if is is null
             IOHelper.close(is);
         }
@@ -245,8 +251,10 @@ public class XsltBuilder implements Processor {
      * @param numberToCache the maximum number of transformers to cache
      */
     public XsltBuilder transformerCacheSize(int numberToCache) {
+        transformerCacheSize = Math.max(numberToCache, 0);
+        cachedTransformerCount.set(0);
         if (numberToCache > 0) {
-            transformers = new ArrayBlockingQueue<>(numberToCache);
+            transformers = new ConcurrentLinkedQueue<>();
         } else {
             transformers = null;
         }
@@ -274,8 +282,12 @@ public class XsltBuilder implements Processor {
 
     public void setTemplate(Templates template) {
         this.template = template;
-        if (transformers != null) {
-            transformers.clear();
+        Queue<Transformer> cache = transformers;
+        if (cache != null) {
+            // the cached transformers were created from the previous template
+            while (cache.poll() != null) {
+                cachedTransformerCount.decrementAndGet();
+            }
         }
     }
 
@@ -283,6 +295,27 @@ public class XsltBuilder implements Processor {
         return template;
     }
 
+    /**
+     * The maximum number of transformers cached for reuse, or 0 if no caching is in use.
+     */
+    public int getTransformerCacheSize() {
+        return transformerCacheSize;
+    }
+
+    /**
+     * The number of transformers currently cached for reuse.
+     */
+    public int getCachedTransformerCount() {
+        return Math.max(cachedTransformerCount.get(), 0);
+    }
+
+    /**
+     * The number of transformers which have been created.
+     */
+    public long getCreatedTransformerCount() {
+        return createdTransformerCount.get();
+    }
+
     public boolean isFailOnNullBody() {
         return failOnNullBody;
     }
@@ -328,6 +361,17 @@ public class XsltBuilder implements Processor {
      * @throws TransformerConfigurationException is thrown if creating a XSLT transformer failed.
      */
     public void setTransformerSource(Source source) throws TransformerConfigurationException {
+        setTemplate(compileTemplates(source));
+    }
+
+    /**
+     * Compiles the XSLT stylesheet from a Source, without setting it as the template of this builder.
+     *
+     * @param  source                            the source
+     * @return                                   the compiled stylesheet
+     * @throws TransformerConfigurationException is thrown if creating a XSLT transformer failed.
+     */
+    public Templates compileTemplates(Source source) throws TransformerConfigurationException {
         TransformerFactory factory = converter.getTransformerFactory();
         if (errorListener != null) {
             factory.setErrorListener(errorListener);
@@ -344,7 +388,7 @@ public class XsltBuilder implements Processor {
         // deployment and raise an exception as the route will not be setup properly.
         Templates templates = factory.newTemplates(source);
         if (templates != null) {
-            setTemplate(templates);
+            return templates;
         } else {
             throw new TransformerConfigurationException(
                     "Error creating XSLT template. "
@@ -410,23 +454,32 @@ public class XsltBuilder implements Processor {
         this.converter.setTransformerFactory(transformerFactory);
     }
 
-    private void releaseTransformer(Transformer transformer) {
-        if (transformers != null) {
-            transformer.reset();
-            boolean result = transformers.offer(transformer);
-            if (!result) {
-                LOG.error("failed to offer() a transform");
+    private void releaseTransformer(Transformer transformer, Templates templates) {
+        Queue<Transformer> cache = transformers;
+        // do not cache a transformer created from a template which has since been reloaded
+        if (cache != null && templates == template) {
+            if (cachedTransformerCount.incrementAndGet() <= transformerCacheSize) {
+                transformer.reset();
+                cache.offer(transformer);
+            } else {
+                // the cache is full so discard the transformer
+                cachedTransformerCount.decrementAndGet();
             }
         }
     }
 
     private Transformer getTransformer() throws Exception {
         Transformer t = null;
-        if (transformers != null) {
-            t = transformers.poll();
+        Queue<Transformer> cache = transformers;
+        if (cache != null) {
+            t = cache.poll();
+            if (t != null) {
+                cachedTransformerCount.decrementAndGet();
+            }
         }
         if (t == null) {
             t = createTransformer();
+            createdTransformerCount.incrementAndGet();
         }
         return t;
     }
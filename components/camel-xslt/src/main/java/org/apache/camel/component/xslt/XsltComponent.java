@@ -18,12 +18,14 @@ package org.apache.camel.component.xslt;
 
 import java.util.Map;
 
+import javax.xml.transform.Templates;
 import javax.xml.transform.URIResolver;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.annotations.Component;
 import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.ResourceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +36,8 @@ import org.slf4j.LoggerFactory;
 @Component("xslt")
 public class XsltComponent extends DefaultComponent {
 
+    public static final int TEMPLATES_CACHE_DEFAULT_SIZE = 200;
+
     private static final Logger LOG = LoggerFactory.getLogger(XsltComponent.class);
 
     @Metadata(label = "advanced")
@@ -47,6 +51,9 @@ public class XsltComponent extends DefaultComponent {
     @Metadata(label = "advanced")
     private String transformerFactoryClass;
 
+    // the compiled stylesheets shared by the endpoints, bounded as dynamic endpoints may use many stylesheets
+    private final Map<Object, Templates> templatesCache = LRUCacheFactory.newLRUCache(TEMPLATES_CACHE_DEFAULT_SIZE);
+
     public XsltComponent() {
     }
 
@@ -109,6 +116,30 @@ public class XsltComponent extends DefaultComponent {
         this.transformerFactoryClass = transformerFactoryClass;
     }
 
+    /**
+     * Gets the compiled stylesheet cached for the given key, as created by {@link XsltEndpoint#createTemplatesKey}.
+     *
+     * @return the compiled stylesheet, or <tt>null</tt> if not cached
+     */
+    public Templates getCachedTemplates(Object key) {
+        return templatesCache.get(key);
+    }
+
+    /**
+     * Caches the compiled stylesheet for the given key, so it can be used by all the endpoints which compile the same
+     * stylesheet the same way. The least recently used stylesheets are evicted once
+     * {@link #TEMPLATES_CACHE_DEFAULT_SIZE} stylesheets are cached.
+     */
+    public void putCachedTemplates(Object key, Templates templates) {
+        templatesCache.put(key, templates);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        templatesCache.clear();
+    }
+
     @Override
     protected Endpoint createEndpoint(String uri, final String remaining, Map<String, Object> parameters) throws Exception {
         XsltEndpoint endpoint = createXsltEndpoint(uri);
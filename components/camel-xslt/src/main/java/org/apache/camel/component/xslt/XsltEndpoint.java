@@ -17,11 +17,14 @@
 package org.apache.camel.component.xslt;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.URIResolver;
@@ -103,6 +106,16 @@ public class XsltEndpoint extends ProcessorEndpoint {
         return contentCache;
     }
 
+    @ManagedAttribute(description = "Number of XSLT transformers which are cached for reuse")
+    public int getCachedTransformerCount() {
+        return xslt != null ? xslt.getCachedTransformerCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of XSLT transformers which have been created")
+    public long getCreatedTransformerCount() {
+        return xslt != null ? xslt.getCreatedTransformerCount() : 0;
+    }
+
     public XsltEndpoint findOrCreateEndpoint(String uri, String newResourceUri) {
         String newUri = uri.replace(resourceUri, newResourceUri);
         LOG.trace("Getting endpoint with URI: {}", newUri);
@@ -319,16 +332,56 @@ public class XsltEndpoint extends ProcessorEndpoint {
      */
     protected void loadResource(String resourceUri, XsltBuilder xslt) throws TransformerException, IOException {
         LOG.trace("{} loading schema resource: {}", this, resourceUri);
-        Source source = xslt.getUriResolver().resolve(resourceUri, null);
-        if (source == null) {
-            throw new IOException("Cannot load schema resource " + resourceUri);
+
+        // a cached stylesheet is compiled once and shared by the endpoints using it
+        XsltComponent component = contentCache && getComponent() instanceof XsltComponent
+                ? (XsltComponent) getComponent() : null;
+        Object key = component != null ? createTemplatesKey(resourceUri) : null;
+        Templates templates = key != null && !cacheCleared ? component.getCachedTemplates(key) : null;
+        if (templates == null) {
+            Source source = resolveResource(resourceUri, xslt);
+            if (source == null) {
+                throw new IOException("Cannot load schema resource " + resourceUri);
+            }
+            templates = xslt.compileTemplates(source);
+            if (key != null) {
+                component.putCachedTemplates(key, templates);
+            }
         } else {
-            xslt.setTransformerSource(source);
+            LOG.trace("{} using cached stylesheet for resource: {}", this, resourceUri);
         }
+        xslt.setTemplate(templates);
         // now loaded so clear flag
         cacheCleared = false;
     }
 
+    /**
+     * Resolves the stylesheet to compile.
+     *
+     * @param  resourceUri          the resource to load
+     * @return                      the source, or <tt>null</tt> if not found
+     * @throws TransformerException is thrown if error loading resource
+     */
+    protected Source resolveResource(String resourceUri, XsltBuilder xslt) throws TransformerException {
+        return xslt.getUriResolver().resolve(resourceUri, null);
+    }
+
+    /**
+     * Creates the key of the compiled stylesheet in the cache of the component, which must include everything that
+     * affects how the stylesheet is compiled.
+     */
+    protected List<Object> createTemplatesKey(String resourceUri) {
+        List<Object> key = new ArrayList<>();
+        key.add(resourceUri);
+        key.add(transformerFactory);
+        key.add(transformerFactoryClass);
+        key.add(transformerFactoryConfigurationStrategy);
+        key.add(errorListener);
+        // the default resolver resolves the resource and its includes from the resource uri only
+        key.add(uriResolver == null || uriResolver.getClass() == XsltUriResolver.class ? null : uriResolver);
+        return key;
+    }
+
     @Override
     protected void doInit() throws Exception {
         super.doInit();
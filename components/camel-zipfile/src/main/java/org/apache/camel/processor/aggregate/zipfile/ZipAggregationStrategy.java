@@ -16,10 +16,13 @@
  */
 package org.apache.camel.processor.aggregate.zipfile;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.Charset;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -27,7 +30,12 @@ import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.apache.camel.AggregationStrategy;
 import org.apache.camel.Exchange;
@@ -40,6 +48,9 @@ import org.apache.camel.component.file.GenericFileOperationFailedException;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * This aggregation strategy will aggregate all incoming messages into a ZIP file.
@@ -51,15 +62,24 @@ import org.apache.camel.util.FileUtil;
  * <p>
  * <b>Note:</b> Please note that this aggregation strategy requires eager completion check to work properly.
  * </p>
+ * <p>
+ * In streaming mode the ZIP file of each aggregation is written in a single pass, by keeping it open until the
+ * aggregation completes, instead of rewriting the ZIP file for every aggregated exchange. The ZIP file is only complete
+ * once the aggregation has completed, and the aggregation must use an in-memory aggregation repository.
+ * </p>
  */
 public class ZipAggregationStrategy implements AggregationStrategy {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ZipAggregationStrategy.class);
+
     private String filePrefix;
     private String fileSuffix = ".zip";
     private boolean preserveFolderStructure;
     private boolean useFilenameHeader;
     private boolean useTempFile;
+    private boolean streaming;
     private File parentDir = new File(System.getProperty("java.io.tmpdir"));
+    private final Map<String, ZipStream> streams = new ConcurrentHashMap<>();
 
     public ZipAggregationStrategy() {
         this(false);
@@ -133,6 +153,19 @@ public class ZipAggregationStrategy implements AggregationStrategy {
         this.fileSuffix = fileSuffix;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets whether to stream the aggregated exchanges into the ZIP file, which is kept open until the aggregation
+     * completes. This avoids rewriting the ZIP file for every aggregated exchange, but the ZIP file is only complete
+     * once the aggregation has completed, and an entry name cannot be added twice to the same ZIP file.
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     public File getParentDir() {
         return parentDir;
     }
@@ -161,16 +194,22 @@ public class ZipAggregationStrategy implements AggregationStrategy {
             return oldExchange;
         }
 
+        String charset = ExchangeHelper.getCharsetName(newExchange, true);
+
         // First time for this aggregation
         if (oldExchange == null) {
             try {
                 zipFile = FileUtil.createTempFile(this.filePrefix, this.fileSuffix, this.parentDir);
-                newZipFile(zipFile);
+                if (streaming) {
+                    openZipStream(zipFile, charset);
+                } else {
+                    newZipFile(zipFile);
+                }
             } catch (IOException | URISyntaxException e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
             }
             answer = newExchange;
-            answer.adapt(ExtendedExchange.class).addOnCompletion(new DeleteZipFileOnCompletion(zipFile));
+            answer.adapt(ExtendedExchange.class).addOnCompletion(new DeleteZipFileOnCompletion(zipFile, streams));
         } else {
             zipFile = oldExchange.getIn().getBody(File.class);
         }
@@ -179,8 +218,6 @@ public class ZipAggregationStrategy implements AggregationStrategy {
             body = ((WrappedFile) body).getFile();
         }
 
-        String charset = ExchangeHelper.getCharsetName(newExchange, true);
-
         if (body instanceof File) {
             try {
                 File appendFile = (File) body;
@@ -189,7 +226,11 @@ public class ZipAggregationStrategy implements AggregationStrategy {
                     String entryName = preserveFolderStructure
                             ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class)
                             : newExchange.getIn().getMessageId();
-                    addFileToZip(zipFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    if (streaming) {
+                        writeFileToZip(zipFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    } else {
+                        addFileToZip(zipFile, appendFile, this.preserveFolderStructure ? entryName : null);
+                    }
                 }
             } catch (Exception e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
@@ -203,7 +244,11 @@ public class ZipAggregationStrategy implements AggregationStrategy {
                     String entryName = useFilenameHeader
                             ? newExchange.getIn().getHeader(Exchange.FILE_NAME, String.class)
                             : newExchange.getIn().getMessageId();
-                    addEntryToZip(zipFile, entryName, buffer, charset);
+                    if (streaming) {
+                        writeEntryToZip(zipFile, entryName, buffer);
+                    } else {
+                        addEntryToZip(zipFile, entryName, buffer, charset);
+                    }
                 }
             } catch (Exception e) {
                 throw new GenericFileOperationFailedException(e.getMessage(), e);
@@ -216,6 +261,64 @@ public class ZipAggregationStrategy implements AggregationStrategy {
         return answer;
     }
 
+    @Override
+    public void onCompletion(Exchange exchange) {
+        if (!streaming || exchange == null) {
+            return;
+        }
+        File zipFile = exchange.getIn().getBody(File.class);
+        ZipStream stream = zipFile != null ? streams.remove(zipFile.getAbsolutePath()) : null;
+        if (stream == null) {
+            return;
+        }
+        try {
+            // writes the central directory of the ZIP file
+            stream.close();
+        } catch (IOException e) {
+            exchange.setException(new GenericFileOperationFailedException(e.getMessage(), e));
+            return;
+        }
+        // bind the ZIP file again, as its length has changed since the last aggregated exchange
+        String charset = ExchangeHelper.getCharsetName(exchange, true);
+        GenericFile<File> genericFile = FileConsumer.asGenericFile(zipFile.getParent(), zipFile, charset, false);
+        genericFile.bindToExchange(exchange);
+    }
+
+    private void openZipStream(File zipFile, String charset) throws IOException {
+        ZipOutputStream zos = new ZipOutputStream(
+                new BufferedOutputStream(new FileOutputStream(zipFile)), Charset.forName(charset));
+        streams.put(zipFile.getAbsolutePath(), new ZipStream(zos));
+        LOG.trace("Opened streaming ZIP file: {}", zipFile);
+    }
+
+    private ZipStream getZipStream(File zipFile) throws IOException {
+        ZipStream stream = streams.get(zipFile.getAbsolutePath());
+        if (stream == null) {
+            throw new IOException("The streaming ZIP file " + zipFile + " is not open, which is only supported"
+                                  + " using an in-memory aggregation repository");
+        }
+        return stream;
+    }
+
+    private void writeFileToZip(File zipFile, File file, String fileName) throws IOException {
+        String entryName = fileName == null ? file.getName() : fileName;
+        ZipStream stream = getZipStream(zipFile);
+        synchronized (stream) {
+            stream.putEntry(entryName);
+            Files.copy(file.toPath(), stream.zos);
+            stream.zos.closeEntry();
+        }
+    }
+
+    private void writeEntryToZip(File zipFile, String entryName, byte[] buffer) throws IOException {
+        ZipStream stream = getZipStream(zipFile);
+        synchronized (stream) {
+            stream.putEntry(entryName);
+            stream.zos.write(buffer);
+            stream.zos.closeEntry();
+        }
+    }
+
     private static void newZipFile(File zipFile) throws URISyntaxException, IOException {
         if (zipFile.exists() && !zipFile.delete()) { //Delete, because ZipFileSystem needs to create file on its own (with correct END bytes in the file)
             throw new IOException("Cannot delete file " + zipFile);
@@ -265,25 +368,68 @@ public class ZipAggregationStrategy implements AggregationStrategy {
         return new URI("jar", zipFile.toURI().toString(), null);
     }
 
+    /**
+     * A ZIP file which is written while aggregating in streaming mode.
+     */
+    private static final class ZipStream {
+
+        private final ZipOutputStream zos;
+        private final Set<String> directories = new HashSet<>();
+
+        private ZipStream(ZipOutputStream zos) {
+            this.zos = zos;
+        }
+
+        private void putEntry(String entryName) throws IOException {
+            // add the parent directories of the entry, like when adding the entry to the zip file system
+            int pos = entryName.indexOf('/');
+            while (pos > 0) {
+                String directory = entryName.substring(0, pos + 1);
+                if (directories.add(directory)) {
+                    zos.putNextEntry(new ZipEntry(directory));
+                    zos.closeEntry();
+                }
+                pos = entryName.indexOf('/', pos + 1);
+            }
+            zos.putNextEntry(new ZipEntry(entryName));
+        }
+
+        private synchronized void close() throws IOException {
+            zos.close();
+        }
+    }
+
     /**
      * This callback class is used to clean up the temporary ZIP file once the exchange has completed.
      */
     private static class DeleteZipFileOnCompletion implements Synchronization {
 
         private final File fileToDelete;
+        private final Map<String, ZipStream> streams;
 
-        DeleteZipFileOnCompletion(File fileToDelete) {
+        DeleteZipFileOnCompletion(File fileToDelete, Map<String, ZipStream> streams) {
             this.fileToDelete = fileToDelete;
+            this.streams = streams;
         }
 
         @Override
         public void onFailure(Exchange exchange) {
+            closeStream();
             // Keep the file if something gone a miss.
         }
 
         @Override
         public void onComplete(Exchange exchange) {
+            closeStream();
             FileUtil.deleteFile(this.fileToDelete);
         }
+
+        private void closeStream() {
+            // the ZIP file is left open in streaming mode if the aggregation did not complete, such as when discarded
+            ZipStream stream = streams.remove(fileToDelete.getAbsolutePath());
+            if (stream != null) {
+                IOHelper.close(stream.zos);
+            }
+        }
     }
 }
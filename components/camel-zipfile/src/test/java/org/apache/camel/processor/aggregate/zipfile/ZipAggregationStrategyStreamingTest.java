@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.zipfile;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.test.junit5.TestSupport.deleteDirectory;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class ZipAggregationStrategyStreamingTest extends CamelTestSupport {
+
+    private static final String TEST_DIR = "target/out_ZipAggregationStrategyStreamingTest";
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        deleteDirectory(TEST_DIR);
+        super.setUp();
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregateToZipEntry");
+        mock.expectedMessageCount(1);
+
+        template.sendBodyAndHeader("direct:start", "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader("direct:start", "b", Exchange.FILE_NAME, "foo/b.txt");
+        template.sendBodyAndHeader("direct:start", "c", Exchange.FILE_NAME, "foo/bar/c.txt");
+
+        assertMockEndpointsSatisfied();
+
+        File[] files = new File(TEST_DIR).listFiles();
+        assertNotNull(files);
+        assertEquals(1, files.length);
+
+        List<String> entries = new ArrayList<>();
+        ZipInputStream zin = new ZipInputStream(new FileInputStream(files[0]));
+        try {
+            for (ZipEntry ze = zin.getNextEntry(); ze != null; ze = zin.getNextEntry()) {
+                entries.add(ze.getName());
+            }
+        } finally {
+            IOHelper.close(zin);
+        }
+        assertEquals(List.of("a.txt", "foo/", "foo/b.txt", "foo/bar/", "foo/bar/c.txt"), entries);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                ZipAggregationStrategy zip = new ZipAggregationStrategy(false, true);
+                zip.setStreaming(true);
+
+                from("direct:start")
+                        .aggregate(zip)
+                        .constant(true)
+                        .completionSize(3)
+                        .eagerCheckCompletion()
+                        .to("file:" + TEST_DIR)
+                        .to("mock:aggregateToZipEntry");
+            }
+        };
+    }
+}
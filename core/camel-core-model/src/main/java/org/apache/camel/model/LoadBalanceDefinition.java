@@ -30,6 +30,7 @@ import javax.xml.bind.annotation.XmlRootElement;
 import org.apache.camel.Expression;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastLatencyLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.StickyLoadBalancerDefinition;
@@ -48,6 +49,7 @@ public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinitio
     @XmlElements({
             @XmlElement(name = "customLoadBalancer", type = CustomLoadBalancerDefinition.class),
             @XmlElement(name = "failover", type = FailoverLoadBalancerDefinition.class),
+            @XmlElement(name = "leastLatency", type = LeastLatencyLoadBalancerDefinition.class),
             @XmlElement(name = "random", type = RandomLoadBalancerDefinition.class),
             @XmlElement(name = "roundRobin", type = RoundRobinLoadBalancerDefinition.class),
             @XmlElement(name = "sticky", type = StickyLoadBalancerDefinition.class),
@@ -215,6 +217,33 @@ public class LoadBalanceDefinition extends OutputDefinition<LoadBalanceDefinitio
         return this;
     }
 
+    /**
+     * Uses least latency load balancer, which favours the processors with the lowest latency and the fewest in flight
+     * exchanges, choosing the best of two random processors.
+     *
+     * @return the builder
+     */
+    public LoadBalanceDefinition leastLatency() {
+        setLoadBalancerType(new LeastLatencyLoadBalancerDefinition());
+        return this;
+    }
+
+    /**
+     * Uses least latency load balancer
+     *
+     * @param  powerOfTwoChoices whether to choose the best of two random processors, or the best of all the processors
+     * @param  outlierFactor     a processor whose average latency is more than this factor times the average latency of
+     *                           the other processors is ejected for a period of time, use 0 to never eject processors
+     * @return                   the builder
+     */
+    public LoadBalanceDefinition leastLatency(boolean powerOfTwoChoices, double outlierFactor) {
+        LeastLatencyLoadBalancerDefinition def = new LeastLatencyLoadBalancerDefinition();
+        def.setPowerOfTwoChoices(Boolean.toString(powerOfTwoChoices));
+        def.setOutlierFactor(Double.toString(outlierFactor));
+        setLoadBalancerType(def);
+        return this;
+    }
+
     /**
      * Uses the custom load balancer
      *
@@ -48,6 +48,9 @@ public class BindyDataFormat extends DataFormatDefinition {
     @Metadata(javaType = "java.lang.Boolean", defaultValue = "false")
     private String allowEmptyStream;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean", defaultValue = "false")
+    private String usingIterator;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean", defaultValue = "true")
     private String unwrapSingleInstance;
     @XmlAttribute
@@ -146,6 +149,19 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public String getUsingIterator() {
+        return usingIterator;
+    }
+
+    /**
+     * Whether the unmarshal should return an iterator which parses the records lazily while iterating, instead of a
+     * <tt>java.util.List</tt> with all the records. This allows to split big payloads in streaming mode with constant
+     * memory. Only supported by the Csv and Fixed types.
+     */
+    public void setUsingIterator(String usingIterator) {
+        this.usingIterator = usingIterator;
+    }
+
     //
     // Fluent builder api
     //
@@ -209,4 +225,13 @@ public class BindyDataFormat extends DataFormatDefinition {
         return this;
     }
 
+    public BindyDataFormat usingIterator(boolean usingIterator) {
+        return usingIterator(Boolean.toString(usingIterator));
+    }
+
+    public BindyDataFormat usingIterator(String usingIterator) {
+        this.usingIterator = usingIterator;
+        return this;
+    }
+
 }
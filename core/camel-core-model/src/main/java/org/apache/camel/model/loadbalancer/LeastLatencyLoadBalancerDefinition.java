@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.model.loadbalancer;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.apache.camel.model.LoadBalancerDefinition;
+import org.apache.camel.spi.Metadata;
+
+/**
+ * The destination endpoints with the lowest latency and the fewest in flight exchanges are favoured.
+ */
+@Metadata(label = "eip,routing")
+@XmlRootElement(name = "leastLatency")
+@XmlAccessorType(XmlAccessType.FIELD)
+public class LeastLatencyLoadBalancerDefinition extends LoadBalancerDefinition {
+
+    @XmlAttribute
+    @Metadata(defaultValue = "true", javaType = "java.lang.Boolean")
+    private String powerOfTwoChoices;
+    @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "0.3", javaType = "java.lang.Double")
+    private String smoothingFactor;
+    @XmlAttribute
+    @Metadata(defaultValue = "0", javaType = "java.lang.Double")
+    private String outlierFactor;
+    @XmlAttribute
+    @Metadata(defaultValue = "30000", javaType = "java.time.Duration")
+    private String ejectionTime;
+
+    public LeastLatencyLoadBalancerDefinition() {
+    }
+
+    public String getPowerOfTwoChoices() {
+        return powerOfTwoChoices;
+    }
+
+    /**
+     * Whether to choose the best of two random endpoints (power of two choices), or the best of all the endpoints. The
+     * score of an endpoint is its average latency weighted by its number of in flight exchanges.
+     */
+    public void setPowerOfTwoChoices(String powerOfTwoChoices) {
+        this.powerOfTwoChoices = powerOfTwoChoices;
+    }
+
+    public String getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /**
+     * The weight (between 0 and 1) of the latest latency in the exponentially weighted moving average of the latency
+     * of an endpoint. A higher value reacts faster to changes of the latency.
+     */
+    public void setSmoothingFactor(String smoothingFactor) {
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    public String getOutlierFactor() {
+        return outlierFactor;
+    }
+
+    /**
+     * An endpoint whose average latency is more than this factor times the average latency of the other endpoints is
+     * ejected (not used) for the ejection time. Use 0 to never eject endpoints.
+     */
+    public void setOutlierFactor(String outlierFactor) {
+        this.outlierFactor = outlierFactor;
+    }
+
+    public String getEjectionTime() {
+        return ejectionTime;
+    }
+
+    /**
+     * The time in millis an outlier endpoint is ejected for, after which it is used again.
+     */
+    public void setEjectionTime(String ejectionTime) {
+        this.ejectionTime = ejectionTime;
+    }
+
+    @Override
+    public String toString() {
+        return "LeastLatencyLoadBalancer";
+    }
+}
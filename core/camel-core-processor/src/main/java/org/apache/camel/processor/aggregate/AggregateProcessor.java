@@ -201,6 +201,39 @@ public class AggregateProcessor extends AsyncProcessorSupport
             return discarded.get();
         }
 
+        @Override
+        public long getRepositoryResidentGroups() {
+            AggregationRepository repository = aggregationRepository;
+            if (repository instanceof SpillingMemoryAggregationRepository) {
+                return ((SpillingMemoryAggregationRepository) repository).getResidentGroups();
+            } else if (repository instanceof MemoryAggregationRepository) {
+                return repository.getKeys().size();
+            }
+            return -1;
+        }
+
+        @Override
+        public long getRepositorySpilledGroups() {
+            AggregationRepository repository = aggregationRepository;
+            if (repository instanceof SpillingMemoryAggregationRepository) {
+                return ((SpillingMemoryAggregationRepository) repository).getSpilledGroups();
+            } else if (repository instanceof MemoryAggregationRepository) {
+                return 0;
+            }
+            return -1;
+        }
+
+        @Override
+        public long getRepositorySpilledBytes() {
+            AggregationRepository repository = aggregationRepository;
+            if (repository instanceof SpillingMemoryAggregationRepository) {
+                return ((SpillingMemoryAggregationRepository) repository).getSpilledBytes();
+            } else if (repository instanceof MemoryAggregationRepository) {
+                return 0;
+            }
+            return -1;
+        }
+
         @Override
         public void reset() {
             totalIn.set(0);
@@ -71,6 +71,24 @@ public interface AggregateProcessorStatistics {
      */
     long getDiscarded();
 
+    /**
+     * Number of groups kept in memory by the aggregation repository, or <tt>-1</tt> if the aggregation repository does
+     * not provide this information
+     */
+    long getRepositoryResidentGroups();
+
+    /**
+     * Number of groups spilled to disk by the aggregation repository, or <tt>-1</tt> if the aggregation repository does
+     * not provide this information
+     */
+    long getRepositorySpilledGroups();
+
+    /**
+     * Number of bytes used by the groups spilled to disk by the aggregation repository, or <tt>-1</tt> if the
+     * aggregation repository does not provide this information
+     */
+    long getRepositorySpilledBytes();
+
     /**
      * Reset the counters
      */
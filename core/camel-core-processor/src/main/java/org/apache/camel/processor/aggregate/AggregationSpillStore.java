@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * Stores the spilled exchanges of a {@link SpillingMemoryAggregationRepository} in memory-mapped segment files.
+ * <p/>
+ * The encoded exchanges are appended to the current segment, and a segment file is deleted once all the exchanges
+ * stored in it have been removed. This class is not thread-safe.
+ */
+final class AggregationSpillStore {
+
+    private final File directory;
+    private final int segmentSize;
+    private final Set<Segment> segments = new HashSet<>();
+    private Segment current;
+    private long bytesUsed;
+
+    AggregationSpillStore(File directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Writes the data in the store.
+     *
+     * @return the record to read the data back
+     */
+    Record write(byte[] data) throws IOException {
+        if (current == null || current.remaining() < data.length) {
+            // a record never spans segments, so a record larger than the segment size gets its own segment
+            current = new Segment(Math.max(segmentSize, data.length));
+            segments.add(current);
+        }
+        Record record = new Record(current, current.position, data.length);
+        ByteBuffer buffer = current.buffer.duplicate();
+        buffer.position(current.position);
+        buffer.put(data);
+        current.position += data.length;
+        current.live += data.length;
+        bytesUsed += data.length;
+        return record;
+    }
+
+    byte[] read(Record record) {
+        byte[] data = new byte[record.length];
+        ByteBuffer buffer = record.segment.buffer.duplicate();
+        buffer.position(record.offset);
+        buffer.get(data);
+        return data;
+    }
+
+    /**
+     * Frees the space used by the record, deleting its segment once the segment no longer holds any record.
+     */
+    void free(Record record) {
+        Segment segment = record.segment;
+        segment.live -= record.length;
+        bytesUsed -= record.length;
+        if (segment.live == 0) {
+            if (segment == current) {
+                // reuse the current segment from the start
+                segment.position = 0;
+            } else {
+                segments.remove(segment);
+                segment.delete();
+            }
+        }
+    }
+
+    /**
+     * Number of bytes used by the records in the store.
+     */
+    long getBytesUsed() {
+        return bytesUsed;
+    }
+
+    /**
+     * Number of segment files of the store.
+     */
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * Deletes all the segments, discarding the records of the store.
+     */
+    void close() {
+        for (Segment segment : segments) {
+            segment.delete();
+        }
+        segments.clear();
+        current = null;
+        bytesUsed = 0;
+    }
+
+    private final class Segment {
+        private final File file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+        private long live;
+
+        private Segment(int size) throws IOException {
+            file = Files.createTempFile(directory.toPath(), "aggregation-", ".spill").toFile();
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                channel = raf.getChannel();
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            } catch (IOException e) {
+                IOHelper.close(raf);
+                FileUtil.deleteFile(file);
+                throw e;
+            }
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        private void delete() {
+            IOHelper.close(channel);
+            // the file may not be deleted on some platforms until the mapped buffer is garbage collected
+            if (!FileUtil.deleteFile(file)) {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * The location of an exchange in the store.
+     */
+    static final class Record {
+        private final Segment segment;
+        private final int offset;
+        private final int length;
+
+        private Record(Segment segment, int offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        int getLength() {
+            return length;
+        }
+    }
+}
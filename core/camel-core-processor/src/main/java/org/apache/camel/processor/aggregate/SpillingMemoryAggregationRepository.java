@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.spi.AggregationRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.DefaultExchangeHolder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A memory based {@link AggregationRepository} which keeps a bounded number of groups in memory, and spills the least
+ * recently used groups to memory-mapped files on the local disk once the limit is reached.
+ * <p/>
+ * The spilled groups are encoded using {@link DefaultExchangeHolder}, and are read back into memory when they are
+ * aggregated again. Groups which cannot be encoded, such as groups with a file body or with headers or properties which
+ * are not serializable, are always kept in memory. The on completions of the aggregated exchange of a spilled group are
+ * not kept, and the spilled groups are discarded when the repository is stopped, like with
+ * {@link MemoryAggregationRepository}.
+ * <p/>
+ * This repository does not support optimistic locking.
+ */
+public class SpillingMemoryAggregationRepository extends ServiceSupport implements AggregationRepository {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpillingMemoryAggregationRepository.class);
+
+    // in access order so the least recently used groups are spilled first
+    private final Map<String, Exchange> resident = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, AggregationSpillStore.Record> spilled = new HashMap<>();
+    private int maximumResidentGroups = 1000;
+    private int segmentSize = 16 * 1024 * 1024;
+    private File spillDirectory;
+    private File storeDirectory;
+    private AggregationSpillStore store;
+    private long spillCount;
+    private long restoreCount;
+
+    public SpillingMemoryAggregationRepository() {
+    }
+
+    public SpillingMemoryAggregationRepository(int maximumResidentGroups) {
+        this.maximumResidentGroups = maximumResidentGroups;
+    }
+
+    @Override
+    public synchronized Exchange add(CamelContext camelContext, String key, Exchange exchange) {
+        Exchange answer = resident.put(key, exchange);
+        AggregationSpillStore.Record record = spilled.remove(key);
+        if (record != null) {
+            if (answer == null) {
+                answer = decode(camelContext, record);
+            }
+            store.free(record);
+        }
+        evict(key);
+        return answer;
+    }
+
+    @Override
+    public synchronized Exchange get(CamelContext camelContext, String key) {
+        Exchange answer = resident.get(key);
+        if (answer == null) {
+            AggregationSpillStore.Record record = spilled.remove(key);
+            if (record != null) {
+                // the group is hot again so keep it in memory
+                answer = decode(camelContext, record);
+                store.free(record);
+                restoreCount++;
+                resident.put(key, answer);
+                evict(key);
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public synchronized void remove(CamelContext camelContext, String key, Exchange exchange) {
+        if (resident.remove(key) == null) {
+            AggregationSpillStore.Record record = spilled.remove(key);
+            if (record != null) {
+                store.free(record);
+            }
+        }
+    }
+
+    @Override
+    public void confirm(CamelContext camelContext, String exchangeId) {
+        // noop
+    }
+
+    @Override
+    public synchronized Set<String> getKeys() {
+        Set<String> answer = new HashSet<>(resident.keySet());
+        answer.addAll(spilled.keySet());
+        // do not allow edits to the set
+        return Collections.unmodifiableSet(answer);
+    }
+
+    /**
+     * Number of groups kept in memory
+     */
+    public synchronized int getResidentGroups() {
+        return resident.size();
+    }
+
+    /**
+     * Number of groups spilled to disk
+     */
+    public synchronized int getSpilledGroups() {
+        return spilled.size();
+    }
+
+    /**
+     * Number of bytes used by the groups spilled to disk
+     */
+    public synchronized long getSpilledBytes() {
+        return store != null ? store.getBytesUsed() : 0;
+    }
+
+    /**
+     * Total number of times a group has been spilled to disk
+     */
+    public synchronized long getSpillCount() {
+        return spillCount;
+    }
+
+    /**
+     * Total number of times a spilled group has been read back into memory
+     */
+    public synchronized long getRestoreCount() {
+        return restoreCount;
+    }
+
+    public int getMaximumResidentGroups() {
+        return maximumResidentGroups;
+    }
+
+    /**
+     * Sets the maximum number of groups to keep in memory, before the least recently used groups are spilled to disk.
+     */
+    public void setMaximumResidentGroups(int maximumResidentGroups) {
+        this.maximumResidentGroups = maximumResidentGroups;
+    }
+
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Sets the size in bytes of the memory-mapped files the groups are spilled to. A file is deleted once all the
+     * groups spilled to it have been read back or removed.
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    public File getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * Sets the directory in which a temporary directory is created for the spilled groups. Uses the temporary
+     * directory of the JVM by default.
+     */
+    public void setSpillDirectory(File spillDirectory) {
+        this.spillDirectory = spillDirectory;
+    }
+
+    private void evict(String key) {
+        if (resident.size() <= maximumResidentGroups) {
+            return;
+        }
+        Iterator<Map.Entry<String, Exchange>> it = resident.entrySet().iterator();
+        while (resident.size() > maximumResidentGroups && it.hasNext()) {
+            Map.Entry<String, Exchange> entry = it.next();
+            if (entry.getKey().equals(key)) {
+                // do not spill the group being aggregated
+                continue;
+            }
+            byte[] data = encode(entry.getValue());
+            if (data != null) {
+                try {
+                    spilled.put(entry.getKey(), store.write(data));
+                } catch (IOException e) {
+                    throw new RuntimeCamelException("Error spilling aggregated exchange to " + storeDirectory, e);
+                }
+                it.remove();
+                spillCount++;
+                LOG.trace("Spilled group with key {} using {} bytes", entry.getKey(), data.length);
+            }
+        }
+    }
+
+    private static byte[] encode(Exchange exchange) {
+        if (!isSerializable(exchange)) {
+            return null;
+        }
+        DefaultExchangeHolder holder = DefaultExchangeHolder.marshal(exchange, true, true);
+        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
+             ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(holder);
+            oos.flush();
+            return bos.toByteArray();
+        } catch (IOException e) {
+            // such as a serializable value which holds a value that is not
+            LOG.debug("Cannot spill exchange {} as it cannot be serialized. The exchange is kept in memory.", exchange, e);
+            return null;
+        }
+    }
+
+    private static boolean isSerializable(Exchange exchange) {
+        Object body = exchange.getIn().getBody();
+        if (body instanceof WrappedFile || body instanceof File) {
+            return false;
+        }
+        if (!isSerializable(body) || !isSerializable(exchange.getIn().getHeaders())
+                || !isSerializable(exchange.getAllProperties())) {
+            return false;
+        }
+        return !exchange.hasOut()
+                || isSerializable(exchange.getOut().getBody()) && isSerializable(exchange.getOut().getHeaders());
+    }
+
+    private static boolean isSerializable(Map<String, Object> map) {
+        for (Object value : map.values()) {
+            if (!isSerializable(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSerializable(Object value) {
+        return value == null || value instanceof Serializable;
+    }
+
+    private Exchange decode(CamelContext camelContext, AggregationSpillStore.Record record) {
+        byte[] data = store.read(record);
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            DefaultExchangeHolder holder = (DefaultExchangeHolder) ois.readObject();
+            Exchange answer = new DefaultExchange(camelContext);
+            DefaultExchangeHolder.unmarshal(answer, holder);
+            return answer;
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeCamelException("Error reading spilled aggregated exchange from " + storeDirectory, e);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (store == null) {
+            if (spillDirectory != null) {
+                Files.createDirectories(spillDirectory.toPath());
+                storeDirectory = Files.createTempDirectory(spillDirectory.toPath(), "camel-aggregation-").toFile();
+            } else {
+                storeDirectory = Files.createTempDirectory("camel-aggregation-").toFile();
+            }
+            store = new AggregationSpillStore(storeDirectory, segmentSize);
+        }
+    }
+
+    @Override
+    protected synchronized void doStop() throws Exception {
+        resident.clear();
+        spilled.clear();
+        if (store != null) {
+            store.close();
+            store = null;
+            FileUtil.removeDir(storeDirectory);
+            storeDirectory = null;
+        }
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.AsyncProcessor;
+import org.apache.camel.Exchange;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implements a load balancing policy which favours the processors with the lowest latency and the fewest in flight
+ * exchanges.
+ * <p/>
+ * The latency of each processor is tracked as an exponentially weighted moving average of its successful exchanges, and
+ * the score of a processor is its average latency weighted by its number of in flight exchanges, and divided by the
+ * rate of its exchanges which do not fail. A processor whose latency is not known yet is scored with the mean latency
+ * of the others, which is kept up to date as the latencies change. The processor is chosen either by picking the best of two random
+ * processors (power of two choices), or the best of all the processors. Optionally the processors which are much slower
+ * than the others can be ejected for a period of time.
+ */
+public class LeastLatencyLoadBalancer extends QueueLoadBalancer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LeastLatencyLoadBalancer.class);
+
+    // the number of exchanges a processor must have completed before it can be considered as an outlier
+    private static final int OUTLIER_MINIMUM_EXCHANGES = 10;
+
+    private final Map<AsyncProcessor, TargetStatistics> statistics = new ConcurrentHashMap<>();
+    private final LatencyMean latencyMean = new LatencyMean();
+    private boolean powerOfTwoChoices = true;
+    private double smoothingFactor = 0.3;
+    private double outlierFactor;
+    private long ejectionTime = 30000;
+
+    @Override
+    public void addProcessor(AsyncProcessor processor) {
+        statistics.computeIfAbsent(processor, p -> new TargetStatistics(latencyMean));
+        super.addProcessor(processor);
+    }
+
+    @Override
+    public void removeProcessor(AsyncProcessor processor) {
+        super.removeProcessor(processor);
+        TargetStatistics stats = statistics.remove(processor);
+        if (stats != null) {
+            stats.clearAverageLatency();
+        }
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        AsyncProcessor[] list = doGetProcessors();
+        if (list.length == 0) {
+            // no processors but indicate we are done
+            callback.done(true);
+            return true;
+        }
+
+        AsyncProcessor processor = chooseProcessor(list, exchange);
+        TargetStatistics stats = getStatistics(processor);
+        long start = System.nanoTime();
+        stats.begin();
+        return processor.process(exchange, doneSync -> {
+            stats.done(System.nanoTime() - start, exchange.isFailed(), smoothingFactor);
+            if (outlierFactor > 0) {
+                ejectIfOutlier(stats);
+            }
+            callback.done(doneSync);
+        });
+    }
+
+    @Override
+    protected AsyncProcessor chooseProcessor(AsyncProcessor[] processors, Exchange exchange) {
+        int size = processors.length;
+        if (size == 1) {
+            return processors[0];
+        }
+
+        long now = System.currentTimeMillis();
+        if (powerOfTwoChoices) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int a = random.nextInt(size);
+            int b = random.nextInt(size - 1);
+            if (b >= a) {
+                b++;
+            }
+            TargetStatistics sa = getStatistics(processors[a]);
+            TargetStatistics sb = getStatistics(processors[b]);
+            boolean availableA = sa.isAvailable(now);
+            boolean availableB = sb.isAvailable(now);
+            if (availableA && availableB) {
+                double mean = latencyMean.get(0);
+                long nanos = System.nanoTime();
+                return sb.getScore(mean, nanos) < sa.getScore(mean, nanos) ? processors[b] : processors[a];
+            } else if (availableA) {
+                return processors[a];
+            } else if (availableB) {
+                return processors[b];
+            }
+            // both are ejected so fallback to look at all the processors
+        }
+        return chooseLeastLoaded(processors, now);
+    }
+
+    private AsyncProcessor chooseLeastLoaded(AsyncProcessor[] processors, long now) {
+        AsyncProcessor best = null;
+        double bestScore = Double.MAX_VALUE;
+        AsyncProcessor bestEjected = null;
+        double bestEjectedScore = Double.MAX_VALUE;
+        double mean = latencyMean.get(0);
+        long nanos = System.nanoTime();
+        for (AsyncProcessor processor : processors) {
+            TargetStatistics stats = getStatistics(processor);
+            double score = stats.getScore(mean, nanos);
+            if (stats.isAvailable(now)) {
+                if (score < bestScore) {
+                    best = processor;
+                    bestScore = score;
+                }
+            } else if (score < bestEjectedScore) {
+                bestEjected = processor;
+                bestEjectedScore = score;
+            }
+        }
+        // all the processors are ejected so use the best of them anyway
+        return best != null ? best : bestEjected;
+    }
+
+    private void ejectIfOutlier(TargetStatistics stats) {
+        if (stats.getExchanges() < OUTLIER_MINIMUM_EXCHANGES) {
+            return;
+        }
+
+        double latency = stats.getAverageLatency();
+        double mean = latencyMean.get(latency);
+        // never eject the last available processor
+        if (mean > 0 && latency > outlierFactor * mean) {
+            LOG.debug("Ejecting processor with average latency {} ns for {} ms as the average latency of the others is {} ns",
+                    latency, ejectionTime, mean);
+            stats.eject(System.currentTimeMillis() + ejectionTime);
+        }
+    }
+
+    private TargetStatistics getStatistics(AsyncProcessor processor) {
+        TargetStatistics answer = statistics.get(processor);
+        if (answer == null) {
+            answer = statistics.computeIfAbsent(processor, p -> new TargetStatistics(latencyMean));
+        }
+        return answer;
+    }
+
+    /**
+     * The statistics of the processors, in the order of the processors.
+     */
+    public List<TargetStatistics> getTargetStatistics() {
+        List<TargetStatistics> answer = new ArrayList<>();
+        for (AsyncProcessor processor : doGetProcessors()) {
+            answer.add(getStatistics(processor));
+        }
+        return answer;
+    }
+
+    public void reset() {
+        statistics.values().forEach(TargetStatistics::reset);
+    }
+
+    public boolean isPowerOfTwoChoices() {
+        return powerOfTwoChoices;
+    }
+
+    /**
+     * Whether to choose the best of two random processors (default), or the best of all the processors.
+     */
+    public void setPowerOfTwoChoices(boolean powerOfTwoChoices) {
+        this.powerOfTwoChoices = powerOfTwoChoices;
+    }
+
+    public double getSmoothingFactor() {
+        return smoothingFactor;
+    }
+
+    /**
+     * The weight (between 0 and 1) of the latest latency in the moving average of the latency of a processor.
+     */
+    public void setSmoothingFactor(double smoothingFactor) {
+        if (smoothingFactor <= 0 || smoothingFactor > 1) {
+            throw new IllegalArgumentException("Smoothing factor must be between 0 and 1, was: " + smoothingFactor);
+        }
+        this.smoothingFactor = smoothingFactor;
+    }
+
+    public double getOutlierFactor() {
+        return outlierFactor;
+    }
+
+    /**
+     * A processor whose average latency is more than this factor times the average latency of the other processors is
+     * ejected for the ejection time. Use 0 to never eject processors.
+     */
+    public void setOutlierFactor(double outlierFactor) {
+        this.outlierFactor = outlierFactor;
+    }
+
+    public long getEjectionTime() {
+        return ejectionTime;
+    }
+
+    /**
+     * The time in millis an outlier processor is ejected for.
+     */
+    public void setEjectionTime(long ejectionTime) {
+        this.ejectionTime = ejectionTime;
+    }
+
+    /**
+     * The total and number of the known average latencies of the available processors, which is updated whenever an
+     * average latency changes, so the mean latency is known without looking at all the processors. The average latency
+     * of an ejected processor is cleared, so it is not counted.
+     */
+    static final class LatencyMean {
+        private final DoubleAdder total = new DoubleAdder();
+        private final AtomicInteger known = new AtomicInteger();
+
+        void update(double prev, double next) {
+            if (prev == next) {
+                return;
+            }
+            total.add(next - prev);
+            if (prev == 0) {
+                known.incrementAndGet();
+            } else if (next == 0) {
+                known.decrementAndGet();
+            }
+        }
+
+        /**
+         * The mean latency in nanos, or 0 if no latency is known.
+         *
+         * @param exclude the average latency of a processor to leave out of the mean, or 0
+         */
+        double get(double exclude) {
+            int count = known.get() - (exclude > 0 ? 1 : 0);
+            if (count <= 0) {
+                return 0;
+            }
+            return Math.max(0, (total.sum() - exclude) / count);
+        }
+    }
+
+}
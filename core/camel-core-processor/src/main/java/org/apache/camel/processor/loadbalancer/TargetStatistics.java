@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of a processor used by the {@link LeastLatencyLoadBalancer}, which are updated without locking.
+ */
+public class TargetStatistics {
+
+    // the time in nanos after which the latency of a processor which has not completed any exchange is mostly
+    // forgotten, so a slow processor is probed again once in a while
+    private static final double DECAY_TIME = 10_000_000_000d;
+    // the lowest success rate the score is divided by, so a processor failing every exchange still has a finite score
+    private static final double MIN_SUCCESS_RATE = 0.01;
+
+    private final LeastLatencyLoadBalancer.LatencyMean latencyMean;
+    private final AtomicInteger inflight = new AtomicInteger();
+    // the moving average of the latency in nanos, stored as the bits of a double (0 if no exchange completed yet)
+    private final AtomicLong averageLatency = new AtomicLong();
+    // the moving average of the failures (1 for a failed exchange, 0 otherwise), stored as the bits of a double
+    private final AtomicLong failureRate = new AtomicLong();
+    private final AtomicLong ejectedUntil = new AtomicLong();
+    private volatile long lastDone = System.nanoTime();
+    private final LongAdder exchanges = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder ejections = new LongAdder();
+
+    TargetStatistics(LeastLatencyLoadBalancer.LatencyMean latencyMean) {
+        this.latencyMean = latencyMean;
+    }
+
+    void begin() {
+        inflight.incrementAndGet();
+    }
+
+    void done(long latency, boolean failed, double smoothingFactor) {
+        inflight.decrementAndGet();
+        lastDone = System.nanoTime();
+        exchanges.increment();
+
+        long prev;
+        long next;
+        do {
+            prev = failureRate.get();
+            double average = Double.longBitsToDouble(prev);
+            next = Double.doubleToRawLongBits(average + smoothingFactor * ((failed ? 1 : 0) - average));
+        } while (!failureRate.compareAndSet(prev, next));
+
+        if (failed) {
+            // a failed exchange often fails fast, so its latency would make the processor look faster than it is
+            failures.increment();
+            return;
+        }
+        if (ejectedUntil.get() != 0) {
+            // the latency of an ejected processor is measured again from scratch once the ejection is over
+            return;
+        }
+
+        do {
+            prev = averageLatency.get();
+            double average = Double.longBitsToDouble(prev);
+            double value = prev == 0 ? latency : average + smoothingFactor * (latency - average);
+            next = Double.doubleToRawLongBits(Math.max(value, 1));
+        } while (!averageLatency.compareAndSet(prev, next));
+        latencyMean.update(Double.longBitsToDouble(prev), Double.longBitsToDouble(next));
+    }
+
+    /**
+     * The score of the processor, the lower the better, which is the average latency weighted by the number of in
+     * flight exchanges, and divided by the rate of exchanges which do not fail.
+     * <p/>
+     * The latency of a processor which has not completed any exchange yet is taken to be the mean latency of the other
+     * processors, so the in flight exchanges still count and a new processor does not get all the exchanges at once.
+     * The latency of a slower processor decays towards the mean while it does not complete any exchange, so it is not
+     * starved forever once it has recovered, and so does its failure rate.
+     *
+     * @param meanLatency the mean latency in nanos of the other processors, or 0 if none is known
+     * @param now         the current time in nanos
+     */
+    double getScore(double meanLatency, long now) {
+        double decay = Math.exp(-(now - lastDone) / DECAY_TIME);
+        double latency = getAverageLatency();
+        if (latency == 0) {
+            latency = meanLatency > 0 ? meanLatency : 1;
+        } else if (latency > meanLatency && meanLatency > 0) {
+            latency = meanLatency + (latency - meanLatency) * decay;
+        }
+        double successRate = Math.max(1 - getFailureRate() * decay, MIN_SUCCESS_RATE);
+        return latency * (inflight.get() + 1) / successRate;
+    }
+
+    /**
+     * Whether the processor can be chosen, i.e. it is not ejected. The average latency is reset when the processor is
+     * ejected, so the processor is probed again when the ejection is over.
+     */
+    boolean isAvailable(long now) {
+        long until = ejectedUntil.get();
+        if (until == 0) {
+            return true;
+        }
+        if (now >= until) {
+            ejectedUntil.compareAndSet(until, 0);
+        }
+        return ejectedUntil.get() == 0;
+    }
+
+    void eject(long until) {
+        if (ejectedUntil.compareAndSet(0, until)) {
+            ejections.increment();
+            clearAverageLatency();
+        }
+    }
+
+    /**
+     * Forgets the average latency, which is no longer counted in the mean latency of the processors.
+     */
+    void clearAverageLatency() {
+        long prev = averageLatency.getAndSet(0);
+        latencyMean.update(Double.longBitsToDouble(prev), 0);
+    }
+
+    void reset() {
+        clearAverageLatency();
+        failureRate.set(0);
+        ejectedUntil.set(0);
+        exchanges.reset();
+        failures.reset();
+        ejections.reset();
+    }
+
+    /**
+     * The exponentially weighted moving average of the latency in nanos, or 0 if no exchange completed yet.
+     */
+    public double getAverageLatency() {
+        return Double.longBitsToDouble(averageLatency.get());
+    }
+
+    /**
+     * The exponentially weighted moving average of the failed exchanges, between 0 (no failures) and 1 (all the
+     * exchanges failed).
+     */
+    public double getFailureRate() {
+        return Double.longBitsToDouble(failureRate.get());
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getExchanges() {
+        return exchanges.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getEjections() {
+        return ejections.sum();
+    }
+
+    public boolean isEjected() {
+        return ejectedUntil.get() > System.currentTimeMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "TargetStatistics[inflight=" + getInflight() + ", averageLatency=" + getAverageLatency() + ", exchanges="
+               + getExchanges() + ", failures=" + getFailures() + ", failureRate=" + getFailureRate() + ", ejected="
+               + isEjected() + "]";
+    }
+}
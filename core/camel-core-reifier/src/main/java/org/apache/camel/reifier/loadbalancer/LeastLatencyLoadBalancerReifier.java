@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.reifier.loadbalancer;
+
+import org.apache.camel.Route;
+import org.apache.camel.model.LoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastLatencyLoadBalancerDefinition;
+import org.apache.camel.processor.loadbalancer.LeastLatencyLoadBalancer;
+import org.apache.camel.processor.loadbalancer.LoadBalancer;
+
+public class LeastLatencyLoadBalancerReifier extends LoadBalancerReifier<LeastLatencyLoadBalancerDefinition> {
+
+    public LeastLatencyLoadBalancerReifier(Route route, LoadBalancerDefinition definition) {
+        super(route, (LeastLatencyLoadBalancerDefinition) definition);
+    }
+
+    @Override
+    public LoadBalancer createLoadBalancer() {
+        LeastLatencyLoadBalancer answer = new LeastLatencyLoadBalancer();
+        answer.setPowerOfTwoChoices(parseBoolean(definition.getPowerOfTwoChoices(), true));
+        Double smoothingFactor = parse(Double.class, definition.getSmoothingFactor());
+        if (smoothingFactor != null) {
+            answer.setSmoothingFactor(smoothingFactor);
+        }
+        Double outlierFactor = parse(Double.class, definition.getOutlierFactor());
+        if (outlierFactor != null) {
+            answer.setOutlierFactor(outlierFactor);
+        }
+        answer.setEjectionTime(parseDuration(definition.getEjectionTime(), 30000));
+        return answer;
+    }
+
+}
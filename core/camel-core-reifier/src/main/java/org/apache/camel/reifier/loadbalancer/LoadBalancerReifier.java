@@ -24,6 +24,7 @@ import org.apache.camel.Route;
 import org.apache.camel.model.LoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastLatencyLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.StickyLoadBalancerDefinition;
@@ -83,6 +84,8 @@ public class LoadBalancerReifier<T extends LoadBalancerDefinition> extends Abstr
             return new CustomLoadBalancerReifier(route, definition);
         } else if (definition instanceof FailoverLoadBalancerDefinition) {
             return new FailoverLoadBalancerReifier(route, definition);
+        } else if (definition instanceof LeastLatencyLoadBalancerDefinition) {
+            return new LeastLatencyLoadBalancerReifier(route, definition);
         } else if (definition instanceof RandomLoadBalancerDefinition) {
             return new RandomLoadBalancerReifier(route, definition);
         } else if (definition instanceof RoundRobinLoadBalancerDefinition) {
@@ -40,6 +40,7 @@ import org.xml.sax.InputSource;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Predicate;
 import org.apache.camel.language.xpath.XPathBuilder;
 import org.apache.camel.support.builder.Namespaces;
@@ -496,4 +497,59 @@ public class XPathTest extends ContextTestSupport {
         assertEquals("cheese", name);
     }
 
+    @Test
+    public void testXPathDocumentCache() throws Exception {
+        XPathBuilder foo = xpath("/foo/bar = 'cheese'").documentCache(true);
+        XPathBuilder bar = xpath("/foo/bar/@id").documentCache(true).stringResult();
+
+        Exchange exchange = createExchange("<foo><bar id=\"1\">cheese</bar></foo>");
+        assertTrue(foo.matches(exchange));
+        assertEquals("1", bar.evaluate(exchange, String.class));
+        assertEquals(1, foo.getDocumentCacheMisses());
+        assertEquals(0, bar.getDocumentCacheMisses());
+        assertEquals(1, bar.getDocumentCacheHits());
+
+        // a new body is parsed again
+        exchange.getIn().setBody("<foo><bar id=\"2\">beer</bar></foo>");
+        assertFalse(foo.matches(exchange));
+        assertEquals("2", bar.evaluate(exchange, String.class));
+        assertEquals(2, foo.getDocumentCacheMisses());
+        assertEquals(2, bar.getDocumentCacheHits());
+
+        // the document is not shared with a copy of the exchange
+        Exchange copy = exchange.copy();
+        assertEquals("2", bar.evaluate(copy, String.class));
+        assertEquals(1, bar.getDocumentCacheMisses());
+
+        // the cached document is dropped when the body is changed
+        assertNotNull(exchange.adapt(ExtendedExchange.class).getSafeCopyProperty("CamelXPathDocumentCache", Object.class));
+        exchange.getIn().setBody(context.getTypeConverter().convertTo(Document.class, "<foo><bar id=\"3\">wine</bar></foo>"));
+        assertEquals("3", bar.evaluate(exchange, String.class));
+        assertNull(exchange.adapt(ExtendedExchange.class).getSafeCopyProperty("CamelXPathDocumentCache", Object.class));
+    }
+
+    @Test
+    public void testXPathDocumentCacheDisabledByDefault() throws Exception {
+        XPathBuilder foo = xpath("/foo/bar = 'cheese'");
+
+        Exchange exchange = createExchange("<foo><bar id=\"1\">cheese</bar></foo>");
+        assertTrue(foo.matches(exchange));
+        assertTrue(foo.matches(exchange));
+        assertEquals(0, foo.getDocumentCacheHits());
+        assertEquals(0, foo.getDocumentCacheMisses());
+        assertNull(exchange.adapt(ExtendedExchange.class).getSafeCopyProperty("CamelXPathDocumentCache", Object.class));
+    }
+
+    @Test
+    public void testXPathDocumentCacheDisabled() throws Exception {
+        XPathBuilder foo = xpath("/foo/bar = 'cheese'").documentCache(false);
+        XPathBuilder bar = xpath("/foo/bar/@id").documentCache(false).stringResult();
+
+        Exchange exchange = createExchange("<foo><bar id=\"1\">cheese</bar></foo>");
+        assertTrue(foo.matches(exchange));
+        assertEquals("1", bar.evaluate(exchange, String.class));
+        assertEquals(0, foo.getDocumentCacheMisses());
+        assertEquals(0, bar.getDocumentCacheHits());
+    }
+
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileConsumerParallelProcessingTest extends ContextTestSupport {
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testParallelProcessing() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader(fileUri(), "Message " + i, Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&delete=true&parallelProcessing=true&maxConcurrentFiles=5"))
+                        .process(e -> threads.add(Thread.currentThread().getName()))
+                        .delay(100)
+                        .to("mock:result");
+            }
+        });
+
+        NotifyBuilder notify = new NotifyBuilder(context).whenDone(10).create();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+
+        context.start();
+
+        assertMockEndpointsSatisfied();
+        assertTrue(notify.matchesWaitTime());
+
+        assertTrue(threads.size() > 1, "Should use multiple threads, was: " + threads);
+        for (int i = 0; i < 10; i++) {
+            assertFileNotExists(testFile("file" + i + ".txt"));
+        }
+    }
+
+    @Test
+    public void testParallelProcessingWatchDirectoryRetriesFailedFile() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&delete=true&parallelProcessing=true&watchDirectory=true"))
+                        .process(e -> {
+                            if ("bad.txt".equals(e.getIn().getHeader(Exchange.FILE_NAME))
+                                    && attempts.incrementAndGet() == 1) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .convertBodyTo(String.class)
+                        .to("mock:result");
+            }
+        });
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World");
+
+        context.start();
+
+        template.sendBodyAndHeader(fileUri(), "Hello World", Exchange.FILE_NAME, "good.txt");
+        template.sendBodyAndHeader(fileUri(), "Bye World", Exchange.FILE_NAME, "bad.txt");
+
+        // the failed file must be pending again in the watched directory, so it is retried
+        assertMockEndpointsSatisfied();
+        assertTrue(attempts.get() >= 2);
+    }
+}
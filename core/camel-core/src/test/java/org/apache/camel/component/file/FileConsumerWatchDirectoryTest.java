@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+public class FileConsumerWatchDirectoryTest extends ContextTestSupport {
+
+    @Test
+    public void testWatchDirectory() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("Hello World", "Bye World");
+
+        template.sendBodyAndHeader(fileUri("watch"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri("watch"), "Bye World", Exchange.FILE_NAME, "bye.txt");
+
+        assertMockEndpointsSatisfied();
+
+        // a new file is picked up from the watch events, and the files already consumed (noop) are not consumed
+        // again as they are idempotent
+        mock.reset();
+        mock.expectedBodiesReceived("Hi World");
+
+        template.sendBodyAndHeader(fileUri("watch"), "Hi World", Exchange.FILE_NAME, "hi.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testWatchDirectoryRecursiveDepth() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("a2", "b2");
+
+        template.sendBodyAndHeader(fileUri("depth"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("depth/foo"), "a2", Exchange.FILE_NAME, "a2.txt");
+        template.sendBodyAndHeader(fileUri("depth/foo/bar"), "a3", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("depth/bar"), "b2", Exchange.FILE_NAME, "b2.txt");
+        template.sendBodyAndHeader(fileUri("depth/bar/foo"), "b3", Exchange.FILE_NAME, "b.txt");
+
+        // only expect those at depth 2
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testWatchDirectoryDoneFile() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(0);
+
+        template.sendBodyAndHeader(fileUri("done"), "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        // wait a bit and it should not pickup the file as there is no done file
+        Thread.sleep(100);
+
+        assertMockEndpointsSatisfied();
+
+        mock.reset();
+        mock.expectedBodiesReceived("Hello World");
+
+        // write the done file
+        template.sendBodyAndHeader(fileUri("done"), "", Exchange.FILE_NAME, "hello.txt.done");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("watch?noop=true&watchDirectory=true&initialDelay=0&delay=10"))
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("depth?initialDelay=0&delay=10&watchDirectory=true&recursive=true&minDepth=2&maxDepth=2"))
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("done?initialDelay=0&delay=10&watchDirectory=true&doneFileName=${file:name}.done"))
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
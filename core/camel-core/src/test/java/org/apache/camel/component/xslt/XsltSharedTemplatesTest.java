@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import javax.xml.transform.Templates;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class XsltSharedTemplatesTest extends ContextTestSupport {
+
+    @Test
+    public void testSharedTemplates() throws Exception {
+        XsltEndpoint bytes = context.getEndpoint("xslt:org/apache/camel/component/xslt/example.xsl?output=bytes",
+                XsltEndpoint.class);
+        XsltEndpoint cached = context.getEndpoint(
+                "xslt:org/apache/camel/component/xslt/example.xsl?transformerCacheSize=2", XsltEndpoint.class);
+        XsltEndpoint notCached = context.getEndpoint(
+                "xslt:org/apache/camel/component/xslt/example.xsl?contentCache=false", XsltEndpoint.class);
+
+        assertSame(bytes.getXslt().getTemplate(), cached.getXslt().getTemplate());
+        assertNotSame(bytes.getXslt().getTemplate(), notCached.getXslt().getTemplate());
+    }
+
+    @Test
+    public void testSharedTemplatesAreBounded() throws Exception {
+        XsltEndpoint endpoint = context.getEndpoint("xslt:org/apache/camel/component/xslt/example.xsl",
+                XsltEndpoint.class);
+        Templates templates = endpoint.getXslt().getTemplate();
+
+        XsltComponent component = context.getComponent("xslt", XsltComponent.class);
+        for (int i = 0; i <= XsltComponent.TEMPLATES_CACHE_DEFAULT_SIZE; i++) {
+            component.putCachedTemplates("key-" + i, templates);
+        }
+
+        // the least recently used stylesheets are evicted
+        assertNull(component.getCachedTemplates("key-0"));
+        assertSame(templates, component.getCachedTemplates("key-" + XsltComponent.TEMPLATES_CACHE_DEFAULT_SIZE));
+    }
+
+    @Test
+    public void testTransformerCache() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(5);
+
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:start", "<hello>world!</hello>");
+        }
+
+        assertMockEndpointsSatisfied();
+
+        XsltEndpoint endpoint = context.getEndpoint(
+                "xslt:org/apache/camel/component/xslt/example.xsl?transformerCacheSize=2", XsltEndpoint.class);
+        assertEquals(1, endpoint.getCreatedTransformerCount());
+        assertEquals(1, endpoint.getCachedTransformerCount());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("xslt:org/apache/camel/component/xslt/example.xsl?transformerCacheSize=2")
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -299,6 +299,22 @@ public class TokenizerTest extends ExchangeTestSupport {
         assertEquals(1, names.size());
     }
 
+    @Test
+    public void testTokenizeXMLPairWithCommentsAndCData() throws Exception {
+        Expression exp = TokenizeLanguage.tokenizeXML("<person>", null);
+        exp.init(context);
+
+        exchange.getIn().setBody(
+                "<persons><!-- <person>Old</person> --><person>James<!-- </person> --></person>"
+                                 + "<![CDATA[<person>Text</person>]]><person><person>Claus</person></person></persons>");
+
+        List<?> names = exp.evaluate(exchange, List.class);
+        assertEquals(2, names.size());
+
+        assertEquals("<person>James<!-- </person> --></person>", names.get(0));
+        assertEquals("<person><person>Claus</person></person>", names.get(1));
+    }
+
     @Test
     public void testTokenizeXMLPairWithDefaultNamespace() throws Exception {
         Expression exp = TokenizeLanguage.tokenizeXML("<person>", "<persons>");
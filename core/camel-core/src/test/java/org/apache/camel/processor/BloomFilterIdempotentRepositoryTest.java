@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.io.File;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.BloomFilter;
+import org.apache.camel.support.processor.idempotent.BloomFilterIdempotentRepository;
+import org.apache.camel.support.processor.idempotent.MemoryIdempotentRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentRepositoryTest extends ContextTestSupport {
+
+    private BloomFilterIdempotentRepository repo = new BloomFilterIdempotentRepository(1000, 0.001);
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(3, repo.getAddedCount());
+        assertEquals(2, repo.getDuplicateCount());
+    }
+
+    @Test
+    public void testFilterGrows() throws Exception {
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(100, 0.000001);
+        repository.setCamelContext(context);
+        repository.start();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(repository.add("key-" + i), "key-" + i);
+            }
+            for (int i = 0; i < 1000; i++) {
+                assertTrue(repository.contains("key-" + i), "key-" + i);
+                assertFalse(repository.add("key-" + i), "key-" + i);
+            }
+            assertEquals(1, repository.getPartitionCount());
+            assertTrue(repository.getFilterCount() > 1);
+            assertTrue(repository.getEstimatedFalsePositiveProbability() < 0.000001);
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testFilterLargerThanMaxSizeIsRejected() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1L << 40, 0.001));
+
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(1L << 40, 0.001);
+        repository.setCamelContext(context);
+        assertThrows(IllegalArgumentException.class, repository::start);
+    }
+
+    @Test
+    public void testOldPartitionsExpire() throws Exception {
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(100, 0.01);
+        repository.setCamelContext(context);
+        repository.setPartitions(2);
+        repository.setPartitionPeriod(100);
+        repository.start();
+        try {
+            assertTrue(repository.add("A"));
+            assertFalse(repository.add("A"));
+
+            Thread.sleep(300);
+            assertFalse(repository.contains("A"));
+            assertTrue(repository.add("A"));
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testRemovedKeyCanBeAddedAgain() throws Exception {
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(100, 0.01);
+        repository.setCamelContext(context);
+        repository.start();
+        try {
+            assertTrue(repository.add("A"));
+            assertTrue(repository.remove("A"));
+            assertFalse(repository.contains("A"));
+            assertTrue(repository.add("A"));
+            assertFalse(repository.add("A"));
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testDelegateConfirmsMaybeSeenKeys() throws Exception {
+        MemoryIdempotentRepository delegate = new MemoryIdempotentRepository();
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(100, 0.01);
+        repository.setCamelContext(context);
+        repository.setDelegate(delegate);
+        repository.start();
+        try {
+            assertTrue(repository.add("A"));
+            assertTrue(repository.add("B"));
+            assertEquals(0, repository.getDelegateLookupCount());
+            assertTrue(delegate.contains("A"));
+
+            assertFalse(repository.add("A"));
+            assertEquals(1, repository.getDelegateLookupCount());
+
+            // the delegate has the final word
+            delegate.remove("B");
+            assertTrue(repository.add("B"));
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        File snapshot = testFile("bloomfilter.dat").toFile();
+        snapshot.delete();
+
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(100, 0.000001);
+        repository.setCamelContext(context);
+        repository.setSnapshotFile(snapshot);
+        repository.start();
+        for (int i = 0; i < 500; i++) {
+            repository.add("key-" + i);
+        }
+        repository.stop();
+        assertTrue(snapshot.exists());
+        assertEquals(1, repository.getSnapshotCount());
+
+        BloomFilterIdempotentRepository restored = new BloomFilterIdempotentRepository(100, 0.000001);
+        restored.setCamelContext(context);
+        restored.setSnapshotFile(snapshot);
+        restored.start();
+        try {
+            for (int i = 0; i < 500; i++) {
+                assertFalse(restored.add("key-" + i), "key-" + i);
+            }
+            assertTrue(restored.add("key-500"));
+        } finally {
+            restored.stop();
+        }
+    }
+
+    @Test
+    public void testSnapshotKeepsRemovedKeys() throws Exception {
+        File snapshot = testFile("bloomfilter-removed.dat").toFile();
+        snapshot.delete();
+
+        BloomFilterIdempotentRepository repository = new BloomFilterIdempotentRepository(100, 0.01);
+        repository.setCamelContext(context);
+        repository.setSnapshotFile(snapshot);
+        repository.start();
+        assertTrue(repository.add("A"));
+        assertTrue(repository.add("B"));
+        assertTrue(repository.remove("A"));
+        repository.stop();
+
+        // the removed key can be added again after a restart, such as when the message is redelivered
+        BloomFilterIdempotentRepository restored = new BloomFilterIdempotentRepository(100, 0.01);
+        restored.setCamelContext(context);
+        restored.setSnapshotFile(snapshot);
+        restored.start();
+        try {
+            assertFalse(restored.contains("A"));
+            assertTrue(restored.add("A"));
+            assertFalse(restored.add("B"));
+        } finally {
+            restored.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").idempotentConsumer(header("messageId"), repo).to("mock:result");
+            }
+        };
+    }
+}
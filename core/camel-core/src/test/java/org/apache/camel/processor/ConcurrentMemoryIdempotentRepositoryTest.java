@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.processor.idempotent.ConcurrentMemoryIdempotentRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentMemoryIdempotentRepositoryTest extends ContextTestSupport {
+
+    private ConcurrentMemoryIdempotentRepository repo = new ConcurrentMemoryIdempotentRepository();
+
+    @Test
+    public void testDuplicateMessagesAreFilteredOut() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("one", "two", "three");
+
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "one", "messageId", "1");
+        template.sendBodyAndHeader("direct:start", "two", "messageId", "2");
+        template.sendBodyAndHeader("direct:start", "three", "messageId", "3");
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(3, repo.getCacheSize());
+        assertEquals(3, repo.getAddCount());
+        assertEquals(2, repo.getDuplicateCount());
+    }
+
+    @Test
+    public void testTimeToLive() throws Exception {
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(0, 200);
+        repository.setCamelContext(context);
+        repository.setTickDuration(50);
+        repository.start();
+        try {
+            assertTrue(repository.add("A"));
+            assertFalse(repository.add("A"));
+            assertTrue(repository.contains("A"));
+
+            // the timing wheel expires the key without it being accessed
+            await().atMost(2, TimeUnit.SECONDS).until(() -> repository.getCacheSize() == 0);
+            assertEquals(1, repository.getExpiredCount());
+            assertEquals(0, repository.getMemoryUsed());
+
+            assertFalse(repository.contains("A"));
+            assertTrue(repository.add("A"));
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testTimeToLiveWithinTick() throws Exception {
+        // the keys expire in the middle of a tick, and must not wait for another turn of the wheel
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(0, 75);
+        repository.setCamelContext(context);
+        repository.setTickDuration(50);
+        repository.start();
+        try {
+            for (int i = 0; i < 10; i++) {
+                assertTrue(repository.add("" + i));
+                Thread.sleep(7);
+            }
+
+            await().atMost(2, TimeUnit.SECONDS).until(() -> repository.getCacheSize() == 0);
+            assertEquals(10, repository.getExpiredCount());
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testMaximumSize() throws Exception {
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(3, 0);
+        repository.setCamelContext(context);
+        repository.start();
+        try {
+            for (int i = 1; i <= 5; i++) {
+                assertTrue(repository.add("" + i));
+            }
+            assertEquals(3, repository.getCacheSize());
+            assertEquals(2, repository.getEvictedCount());
+
+            // the oldest keys have been evicted
+            assertFalse(repository.contains("1"));
+            assertFalse(repository.contains("2"));
+            assertTrue(repository.contains("5"));
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testMaximumMemory() throws Exception {
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(0, 0);
+        repository.setCamelContext(context);
+        repository.setMaximumMemory(10 * 1024);
+        repository.start();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                repository.add("key-" + i);
+            }
+            assertTrue(repository.getMemoryUsed() <= 10 * 1024);
+            assertTrue(repository.getEvictedCount() > 0);
+            assertTrue(repository.contains("key-999"));
+        } finally {
+            repository.stop();
+        }
+    }
+
+    @Test
+    public void testConcurrentAddOfSameKey() throws Exception {
+        ConcurrentMemoryIdempotentRepository repository = new ConcurrentMemoryIdempotentRepository(0, 0);
+        repository.setCamelContext(context);
+        repository.start();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 100; round++) {
+                String key = "key-" + round;
+                CountDownLatch latch = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    results.add(executor.submit(() -> {
+                        latch.await();
+                        return repository.add(key);
+                    }));
+                }
+                latch.countDown();
+
+                int added = 0;
+                for (Future<Boolean> result : results) {
+                    if (result.get(5, TimeUnit.SECONDS)) {
+                        added++;
+                    }
+                }
+                assertEquals(1, added, key);
+            }
+            assertEquals(100, repository.getAddCount());
+            assertEquals(700, repository.getDuplicateCount());
+        } finally {
+            executor.shutdownNow();
+            repository.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").idempotentConsumer(header("messageId"), repo).to("mock:result");
+            }
+        };
+    }
+}
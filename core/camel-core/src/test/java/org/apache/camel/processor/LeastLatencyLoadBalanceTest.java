@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.loadbalancer.LeastLatencyLoadBalancer;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LeastLatencyLoadBalanceTest extends ContextTestSupport {
+    protected MockEndpoint x;
+    protected MockEndpoint y;
+    protected MockEndpoint z;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        x = getMockEndpoint("mock://x");
+        y = getMockEndpoint("mock://y");
+        z = getMockEndpoint("mock://z");
+
+        // x is much slower than the others
+        x.whenAnyExchangeReceived(exchange -> Thread.sleep(50));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct://start").loadBalance().leastLatency().to("mock://x", "mock://y", "mock://z");
+
+                from("direct://all").loadBalance().leastLatency(false, 0).to("mock://x", "mock://y", "mock://z");
+            }
+        };
+    }
+
+    @Test
+    public void testLeastLatency() throws Exception {
+        doSend("direct:start");
+    }
+
+    @Test
+    public void testLeastLatencyAll() throws Exception {
+        doSend("direct:all");
+    }
+
+    private void doSend(String uri) throws Exception {
+        for (int i = 0; i < 50; i++) {
+            template.sendBody(uri, "Hello World");
+        }
+
+        // once its latency is known the slow endpoint should hardly be used
+        int slow = x.getReceivedCounter();
+        int fast = y.getReceivedCounter() + z.getReceivedCounter();
+        assertEquals(50, slow + fast);
+        assertTrue(slow <= 5, "The slow endpoint should get few messages, was: " + slow);
+    }
+
+    @Test
+    public void testNewProcessorDoesNotTakeAllTheExchanges() throws Exception {
+        LeastLatencyLoadBalancer loadBalancer = new LeastLatencyLoadBalancer();
+        loadBalancer.setPowerOfTwoChoices(false);
+        TestProcessor a = new TestProcessor(false);
+        TestProcessor b = new TestProcessor(false);
+        loadBalancer.addProcessor(a);
+        loadBalancer.addProcessor(b);
+        for (int i = 0; i < 20; i++) {
+            loadBalancer.process(new DefaultExchange(context), doneSync -> {
+            });
+        }
+
+        // the new processor does not complete its exchanges, so its latency is not known
+        TestProcessor added = new TestProcessor(true);
+        loadBalancer.addProcessor(added);
+
+        int threads = 8;
+        int count = 200;
+        CountDownLatch latch = new CountDownLatch(count);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < count; i++) {
+                executor.submit(() -> loadBalancer.process(new DefaultExchange(context), doneSync -> latch.countDown()));
+            }
+            // the exchanges held by the new processor never complete
+            await().atMost(10, TimeUnit.SECONDS)
+                    .until(() -> latch.getCount() == added.received.get());
+        } finally {
+            executor.shutdownNow();
+            added.release();
+        }
+
+        // its in flight exchanges count against it as if it had the mean latency of the others
+        assertTrue(added.received.get() <= 2 * threads,
+                "The new processor should not get a herd of exchanges, was: " + added.received.get());
+        assertEquals(count + 20, a.received.get() + b.received.get() + added.received.get());
+    }
+
+    @Test
+    public void testFailingProcessorIsPenalized() throws Exception {
+        LeastLatencyLoadBalancer loadBalancer = new LeastLatencyLoadBalancer();
+        loadBalancer.setPowerOfTwoChoices(false);
+        // the failing processor fails fast, so it would look like the fastest if its latency was counted
+        TestProcessor failing = new TestProcessor(false, true);
+        TestProcessor slow = new TestProcessor(false, false);
+        slow.delay = 2;
+        loadBalancer.addProcessor(failing);
+        loadBalancer.addProcessor(slow);
+
+        for (int i = 0; i < 50; i++) {
+            loadBalancer.process(new DefaultExchange(context), doneSync -> {
+            });
+        }
+
+        assertEquals(50, failing.received.get() + slow.received.get());
+        assertTrue(failing.received.get() <= 5,
+                "The failing processor should get few messages, was: " + failing.received.get());
+        assertEquals(0d, loadBalancer.getTargetStatistics().get(0).getAverageLatency());
+        assertTrue(loadBalancer.getTargetStatistics().get(0).getFailureRate() > 0);
+    }
+
+    private static final class TestProcessor extends AsyncProcessorSupport {
+        private final boolean hold;
+        private final boolean fail;
+        private final AtomicInteger received = new AtomicInteger();
+        private final Queue<AsyncCallback> held = new ConcurrentLinkedQueue<>();
+        private long delay;
+
+        private TestProcessor(boolean hold) {
+            this(hold, false);
+        }
+
+        private TestProcessor(boolean hold, boolean fail) {
+            this.hold = hold;
+            this.fail = fail;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            received.incrementAndGet();
+            if (fail) {
+                exchange.setException(new IllegalStateException("Forced"));
+            } else if (delay > 0) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (hold) {
+                held.add(callback);
+                return false;
+            }
+            callback.done(true);
+            return true;
+        }
+
+        private void release() {
+            AsyncCallback callback;
+            while ((callback = held.poll()) != null) {
+                callback.done(false);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.processor.aggregate.SpillingMemoryAggregationRepository;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpillingMemoryAggregationRepositoryTest extends ContextTestSupport {
+
+    private SpillingMemoryAggregationRepository repo = new SpillingMemoryAggregationRepository(2);
+
+    @Test
+    public void testSpillAndRestore() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:aggregated");
+        mock.expectedBodiesReceivedInAnyOrder("A1+B1+C1", "A2+B2+C2", "A3+B3+C3", "A4+B4+C4", "A5+B5+C5");
+
+        for (int i = 1; i <= 5; i++) {
+            template.sendBodyAndHeader("direct:start", "A" + i, "id", i);
+        }
+        assertEquals(2, repo.getResidentGroups());
+        assertEquals(3, repo.getSpilledGroups());
+        assertTrue(repo.getSpilledBytes() > 0);
+        assertEquals(5, repo.getKeys().size());
+
+        for (int i = 1; i <= 5; i++) {
+            template.sendBodyAndHeader("direct:start", "B" + i, "id", i);
+        }
+        for (int i = 1; i <= 5; i++) {
+            template.sendBodyAndHeader("direct:start", "C" + i, "id", i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(repo.getSpillCount() > 0);
+        assertTrue(repo.getRestoreCount() > 0);
+        assertEquals(0, repo.getResidentGroups());
+        assertEquals(0, repo.getSpilledGroups());
+        assertEquals(0, repo.getSpilledBytes());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).aggregationRepository(repo)
+                        .completionSize(3).to("mock:aggregated");
+            }
+        };
+    }
+}
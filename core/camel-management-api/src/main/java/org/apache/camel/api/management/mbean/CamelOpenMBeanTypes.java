@@ -188,6 +188,25 @@ public final class CamelOpenMBeanTypes {
                 new OpenType[] { SimpleType.STRING, SimpleType.LONG });
     }
 
+    public static TabularType loadbalancerTargetsTabularType() throws OpenDataException {
+        CompositeType ct = loadbalancerTargetsCompositeType();
+        return new TabularType("targets", "Target statistics", ct, new String[] { "index" });
+    }
+
+    public static CompositeType loadbalancerTargetsCompositeType() throws OpenDataException {
+        return new CompositeType(
+                "targets", "Targets",
+                new String[] {
+                        "index", "processorId", "inflight", "averageLatency", "exchanges", "failures", "ejections",
+                        "ejected" },
+                new String[] {
+                        "Index", "Processor Id", "Inflight", "Average Latency", "Exchanges", "Failures", "Ejections",
+                        "Ejected" },
+                new OpenType[] {
+                        SimpleType.INTEGER, SimpleType.STRING, SimpleType.INTEGER, SimpleType.DOUBLE, SimpleType.LONG,
+                        SimpleType.LONG, SimpleType.LONG, SimpleType.BOOLEAN });
+    }
+
     public static TabularType endpointsUtilizationTabularType() throws OpenDataException {
         CompositeType ct = endpointsUtilizationCompositeType();
         return new TabularType("endpointsUtilization", "Endpoint utilization statistics", ct, new String[] { "url" });
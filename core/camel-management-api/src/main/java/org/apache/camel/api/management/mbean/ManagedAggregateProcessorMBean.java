@@ -141,6 +141,15 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Total number of exchanged discarded")
     long getDiscarded();
 
+    @ManagedAttribute(description = "Number of groups kept in memory by the aggregation repository (-1 if not provided)")
+    long getRepositoryResidentGroups();
+
+    @ManagedAttribute(description = "Number of groups spilled to disk by the aggregation repository (-1 if not provided)")
+    long getRepositorySpilledGroups();
+
+    @ManagedAttribute(description = "Bytes used by the groups spilled to disk by the aggregation repository (-1 if not provided)")
+    long getRepositorySpilledBytes();
+
     @ManagedOperation(description = " Reset the statistics counters")
     void resetStatistics();
 
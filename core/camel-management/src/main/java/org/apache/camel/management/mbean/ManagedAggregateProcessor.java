@@ -302,6 +302,21 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.getStatistics().getDiscarded();
     }
 
+    @Override
+    public long getRepositoryResidentGroups() {
+        return processor.getStatistics().getRepositoryResidentGroups();
+    }
+
+    @Override
+    public long getRepositorySpilledGroups() {
+        return processor.getStatistics().getRepositorySpilledGroups();
+    }
+
+    @Override
+    public long getRepositorySpilledBytes() {
+        return processor.getStatistics().getRepositorySpilledBytes();
+    }
+
     @Override
     public void resetStatistics() {
         processor.getStatistics().reset();
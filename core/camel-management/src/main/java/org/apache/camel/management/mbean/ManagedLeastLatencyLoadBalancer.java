@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.List;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.CamelOpenMBeanTypes;
+import org.apache.camel.api.management.mbean.ManagedLeastLatencyLoadBalancerMBean;
+import org.apache.camel.model.LoadBalanceDefinition;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.processor.loadbalancer.LeastLatencyLoadBalancer;
+import org.apache.camel.processor.loadbalancer.TargetStatistics;
+
+@ManagedResource(description = "Managed Least Latency LoadBalancer")
+public class ManagedLeastLatencyLoadBalancer extends ManagedProcessor implements ManagedLeastLatencyLoadBalancerMBean {
+    private final LeastLatencyLoadBalancer processor;
+
+    public ManagedLeastLatencyLoadBalancer(CamelContext context, LeastLatencyLoadBalancer processor,
+                                           LoadBalanceDefinition definition) {
+        super(context, processor, definition);
+        this.processor = processor;
+    }
+
+    @Override
+    public LoadBalanceDefinition getDefinition() {
+        return (LoadBalanceDefinition) super.getDefinition();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        processor.reset();
+    }
+
+    @Override
+    public Boolean getSupportExtendedInformation() {
+        return true;
+    }
+
+    @Override
+    public Integer getSize() {
+        return processor.getProcessors().size();
+    }
+
+    @Override
+    public Boolean isPowerOfTwoChoices() {
+        return processor.isPowerOfTwoChoices();
+    }
+
+    @Override
+    public Double getSmoothingFactor() {
+        return processor.getSmoothingFactor();
+    }
+
+    @Override
+    public Double getOutlierFactor() {
+        return processor.getOutlierFactor();
+    }
+
+    @Override
+    public Long getEjectionTime() {
+        return processor.getEjectionTime();
+    }
+
+    @Override
+    public TabularData targetStatistics() {
+        try {
+            TabularData answer = new TabularDataSupport(CamelOpenMBeanTypes.loadbalancerTargetsTabularType());
+
+            List<TargetStatistics> list = processor.getTargetStatistics();
+            List<ProcessorDefinition<?>> outputs = getDefinition().getOutputs();
+            for (int i = 0; i < list.size(); i++) {
+                TargetStatistics stats = list.get(i);
+                String id = i < outputs.size() ? outputs.get(i).getId() : null;
+                // the latency is tracked in nanos but presented in millis
+                double latency = stats.getAverageLatency() / 1000000d;
+
+                CompositeType ct = CamelOpenMBeanTypes.loadbalancerTargetsCompositeType();
+                CompositeData data = new CompositeDataSupport(
+                        ct,
+                        new String[] {
+                                "index", "processorId", "inflight", "averageLatency", "exchanges", "failures", "ejections",
+                                "ejected" },
+                        new Object[] {
+                                i, id, stats.getInflight(), latency, stats.getExchanges(), stats.getFailures(),
+                                stats.getEjections(), stats.isEjected() });
+                answer.put(data);
+            }
+
+            return answer;
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+}
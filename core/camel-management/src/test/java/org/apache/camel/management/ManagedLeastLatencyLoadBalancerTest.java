@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedLeastLatencyLoadBalancerTest extends ManagementTestSupport {
+
+    @Test
+    public void testManageLeastLatencyLoadBalancer() throws Exception {
+        MockEndpoint foo = getMockEndpoint("mock:foo");
+        MockEndpoint bar = getMockEndpoint("mock:bar");
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello World");
+        }
+        assertEquals(10, foo.getReceivedCounter() + bar.getReceivedCounter());
+
+        // get the stats for the route
+        MBeanServer mbeanServer = getMBeanServer();
+
+        // get the object name for the load balancer
+        ObjectName on = getCamelObjectName(TYPE_PROCESSOR, "mysend");
+
+        // should be on route1
+        String routeId = (String) mbeanServer.getAttribute(on, "RouteId");
+        assertEquals("route1", routeId);
+
+        String camelId = (String) mbeanServer.getAttribute(on, "CamelId");
+        assertEquals(context.getManagementName(), camelId);
+
+        String state = (String) mbeanServer.getAttribute(on, "State");
+        assertEquals(ServiceStatus.Started.name(), state);
+
+        Integer size = (Integer) mbeanServer.getAttribute(on, "Size");
+        assertEquals(2, size.intValue());
+
+        Boolean powerOfTwoChoices = (Boolean) mbeanServer.getAttribute(on, "PowerOfTwoChoices");
+        assertEquals(false, powerOfTwoChoices.booleanValue());
+
+        Double outlierFactor = (Double) mbeanServer.getAttribute(on, "OutlierFactor");
+        assertEquals(3d, outlierFactor.doubleValue());
+
+        Long ejectionTime = (Long) mbeanServer.getAttribute(on, "EjectionTime");
+        assertEquals(30000, ejectionTime.longValue());
+
+        TabularData data = (TabularData) mbeanServer.invoke(on, "targetStatistics", null, null);
+        assertNotNull(data);
+        assertEquals(2, data.size());
+
+        CompositeData row = data.get(new Object[] { 0 });
+        assertEquals("foo", row.get("processorId"));
+        CompositeData row2 = data.get(new Object[] { 1 });
+        assertEquals("bar", row2.get("processorId"));
+        long exchanges = (Long) row.get("exchanges") + (Long) row2.get("exchanges");
+        assertEquals(10, exchanges);
+
+        // reset the statistics
+        mbeanServer.invoke(on, "reset", null, null);
+        data = (TabularData) mbeanServer.invoke(on, "targetStatistics", null, null);
+        assertEquals(0L, data.get(new Object[] { 0 }).get("exchanges"));
+        assertEquals(0L, data.get(new Object[] { 1 }).get("exchanges"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .loadBalance().leastLatency(false, 3).id("mysend")
+                        .to("mock:foo").id("foo").to("mock:bar").id("bar");
+            }
+        };
+    }
+
+}
@@ -22,6 +22,7 @@ import java.io.InputStream;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,6 +54,7 @@ import org.apache.camel.spi.NormalizedEndpointUri;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.spi.annotations.EagerClassloaded;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.LiteralScanner;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.Scanner;
 import org.apache.camel.util.StringHelper;
@@ -1032,6 +1034,43 @@ public final class ExchangeHelper {
         return scanner;
     }
 
+    /**
+     * Creates an iterator which tokenizes the given value by a delimiter. When the value is a file or a stream of bytes
+     * and the delimiter has no regular expression meaning, the delimiter is searched directly on the bytes using a
+     * {@link LiteralScanner}, otherwise a {@link Scanner} is used.
+     *
+     * @param  exchange  the current exchange
+     * @param  value     the value, typically the message IN body
+     * @param  delimiter the delimiter pattern to use
+     * @return           the iterator, is newer <tt>null</tt>
+     */
+    public static Iterator<String> getTokenIterator(Exchange exchange, Object value, String delimiter) {
+        if (value instanceof WrappedFile) {
+            WrappedFile<?> gf = (WrappedFile<?>) value;
+            Object body = gf.getBody();
+            // use the loaded file content if any, otherwise the real file
+            value = body != null ? body : gf.getFile();
+        }
+
+        if (value instanceof File || value instanceof InputStream || value instanceof ReadableByteChannel) {
+            String charset = exchange.getProperty(ExchangePropertyKey.CHARSET_NAME, String.class);
+            if (LiteralScanner.isSupported(delimiter, charset)) {
+                if (value instanceof File) {
+                    try {
+                        return new LiteralScanner((File) value, charset, delimiter);
+                    } catch (IOException e) {
+                        throw new RuntimeCamelException(e);
+                    }
+                } else if (value instanceof InputStream) {
+                    return new LiteralScanner((InputStream) value, charset, delimiter);
+                } else {
+                    return new LiteralScanner((ReadableByteChannel) value, charset, delimiter);
+                }
+            }
+        }
+        return getScanner(exchange, value, delimiter);
+    }
+
     public static String getRouteId(Exchange exchange) {
         String answer = getAtRouteId(exchange);
         if (answer == null) {
@@ -28,6 +28,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.LiteralScanner;
 import org.apache.camel.util.Scanner;
 
 /**
@@ -69,6 +70,8 @@ public final class GroupTokenIterator implements Iterator<Object>, Closeable {
         // so we need to use the actual evaluated delimiter as token
         if (LanguageSupport.hasSimpleFunction(token) && it instanceof Scanner) {
             this.token = ((Scanner) it).getDelim();
+        } else if (LanguageSupport.hasSimpleFunction(token) && it instanceof LiteralScanner) {
+            this.token = ((LiteralScanner) it).getDelim();
         } else {
             this.token = token;
         }
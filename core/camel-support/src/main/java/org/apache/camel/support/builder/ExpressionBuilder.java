@@ -53,6 +53,7 @@ import org.apache.camel.support.GroupTokenIterator;
 import org.apache.camel.support.LanguageSupport;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.InetAddressUtil;
+import org.apache.camel.util.LiteralScanner;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.Scanner;
 import org.apache.camel.util.StringHelper;
@@ -1239,8 +1240,7 @@ public class ExpressionBuilder {
             public Object evaluate(Exchange exchange) {
                 String text = token.evaluate(exchange, String.class);
                 Object value = expression.evaluate(exchange, Object.class);
-                Scanner scanner = ExchangeHelper.getScanner(exchange, value, text);
-                return scanner;
+                return ExchangeHelper.getTokenIterator(exchange, value, text);
             }
 
             @Override
@@ -1365,7 +1365,12 @@ public class ExpressionBuilder {
                 } else if (parts <= 0) {
                     throw new RuntimeExchangeException("Group must be a positive number, was: " + parts, exchange);
                 }
-                if (token != null) {
+                if (token != null && !skipFirst && it instanceof LiteralScanner
+                        && (LanguageSupport.hasSimpleFunction(token) || token.equals(((LiteralScanner) it).getDelim()))) {
+                    // the scanner can return the grouped tokens directly from its buffer
+                    ((LiteralScanner) it).setGroup(parts);
+                    return it;
+                } else if (token != null) {
                     return new GroupTokenIterator(exchange, it, token, parts, skipFirst);
                 } else {
                     return new GroupIterator(exchange, it, parts, skipFirst);
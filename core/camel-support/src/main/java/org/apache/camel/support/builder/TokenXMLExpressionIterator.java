@@ -19,19 +19,21 @@ package org.apache.camel.support.builder;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.text.MessageFormat;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
-import java.util.regex.MatchResult;
+import java.util.NoSuchElementException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.ExpressionAdapter;
 import org.apache.camel.support.LanguageSupport;
@@ -53,10 +55,6 @@ import org.apache.camel.util.StringHelper;
  */
 public class TokenXMLExpressionIterator extends ExpressionAdapter {
     private static final Pattern NAMESPACE_PATTERN = Pattern.compile("xmlns(:\\w+|)\\s*=\\s*('[^']+'|\"[^\"]+\")");
-    private static final String SCAN_TOKEN_NS_PREFIX_REGEX = "([^:<>]{1,15}?:|)";
-    private static final String SCAN_BLOCK_TOKEN_REGEX_TEMPLATE
-            = "<{0}(\\s+[^>]*)?/>|<{0}(\\s+[^>]*)?>(?:(?!(</{0}\\s*>)).)*</{0}\\s*>";
-    private static final String SCAN_PARENT_TOKEN_REGEX_TEMPLATE = "<{0}(\\s+[^>]*\\s*)?>";
     private static final String OPTION_WRAP_TOKEN = "<*>";
     private static final String NAMESPACE_SEPERATOR = " ";
 
@@ -152,95 +150,257 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
     }
 
     /**
-     * Iterator to walk the input stream
+     * Iterator to walk the input stream.
+     * <p/>
+     * The input is read in a single pass by a small lexer which skips comments, CDATA sections, processing instructions
+     * and quoted attribute values, so only the text of the current token (and the text before the first token when
+     * wrapping) is held in memory.
      */
     static class XMLTokenIterator implements Iterator<Object>, Closeable {
+        private static final int BUFFER_SIZE = 8192;
+        private static final int OTHER = 0;
+        private static final int START_TAG = 1;
+        private static final int EMPTY_TAG = 2;
+        private static final int END_TAG = 3;
+
         final String tagToken;
-        final InputStream in;
-        final String charset;
-        Scanner scanner;
+        final Reader in;
         Object image;
 
-        private final Pattern tagTokenPattern;
+        private final String tagName;
         private final String inheritNamespaceToken;
+        private final String inheritNamespaceName;
         private final boolean wrapToken;
-        private Pattern inheritNamespaceTokenPattern;
+        private final char[] buf = new char[BUFFER_SIZE];
+        private int pos;
+        private int limit;
+        // the builder the read characters are appended to, if any
+        private StringBuilder recorder;
+        private final StringBuilder markup = new StringBuilder();
+        private final StringBuilder markupName = new StringBuilder();
         private String[] rootTokenNamespaces;
         private String wrapHead;
         private String wrapTail;
 
         XMLTokenIterator(String tagToken, String inheritNamespaceToken, InputStream in, String charset) {
             this.tagToken = tagToken;
-            this.charset = charset;
-
-            // remove any beginning < and ending > as we need to support ns prefixes and attributes, so we use a reg exp patterns
-            this.tagTokenPattern = Pattern.compile(MessageFormat.format(SCAN_BLOCK_TOKEN_REGEX_TEMPLATE,
-                    SCAN_TOKEN_NS_PREFIX_REGEX + tagToken.substring(1, tagToken.length() - 1)),
-                    Pattern.MULTILINE | Pattern.DOTALL);
-
+            // remove the beginning < and ending > as the tag name may have a ns prefix
+            this.tagName = tagToken.substring(1, tagToken.length() - 1);
             this.inheritNamespaceToken = inheritNamespaceToken;
-            if (OPTION_WRAP_TOKEN.equals(inheritNamespaceToken)) {
-                this.wrapToken = true;
-                this.in = new RecordableInputStream(in, charset);
+            this.wrapToken = OPTION_WRAP_TOKEN.equals(inheritNamespaceToken);
+            if (inheritNamespaceToken != null && !wrapToken) {
+                this.inheritNamespaceName = inheritNamespaceToken.substring(1, inheritNamespaceToken.length() - 1);
             } else {
-                this.wrapToken = false;
-                this.in = in;
-                if (inheritNamespaceToken != null) {
-                    // the inherit namespace token may itself have a namespace prefix
-                    // the namespaces on the parent tag can be in multi line, so we need to instruct the dot to support multilines
-                    this.inheritNamespaceTokenPattern = Pattern.compile(MessageFormat.format(SCAN_PARENT_TOKEN_REGEX_TEMPLATE,
-                            SCAN_TOKEN_NS_PREFIX_REGEX + inheritNamespaceToken.substring(1,
-                                    inheritNamespaceToken.length() - 1)),
-                            Pattern.MULTILINE | Pattern.DOTALL);
-                }
+                this.inheritNamespaceName = null;
             }
+            this.in = charset != null ? new InputStreamReader(in, Charset.forName(charset)) : new InputStreamReader(in);
         }
 
         void init() {
-            // use a scanner with the default delimiter
-            this.scanner = new Scanner(in, charset);
-            this.image = scanner.hasNext() ? (String) next(true) : null;
+            if (wrapToken) {
+                // record the text before the first token, which is used to wrap the tokens
+                recorder = new StringBuilder();
+            }
+            this.image = getNext();
         }
 
-        String getNext(boolean first) {
-            // initialize inherited namespaces on first
-            if (first && inheritNamespaceToken != null && !wrapToken) {
-                rootTokenNamespaces
-                        = getNamespacesFromNamespaceTokenSplitter(scanner.findWithinHorizon(inheritNamespaceTokenPattern, 0));
+        String getNext() {
+            try {
+                return readToken();
+            } catch (IOException e) {
+                throw new RuntimeCamelException(e);
             }
+        }
 
-            String next = scanner.findWithinHorizon(tagTokenPattern, 0);
-            if (next == null) {
-                return null;
-            }
-            if (first && wrapToken) {
-                MatchResult mres = scanner.match();
-                wrapHead = ((RecordableInputStream) in).getText(mres.start());
-                wrapTail = buildXMLTail(wrapHead);
+        private String readToken() throws IOException {
+            int c;
+            while ((c = read()) != -1) {
+                if (c != '<') {
+                    continue;
+                }
+
+                boolean recording = recorder != null;
+                if (!recording) {
+                    markup.setLength(0);
+                    markup.append('<');
+                    recorder = markup;
+                }
+                int start = recorder.length() - 1;
+                int kind = readMarkup();
+                if ((kind == START_TAG || kind == EMPTY_TAG) && matchesName(tagName)) {
+                    String startTag = recorder.substring(start);
+                    if (wrapToken && wrapHead == null) {
+                        wrapHead = recorder.substring(0, start);
+                        wrapTail = buildXMLTail(wrapHead);
+                    }
+                    recorder = null;
+                    if (kind == EMPTY_TAG) {
+                        return buildToken(startTag, true, "");
+                    }
+                    // the nested elements and text are recorded until the matching end tag
+                    recorder = new StringBuilder();
+                    boolean complete = readElementContent();
+                    String content = recorder.toString();
+                    recorder = null;
+                    return complete ? buildToken(startTag, false, content) : null;
+                }
+                if ((kind == START_TAG || kind == EMPTY_TAG) && rootTokenNamespaces == null
+                        && inheritNamespaceName != null && matchesName(inheritNamespaceName)) {
+                    rootTokenNamespaces = getNamespacesFromNamespaceTokenSplitter(recorder.substring(start));
+                }
+                if (!recording) {
+                    recorder = null;
+                }
             }
+            return null;
+        }
 
+        private String buildToken(String startTag, boolean empty, String content) {
             // build answer accordingly to whether namespaces should be inherited or not
             if (inheritNamespaceToken != null && rootTokenNamespaces != null) {
-                String head = StringHelper.before(next, ">");
-                boolean empty = false;
-                if (head.endsWith("/")) {
-                    head = head.substring(0, head.length() - 1);
-                    empty = true;
-                }
-                StringBuilder sb = new StringBuilder();
-                // append root namespaces to local start token
-                // grab the text
-                String tail = StringHelper.after(next, ">");
+                String head = startTag.substring(0, startTag.length() - (empty ? 2 : 1));
                 // build result with inherited namespaces and skip the prefixes that are declared within the child itself.
-                next = sb.append(head).append(getMissingInherritNamespaces(head)).append(empty ? "/>" : ">").append(tail)
-                        .toString();
+                return head + getMissingInherritNamespaces(head) + (empty ? "/>" : ">") + content;
             } else if (wrapToken) {
                 // wrap the token
-                StringBuilder sb = new StringBuilder();
-                next = sb.append(wrapHead).append(next).append(wrapTail).toString();
+                return wrapHead + startTag + content + wrapTail;
+            }
+            return startTag + content;
+        }
+
+        private boolean matchesName(String name) {
+            int len = markupName.length();
+            if (len == name.length()) {
+                return markupName.indexOf(name) == 0;
+            }
+            // any ns prefix
+            return len > name.length() && markupName.charAt(len - name.length() - 1) == ':'
+                    && markupName.indexOf(name, len - name.length()) == len - name.length();
+        }
+
+        /**
+         * Reads until the end tag matching the start tag which has been read.
+         *
+         * @return <tt>true</tt> if the end tag was found, <tt>false</tt> if the input ended before
+         */
+        private boolean readElementContent() throws IOException {
+            int depth = 1;
+            int c;
+            while ((c = read()) != -1) {
+                if (c == '<') {
+                    int kind = readMarkup();
+                    if (kind == START_TAG) {
+                        depth++;
+                    } else if (kind == END_TAG && --depth == 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Reads the markup following a <tt>&lt;</tt> character.
+         *
+         * @return the kind of markup, with the element name in {@link #markupName} for a start tag
+         */
+        private int readMarkup() throws IOException {
+            int c = read();
+            if (c == '!') {
+                c = read();
+                if (c == '-') {
+                    // comment
+                    read();
+                    skipUntil('-', 2);
+                } else if (c == '[') {
+                    // CDATA section
+                    skipUntil(']', 2);
+                } else {
+                    skipDeclaration(c);
+                }
+                return OTHER;
+            } else if (c == '?') {
+                skipUntil('?', 1);
+                return OTHER;
+            } else if (c == '/') {
+                skipUntil('>', 0);
+                return END_TAG;
             }
 
-            return next;
+            markupName.setLength(0);
+            while (c != -1 && c != '>' && c != '/' && !Character.isWhitespace(c)) {
+                markupName.append((char) c);
+                c = read();
+            }
+            int last = 0;
+            int quote = 0;
+            while (c != -1) {
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '>') {
+                    return last == '/' ? EMPTY_TAG : START_TAG;
+                } else if (!Character.isWhitespace(c)) {
+                    last = c;
+                }
+                c = read();
+            }
+            return OTHER;
+        }
+
+        /**
+         * Skips until a <tt>&gt;</tt> character preceded by the given character repeated the given number of times.
+         */
+        private void skipUntil(char ch, int times) throws IOException {
+            int run = 0;
+            int c;
+            while ((c = read()) != -1) {
+                if (c == '>' && run >= times) {
+                    return;
+                }
+                run = c == ch ? run + 1 : 0;
+            }
+        }
+
+        private void skipDeclaration(int c) throws IOException {
+            // a doctype may have an internal subset within brackets
+            int depth = 0;
+            int quote = 0;
+            while (c != -1) {
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '[') {
+                    depth++;
+                } else if (c == ']') {
+                    depth--;
+                } else if (c == '>' && depth <= 0) {
+                    return;
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (pos == limit) {
+                int n = in.read(buf, 0, buf.length);
+                if (n <= 0) {
+                    return -1;
+                }
+                pos = 0;
+                limit = n;
+            }
+            char c = buf[pos++];
+            if (recorder != null) {
+                recorder.append(c);
+            }
+            return c;
         }
 
         private String getMissingInherritNamespaces(final String text) {
@@ -324,22 +484,11 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
 
         @Override
         public Object next() {
-            return next(false);
-        }
-
-        Object next(boolean first) {
-            Object answer = image;
-            // calculate next
-            if (scanner.hasNext()) {
-                image = getNext(first);
-            } else {
-                image = null;
-            }
-
-            if (answer == null) {
-                // first time the image may be null
-                answer = image;
+            if (image == null) {
+                throw new NoSuchElementException();
             }
+            Object answer = image;
+            image = getNext();
             return answer;
         }
 
@@ -350,7 +499,7 @@ public class TokenXMLExpressionIterator extends ExpressionAdapter {
 
         @Override
         public void close() throws IOException {
-            scanner.close();
+            in.close();
         }
 
     }
@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread safe Bloom filter of <tt>String</tt> keys, which can be used by idempotent repositories to skip looking up
+ * keys which have definitely not been added before.
+ * <p/>
+ * The filter is sized from the expected number of keys and the wanted false positive probability. When more keys than
+ * expected are added the false positive probability grows, but the filter never gives false negatives.
+ * <p/>
+ * The bits are stored off-heap in a direct {@link ByteBuffer}, so large filters do not add to the garbage collection
+ * work, and can be written to and read from a stream to keep the filter across restarts.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final int MAX_WORDS = Integer.MAX_VALUE / Long.BYTES;
+
+    /**
+     * The maximum number of bytes of a filter, as the bits are kept in a single direct buffer
+     */
+    public static final long MAX_SIZE = (long) MAX_WORDS * Long.BYTES;
+
+    private final ByteBuffer bits;
+    private final int wordCount;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong keyCount = new AtomicLong();
+
+    /**
+     * Creates a Bloom filter.
+     *
+     * @param expectedKeys             the number of keys expected to be added
+     * @param falsePositiveProbability the wanted probability of {@link #mightContain(String)} returning <tt>true</tt>
+     *                                 for a key which has not been added, once the expected number of keys have been
+     *                                 added
+     * @throws IllegalArgumentException if the filter would be larger than {@link #MAX_SIZE}
+     */
+    public BloomFilter(long expectedKeys, double falsePositiveProbability) {
+        long size = sizeOf(expectedKeys, falsePositiveProbability);
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException(
+                    "A Bloom filter of " + expectedKeys + " keys with a false positive probability of "
+                                               + falsePositiveProbability + " needs " + size
+                                               + " bytes, which is more than the maximum of " + MAX_SIZE + " bytes");
+        }
+        // the bits are kept as longs in a direct buffer
+        this.wordCount = (int) (size / Long.BYTES);
+        this.bits = ByteBuffer.allocateDirect(wordCount * Long.BYTES);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeys * LN2));
+    }
+
+    /**
+     * The number of bytes of memory needed by a filter, which may be more than {@link #MAX_SIZE}.
+     *
+     * @param expectedKeys             the number of keys expected to be added
+     * @param falsePositiveProbability the wanted false positive probability once the expected number of keys have
+     *                                 been added
+     */
+    public static long sizeOf(long expectedKeys, double falsePositiveProbability) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("expectedKeys must be positive");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+        }
+        double m = Math.ceil(-expectedKeys * Math.log(falsePositiveProbability) / (LN2 * LN2));
+        if (m >= Long.MAX_VALUE / 2) {
+            return Long.MAX_VALUE;
+        }
+        return ((long) m + 63) / 64 * Long.BYTES;
+    }
+
+    private BloomFilter(int wordCount, int hashCount) {
+        this.wordCount = wordCount;
+        this.bits = ByteBuffer.allocateDirect(wordCount * Long.BYTES);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Adds the key to the filter.
+     *
+     * @return <tt>true</tt> if the filter has changed, which means the key had definitely not been added before,
+     *         <tt>false</tt> if the key might have been added before
+     */
+    public boolean put(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            int offset = (int) (index >>> 6) * Long.BYTES;
+            long mask = 1L << index;
+            long value = (long) WORDS.getVolatile(bits, offset);
+            while ((value & mask) == 0) {
+                if (WORDS.compareAndSet(bits, offset, value, value | mask)) {
+                    changed = true;
+                    break;
+                }
+                value = (long) WORDS.getVolatile(bits, offset);
+            }
+        }
+        if (changed) {
+            keyCount.incrementAndGet();
+        }
+        return changed;
+    }
+
+    /**
+     * Whether the key might have been added to the filter.
+     *
+     * @return <tt>false</tt> if the key has definitely not been added, <tt>true</tt> if the key has probably been
+     *         added
+     */
+    public boolean mightContain(String key) {
+        long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+            long value = (long) WORDS.getVolatile(bits, (int) (index >>> 6) * Long.BYTES);
+            if ((value & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all the keys from the filter.
+     */
+    public void clear() {
+        for (int i = 0; i < wordCount; i++) {
+            WORDS.setVolatile(bits, i * Long.BYTES, 0L);
+        }
+        keyCount.set(0);
+    }
+
+    /**
+     * Writes the filter to the output, so it can be restored with {@link #readFrom(DataInput)}.
+     * <p/>
+     * Keys added while writing may or may not be included.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(wordCount);
+        out.writeInt(hashCount);
+        out.writeLong(keyCount.get());
+        ByteBuffer source = bits.duplicate();
+        byte[] chunk = new byte[Math.min(64 * 1024, source.remaining())];
+        while (source.hasRemaining()) {
+            int len = Math.min(chunk.length, source.remaining());
+            source.get(chunk, 0, len);
+            out.write(chunk, 0, len);
+        }
+    }
+
+    /**
+     * Reads a filter written with {@link #writeTo(DataOutput)}.
+     */
+    public static BloomFilter readFrom(DataInput in) throws IOException {
+        int wordCount = in.readInt();
+        int hashCount = in.readInt();
+        long keyCount = in.readLong();
+        if (wordCount <= 0 || wordCount > MAX_WORDS || hashCount <= 0) {
+            throw new IOException("Invalid Bloom filter header");
+        }
+        BloomFilter answer = new BloomFilter(wordCount, hashCount);
+        ByteBuffer target = answer.bits.duplicate();
+        byte[] chunk = new byte[Math.min(64 * 1024, target.remaining())];
+        while (target.hasRemaining()) {
+            int len = Math.min(chunk.length, target.remaining());
+            in.readFully(chunk, 0, len);
+            target.put(chunk, 0, len);
+        }
+        answer.keyCount.set(keyCount);
+        return answer;
+    }
+
+    /**
+     * The number of bits of the filter
+     */
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * The number of bytes of memory used by the filter
+     */
+    public long getSize() {
+        return (long) wordCount * Long.BYTES;
+    }
+
+    /**
+     * The number of hash functions used for each key
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    /**
+     * The approximate number of distinct keys added to the filter
+     */
+    public long getKeyCount() {
+        return keyCount.get();
+    }
+
+    /**
+     * The current probability of {@link #mightContain(String)} returning <tt>true</tt> for a key which has not been
+     * added, estimated from the number of keys added so far.
+     */
+    public double getFalsePositiveProbability() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * keyCount.get() / bitCount), hashCount);
+    }
+
+    private static long hash(String key, long seed) {
+        long h = seed;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        // final avalanche to spread the bits of short keys
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
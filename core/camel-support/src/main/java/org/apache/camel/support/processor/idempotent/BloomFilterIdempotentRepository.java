@@ -0,0 +1,696 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A probabilistic implementation of {@link org.apache.camel.spi.IdempotentRepository} based on Bloom filters, for
+ * deduplicating very large numbers of keys without storing each key.
+ * <p/>
+ * The keys are added to time partitions, each covering a {@link #setPartitionPeriod(long) period}, and only the keys
+ * of the last {@link #setPartitions(int) partitions} are remembered, so the repository deduplicates over a sliding
+ * window. Each partition is a scalable Bloom filter: when its current filter holds the expected number of keys, a new
+ * filter twice as large and with half the false positive probability is added, so the false positive probability of
+ * the repository stays below the configured {@link #setFalsePositiveProbability(double) falsePositiveProbability}.
+ * The filters stop growing once they would be larger than the {@link BloomFilter#MAX_SIZE maximum size} of a filter,
+ * which is logged as a WARN, and beyond that the false positive probability slowly increases as more filters of the
+ * same size are added.
+ * <p/>
+ * A false positive means a new key is reported as a duplicate. When a {@link #setDelegate(IdempotentRepository)
+ * delegate} repository storing the exact keys is configured, the keys are also added to the delegate, and the delegate
+ * is only asked to confirm when the filters report a key might have been added before.
+ * <p/>
+ * The filters are kept off-heap, and are written to the {@link #setSnapshotFile(File) snapshot file} every
+ * {@link #setSnapshotInterval(long) snapshot interval} and when stopping, so they can be restored when starting. The
+ * keys added after the last snapshot are lost if the JVM crashes.
+ * <p/>
+ * As keys cannot be removed from a Bloom filter, the keys removed (such as when the processing of a message failed) are
+ * kept in a cache of {@link #setRemovedCacheSize(int) removed keys} so they can be added again, which is also written
+ * to the snapshot file. This cache is bounded, so when more keys are removed without being added again (such as during
+ * a long outage of a downstream system) the oldest removed keys are forgotten, and are rejected as duplicates if added
+ * again, which is logged as a WARN.
+ * <p/>
+ * The filters are allocated as direct buffers, so their size (see {@link #getFilterSize()}) counts towards the
+ * <tt>-XX:MaxDirectMemorySize</tt> limit of the JVM rather than the heap.
+ */
+@ManagedResource(description = "Bloom filter based idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIdempotentRepository.class);
+
+    private static final int SNAPSHOT_MAGIC = 0x43424652;
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final int LOCK_STRIPES = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object[] stripes = new Object[LOCK_STRIPES];
+    private final Deque<Partition> partitions = new ArrayDeque<>();
+    private final AtomicLong addedCount = new AtomicLong();
+    private final AtomicLong duplicateCount = new AtomicLong();
+    private final AtomicLong delegateLookupCount = new AtomicLong();
+    private final AtomicLong snapshotCount = new AtomicLong();
+
+    private CamelContext camelContext;
+    private IdempotentRepository delegate;
+    private long expectedKeys = 1000000;
+    private double falsePositiveProbability = 0.001;
+    private int partitionCount = 7;
+    private long partitionPeriod = TimeUnit.DAYS.toMillis(1);
+    private File snapshotFile;
+    private long snapshotInterval = 60000;
+    private int removedCacheSize = 1000;
+    private Map<String, Object> removed;
+    private ScheduledExecutorService executorService;
+
+    public BloomFilterIdempotentRepository() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    public BloomFilterIdempotentRepository(long expectedKeys, double falsePositiveProbability) {
+        this();
+        this.expectedKeys = expectedKeys;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    /**
+     * Creates a new Bloom filter based repository.
+     *
+     * @param expectedKeys             the number of keys expected per partition
+     * @param falsePositiveProbability the maximum probability of reporting a new key as a duplicate
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(long expectedKeys, double falsePositiveProbability) {
+        return new BloomFilterIdempotentRepository(expectedKeys, falsePositiveProbability);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        long now = System.currentTimeMillis();
+        Partition current = currentPartition(now);
+        lock.readLock().lock();
+        try {
+            // the same key is always added under the same stripe, so concurrent adds of a key see each other
+            synchronized (stripes[(key.hashCode() & 0x7fffffff) % LOCK_STRIPES]) {
+                boolean maybe = mightContain(key, now);
+                if (maybe && unremove(key)) {
+                    // the key has been removed so it can be added again
+                    maybe = false;
+                }
+                if (maybe) {
+                    if (delegate == null) {
+                        duplicateCount.incrementAndGet();
+                        return false;
+                    }
+                    delegateLookupCount.incrementAndGet();
+                    if (!delegate.add(key)) {
+                        duplicateCount.incrementAndGet();
+                        return false;
+                    }
+                } else if (delegate != null) {
+                    delegate.add(key);
+                }
+                current.put(key);
+                addedCount.incrementAndGet();
+                return true;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        lock.readLock().lock();
+        try {
+            if (!mightContain(key, System.currentTimeMillis()) || isRemoved(key)) {
+                return false;
+            }
+            if (delegate != null) {
+                delegateLookupCount.incrementAndGet();
+                return delegate.contains(key);
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        lock.readLock().lock();
+        try {
+            synchronized (stripes[(key.hashCode() & 0x7fffffff) % LOCK_STRIPES]) {
+                boolean answer = mightContain(key, System.currentTimeMillis()) && markRemoved(key);
+                if (delegate != null) {
+                    answer = delegate.remove(key);
+                }
+                return answer;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        if (delegate != null) {
+            return delegate.confirm(key);
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            partitions.clear();
+            synchronized (removed) {
+                removed.clear();
+            }
+            if (delegate != null) {
+                delegate.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the filters to the snapshot file.
+     */
+    @ManagedOperation(description = "Writes the filters to the snapshot file")
+    public void snapshot() {
+        if (snapshotFile == null) {
+            return;
+        }
+        List<Partition> copy;
+        lock.readLock().lock();
+        try {
+            copy = new ArrayList<>(partitions);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        File tmp = new File(snapshotFile.getPath() + ".tmp");
+        try {
+            File parent = tmp.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(copy.size());
+                for (Partition partition : copy) {
+                    partition.writeTo(out);
+                }
+                // the removed keys must survive a restart, as they are otherwise rejected when redelivered
+                List<String> keys;
+                synchronized (removed) {
+                    keys = new ArrayList<>(removed.keySet());
+                }
+                out.writeInt(keys.size());
+                for (String key : keys) {
+                    out.writeUTF(key);
+                }
+            }
+            Files.move(tmp.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            snapshotCount.incrementAndGet();
+            LOG.debug("Written snapshot of {} partitions to {}", copy.size(), snapshotFile);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error writing snapshot to file " + snapshotFile, e);
+        }
+    }
+
+    private void loadSnapshot() {
+        if (snapshotFile == null || !snapshotFile.exists()) {
+            return;
+        }
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(snapshotFile)));
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Unsupported snapshot file format");
+            }
+            int version = in.readInt();
+            if (version < 1 || version > SNAPSHOT_VERSION) {
+                throw new IOException("Unsupported snapshot file version: " + version);
+            }
+            int size = in.readInt();
+            long oldest = System.currentTimeMillis() - (long) partitionCount * partitionPeriod;
+            for (int i = 0; i < size; i++) {
+                Partition partition = Partition.readFrom(in);
+                // skip the partitions which have expired while stopped
+                if (partition.end > oldest) {
+                    partitions.addLast(partition);
+                }
+            }
+            if (version >= 2) {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    markRemoved(in.readUTF());
+                }
+            }
+            LOG.info("Loaded {} partitions from snapshot file {}", partitions.size(), snapshotFile);
+        } catch (IOException e) {
+            throw new RuntimeCamelException("Error reading snapshot from file " + snapshotFile, e);
+        } finally {
+            IOHelper.close(in, "snapshot file", LOG);
+        }
+    }
+
+    private boolean mightContain(String key, long now) {
+        long oldest = now - (long) partitionCount * partitionPeriod;
+        for (Partition partition : partitions) {
+            if (partition.end > oldest && partition.mightContain(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRemoved(String key) {
+        synchronized (removed) {
+            return removed.containsKey(key);
+        }
+    }
+
+    private boolean markRemoved(String key) {
+        synchronized (removed) {
+            return removed.put(key, key) == null;
+        }
+    }
+
+    private boolean unremove(String key) {
+        synchronized (removed) {
+            return removed.remove(key) != null;
+        }
+    }
+
+    private Partition currentPartition(long now) {
+        lock.readLock().lock();
+        try {
+            Partition last = partitions.peekLast();
+            if (last != null && now < last.end) {
+                return last;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            Partition last = partitions.peekLast();
+            if (last == null || now >= last.end) {
+                // keep the partitions contiguous unless no key has been added for a whole period
+                long start = last != null && now < last.end + partitionPeriod ? last.end : now;
+                last = new Partition(start, start + partitionPeriod, expectedKeys,
+                        falsePositiveProbability / partitionCount);
+                partitions.addLast(last);
+                while (partitions.size() > partitionCount) {
+                    partitions.removeFirst();
+                }
+                LOG.debug("Started new partition, now with {} partitions", partitions.size());
+            }
+            return last;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public IdempotentRepository getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * An optional repository storing the exact keys, which is asked to confirm whether a key has been added before
+     * when the filters report it might have been.
+     */
+    public void setDelegate(IdempotentRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    public long getExpectedKeys() {
+        return expectedKeys;
+    }
+
+    /**
+     * The number of keys expected per partition, which the first filter of each partition is sized for.
+     */
+    public void setExpectedKeys(long expectedKeys) {
+        this.expectedKeys = expectedKeys;
+    }
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * The maximum probability of reporting a new key as having been added before.
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public int getPartitions() {
+        return partitionCount;
+    }
+
+    /**
+     * The number of partitions to keep, so the keys are remembered for <tt>partitions * partitionPeriod</tt>.
+     */
+    public void setPartitions(int partitions) {
+        this.partitionCount = partitions;
+    }
+
+    public long getPartitionPeriod() {
+        return partitionPeriod;
+    }
+
+    /**
+     * The period in millis covered by each partition.
+     */
+    public void setPartitionPeriod(long partitionPeriod) {
+        this.partitionPeriod = partitionPeriod;
+    }
+
+    public File getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * The file to write the filters to, so they are restored when starting.
+     */
+    public void setSnapshotFile(File snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    public long getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    /**
+     * The interval in millis at which the filters are written to the snapshot file. Use 0 to only write them when
+     * stopping.
+     */
+    public void setSnapshotInterval(long snapshotInterval) {
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public int getRemovedCacheSize() {
+        return removedCacheSize;
+    }
+
+    /**
+     * The maximum number of removed keys remembered, so they can be added again. The removed keys are written to the
+     * snapshot file, and a removed key which is evicted is rejected as a duplicate if added again.
+     */
+    public void setRemovedCacheSize(int removedCacheSize) {
+        this.removedCacheSize = removedCacheSize;
+    }
+
+    @ManagedAttribute(description = "The number of partitions")
+    public int getPartitionCount() {
+        lock.readLock().lock();
+        try {
+            return partitions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The number of filters in all the partitions")
+    public int getFilterCount() {
+        lock.readLock().lock();
+        try {
+            return partitions.stream().mapToInt(p -> p.filters.size()).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The number of bytes used by the filters")
+    public long getFilterSize() {
+        lock.readLock().lock();
+        try {
+            return partitions.stream().flatMap(p -> p.filters.stream()).mapToLong(BloomFilter::getSize).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The approximate number of keys in the filters")
+    public long getKeyCount() {
+        lock.readLock().lock();
+        try {
+            return partitions.stream().flatMap(p -> p.filters.stream()).mapToLong(BloomFilter::getKeyCount).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The estimated probability of reporting a new key as a duplicate")
+    public double getEstimatedFalsePositiveProbability() {
+        lock.readLock().lock();
+        try {
+            double none = 1;
+            for (Partition partition : partitions) {
+                for (BloomFilter filter : partition.filters) {
+                    none *= 1 - filter.getFalsePositiveProbability();
+                }
+            }
+            return 1 - none;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The number of keys added")
+    public long getAddedCount() {
+        return addedCount.get();
+    }
+
+    @ManagedAttribute(description = "The number of keys rejected as duplicates")
+    public long getDuplicateCount() {
+        return duplicateCount.get();
+    }
+
+    @ManagedAttribute(description = "The number of keys looked up in the delegate repository")
+    public long getDelegateLookupCount() {
+        return delegateLookupCount.get();
+    }
+
+    @ManagedAttribute(description = "The number of snapshots written")
+    public long getSnapshotCount() {
+        return snapshotCount.get();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext", this);
+        if (partitionCount <= 0 || partitionPeriod <= 0) {
+            throw new IllegalArgumentException("partitions and partitionPeriod must be positive");
+        }
+        if (BloomFilter.sizeOf(expectedKeys, falsePositiveProbability / partitionCount / 2) > BloomFilter.MAX_SIZE) {
+            throw new IllegalArgumentException(
+                    "expectedKeys is too large for the falsePositiveProbability, as the filter of a partition would be larger"
+                                               + " than " + BloomFilter.MAX_SIZE + " bytes");
+        }
+        removed = LRUCacheFactory.newLRUCache(removedCacheSize,
+                key -> LOG.warn("The removed key {} is evicted from the cache of {} removed keys, so it is rejected as a"
+                                + " duplicate if added again. Increase removedCacheSize to remember more removed keys.",
+                        key, removedCacheSize));
+        ServiceHelper.startService(delegate);
+        loadSnapshot();
+
+        if (snapshotFile != null && snapshotInterval > 0) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                    "BloomFilterIdempotentRepository");
+            executorService.scheduleWithFixedDelay(() -> {
+                try {
+                    snapshot();
+                } catch (Exception e) {
+                    LOG.warn("Error writing snapshot. This exception is ignored.", e);
+                }
+            }, snapshotInterval, snapshotInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+        snapshot();
+        ServiceHelper.stopService(delegate);
+        partitions.clear();
+    }
+
+    /**
+     * A time partition, which is a scalable Bloom filter growing as keys are added.
+     */
+    private static final class Partition {
+        private final long start;
+        private final long end;
+        private final long expectedKeys;
+        private final double falsePositiveProbability;
+        private final int maxGrowth;
+        private final List<BloomFilter> filters = new CopyOnWriteArrayList<>();
+        private volatile BloomFilter current;
+        private volatile long currentCapacity;
+
+        private Partition(long start, long end, long expectedKeys, double falsePositiveProbability) {
+            this.start = start;
+            this.end = end;
+            this.expectedKeys = expectedKeys;
+            this.falsePositiveProbability = falsePositiveProbability;
+            this.maxGrowth = maxGrowth(expectedKeys, falsePositiveProbability);
+        }
+
+        /**
+         * The number of times the filter size can be doubled without going over the maximum size of a filter
+         */
+        private static int maxGrowth(long expectedKeys, double falsePositiveProbability) {
+            int n = 0;
+            while (n + 1 < Long.numberOfLeadingZeros(expectedKeys) - 1 && n + 1 < 62
+                    && BloomFilter.sizeOf(expectedKeys << (n + 1), falsePositiveProbability / (2L << (n + 1)))
+                            <= BloomFilter.MAX_SIZE) {
+                n++;
+            }
+            return n;
+        }
+
+        boolean mightContain(String key) {
+            for (BloomFilter filter : filters) {
+                if (filter.mightContain(key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void put(String key) {
+            BloomFilter filter = current;
+            if (filter == null || filter.getKeyCount() >= currentCapacity) {
+                synchronized (this) {
+                    filter = current;
+                    if (filter == null || filter.getKeyCount() >= currentCapacity) {
+                        filter = grow();
+                    }
+                }
+            }
+            filter.put(key);
+        }
+
+        private BloomFilter grow() {
+            // each filter is twice as large as the previous, and with half the false positive probability, so
+            // the probabilities of all the filters add up to less than the probability of the partition; the growth
+            // stops at the maximum size of a filter, and beyond that the probability slowly increases
+            int n = Math.min(filters.size(), maxGrowth);
+            if (filters.size() == maxGrowth + 1) {
+                LOG.warn("The Bloom filters of the partition can no longer grow after {} keys, as a larger filter would"
+                         + " exceed {} bytes, so the false positive probability now increases as more keys are added."
+                         + " Reduce partitionPeriod or increase falsePositiveProbability.",
+                        expectedKeys * ((2L << maxGrowth) - 1), BloomFilter.MAX_SIZE);
+            }
+            long capacity = expectedKeys << n;
+            BloomFilter filter = new BloomFilter(capacity, falsePositiveProbability / (2L << n));
+            filters.add(filter);
+            currentCapacity = capacity;
+            current = filter;
+            return filter;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeLong(start);
+            out.writeLong(end);
+            out.writeLong(expectedKeys);
+            out.writeDouble(falsePositiveProbability);
+            List<BloomFilter> copy = new ArrayList<>(filters);
+            out.writeInt(copy.size());
+            for (BloomFilter filter : copy) {
+                filter.writeTo(out);
+            }
+        }
+
+        static Partition readFrom(DataInputStream in) throws IOException {
+            Partition partition = new Partition(in.readLong(), in.readLong(), in.readLong(), in.readDouble());
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                partition.filters.add(BloomFilter.readFrom(in));
+            }
+            if (size > 0) {
+                partition.current = partition.filters.get(size - 1);
+                partition.currentCapacity = partition.expectedKeys << Math.min(size - 1, partition.maxGrowth);
+            }
+            return partition;
+        }
+    }
+}
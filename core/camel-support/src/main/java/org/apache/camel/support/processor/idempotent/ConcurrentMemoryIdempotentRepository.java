@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A concurrent memory based implementation of {@link org.apache.camel.spi.IdempotentRepository}.
+ * <p/>
+ * Unlike {@link MemoryIdempotentRepository}, the keys are kept in a {@link ConcurrentHashMap} and added with an atomic
+ * put-if-absent, so idempotent checks of different keys do not contend on a shared lock.
+ * <p/>
+ * The keys expire after the {@link #setTimeToLive(long) time to live}, using a timing wheel which is advanced every
+ * {@link #setTickDuration(long) tick}, so expiring keys costs the same however many keys are stored. The repository is
+ * also bounded by the {@link #setMaximumSize(int) number of keys} and the {@link #setMaximumMemory(long) estimated
+ * memory} used by the keys, in which case the oldest keys are evicted first.
+ */
+@ManagedResource(description = "Concurrent memory based idempotent repository")
+public class ConcurrentMemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    // estimated memory used by an entry besides the characters of its key
+    private static final int ENTRY_OVERHEAD = 112;
+
+    private final ConcurrentMap<String, Entry> cache = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger insertionOrderSize = new AtomicInteger();
+    private final AtomicLong memory = new AtomicLong();
+    private final LongAdder addCount = new LongAdder();
+    private final LongAdder duplicateCount = new LongAdder();
+    private final LongAdder contendedCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder evictedCount = new LongAdder();
+
+    private CamelContext camelContext;
+    private int maximumSize = 1000;
+    private long maximumMemory;
+    private long timeToLive;
+    private long tickDuration = 1000;
+    private int wheelSize = 512;
+    private Queue<Entry>[] wheel;
+    private long tick;
+    private ScheduledExecutorService executorService;
+
+    public ConcurrentMemoryIdempotentRepository() {
+    }
+
+    public ConcurrentMemoryIdempotentRepository(int maximumSize, long timeToLive) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Creates a new concurrent memory based repository.
+     *
+     * @param maximumSize the maximum number of keys, or 0 for no limit
+     * @param timeToLive  the time in millis the keys are kept, or 0 to keep them until evicted
+     */
+    public static IdempotentRepository concurrentMemoryIdempotentRepository(int maximumSize, long timeToLive) {
+        return new ConcurrentMemoryIdempotentRepository(maximumSize, timeToLive);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        long now = System.currentTimeMillis();
+        Entry existing = cache.get(key);
+        if (existing != null && !existing.isExpired(now)) {
+            duplicateCount.increment();
+            return false;
+        }
+
+        Entry entry = new Entry(key, timeToLive > 0 ? now + timeToLive : 0);
+        while (true) {
+            if (existing == null) {
+                existing = cache.putIfAbsent(key, entry);
+                if (existing == null) {
+                    break;
+                }
+                // another thread has added the key in the meantime
+                contendedCount.increment();
+            }
+            if (!existing.isExpired(now)) {
+                duplicateCount.increment();
+                return false;
+            }
+            if (cache.replace(key, existing, entry)) {
+                removed(existing);
+                expiredCount.increment();
+                break;
+            }
+            contendedCount.increment();
+            existing = cache.get(key);
+        }
+
+        addCount.increment();
+        memory.addAndGet(entry.size());
+        if (maximumSize > 0 || maximumMemory > 0) {
+            insertionOrder.offer(entry);
+            insertionOrderSize.incrementAndGet();
+            evict();
+        }
+        if (entry.expiresAt > 0) {
+            schedule(entry);
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            expire(entry);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        Entry entry = cache.remove(key);
+        if (entry != null) {
+            removed(entry);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        for (Entry entry : cache.values()) {
+            if (cache.remove(entry.key, entry)) {
+                removed(entry);
+            }
+        }
+    }
+
+    /**
+     * Expires the keys which have reached their time to live, and advances the timing wheel.
+     */
+    @ManagedOperation(description = "Expire the keys which have reached their time to live")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            if (wheel != null) {
+                long currentTick = now / tickDuration;
+                // process the slots of all the ticks started since the last time, at most a whole turn of the wheel,
+                // the keys left in those slots expire in a later turn
+                for (long t = Math.max(tick, currentTick - wheelSize + 1); t <= currentTick; t++) {
+                    Queue<Entry> slot = wheel[(int) (t % wheelSize)];
+                    for (int i = slot.size(); i > 0; i--) {
+                        Entry entry = slot.poll();
+                        if (entry == null) {
+                            break;
+                        }
+                        if (entry.isExpired(now)) {
+                            expire(entry);
+                        } else if (!entry.removed) {
+                            // expires in a later turn of the wheel
+                            slot.offer(entry);
+                        }
+                    }
+                }
+                tick = currentTick + 1;
+            }
+        }
+        // drop the removed keys from the insertion order, when they make up most of it
+        if (insertionOrderSize.get() > 2 * cache.size() + 64) {
+            for (int i = insertionOrderSize.get(); i > 0; i--) {
+                Entry entry = insertionOrder.poll();
+                if (entry == null) {
+                    break;
+                }
+                if (entry.removed) {
+                    insertionOrderSize.decrementAndGet();
+                } else {
+                    insertionOrder.offer(entry);
+                }
+            }
+        }
+    }
+
+    private void schedule(Entry entry) {
+        Queue<Entry>[] slots = wheel;
+        if (slots != null) {
+            // the first tick starting at or after the expiry, so the key has expired when the slot is processed
+            long expiryTick = (entry.expiresAt + tickDuration - 1) / tickDuration;
+            slots[(int) (expiryTick % wheelSize)].offer(entry);
+        }
+    }
+
+    private void evict() {
+        while ((maximumSize > 0 && cache.size() > maximumSize) || (maximumMemory > 0 && memory.get() > maximumMemory)) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null) {
+                return;
+            }
+            insertionOrderSize.decrementAndGet();
+            if (!oldest.removed && cache.remove(oldest.key, oldest)) {
+                removed(oldest);
+                evictedCount.increment();
+            }
+        }
+    }
+
+    private void expire(Entry entry) {
+        if (cache.remove(entry.key, entry)) {
+            removed(entry);
+            expiredCount.increment();
+        }
+    }
+
+    private void removed(Entry entry) {
+        entry.removed = true;
+        memory.addAndGet(-entry.size());
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * The maximum number of keys, or 0 for no limit. The oldest keys are evicted when the limit is reached.
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public long getMaximumMemory() {
+        return maximumMemory;
+    }
+
+    /**
+     * The maximum estimated memory in bytes used by the keys, or 0 for no limit. The oldest keys are evicted when the
+     * limit is reached.
+     */
+    public void setMaximumMemory(long maximumMemory) {
+        this.maximumMemory = maximumMemory;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * The time in millis the keys are kept, or 0 to keep them until evicted.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * The duration in millis of a tick of the timing wheel, which is the precision of the expiry.
+     */
+    public void setTickDuration(long tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    /**
+     * The number of slots of the timing wheel.
+     */
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    @ManagedAttribute(description = "The current cache size")
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    @ManagedAttribute(description = "The estimated memory in bytes used by the keys")
+    public long getMemoryUsed() {
+        return memory.get();
+    }
+
+    @ManagedAttribute(description = "The number of keys added")
+    public long getAddCount() {
+        return addCount.sum();
+    }
+
+    @ManagedAttribute(description = "The number of keys rejected as duplicates")
+    public long getDuplicateCount() {
+        return duplicateCount.sum();
+    }
+
+    @ManagedAttribute(description = "The number of adds which raced with another add or expiry of the same key")
+    public long getContendedCount() {
+        return contendedCount.sum();
+    }
+
+    @ManagedAttribute(description = "The number of keys expired")
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    @ManagedAttribute(description = "The number of keys evicted to stay within the size or memory bounds")
+    public long getEvictedCount() {
+        return evictedCount.sum();
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        addCount.reset();
+        duplicateCount.reset();
+        contendedCount.reset();
+        expiredCount.reset();
+        evictedCount.reset();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext", this);
+        if (timeToLive > 0) {
+            if (tickDuration <= 0 || wheelSize <= 0) {
+                throw new IllegalArgumentException("tickDuration and wheelSize must be positive");
+            }
+            Queue<Entry>[] slots = new Queue[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                slots[i] = new ConcurrentLinkedQueue<>();
+            }
+            tick = System.currentTimeMillis() / tickDuration;
+            wheel = slots;
+        }
+        if (timeToLive > 0 || maximumSize > 0 || maximumMemory > 0) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                    "ConcurrentMemoryIdempotentRepository");
+            executorService.scheduleWithFixedDelay(this::purge, tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executorService);
+            executorService = null;
+        }
+        wheel = null;
+        cache.clear();
+        insertionOrder.clear();
+        insertionOrderSize.set(0);
+        memory.set(0);
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final long expiresAt;
+        private volatile boolean removed;
+
+        private Entry(String key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt > 0 && now >= expiresAt;
+        }
+
+        long size() {
+            return ENTRY_OVERHEAD + 2L * key.length();
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A {@link Scanner} alternative for a literal delimiter, which searches the delimiter directly on the raw bytes of the
+ * input and only decodes the returned tokens.
+ * <p/>
+ * The tokens are the same as returned by a {@link Scanner} using the delimiter as pattern. This can only be used when
+ * the delimiter has no regular expression meaning and the charset allows matching it on the encoded bytes, as checked
+ * by {@link #isSupported(String, String)}.
+ */
+public final class LiteralScanner implements Iterator<String>, Closeable {
+
+    private static final String REGEX_CHARS = "\\[](){}.*+?^$|";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream source;
+    private final Charset charset;
+    private final String delimiter;
+    private final byte[] delim;
+    private byte[] buf = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    // the start of the token being read, which must be kept in the buffer
+    private int mark = -1;
+    private int group = 1;
+    private boolean skipped;
+    private boolean inputExhausted;
+    private boolean closed;
+    private IOException lastIOException;
+
+    public LiteralScanner(InputStream source, String charsetName, String delimiter) {
+        this.source = Objects.requireNonNull(source, "source");
+        this.charset = toCharset(charsetName);
+        this.delimiter = Objects.requireNonNull(delimiter, "delimiter");
+        this.delim = delimiter.getBytes(charset);
+        if (delim.length == 0) {
+            throw new IllegalArgumentException("Delimiter must not be empty");
+        }
+    }
+
+    public LiteralScanner(File source, String charsetName, String delimiter) throws FileNotFoundException {
+        this(new FileInputStream(Objects.requireNonNull(source, "source")), charsetName, delimiter);
+    }
+
+    public LiteralScanner(ReadableByteChannel source, String charsetName, String delimiter) {
+        this(Channels.newInputStream(Objects.requireNonNull(source, "source")), charsetName, delimiter);
+    }
+
+    /**
+     * Whether the given delimiter and charset can be used with this scanner, which is when the delimiter has no
+     * regular expression meaning and its encoded bytes cannot occur inside the encoding of another character.
+     *
+     * @param  delimiter   the delimiter
+     * @param  charsetName the charset of the input, or <tt>null</tt> to use the default charset
+     * @return             <tt>true</tt> if supported, <tt>false</tt> if a {@link Scanner} must be used instead
+     */
+    public static boolean isSupported(String delimiter, String charsetName) {
+        if (delimiter == null || delimiter.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < delimiter.length(); i++) {
+            if (REGEX_CHARS.indexOf(delimiter.charAt(i)) != -1) {
+                return false;
+            }
+        }
+
+        Charset cs;
+        try {
+            cs = toCharset(charsetName);
+        } catch (IllegalArgumentException e) {
+            // let the scanner report the invalid charset
+            return false;
+        }
+        if (!cs.canEncode()) {
+            return false;
+        }
+        CharsetEncoder encoder = cs.newEncoder();
+        // UTF-8 is self synchronizing, and single byte charsets map each byte to a character
+        return (StandardCharsets.UTF_8.equals(cs) || encoder.maxBytesPerChar() == 1f) && encoder.canEncode(delimiter);
+    }
+
+    /**
+     * Sets the number of tokens to combine into each returned string, which includes the delimiters between them.
+     */
+    public void setGroup(int group) {
+        if (group <= 0) {
+            throw new IllegalArgumentException("Group must be a positive number, was: " + group);
+        }
+        this.group = group;
+    }
+
+    public int getGroup() {
+        return group;
+    }
+
+    public String getDelim() {
+        return delimiter;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        skipDelimiter();
+        return position < limit || fill();
+    }
+
+    @Override
+    public String next() {
+        if (closed) {
+            throw new IllegalStateException();
+        }
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        mark = position;
+        int length = nextTokenEnd() - mark;
+        for (int count = 1; count < group && hasNext(); count++) {
+            length = nextTokenEnd() - mark;
+        }
+        String answer = new String(buf, mark, length, charset);
+        mark = -1;
+        return answer;
+    }
+
+    private void skipDelimiter() {
+        if (skipped) {
+            return;
+        }
+        while (limit - position < delim.length && fill()) {
+            // the delimiter may not be fully read yet
+        }
+        if (limit - position >= delim.length && startsWithDelimiter(position)) {
+            position += delim.length;
+        }
+        skipped = true;
+    }
+
+    private int nextTokenEnd() {
+        int offset = 0;
+        while (true) {
+            int index = indexOf(buf, position + offset, limit, delim);
+            if (index != -1) {
+                position = index;
+                break;
+            }
+            // the delimiter may be split over the end of the buffer
+            offset = Math.max(0, limit - position - delim.length + 1);
+            if (!fill()) {
+                position = limit;
+                break;
+            }
+        }
+        skipped = false;
+        return position;
+    }
+
+    private boolean startsWithDelimiter(int index) {
+        for (int i = 0; i < delim.length; i++) {
+            if (buf[index + i] != delim[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte[] delim) {
+        byte first = delim[0];
+        int max = to - delim.length;
+        for (int i = from; i <= max; i++) {
+            // look for the first byte in a tight loop
+            if (bytes[i] != first) {
+                while (++i <= max && bytes[i] != first) {
+                    // keep looking
+                }
+            }
+            if (i <= max) {
+                int j = i + 1;
+                int end = i + delim.length;
+                for (int k = 1; j < end && bytes[j] == delim[k]; j++, k++) {
+                    // match the remaining bytes
+                }
+                if (j == end) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reads more input into the buffer, keeping the current token.
+     *
+     * @return <tt>true</tt> if more input was read, <tt>false</tt> if the input is exhausted
+     */
+    private boolean fill() {
+        while (!inputExhausted) {
+            if (limit == buf.length) {
+                int keep = mark != -1 ? mark : position;
+                if (keep > 0) {
+                    System.arraycopy(buf, keep, buf, 0, limit - keep);
+                    limit -= keep;
+                    position -= keep;
+                    if (mark != -1) {
+                        mark -= keep;
+                    }
+                } else {
+                    buf = Arrays.copyOf(buf, buf.length * 2);
+                }
+            }
+            int n;
+            try {
+                n = source.read(buf, limit, buf.length - limit);
+            } catch (IOException e) {
+                lastIOException = e;
+                n = -1;
+            }
+            if (n == -1) {
+                inputExhausted = true;
+            } else if (n > 0) {
+                limit += n;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                source.close();
+            } catch (IOException e) {
+                lastIOException = e;
+            }
+        }
+        if (lastIOException != null) {
+            throw lastIOException;
+        }
+    }
+
+    private static Charset toCharset(String charsetName) {
+        try {
+            return charsetName != null ? Charset.forName(charsetName) : Charset.defaultCharset();
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+}
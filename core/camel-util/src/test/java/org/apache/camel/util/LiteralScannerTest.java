@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LiteralScannerTest {
+
+    @Test
+    public void testLiteralScanner() throws Exception {
+        String d = "data1\ndata2\n\ndata3\n";
+        InputStream is = new ByteArrayInputStream(d.getBytes(StandardCharsets.UTF_8));
+
+        LiteralScanner s = new LiteralScanner(is, "UTF-8", "\n");
+
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("data1", s.next());
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("data2", s.next());
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("", s.next());
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("data3", s.next());
+        Assertions.assertFalse(s.hasNext());
+        s.close();
+    }
+
+    @Test
+    public void testLiteralScannerGroup() throws Exception {
+        String d = "data1\r\ndata2\r\ndata3\r\ndata4\r\ndata5";
+        InputStream is = new ByteArrayInputStream(d.getBytes(StandardCharsets.UTF_8));
+
+        LiteralScanner s = new LiteralScanner(is, "UTF-8", "\r\n");
+        s.setGroup(2);
+
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("data1\r\ndata2", s.next());
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("data3\r\ndata4", s.next());
+        Assertions.assertTrue(s.hasNext());
+        Assertions.assertEquals("data5", s.next());
+        Assertions.assertFalse(s.hasNext());
+        s.close();
+    }
+
+    @Test
+    public void testLiteralScannerLongTokens() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append('é');
+        }
+        String token = sb.toString();
+        String d = token + "," + token;
+        InputStream is = new ByteArrayInputStream(d.getBytes(StandardCharsets.UTF_8));
+
+        LiteralScanner s = new LiteralScanner(is, "UTF-8", ",");
+
+        Assertions.assertEquals(token, s.next());
+        Assertions.assertEquals(token, s.next());
+        Assertions.assertFalse(s.hasNext());
+        s.close();
+    }
+
+    @Test
+    public void testIsSupported() throws Exception {
+        Assertions.assertTrue(LiteralScanner.isSupported("\n", "UTF-8"));
+        Assertions.assertTrue(LiteralScanner.isSupported(",", "ISO-8859-1"));
+        Assertions.assertFalse(LiteralScanner.isSupported("\\s+", "UTF-8"));
+        Assertions.assertFalse(LiteralScanner.isSupported("|", "UTF-8"));
+        Assertions.assertFalse(LiteralScanner.isSupported("\n", "UTF-16"));
+        Assertions.assertFalse(LiteralScanner.isSupported("", "UTF-8"));
+    }
+
+}
@@ -547,6 +547,7 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "customLoadBalancer": def.setLoadBalancerType(doParseCustomLoadBalancerDefinition()); break;
                 case "failover": def.setLoadBalancerType(doParseFailoverLoadBalancerDefinition()); break;
+                case "leastLatency": def.setLoadBalancerType(doParseLeastLatencyLoadBalancerDefinition()); break;
                 case "random": def.setLoadBalancerType(doParseRandomLoadBalancerDefinition()); break;
                 case "roundRobin": def.setLoadBalancerType(doParseRoundRobinLoadBalancerDefinition()); break;
                 case "sticky": def.setLoadBalancerType(doParseStickyLoadBalancerDefinition()); break;
@@ -1946,6 +1947,7 @@ public class ModelParser extends BaseParser {
                 case "locale": def.setLocale(val); break;
                 case "type": def.setType(val); break;
                 case "unwrapSingleInstance": def.setUnwrapSingleInstance(val); break;
+                case "usingIterator": def.setUsingIterator(val); break;
                 default: return identifiedTypeAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -2814,6 +2816,18 @@ public class ModelParser extends BaseParser {
             return false;
         }, noValueHandler());
     }
+    protected LeastLatencyLoadBalancerDefinition doParseLeastLatencyLoadBalancerDefinition() throws IOException, XmlPullParserException {
+        return doParse(new LeastLatencyLoadBalancerDefinition(), (def, key, val) -> {
+            switch (key) {
+                case "ejectionTime": def.setEjectionTime(val); break;
+                case "outlierFactor": def.setOutlierFactor(val); break;
+                case "powerOfTwoChoices": def.setPowerOfTwoChoices(val); break;
+                case "smoothingFactor": def.setSmoothingFactor(val); break;
+                default: return identifiedTypeAttributeHandler().accept(def, key, val);
+            }
+            return true;
+        }, noElementHandler(), noValueHandler());
+    }
     protected RandomLoadBalancerDefinition doParseRandomLoadBalancerDefinition() throws IOException, XmlPullParserException {
         return doParse(new RandomLoadBalancerDefinition(),
             identifiedTypeAttributeHandler(), noElementHandler(), noValueHandler());
@@ -193,6 +193,7 @@ import org.apache.camel.model.language.XPathExpression;
 import org.apache.camel.model.language.XQueryExpression;
 import org.apache.camel.model.loadbalancer.CustomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition;
+import org.apache.camel.model.loadbalancer.LeastLatencyLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition;
 import org.apache.camel.model.loadbalancer.StickyLoadBalancerDefinition;
@@ -1150,7 +1151,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "locale", type = "string"),
                     @YamlProperty(name = "type", type = "enum:Csv,Fixed,KeyValue", required = true),
-                    @YamlProperty(name = "unwrap-single-instance", type = "boolean")
+                    @YamlProperty(name = "unwrap-single-instance", type = "boolean"),
+                    @YamlProperty(name = "using-iterator", type = "boolean")
             }
     )
     public static class BindyDataFormatDeserializer extends YamlDeserializerBase<BindyDataFormat> {
@@ -1197,6 +1199,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setUnwrapSingleInstance(val);
                     break;
                 }
+                case "using-iterator": {
+                    String val = asText(node);
+                    target.setUsingIterator(val);
+                    break;
+                }
                 default: {
                     return false;
                 }
@@ -7788,6 +7795,68 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
         }
     }
 
+    @YamlType(
+            nodes = {
+                    "least-latency",
+                    "leastLatency"
+            },
+            types = org.apache.camel.model.loadbalancer.LeastLatencyLoadBalancerDefinition.class,
+            order = org.apache.camel.dsl.yaml.common.YamlDeserializerResolver.ORDER_LOWEST - 1,
+            properties = {
+                    @YamlProperty(name = "ejection-time", type = "string"),
+                    @YamlProperty(name = "id", type = "string"),
+                    @YamlProperty(name = "outlier-factor", type = "number"),
+                    @YamlProperty(name = "power-of-two-choices", type = "boolean"),
+                    @YamlProperty(name = "smoothing-factor", type = "number")
+            }
+    )
+    public static class LeastLatencyLoadBalancerDefinitionDeserializer extends YamlDeserializerBase<LeastLatencyLoadBalancerDefinition> {
+        public LeastLatencyLoadBalancerDefinitionDeserializer() {
+            super(LeastLatencyLoadBalancerDefinition.class);
+        }
+
+        @Override
+        protected LeastLatencyLoadBalancerDefinition newInstance() {
+            return new LeastLatencyLoadBalancerDefinition();
+        }
+
+        @Override
+        protected boolean setProperty(LeastLatencyLoadBalancerDefinition target,
+                String propertyKey, String propertyName, Node node) {
+            switch(propertyKey) {
+                case "ejection-time": {
+                    String val = asText(node);
+                    target.setEjectionTime(val);
+                    break;
+                }
+                case "id": {
+                    String val = asText(node);
+                    target.setId(val);
+                    break;
+                }
+                case "outlier-factor": {
+                    String val = asText(node);
+                    target.setOutlierFactor(val);
+                    break;
+                }
+                case "power-of-two-choices": {
+                    String val = asText(node);
+                    target.setPowerOfTwoChoices(val);
+                    break;
+                }
+                case "smoothing-factor": {
+                    String val = asText(node);
+                    target.setSmoothingFactor(val);
+                    break;
+                }
+                default: {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     @YamlType(
             nodes = {
                     "load-balance",
@@ -7801,6 +7870,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "failover", type = "object:org.apache.camel.model.loadbalancer.FailoverLoadBalancerDefinition"),
                     @YamlProperty(name = "id", type = "string"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "least-latency", type = "object:org.apache.camel.model.loadbalancer.LeastLatencyLoadBalancerDefinition"),
                     @YamlProperty(name = "random", type = "object:org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition"),
                     @YamlProperty(name = "round-robin", type = "object:org.apache.camel.model.loadbalancer.RoundRobinLoadBalancerDefinition"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
@@ -7843,6 +7913,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setLoadBalancerType(val);
                     break;
                 }
+                case "least-latency": {
+                    org.apache.camel.model.loadbalancer.LeastLatencyLoadBalancerDefinition val = asType(node, org.apache.camel.model.loadbalancer.LeastLatencyLoadBalancerDefinition.class);
+                    target.setLoadBalancerType(val);
+                    break;
+                }
                 case "random": {
                     org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition val = asType(node, org.apache.camel.model.loadbalancer.RandomLoadBalancerDefinition.class);
                     target.setLoadBalancerType(val);
@@ -227,6 +227,9 @@ public final class ModelDeserializersResolver implements YamlDeserializerResolve
             case "org.apache.camel.model.dataformat.LZFDataFormat": return new ModelDeserializers.LZFDataFormatDeserializer();
             case "language": return new ModelDeserializers.LanguageExpressionDeserializer();
             case "org.apache.camel.model.language.LanguageExpression": return new ModelDeserializers.LanguageExpressionDeserializer();
+            case "least-latency": return new ModelDeserializers.LeastLatencyLoadBalancerDefinitionDeserializer();
+            case "leastLatency": return new ModelDeserializers.LeastLatencyLoadBalancerDefinitionDeserializer();
+            case "org.apache.camel.model.loadbalancer.LeastLatencyLoadBalancerDefinition": return new ModelDeserializers.LeastLatencyLoadBalancerDefinitionDeserializer();
             case "load-balance": return new ModelDeserializers.LoadBalanceDefinitionDeserializer();
             case "loadBalance": return new ModelDeserializers.LoadBalanceDefinitionDeserializer();
             case "org.apache.camel.model.LoadBalanceDefinition": return new ModelDeserializers.LoadBalanceDefinitionDeserializer();